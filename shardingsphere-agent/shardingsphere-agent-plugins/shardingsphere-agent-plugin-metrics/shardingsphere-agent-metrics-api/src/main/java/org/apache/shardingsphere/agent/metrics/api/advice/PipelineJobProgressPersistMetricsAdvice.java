@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+
+import java.lang.reflect.Method;
+
+/**
+ * Pipeline job progress persist metrics advice.
+ */
+public final class PipelineJobProgressPersistMetricsAdvice implements InstanceMethodAroundAdvice {
+    
+    static {
+        MetricsPool.create(MetricIds.PIPELINE_JOB_PROGRESS_PERSISTED);
+        MetricsPool.create(MetricIds.PIPELINE_JOB_PROGRESS_SKIPPED);
+        MetricsPool.create(MetricIds.PIPELINE_JOB_PROGRESS_PERSISTED_BYTES);
+        MetricsPool.create(MetricIds.PIPELINE_JOB_PROGRESS_PERSIST_LATENCY_MILLIS);
+    }
+    
+    @Override
+    public void beforeMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        int persistedCount = (int) args[0];
+        MetricsPool.get(MetricIds.PIPELINE_JOB_PROGRESS_PERSISTED).ifPresent(optional -> optional.inc(persistedCount));
+        MetricsPool.get(MetricIds.PIPELINE_JOB_PROGRESS_SKIPPED).ifPresent(optional -> optional.inc((int) args[1]));
+        MetricsPool.get(MetricIds.PIPELINE_JOB_PROGRESS_PERSISTED_BYTES).ifPresent(optional -> optional.inc((long) args[2]));
+        if (persistedCount > 0) {
+            MetricsPool.get(MetricIds.PIPELINE_JOB_PROGRESS_PERSIST_LATENCY_MILLIS).ifPresent(optional -> optional.observe((long) args[3]));
+        }
+    }
+}
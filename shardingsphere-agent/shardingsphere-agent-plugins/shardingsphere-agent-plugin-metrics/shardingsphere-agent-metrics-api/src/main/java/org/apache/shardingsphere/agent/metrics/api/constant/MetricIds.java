@@ -70,4 +70,18 @@ public final class MetricIds {
     public static final String PARSE_DIST_SQL_RDL = "parse_dist_sql_rdl_total";
     
     public static final String PARSE_DIST_SQL_RAL = "parse_dist_sql_ral_total";
+    
+    public static final String SQL_FEDERATION_SPILL_BYTES = "sql_federation_spill_bytes_total";
+    
+    public static final String PIPELINE_JOB_PROGRESS_PERSISTED = "pipeline_job_progress_persisted_total";
+    
+    public static final String PIPELINE_JOB_PROGRESS_SKIPPED = "pipeline_job_progress_skipped_total";
+    
+    public static final String PIPELINE_JOB_PROGRESS_PERSISTED_BYTES = "pipeline_job_progress_persisted_bytes_total";
+    
+    public static final String PIPELINE_JOB_PROGRESS_PERSIST_LATENCY_MILLIS = "pipeline_job_progress_persist_latency_millis";
+    
+    public static final String SHARDING_ROUTE_CACHE_HIT = "sharding_route_cache_hit_total";
+    
+    public static final String SHARDING_ROUTE_CACHE_MISS = "sharding_route_cache_miss_total";
 }
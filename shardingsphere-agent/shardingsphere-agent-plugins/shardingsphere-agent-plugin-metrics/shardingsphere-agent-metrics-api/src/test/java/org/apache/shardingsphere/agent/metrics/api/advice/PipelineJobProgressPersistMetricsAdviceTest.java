@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.fixture.FixtureWrapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PipelineJobProgressPersistMetricsAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final PipelineJobProgressPersistMetricsAdvice persistMetricsAdvice = new PipelineJobProgressPersistMetricsAdvice();
+    
+    @Mock
+    private Method record;
+    
+    @Test
+    public void assertMethod() {
+        persistMetricsAdvice.beforeMethod(new MockAdviceTargetObject(), record, new Object[]{2, 3, 1024L, 5L}, new MethodInvocationResult());
+        assertThat(getFixtureValue(MetricIds.PIPELINE_JOB_PROGRESS_PERSISTED), is(2.0));
+        assertThat(getFixtureValue(MetricIds.PIPELINE_JOB_PROGRESS_SKIPPED), is(3.0));
+        assertThat(getFixtureValue(MetricIds.PIPELINE_JOB_PROGRESS_PERSISTED_BYTES), is(1024.0));
+        assertThat(getFixtureValue(MetricIds.PIPELINE_JOB_PROGRESS_PERSIST_LATENCY_MILLIS), is(5.0));
+    }
+    
+    private Double getFixtureValue(final String metricId) {
+        assertTrue(MetricsPool.get(metricId).isPresent());
+        return ((FixtureWrapper) MetricsPool.get(metricId).get()).getFixtureValue();
+    }
+}
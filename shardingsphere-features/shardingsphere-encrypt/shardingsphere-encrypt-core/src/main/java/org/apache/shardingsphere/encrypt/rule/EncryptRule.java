@@ -30,6 +30,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.SchemaMetaDataAware;
 import org.apache.shardingsphere.infra.rule.identifier.scope.DatabaseRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.infra.util.identifier.IdentifierUtil;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -58,14 +59,14 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
     public EncryptRule(final EncryptRuleConfiguration ruleConfig) {
         configuration = ruleConfig;
         ruleConfig.getEncryptors().forEach((key, value) -> encryptors.put(key, EncryptAlgorithmFactory.newInstance(value)));
-        ruleConfig.getTables().forEach(each -> tables.put(each.getName().toLowerCase(), new EncryptTable(each)));
+        ruleConfig.getTables().forEach(each -> tables.put(IdentifierUtil.toLowerCase(each.getName()), new EncryptTable(each)));
         queryWithCipherColumn = ruleConfig.isQueryWithCipherColumn();
     }
     
     public EncryptRule(final AlgorithmProvidedEncryptRuleConfiguration ruleConfig) {
         configuration = ruleConfig;
         encryptors.putAll(ruleConfig.getEncryptors());
-        ruleConfig.getTables().forEach(each -> tables.put(each.getName().toLowerCase(), new EncryptTable(each)));
+        ruleConfig.getTables().forEach(each -> tables.put(IdentifierUtil.toLowerCase(each.getName()), new EncryptTable(each)));
         queryWithCipherColumn = ruleConfig.isQueryWithCipherColumn();
     }
     
@@ -76,7 +77,7 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
      * @return encrypt table
      */
     public Optional<EncryptTable> findEncryptTable(final String logicTable) {
-        return Optional.ofNullable(tables.get(logicTable.toLowerCase()));
+        return Optional.ofNullable(tables.get(IdentifierUtil.toLowerCase(logicTable)));
     }
     
     /**
@@ -99,7 +100,7 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
      */
     @SuppressWarnings("rawtypes")
     public Optional<EncryptAlgorithm> findEncryptor(final String logicTable, final String logicColumn) {
-        String lowerCaseLogicTable = logicTable.toLowerCase();
+        String lowerCaseLogicTable = IdentifierUtil.toLowerCase(logicTable);
         return tables.containsKey(lowerCaseLogicTable) ? tables.get(lowerCaseLogicTable).findEncryptorName(logicColumn).map(encryptors::get) : Optional.empty();
     }
     
@@ -112,7 +113,7 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
      */
     @SuppressWarnings("rawtypes")
     public Optional<EncryptAlgorithm> findAssistedQueryEncryptor(final String logicTable, final String logicColumn) {
-        String lowerCaseLogicTable = logicTable.toLowerCase();
+        String lowerCaseLogicTable = IdentifierUtil.toLowerCase(logicTable);
         return tables.containsKey(lowerCaseLogicTable) ? tables.get(lowerCaseLogicTable).findAssistedQueryEncryptorName(logicColumn).map(encryptors::get) : Optional.empty();
     }
     
@@ -152,7 +153,7 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
      * @return cipher column
      */
     public String getCipherColumn(final String logicTable, final String logicColumn) {
-        return tables.get(logicTable.toLowerCase()).getCipherColumn(logicColumn);
+        return tables.get(IdentifierUtil.toLowerCase(logicTable)).getCipherColumn(logicColumn);
     }
     
     /**
@@ -162,7 +163,7 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
      * @return logic and cipher columns
      */
     public Map<String, String> getLogicAndCipherColumns(final String logicTable) {
-        String lowerCaseLogicTable = logicTable.toLowerCase();
+        String lowerCaseLogicTable = IdentifierUtil.toLowerCase(logicTable);
         return tables.containsKey(lowerCaseLogicTable) ? tables.get(lowerCaseLogicTable).getLogicAndCipherColumns() : Collections.emptyMap();
     }
     
@@ -174,7 +175,7 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
      * @return assisted query column
      */
     public Optional<String> findAssistedQueryColumn(final String logicTable, final String logicColumn) {
-        String lowerCaseLogicTable = logicTable.toLowerCase();
+        String lowerCaseLogicTable = IdentifierUtil.toLowerCase(logicTable);
         return tables.containsKey(lowerCaseLogicTable) ? tables.get(lowerCaseLogicTable).findAssistedQueryColumn(logicColumn) : Optional.empty();
     }
     
@@ -185,7 +186,8 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
      * @return assisted query columns
      */
     public Collection<String> getAssistedQueryColumns(final String logicTable) {
-        return tables.containsKey(logicTable.toLowerCase()) ? tables.get(logicTable.toLowerCase()).getAssistedQueryColumns() : Collections.emptyList();
+        EncryptTable encryptTable = tables.get(IdentifierUtil.toLowerCase(logicTable));
+        return null == encryptTable ? Collections.emptyList() : encryptTable.getAssistedQueryColumns();
     }
     
     /**
@@ -224,7 +226,8 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
      */
     public Optional<String> findPlainColumn(final String logicTable, final String logicColumn) {
         Optional<String> originColumnName = findOriginColumnName(logicTable, logicColumn);
-        return originColumnName.isPresent() && tables.containsKey(logicTable.toLowerCase()) ? tables.get(logicTable.toLowerCase()).findPlainColumn(originColumnName.get()) : Optional.empty();
+        EncryptTable encryptTable = tables.get(IdentifierUtil.toLowerCase(logicTable));
+        return originColumnName.isPresent() && null != encryptTable ? encryptTable.findPlainColumn(originColumnName.get()) : Optional.empty();
     }
     
     /**
@@ -239,7 +242,7 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
     }
     
     private Optional<String> findOriginColumnName(final String logicTable, final String logicColumn) {
-        for (String each : tables.get(logicTable.toLowerCase()).getLogicColumns()) {
+        for (String each : tables.get(IdentifierUtil.toLowerCase(logicTable)).getLogicColumns()) {
             if (logicColumn.equalsIgnoreCase(each)) {
                 return Optional.of(each);
             }
@@ -23,4 +23,15 @@ import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
  * Sharding algorithm.
  */
 public interface ShardingAlgorithm extends ShardingSphereAlgorithm {
+    
+    /**
+     * Judge whether sharding algorithm is deterministic, which always returns same sharding results for same sharding values and available target names.
+     * 
+     * <p>Route results of deterministic sharding algorithms may be cached by routing engine.</p>
+     *
+     * @return is deterministic or not
+     */
+    default boolean isDeterministic() {
+        return false;
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.MapMaker;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+/**
+ * Sharding target name table, which caches target names of shard indexes for each data node info.
+ */
+@RequiredArgsConstructor
+public final class ShardingTargetNameTable {
+    
+    private final int shardingCount;
+    
+    private final IntFunction<String> suffixGenerator;
+    
+    private final Map<DataNodeInfo, String[]> targetNames = new MapMaker().weakKeys().makeMap();
+    
+    /**
+     * Find target name of shard index.
+     * 
+     * @param availableTargetNames available target names
+     * @param shardIndex shard index
+     * @param dataNodeInfo data node info
+     * @return target name, empty if target name is not available
+     */
+    public Optional<String> findTargetName(final Collection<String> availableTargetNames, final int shardIndex, final DataNodeInfo dataNodeInfo) {
+        String result = getTargetName(shardIndex, dataNodeInfo);
+        return availableTargetNames.contains(result) ? Optional.of(result) : Optional.empty();
+    }
+    
+    private String getTargetName(final int shardIndex, final DataNodeInfo dataNodeInfo) {
+        if (shardIndex < 0 || shardIndex >= shardingCount) {
+            return createTargetName(shardIndex, dataNodeInfo);
+        }
+        String[] targetNamesOfDataNode = targetNames.computeIfAbsent(dataNodeInfo, key -> new String[shardingCount]);
+        String result = targetNamesOfDataNode[shardIndex];
+        if (null == result) {
+            result = createTargetName(shardIndex, dataNodeInfo);
+            targetNamesOfDataNode[shardIndex] = result;
+        }
+        return result;
+    }
+    
+    private String createTargetName(final int shardIndex, final DataNodeInfo dataNodeInfo) {
+        return dataNodeInfo.getPrefix() + Strings.padStart(suffixGenerator.apply(shardIndex), dataNodeInfo.getSuffixMinLength(), dataNodeInfo.getPaddingChar());
+    }
+}
@@ -113,6 +113,20 @@ public final class ClassBasedShardingAlgorithm implements StandardShardingAlgori
         return hintShardingAlgorithm.doSharding(availableTargetNames, shardingValue);
     }
     
+    @Override
+    public boolean isDeterministic() {
+        switch (strategy) {
+            case STANDARD:
+                return standardShardingAlgorithm.isDeterministic();
+            case COMPLEX:
+                return complexKeysShardingAlgorithm.isDeterministic();
+            case HINT:
+                return hintShardingAlgorithm.isDeterministic();
+            default:
+                return false;
+        }
+    }
+    
     @Override
     public String getType() {
         return "CLASS_BASED";
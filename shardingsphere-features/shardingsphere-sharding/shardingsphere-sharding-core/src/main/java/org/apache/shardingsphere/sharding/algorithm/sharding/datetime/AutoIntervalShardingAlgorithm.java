@@ -20,13 +20,15 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Range;
 import lombok.Getter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingTargetNameTable;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.exception.data.InvalidDatetimeFormatException;
 
-import java.text.DecimalFormat;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.text.ParsePosition;
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -59,12 +61,15 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     @Getter
     private int autoTablesAmount;
     
+    private ShardingTargetNameTable targetNameTable;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
         dateTimeLower = getDateTime(props);
         shardingSeconds = getShardingSeconds(props);
         autoTablesAmount = (int) (Math.ceil((double) (parseDate(props.getProperty(DATE_TIME_UPPER_KEY)) / shardingSeconds)) + 2);
+        targetNameTable = new ShardingTargetNameTable(autoTablesAmount, String::valueOf);
     }
     
     private LocalDateTime getDateTime(final Properties props) {
@@ -84,8 +89,8 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        String tableNameSuffix = String.valueOf(doSharding(parseDate(shardingValue.getValue())));
-        return findMatchedTargetName(availableTargetNames, tableNameSuffix, shardingValue.getDataNodeInfo()).orElse(null);
+        int shardIndex = doSharding(parseDate(shardingValue.getValue()));
+        return targetNameTable.findTargetName(availableTargetNames, shardIndex, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
     @Override
@@ -94,15 +99,14 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
         int firstPartition = getFirstPartition(shardingValue.getValueRange());
         int lastPartition = getLastPartition(shardingValue.getValueRange());
         for (int i = firstPartition; i <= lastPartition; i++) {
-            String suffix = String.valueOf(i);
-            findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).ifPresent(result::add);
+            targetNameTable.findTargetName(availableTargetNames, i, shardingValue.getDataNodeInfo()).ifPresent(result::add);
         }
         return result;
     }
     
     private int doSharding(final long shardingValue) {
-        String position = new DecimalFormat("0.00").format((double) shardingValue / shardingSeconds);
-        return Math.min(Math.max(0, (int) Math.ceil(Double.parseDouble(position))), autoTablesAmount - 1);
+        double position = new BigDecimal((double) shardingValue / shardingSeconds).setScale(2, RoundingMode.HALF_EVEN).doubleValue();
+        return Math.min(Math.max(0, (int) Math.ceil(position)), autoTablesAmount - 1);
     }
     
     private int getFirstPartition(final Range<Comparable<?>> valueRange) {
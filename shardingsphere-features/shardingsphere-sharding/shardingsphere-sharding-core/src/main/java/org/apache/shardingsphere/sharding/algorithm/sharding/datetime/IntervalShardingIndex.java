@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Range;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Interval sharding index, which indexes contiguous datetime intervals by their lower endpoints.
+ * 
+ * @param <T> type of interval endpoint
+ */
+final class IntervalShardingIndex<T extends Comparable<? super T>> {
+    
+    private final List<T> lowerEndpoints;
+    
+    private final T upperEndpoint;
+    
+    private final List<String> suffixes;
+    
+    private final T dateTimeLower;
+    
+    private final T dateTimeUpper;
+    
+    private final Function<Comparable<?>, T> endpointParser;
+    
+    private final Set<Integer> suffixLengths = new TreeSet<>();
+    
+    private final Map<Collection<String>, Map<String, Collection<String>>> matchedTargetNamesCache = new MapMaker().weakKeys().makeMap();
+    
+    IntervalShardingIndex(final List<T> lowerEndpoints, final T upperEndpoint, final List<String> suffixes, final T dateTimeLower, final T dateTimeUpper,
+                          final Function<Comparable<?>, T> endpointParser) {
+        this.lowerEndpoints = lowerEndpoints;
+        this.upperEndpoint = upperEndpoint;
+        this.suffixes = suffixes;
+        this.dateTimeLower = dateTimeLower;
+        this.dateTimeUpper = dateTimeUpper;
+        this.endpointParser = endpointParser;
+        for (String each : suffixes) {
+            suffixLengths.add(each.length());
+        }
+    }
+    
+    /**
+     * Get target names matched with intervals which intersect with range.
+     * 
+     * @param availableTargetNames available target names
+     * @param range range of sharding value
+     * @return matched target names
+     */
+    Collection<String> getMatchedTargetNames(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+        if (lowerEndpoints.isEmpty()) {
+            return new HashSet<>();
+        }
+        Range<T> valueRange = createValueRange(range);
+        Map<String, Collection<String>> matchedTargetNames = matchedTargetNamesCache.computeIfAbsent(availableTargetNames, this::createMatchedTargetNames);
+        Set<String> result = new HashSet<>();
+        for (int i = findFirstIntervalIndex(valueRange); i < lowerEndpoints.size(); i++) {
+            T lower = lowerEndpoints.get(i);
+            if (lower.compareTo(valueRange.upperEndpoint()) > 0) {
+                break;
+            }
+            Range<T> interval = Range.closedOpen(lower, i + 1 < lowerEndpoints.size() ? lowerEndpoints.get(i + 1) : upperEndpoint);
+            if (interval.isConnected(valueRange) && !interval.intersection(valueRange).isEmpty()) {
+                result.addAll(matchedTargetNames.getOrDefault(suffixes.get(i), Collections.emptyList()));
+            }
+        }
+        return result;
+    }
+    
+    private Range<T> createValueRange(final Range<Comparable<?>> range) {
+        T lower = range.hasLowerBound() ? endpointParser.apply(range.lowerEndpoint()) : dateTimeLower;
+        T upper = range.hasUpperBound() ? endpointParser.apply(range.upperEndpoint()) : dateTimeUpper;
+        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
+        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
+        return Range.range(lower, lowerBoundType, upper, upperBoundType);
+    }
+    
+    private int findFirstIntervalIndex(final Range<T> valueRange) {
+        int index = Collections.binarySearch(lowerEndpoints, valueRange.lowerEndpoint());
+        return index >= 0 ? index : Math.max(0, -index - 2);
+    }
+    
+    private Map<String, Collection<String>> createMatchedTargetNames(final Collection<String> availableTargetNames) {
+        Map<String, Collection<String>> result = new HashMap<>();
+        for (String each : availableTargetNames) {
+            for (int suffixLength : suffixLengths) {
+                if (each.length() >= suffixLength) {
+                    result.computeIfAbsent(each.substring(each.length() - suffixLength), key -> new HashSet<>()).add(each);
+                }
+            }
+        }
+        return result;
+    }
+}
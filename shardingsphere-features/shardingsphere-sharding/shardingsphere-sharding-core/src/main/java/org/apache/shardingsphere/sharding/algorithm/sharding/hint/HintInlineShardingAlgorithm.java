@@ -74,6 +74,11 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
         return result;
     }
     
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+    
     @Override
     public String getType() {
         return "HINT_INLINE";
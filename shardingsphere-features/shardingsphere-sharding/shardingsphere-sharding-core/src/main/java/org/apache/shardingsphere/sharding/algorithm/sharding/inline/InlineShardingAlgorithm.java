@@ -98,6 +98,11 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         }
     }
     
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+    
     @Override
     public String getType() {
         return "INLINE";
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingTargetNameTable;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -39,10 +40,13 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     
     private int shardingCount;
     
+    private ShardingTargetNameTable targetNameTable;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
         shardingCount = getShardingCount(props);
+        targetNameTable = new ShardingTargetNameTable(shardingCount, String::valueOf);
     }
     
     private int getShardingCount(final Properties props) {
@@ -52,8 +56,8 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        String suffix = String.valueOf(hashShardingValue(shardingValue.getValue()) % shardingCount);
-        return findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).orElse(null);
+        int shardIndex = (int) (hashShardingValue(shardingValue.getValue()) % shardingCount);
+        return targetNameTable.findTargetName(availableTargetNames, shardIndex, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
     @Override
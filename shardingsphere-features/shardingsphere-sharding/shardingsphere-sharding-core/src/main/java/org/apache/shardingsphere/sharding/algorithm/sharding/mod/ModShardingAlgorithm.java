@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingTargetNameTable;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -42,6 +43,8 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     
     private static final String ZERO_PADDING_KEY = "zero-padding";
     
+    private static final int MAX_LONG_DIGITS = 18;
+    
     @Getter
     private Properties props;
     
@@ -55,6 +58,8 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     
     private int maxPaddingSize;
     
+    private ShardingTargetNameTable targetNameTable;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
@@ -63,6 +68,7 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         stopOffset = getStopOffset(props);
         zeroPadding = isZeroPadding(props);
         maxPaddingSize = calculateMaxPaddingSize();
+        targetNameTable = new ShardingTargetNameTable(shardingCount, this::getShardingResultSuffix);
     }
     
     private int getShardingCount(final Properties props) {
@@ -94,8 +100,8 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        String shardingResultSuffix = getShardingResultSuffix(cutShardingValue(shardingValue.getValue()).mod(new BigInteger(String.valueOf(shardingCount))).toString());
-        return findMatchedTargetName(availableTargetNames, shardingResultSuffix, shardingValue.getDataNodeInfo()).orElse(null);
+        int shardIndex = getShardIndex(shardingValue.getValue());
+        return targetNameTable.findTargetName(availableTargetNames, shardIndex, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
     @Override
@@ -112,31 +118,37 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
         BigInteger lower = new BigInteger(shardingValue.getValueRange().lowerEndpoint().toString());
         BigInteger upper = new BigInteger(shardingValue.getValueRange().upperEndpoint().toString());
-        BigInteger shardingCountBigInter = new BigInteger(String.valueOf(shardingCount));
-        for (BigInteger i = lower; i.compareTo(upper) <= 0; i = i.add(new BigInteger("1"))) {
-            String shardingResultSuffix = getShardingResultSuffix(String.valueOf(i.mod(shardingCountBigInter)));
-            findMatchedTargetName(availableTargetNames, shardingResultSuffix, shardingValue.getDataNodeInfo()).ifPresent(result::add);
+        if (lower.compareTo(upper) > 0) {
+            return result;
+        }
+        int shardCount = upper.subtract(lower).min(BigInteger.valueOf(shardingCount - 1)).intValue() + 1;
+        int firstShardIndex = lower.mod(BigInteger.valueOf(shardingCount)).intValue();
+        for (int i = 0; i < shardCount; i++) {
+            targetNameTable.findTargetName(availableTargetNames, (firstShardIndex + i) % shardingCount, shardingValue.getDataNodeInfo()).ifPresent(result::add);
         }
         return result;
     }
     
-    private String getShardingResultSuffix(final String shardingResultSuffix) {
-        return zeroPadding ? fillZero(shardingResultSuffix) : shardingResultSuffix;
-    }
-    
-    private String fillZero(final String value) {
-        return String.format("%0" + maxPaddingSize + "d", Integer.parseInt(value));
+    private String getShardingResultSuffix(final int shardIndex) {
+        return zeroPadding ? String.format("%0" + maxPaddingSize + "d", shardIndex) : String.valueOf(shardIndex);
     }
     
-    private BigInteger cutShardingValue(final Comparable<?> shardingValue) {
-        checkOffsetArgument(shardingValue);
-        return 0 == startOffset && 0 == stopOffset ? getBigInteger(shardingValue) : new BigInteger(shardingValue.toString().substring(startOffset, shardingValue.toString().length() - stopOffset));
-    }
-    
-    private void checkOffsetArgument(final Comparable<?> shardingValue) {
+    private int getShardIndex(final Comparable<?> shardingValue) {
         Preconditions.checkArgument(startOffset >= 0, "Start offset can not be less than 0.");
         Preconditions.checkArgument(stopOffset >= 0, "Stop offset can not be less than 0.");
-        Preconditions.checkArgument(shardingValue.toString().length() - stopOffset > startOffset, "Sharding value subtract stop offset can not be less than start offset.");
+        boolean cutRequired = 0 != startOffset || 0 != stopOffset;
+        if (!cutRequired && shardingValue instanceof Number) {
+            return (int) Math.floorMod(((Number) shardingValue).longValue(), (long) shardingCount);
+        }
+        String value = shardingValue.toString();
+        Preconditions.checkArgument(value.length() - stopOffset > startOffset, "Sharding value subtract stop offset can not be less than start offset.");
+        return getShardIndex(cutRequired ? value.substring(startOffset, value.length() - stopOffset) : value);
+    }
+    
+    private int getShardIndex(final String shardingValue) {
+        return shardingValue.length() <= MAX_LONG_DIGITS
+                ? (int) Math.floorMod(Long.parseLong(shardingValue), (long) shardingCount)
+                : new BigInteger(shardingValue).mod(BigInteger.valueOf(shardingCount)).intValue();
     }
     
     private BigInteger getBigInteger(final Comparable<?> value) {
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.sharding.algorithm.sharding.range;
 
+import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingTargetNameTable;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -29,6 +31,7 @@ import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -41,18 +44,51 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     
     private Map<Integer, Range<Comparable<?>>> partitionRange;
     
+    private long[] partitionLowerEndpoints;
+    
+    private ShardingTargetNameTable targetNameTable;
+    
     @Override
     public final void init(final Properties props) {
         this.props = props;
         partitionRange = calculatePartitionRange(props);
+        partitionLowerEndpoints = calculatePartitionLowerEndpoints().orElse(null);
+        targetNameTable = new ShardingTargetNameTable(partitionRange.size(), String::valueOf);
     }
     
     protected abstract Map<Integer, Range<Comparable<?>>> calculatePartitionRange(Properties props);
     
+    private Optional<long[]> calculatePartitionLowerEndpoints() {
+        int partitionSize = partitionRange.size();
+        if (partitionSize < 2 || !isLessThan(partitionRange.get(0)) || !isAtLeast(partitionRange.get(partitionSize - 1))) {
+            return Optional.empty();
+        }
+        long[] result = new long[partitionSize - 1];
+        for (int i = 1; i < partitionSize; i++) {
+            Range<Comparable<?>> range = partitionRange.get(i);
+            if (i < partitionSize - 1 && !isClosedOpen(range) || !(range.lowerEndpoint() instanceof Long) || !range.lowerEndpoint().equals(partitionRange.get(i - 1).upperEndpoint())) {
+                return Optional.empty();
+            }
+            result[i - 1] = (Long) range.lowerEndpoint();
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean isLessThan(final Range<Comparable<?>> range) {
+        return null != range && !range.hasLowerBound() && range.hasUpperBound() && BoundType.OPEN == range.upperBoundType();
+    }
+    
+    private boolean isAtLeast(final Range<Comparable<?>> range) {
+        return null != range && range.hasLowerBound() && BoundType.CLOSED == range.lowerBoundType() && !range.hasUpperBound();
+    }
+    
+    private boolean isClosedOpen(final Range<Comparable<?>> range) {
+        return null != range && range.hasLowerBound() && BoundType.CLOSED == range.lowerBoundType() && range.hasUpperBound() && BoundType.OPEN == range.upperBoundType();
+    }
+    
     @Override
     public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        String suffix = String.valueOf(getPartition(shardingValue.getValue()));
-        return findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).orElse(null);
+        return targetNameTable.findTargetName(availableTargetNames, getPartition(shardingValue.getValue()), shardingValue.getDataNodeInfo()).orElse(null);
     }
     
     @Override
@@ -61,8 +97,7 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
         int firstPartition = getFirstPartition(shardingValue.getValueRange());
         int lastPartition = getLastPartition(shardingValue.getValueRange());
         for (int partition = firstPartition; partition <= lastPartition; partition++) {
-            String suffix = String.valueOf(partition);
-            findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).ifPresent(result::add);
+            targetNameTable.findTargetName(availableTargetNames, partition, shardingValue.getDataNodeInfo()).ifPresent(result::add);
         }
         return result;
     }
@@ -75,16 +110,37 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
         return valueRange.hasUpperBound() ? getPartition(valueRange.upperEndpoint()) : partitionRange.size() - 1;
     }
     
-    private Integer getPartition(final Comparable<?> value) {
+    private int getPartition(final Comparable<?> value) {
+        long longValue = getLongValue(value);
+        if (null != partitionLowerEndpoints) {
+            return getPartition(longValue);
+        }
         for (Entry<Integer, Range<Comparable<?>>> entry : partitionRange.entrySet()) {
-            if (entry.getValue().contains(getLongValue(value))) {
+            if (entry.getValue().contains(longValue)) {
                 return entry.getKey();
             }
         }
         throw new UnsupportedSQLOperationException("");
     }
     
-    private Long getLongValue(final Comparable<?> value) {
+    private int getPartition(final long value) {
+        int low = 0;
+        int high = partitionLowerEndpoints.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (partitionLowerEndpoints[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+    
+    private long getLongValue(final Comparable<?> value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
         return Long.parseLong(value.toString());
     }
     
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.data.pipeline;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.importer.DataRecordRouter;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sharding data record router, which routes data record by sharding rule directly.
+ */
+public final class ShardingDataRecordRouter implements DataRecordRouter {
+    
+    private final ShardingRule shardingRule;
+    
+    private final ConfigurationProperties props;
+    
+    private final Map<String, Map<String, Object>> yamlDataSourceConfigs;
+    
+    private final PipelineDataSourceManager dataSourceManager;
+    
+    private final Map<String, Optional<TableRouteContext>> tableRouteContexts = new ConcurrentHashMap<>();
+    
+    private final Map<String, DataSource> dataSources = new ConcurrentHashMap<>();
+    
+    public ShardingDataRecordRouter(final ShardingRule shardingRule, final ConfigurationProperties props,
+                                    final Map<String, Map<String, Object>> yamlDataSourceConfigs, final PipelineDataSourceManager dataSourceManager) {
+        this.shardingRule = shardingRule;
+        this.props = props;
+        this.yamlDataSourceConfigs = yamlDataSourceConfigs;
+        this.dataSourceManager = dataSourceManager;
+    }
+    
+    @Override
+    public Optional<DataNode> route(final DataRecord dataRecord) {
+        Optional<TableRouteContext> tableRouteContext = tableRouteContexts.computeIfAbsent(dataRecord.getTableName(), this::createTableRouteContext);
+        if (!tableRouteContext.isPresent()) {
+            return Optional.empty();
+        }
+        TableRule tableRule = tableRouteContext.get().getTableRule();
+        Optional<String> dataSourceName = routeOne(tableRule.getActualDataSourceNames(), tableRouteContext.get().getDatabaseShardingStrategy(), tableRule.getDataSourceDataNode(), dataRecord);
+        if (!dataSourceName.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<String> tableName = routeOne(tableRule.getActualTableNames(dataSourceName.get()), tableRouteContext.get().getTableShardingStrategy(), tableRule.getTableDataNode(), dataRecord);
+        return tableName.map(each -> new DataNode(dataSourceName.get(), each));
+    }
+    
+    private Optional<TableRouteContext> createTableRouteContext(final String logicTableName) {
+        Optional<TableRule> tableRule = shardingRule.findTableRule(logicTableName);
+        if (!tableRule.isPresent()) {
+            return Optional.empty();
+        }
+        ShardingStrategy databaseShardingStrategy = createShardingStrategy(shardingRule.getDatabaseShardingStrategyConfiguration(tableRule.get()));
+        ShardingStrategy tableShardingStrategy = createShardingStrategy(shardingRule.getTableShardingStrategyConfiguration(tableRule.get()));
+        if (databaseShardingStrategy instanceof HintShardingStrategy || tableShardingStrategy instanceof HintShardingStrategy) {
+            return Optional.empty();
+        }
+        return Optional.of(new TableRouteContext(tableRule.get(), databaseShardingStrategy, tableShardingStrategy));
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingRule.getShardingAlgorithms().get(shardingStrategyConfig.getShardingAlgorithmName()),
+                        shardingRule.getDefaultShardingColumn());
+    }
+    
+    private Optional<String> routeOne(final Collection<String> availableTargetNames, final ShardingStrategy shardingStrategy, final DataNodeInfo dataNodeInfo, final DataRecord dataRecord) {
+        if (1 == availableTargetNames.size()) {
+            return Optional.of(availableTargetNames.iterator().next());
+        }
+        List<ShardingConditionValue> shardingConditionValues = new ArrayList<>(shardingStrategy.getShardingColumns().size());
+        for (String each : shardingStrategy.getShardingColumns()) {
+            Optional<Comparable<?>> shardingValue = findShardingValue(dataRecord, each);
+            if (!shardingValue.isPresent()) {
+                return Optional.empty();
+            }
+            shardingConditionValues.add(new ListShardingConditionValue<>(each, dataRecord.getTableName(), Collections.singletonList(shardingValue.get())));
+        }
+        Collection<String> result = shardingStrategy.doSharding(availableTargetNames, shardingConditionValues, dataNodeInfo, props);
+        return 1 == result.size() && availableTargetNames.containsAll(result) ? Optional.of(result.iterator().next()) : Optional.empty();
+    }
+    
+    private Optional<Comparable<?>> findShardingValue(final DataRecord dataRecord, final String shardingColumn) {
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (shardingColumn.equalsIgnoreCase(dataRecord.getColumnName(i))) {
+                Object result = dataRecord.getValue(i);
+                return result instanceof Comparable ? Optional.of((Comparable<?>) result) : Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+    
+    @Override
+    public DataSource getDataSource(final String dataSourceName) {
+        return dataSources.computeIfAbsent(dataSourceName, key -> dataSourceManager.getDataSource(new StandardPipelineDataSourceConfiguration(new LinkedHashMap<>(yamlDataSourceConfigs.get(key)))));
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class TableRouteContext {
+        
+        private final TableRule tableRule;
+        
+        private final ShardingStrategy databaseShardingStrategy;
+        
+        private final ShardingStrategy tableShardingStrategy;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.data.pipeline;
+
+import com.google.common.collect.MapMaker;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.ShardingSpherePipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.importer.DataRecordRouter;
+import org.apache.shardingsphere.data.pipeline.spi.importer.DataRecordRouterCreator;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.yaml.config.pojo.YamlRootConfiguration;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.yaml.config.YamlShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.yaml.swapper.ShardingRuleConfigurationConverter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sharding data record router creator.
+ * 
+ * <p>Data records are routed directly only if sharding rule is the only rule of target, other rules such as encrypt still need ShardingSphere data source.</p>
+ * <p>Sharding rule is built once for each target data source configuration of job, and shared by all importers of the job.</p>
+ */
+public final class ShardingDataRecordRouterCreator implements DataRecordRouterCreator {
+    
+    private static final Map<PipelineDataSourceConfiguration, ShardingRule> SHARDING_RULES = new MapMaker().weakKeys().makeMap();
+    
+    @Override
+    public Optional<DataRecordRouter> createDataRecordRouter(final PipelineDataSourceConfiguration dataSourceConfig, final PipelineDataSourceManager dataSourceManager) {
+        YamlRootConfiguration rootConfig = ((ShardingSpherePipelineDataSourceConfiguration) dataSourceConfig).getRootConfig();
+        if (rootConfig.getRules().isEmpty() || !rootConfig.getRules().stream().allMatch(each -> each instanceof YamlShardingRuleConfiguration)) {
+            return Optional.empty();
+        }
+        ShardingRule shardingRule = SHARDING_RULES.computeIfAbsent(dataSourceConfig, key -> createShardingRule(rootConfig));
+        return Optional.of(new ShardingDataRecordRouter(shardingRule, new ConfigurationProperties(rootConfig.getProps()), rootConfig.getDataSources(), dataSourceManager));
+    }
+    
+    private ShardingRule createShardingRule(final YamlRootConfiguration rootConfig) {
+        ShardingRuleConfiguration shardingRuleConfig = ShardingRuleConfigurationConverter.findAndConvertShardingRuleConfiguration(rootConfig.getRules());
+        // Routing does not generate keys, skip key generators which need instance context, such as COSID_SNOWFLAKE
+        shardingRuleConfig.setKeyGenerators(Collections.emptyMap());
+        shardingRuleConfig.setDefaultKeyGenerateStrategy(null);
+        shardingRuleConfig.getTables().forEach(each -> each.setKeyGenerateStrategy(null));
+        shardingRuleConfig.getAutoTables().forEach(each -> each.setKeyGenerateStrategy(null));
+        return new ShardingRule(shardingRuleConfig, rootConfig.getDataSources().keySet(), null);
+    }
+    
+    @Override
+    public String getType() {
+        return ShardingSpherePipelineDataSourceConfiguration.TYPE;
+    }
+}
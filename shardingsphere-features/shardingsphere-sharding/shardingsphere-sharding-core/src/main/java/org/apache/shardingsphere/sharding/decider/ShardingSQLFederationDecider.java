@@ -51,10 +51,14 @@ public final class ShardingSQLFederationDecider implements SQLFederationDecider<
         if (select.getPaginationContext().isHasPagination() || (shardingConditions.isNeedMerge() && shardingConditions.isSameShardingCondition())) {
             return;
         }
-        if (select.isContainsSubquery() || select.isContainsHaving() || select.isContainsCombine() || select.isContainsPartialDistinctAggregation()) {
+        if (select.isContainsSubquery() || select.isContainsCombine() || select.isContainsPartialDistinctAggregation()) {
             deciderContext.setUseSQLFederation(true);
             return;
         }
+        if (select.isContainsHaving()) {
+            deciderContext.setUseSQLFederation(!isColocatedGroupBy(select, database, rule, tableNames));
+            return;
+        }
         if (!select.isContainsJoinQuery() || rule.isAllTablesInSameDataSource(tableNames)) {
             return;
         }
@@ -62,6 +66,18 @@ public final class ShardingSQLFederationDecider implements SQLFederationDecider<
         deciderContext.setUseSQLFederation(tableNames.size() > 1 && !allBindingTables);
     }
     
+    private static boolean isColocatedGroupBy(final SelectStatementContext select, final ShardingSphereDatabase database, final ShardingRule rule, final Collection<String> tableNames) {
+        if (tableNames.size() > 1 && !rule.isAllBindingTables(database, select, tableNames)) {
+            return false;
+        }
+        for (String each : tableNames) {
+            if (rule.isGroupByContainsShardingColumns(database, select, each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private static void addTableDataNodes(final SQLFederationDeciderContext deciderContext, final ShardingRule rule, final Collection<String> tableNames) {
         for (String each : tableNames) {
             rule.findTableRule(each).ifPresent(optional -> deciderContext.getDataNodes().addAll(optional.getActualDataNodes()));
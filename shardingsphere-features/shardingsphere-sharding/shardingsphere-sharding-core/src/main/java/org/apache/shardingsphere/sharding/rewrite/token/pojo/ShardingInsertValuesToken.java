@@ -18,15 +18,25 @@
 package org.apache.shardingsphere.sharding.rewrite.token.pojo;
 
 import org.apache.shardingsphere.infra.datanode.DataNode;
-import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.InsertValuesSplittable;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValue;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValuesToken;
+import org.apache.shardingsphere.infra.route.context.OriginalDataNodeIndex;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Insert values token for sharding.
  */
-public final class ShardingInsertValuesToken extends InsertValuesToken implements RouteUnitAware {
+public final class ShardingInsertValuesToken extends InsertValuesToken implements InsertValuesSplittable {
+    
+    private List<InsertValue> indexedInsertValues;
+    
+    private OriginalDataNodeIndex dataNodeIndex;
     
     public ShardingInsertValuesToken(final int startIndex, final int stopIndex) {
         super(startIndex, stopIndex);
@@ -40,23 +50,42 @@ public final class ShardingInsertValuesToken extends InsertValuesToken implement
         return result.toString();
     }
     
+    @Override
+    public String toString(final RouteUnit routeUnit, final BitSet insertValueIndexes) {
+        if (null == dataNodeIndex) {
+            buildDataNodeIndex();
+        }
+        StringBuilder result = new StringBuilder();
+        appendInsertValue(insertValueIndexes, result);
+        result.delete(result.length() - 2, result.length());
+        return result.toString();
+    }
+    
     private void appendInsertValue(final RouteUnit routeUnit, final StringBuilder stringBuilder) {
-        for (InsertValue each : getInsertValues()) {
-            if (isAppend(routeUnit, (ShardingInsertValue) each)) {
+        if (null == routeUnit) {
+            for (InsertValue each : getInsertValues()) {
                 stringBuilder.append(each).append(", ");
             }
+            return;
+        }
+        if (null == dataNodeIndex) {
+            buildDataNodeIndex();
         }
+        appendInsertValue(dataNodeIndex.getMatchedIndexes(routeUnit), stringBuilder);
     }
     
-    private boolean isAppend(final RouteUnit routeUnit, final ShardingInsertValue insertValueToken) {
-        if (insertValueToken.getDataNodes().isEmpty() || null == routeUnit) {
-            return true;
+    private void appendInsertValue(final BitSet insertValueIndexes, final StringBuilder stringBuilder) {
+        for (int i = insertValueIndexes.nextSetBit(0); i >= 0; i = insertValueIndexes.nextSetBit(i + 1)) {
+            stringBuilder.append(indexedInsertValues.get(i)).append(", ");
         }
-        for (DataNode each : insertValueToken.getDataNodes()) {
-            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
-            }
+    }
+    
+    private void buildDataNodeIndex() {
+        indexedInsertValues = new ArrayList<>(getInsertValues());
+        List<Collection<DataNode>> dataNodes = new ArrayList<>(indexedInsertValues.size());
+        for (InsertValue each : indexedInsertValues) {
+            dataNodes.add(((ShardingInsertValue) each).getDataNodes());
         }
-        return false;
+        dataNodeIndex = new OriginalDataNodeIndex(dataNodes);
     }
 }
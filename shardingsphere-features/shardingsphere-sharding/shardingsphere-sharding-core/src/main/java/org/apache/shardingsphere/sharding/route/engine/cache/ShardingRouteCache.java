@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.MapMaker;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sharding route cache, which caches routed data nodes of table rule by sharding condition values.
+ * 
+ * <p>Only route results of deterministic sharding algorithms can be cached, and caching can be disabled by {@code sharding-route-cache-enabled}.</p>
+ */
+public final class ShardingRouteCache {
+    
+    private static final int MAXIMUM_SIZE = 1024;
+    
+    private static final Map<TableRule, ShardingRouteCache> INSTANCES = new MapMaker().weakKeys().makeMap();
+    
+    private final Cache<ShardingRouteCacheKey, Collection<DataNode>> cache = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+    
+    /**
+     * Get sharding route cache of table rule.
+     *
+     * @param tableRule table rule
+     * @return sharding route cache
+     */
+    public static ShardingRouteCache getInstance(final TableRule tableRule) {
+        ShardingRouteCache result = INSTANCES.get(tableRule);
+        return null == result ? INSTANCES.computeIfAbsent(tableRule, key -> new ShardingRouteCache()) : result;
+    }
+    
+    /**
+     * Get cached data nodes.
+     *
+     * @param key sharding route cache key
+     * @return cached data nodes
+     */
+    public Optional<Collection<DataNode>> get(final ShardingRouteCacheKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+    
+    /**
+     * Put routed data nodes.
+     *
+     * @param key sharding route cache key
+     * @param dataNodes routed data nodes
+     */
+    public void put(final ShardingRouteCacheKey key, final Collection<DataNode> dataNodes) {
+        cache.put(key, Collections.unmodifiableList(new ArrayList<>(dataNodes)));
+    }
+}
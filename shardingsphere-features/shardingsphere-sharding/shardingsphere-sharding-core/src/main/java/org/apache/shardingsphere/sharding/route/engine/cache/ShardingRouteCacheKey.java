@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sharding route cache key, which normalizes database and table sharding condition values.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+public final class ShardingRouteCacheKey {
+    
+    private final List<ShardingValueKey> databaseShardingValues;
+    
+    private final List<ShardingValueKey> tableShardingValues;
+    
+    /**
+     * Create new instance of sharding route cache key.
+     *
+     * @param databaseShardingValues database sharding condition values
+     * @param tableShardingValues table sharding condition values
+     * @return sharding route cache key, empty if any sharding condition value can not be cached
+     */
+    public static Optional<ShardingRouteCacheKey> newInstance(final List<ShardingConditionValue> databaseShardingValues, final List<ShardingConditionValue> tableShardingValues) {
+        List<ShardingValueKey> databaseKeys = createShardingValueKeys(databaseShardingValues);
+        if (null == databaseKeys) {
+            return Optional.empty();
+        }
+        List<ShardingValueKey> tableKeys = createShardingValueKeys(tableShardingValues);
+        return null == tableKeys ? Optional.empty() : Optional.of(new ShardingRouteCacheKey(databaseKeys, tableKeys));
+    }
+    
+    private static List<ShardingValueKey> createShardingValueKeys(final List<ShardingConditionValue> shardingConditionValues) {
+        List<ShardingValueKey> result = new ArrayList<>(shardingConditionValues.size());
+        for (ShardingConditionValue each : shardingConditionValues) {
+            if (each instanceof ListShardingConditionValue) {
+                result.add(new ShardingValueKey(each.getColumnName(), each.getTableName(), new ArrayList<>(((ListShardingConditionValue<?>) each).getValues())));
+            } else if (each instanceof RangeShardingConditionValue) {
+                result.add(new ShardingValueKey(each.getColumnName(), each.getTableName(), ((RangeShardingConditionValue<?>) each).getValueRange()));
+            } else {
+                return null;
+            }
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class ShardingValueKey {
+        
+        private final String columnName;
+        
+        private final String tableName;
+        
+        private final Object value;
+    }
+}
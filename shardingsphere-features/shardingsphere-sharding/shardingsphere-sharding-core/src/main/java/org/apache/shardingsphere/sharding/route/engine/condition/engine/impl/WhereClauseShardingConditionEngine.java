@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.sharding.route.engine.condition.engine.impl;
 
 import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeSet;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.type.WhereAvailable;
@@ -47,6 +49,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -93,6 +96,63 @@ public final class WhereClauseShardingConditionEngine implements ShardingConditi
             shardingCondition.setStartIndex(expression.getStartIndex());
             result.add(shardingCondition);
         }
+        return result.size() > 1 ? mergeShardingConditions(result, expression.getStartIndex()) : result;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Collection<ShardingCondition> mergeShardingConditions(final Collection<ShardingCondition> shardingConditions, final int startIndex) {
+        if (!isMergeableShardingConditions(shardingConditions)) {
+            return shardingConditions;
+        }
+        ShardingConditionValue firstValue = shardingConditions.iterator().next().getValues().get(0);
+        Collection<Comparable<?>> listValue = new LinkedHashSet<>();
+        RangeSet<Comparable<?>> rangeValues = TreeRangeSet.create();
+        try {
+            for (ShardingCondition each : shardingConditions) {
+                ShardingConditionValue shardingConditionValue = each.getValues().get(0);
+                if (shardingConditionValue instanceof ListShardingConditionValue) {
+                    listValue.addAll(((ListShardingConditionValue) shardingConditionValue).getValues());
+                } else {
+                    rangeValues.add(((RangeShardingConditionValue) shardingConditionValue).getValueRange());
+                }
+            }
+            listValue.removeIf(rangeValues::contains);
+        } catch (final ClassCastException ex) {
+            return shardingConditions;
+        }
+        Collection<ShardingCondition> result = new LinkedList<>();
+        if (!listValue.isEmpty()) {
+            result.add(createMergedShardingCondition(new ListShardingConditionValue<>(firstValue.getColumnName(), firstValue.getTableName(), new ArrayList<>(listValue)), startIndex));
+        }
+        for (Range<Comparable<?>> each : rangeValues.asRanges()) {
+            result.add(createMergedShardingCondition(new RangeShardingConditionValue<>(firstValue.getColumnName(), firstValue.getTableName(), each), startIndex));
+        }
+        return result.isEmpty() || result.size() >= shardingConditions.size() ? shardingConditions : result;
+    }
+    
+    private boolean isMergeableShardingConditions(final Collection<ShardingCondition> shardingConditions) {
+        ShardingConditionValue firstValue = null;
+        for (ShardingCondition each : shardingConditions) {
+            if (each instanceof AlwaysFalseShardingCondition || 1 != each.getValues().size()) {
+                return false;
+            }
+            ShardingConditionValue shardingConditionValue = each.getValues().get(0);
+            if (!(shardingConditionValue instanceof ListShardingConditionValue || shardingConditionValue instanceof RangeShardingConditionValue)) {
+                return false;
+            }
+            if (null == firstValue) {
+                firstValue = shardingConditionValue;
+            } else if (!firstValue.getColumnName().equals(shardingConditionValue.getColumnName()) || !firstValue.getTableName().equals(shardingConditionValue.getTableName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private ShardingCondition createMergedShardingCondition(final ShardingConditionValue shardingConditionValue, final int startIndex) {
+        ShardingCondition result = new ShardingCondition();
+        result.getValues().add(shardingConditionValue);
+        result.setStartIndex(startIndex);
         return result;
     }
     
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.route.engine.type.standard;
 import com.google.common.base.Preconditions;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -27,6 +28,8 @@ import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCacheKey;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
@@ -193,6 +196,35 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     private Collection<DataNode> route0(final TableRule tableRule,
                                         final ShardingStrategy databaseShardingStrategy, final List<ShardingConditionValue> databaseShardingValues,
                                         final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
+        Optional<ShardingRouteCacheKey> cacheKey = isRouteCacheable(databaseShardingStrategy, databaseShardingValues, tableShardingStrategy, tableShardingValues)
+                ? ShardingRouteCacheKey.newInstance(databaseShardingValues, tableShardingValues)
+                : Optional.empty();
+        if (!cacheKey.isPresent()) {
+            return routeDataNodes(tableRule, databaseShardingStrategy, databaseShardingValues, tableShardingStrategy, tableShardingValues);
+        }
+        ShardingRouteCache routeCache = ShardingRouteCache.getInstance(tableRule);
+        Optional<Collection<DataNode>> cachedDataNodes = routeCache.get(cacheKey.get());
+        if (cachedDataNodes.isPresent()) {
+            return new LinkedList<>(cachedDataNodes.get());
+        }
+        Collection<DataNode> result = routeDataNodes(tableRule, databaseShardingStrategy, databaseShardingValues, tableShardingStrategy, tableShardingValues);
+        routeCache.put(cacheKey.get(), result);
+        return result;
+    }
+    
+    private boolean isRouteCacheable(final ShardingStrategy databaseShardingStrategy, final List<ShardingConditionValue> databaseShardingValues,
+                                     final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
+        boolean routeCacheEnabled = properties.getValue(ConfigurationPropertyKey.SHARDING_ROUTE_CACHE_ENABLED);
+        return routeCacheEnabled && (!databaseShardingValues.isEmpty() || !tableShardingValues.isEmpty()) && isDeterministic(databaseShardingStrategy) && isDeterministic(tableShardingStrategy);
+    }
+    
+    private boolean isDeterministic(final ShardingStrategy shardingStrategy) {
+        return null == shardingStrategy.getShardingAlgorithm() || shardingStrategy.getShardingAlgorithm().isDeterministic();
+    }
+    
+    private Collection<DataNode> routeDataNodes(final TableRule tableRule,
+                                                final ShardingStrategy databaseShardingStrategy, final List<ShardingConditionValue> databaseShardingValues,
+                                                final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
         Collection<String> routedDataSources = routeDataSources(tableRule, databaseShardingStrategy, databaseShardingValues);
         Collection<DataNode> result = new LinkedList<>();
         for (String each : routedDataSources) {
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.rule;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.instance.InstanceContextAware;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRul
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
+import org.apache.shardingsphere.infra.util.identifier.IdentifierUtil;
 import org.apache.shardingsphere.sharding.algorithm.config.AlgorithmProvidedShardingRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingAutoTableRuleConfiguration;
@@ -56,6 +58,7 @@ import org.apache.shardingsphere.sharding.spi.ShardingAuditAlgorithm;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.AndPredicate;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionExtractUtil;
@@ -114,6 +117,8 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     
     private final Map<String, Collection<DataNode>> shardingTableDataNodes;
     
+    private final Map<String, Collection<TableRule>> actualTableRules;
+    
     public ShardingRule(final ShardingRuleConfiguration config, final Collection<String> dataSourceNames, final InstanceContext instanceContext) {
         configuration = config;
         this.dataSourceNames = getDataSourceNames(config.getTables(), config.getAutoTables(), dataSourceNames);
@@ -132,6 +137,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
                 : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = config.getDefaultShardingColumn();
         shardingTableDataNodes = createShardingTableDataNodes(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
         Preconditions.checkArgument(isValidBindingTableConfiguration(tableRules, new BindingTableCheckedConfiguration(this.dataSourceNames, shardingAlgorithms, config.getBindingTableGroups(),
                 broadcastTables, defaultDatabaseShardingStrategyConfig, defaultTableShardingStrategyConfig, defaultShardingColumn)),
                 "Invalid binding table configuration in ShardingRuleConfiguration.");
@@ -159,6 +165,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
                 : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = config.getDefaultShardingColumn();
         shardingTableDataNodes = createShardingTableDataNodes(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
         Preconditions.checkArgument(isValidBindingTableConfiguration(tableRules, new BindingTableCheckedConfiguration(this.dataSourceNames, shardingAlgorithms, config.getBindingTableGroups(),
                 broadcastTables, defaultDatabaseShardingStrategyConfig, defaultTableShardingStrategyConfig, defaultShardingColumn)),
                 "Invalid binding table configuration in ShardingRuleConfiguration.");
@@ -171,7 +178,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     private Map<String, Collection<DataNode>> createShardingTableDataNodes(final Map<String, TableRule> tableRules) {
         Map<String, Collection<DataNode>> result = new HashMap<>(tableRules.size(), 1);
         for (TableRule each : tableRules.values()) {
-            result.put(each.getLogicTable().toLowerCase(), each.getActualDataNodes());
+            result.put(IdentifierUtil.toLowerCase(each.getLogicTable()), each.getActualDataNodes());
         }
         return result;
     }
@@ -202,13 +209,13 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     
     private Map<String, TableRule> createTableRules(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs, final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig) {
         return tableRuleConfigs.stream().map(each -> new TableRule(each, dataSourceNames, getDefaultGenerateKeyColumn(defaultKeyGenerateStrategyConfig)))
-                .collect(Collectors.toMap(each -> each.getLogicTable().toLowerCase(), Function.identity(), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+                .collect(Collectors.toMap(each -> IdentifierUtil.toLowerCase(each.getLogicTable()), Function.identity(), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
     }
     
     private Map<String, TableRule> createAutoTableRules(final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs,
                                                         final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig) {
         return autoTableRuleConfigs.stream().map(each -> createAutoTableRule(defaultKeyGenerateStrategyConfig, each))
-                .collect(Collectors.toMap(each -> each.getLogicTable().toLowerCase(), Function.identity(), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+                .collect(Collectors.toMap(each -> IdentifierUtil.toLowerCase(each.getLogicTable()), Function.identity(), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
     }
     
     private TableRule createAutoTableRule(final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig, final ShardingAutoTableRuleConfiguration autoTableRuleConfig) {
@@ -232,7 +239,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         for (String each : bindingTableGroups) {
             BindingTableRule bindingTableRule = createBindingTableRule(each);
             for (String logicTable : bindingTableRule.getAllLogicTables()) {
-                result.put(logicTable.toLowerCase(), bindingTableRule);
+                result.put(IdentifierUtil.toLowerCase(logicTable), bindingTableRule);
             }
         }
         return result;
@@ -248,7 +255,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     
     private boolean isValidBindingTableConfiguration(final Map<String, TableRule> tableRules, final BindingTableCheckedConfiguration checkedConfig) {
         for (String each : checkedConfig.getBindingTableGroups()) {
-            Collection<String> bindingTables = Splitter.on(",").trimResults().splitToList(each.toLowerCase());
+            Collection<String> bindingTables = Splitter.on(",").trimResults().splitToList(IdentifierUtil.toLowerCase(each));
             if (bindingTables.size() <= 1) {
                 continue;
             }
@@ -350,6 +357,19 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return null == tableRule.getAuditStrategyConfig() ? defaultAuditStrategy : tableRule.getAuditStrategyConfig();
     }
     
+    private Map<String, Collection<TableRule>> createActualTableRules(final Map<String, TableRule> tableRules) {
+        Map<String, Collection<TableRule>> result = new HashMap<>();
+        for (TableRule each : tableRules.values()) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                Collection<TableRule> tableRulesOfActualTable = result.computeIfAbsent(IdentifierUtil.toLowerCase(dataNode.getTableName()), key -> new LinkedList<>());
+                if (!tableRulesOfActualTable.contains(each)) {
+                    tableRulesOfActualTable.add(each);
+                }
+            }
+        }
+        return result;
+    }
+    
     /**
      * Find table rule.
      *
@@ -357,7 +377,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        return Optional.ofNullable(tableRules.get(logicTableName.toLowerCase()));
+        return Optional.ofNullable(tableRules.get(IdentifierUtil.toLowerCase(logicTableName)));
     }
     
     /**
@@ -367,12 +387,8 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules.values()) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        Collection<TableRule> result = actualTableRules.get(IdentifierUtil.toLowerCase(actualTableName));
+        return null == result ? Optional.empty() : Optional.of(result.iterator().next());
     }
     
     /**
@@ -437,14 +453,67 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         if (!isAllBindingTables(logicTableNames)) {
             return false;
         }
-        String defaultSchemaName = DatabaseTypeEngine.getDefaultSchemaName(sqlStatementContext.getDatabaseType(), database.getName());
-        ShardingSphereSchema schema = sqlStatementContext.getTablesContext().getSchemaName().map(database::getSchema).orElseGet(() -> database.getSchema(defaultSchemaName));
+        ShardingSphereSchema schema = getSchema(database, sqlStatementContext);
         SelectStatementContext select = (SelectStatementContext) sqlStatementContext;
         Collection<WhereSegment> joinSegments = WhereExtractUtil.getJoinWhereSegments(select.getSqlStatement());
         return isJoinConditionContainsShardingColumns(schema, select, logicTableNames, joinSegments)
                 || isJoinConditionContainsShardingColumns(schema, select, logicTableNames, select.getWhereSegments());
     }
     
+    /**
+     * Judge whether group by columns contain all sharding columns of logic table.
+     *
+     * @param database database
+     * @param select select statement context
+     * @param logicTableName logic table name
+     * @return whether group by columns contain all sharding columns of logic table
+     */
+    public boolean isGroupByContainsShardingColumns(final ShardingSphereDatabase database, final SelectStatementContext select, final String logicTableName) {
+        Optional<TableRule> tableRule = findTableRule(logicTableName);
+        if (!tableRule.isPresent()) {
+            return false;
+        }
+        Collection<ColumnSegment> groupByColumns = new LinkedList<>();
+        for (OrderByItem each : select.getGroupByContext().getItems()) {
+            if (each.getSegment() instanceof ColumnOrderByItemSegment) {
+                groupByColumns.add(((ColumnOrderByItemSegment) each.getSegment()).getColumn());
+            }
+        }
+        if (groupByColumns.isEmpty()) {
+            return false;
+        }
+        Map<String, String> columnTableNames = select.getTablesContext().findTableNamesByColumnSegment(groupByColumns, getSchema(database, select));
+        Collection<String> columnNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (ColumnSegment each : groupByColumns) {
+            if (logicTableName.equalsIgnoreCase(columnTableNames.get(each.getExpression()))) {
+                columnNames.add(each.getIdentifier().getValue());
+            }
+        }
+        return isContainsShardingColumns(getDatabaseShardingStrategyConfiguration(tableRule.get()), columnNames)
+                && isContainsShardingColumns(getTableShardingStrategyConfiguration(tableRule.get()), columnNames);
+    }
+    
+    private boolean isContainsShardingColumns(final ShardingStrategyConfiguration shardingStrategyConfig, final Collection<String> columnNames) {
+        if (shardingStrategyConfig instanceof NoneShardingStrategyConfiguration) {
+            return true;
+        }
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
+            String shardingColumn = null == ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn()
+                    ? defaultShardingColumn
+                    : ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+            return null != shardingColumn && columnNames.contains(shardingColumn);
+        }
+        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            return columnNames.containsAll(Splitter.on(",").trimResults().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns()));
+        }
+        return false;
+    }
+    
+    private ShardingSphereSchema getSchema(final ShardingSphereDatabase database, final SQLStatementContext<?> sqlStatementContext) {
+        String defaultSchemaName = DatabaseTypeEngine.getDefaultSchemaName(sqlStatementContext.getDatabaseType(), database.getName());
+        return sqlStatementContext.getTablesContext().getSchemaName().map(database::getSchema).orElseGet(() -> database.getSchema(defaultSchemaName));
+    }
+    
     private Optional<BindingTableRule> findBindingTableRule(final Collection<String> logicTableNames) {
         for (String each : logicTableNames) {
             Optional<BindingTableRule> result = findBindingTableRule(each);
@@ -462,7 +531,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        return Optional.ofNullable(bindingTableRules.get(logicTableName.toLowerCase()));
+        return Optional.ofNullable(bindingTableRules.get(IdentifierUtil.toLowerCase(logicTableName)));
     }
     
     /**
@@ -500,7 +569,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return whether logic table is sharding table or not
      */
     public boolean isShardingTable(final String logicTableName) {
-        return tableRules.containsKey(logicTableName.toLowerCase());
+        return tableRules.containsKey(IdentifierUtil.toLowerCase(logicTableName));
     }
     
     /**
@@ -520,7 +589,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return whether all tables are in same data source or not
      */
     public boolean isAllTablesInSameDataSource(final Collection<String> logicTableNames) {
-        Collection<String> dataSourceNames = logicTableNames.stream().map(each -> tableRules.get(each.toLowerCase()))
+        Collection<String> dataSourceNames = logicTableNames.stream().map(each -> tableRules.get(IdentifierUtil.toLowerCase(each)))
                 .filter(Objects::nonNull).flatMap(each -> each.getActualDataSourceNames().stream()).collect(Collectors.toSet());
         return 1 == dataSourceNames.size();
     }
@@ -548,7 +617,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return sharding column
      */
     public Optional<String> findShardingColumn(final String columnName, final String tableName) {
-        return Optional.ofNullable(tableRules.get(tableName.toLowerCase())).flatMap(optional -> findShardingColumn(optional, columnName));
+        return Optional.ofNullable(tableRules.get(IdentifierUtil.toLowerCase(tableName))).flatMap(optional -> findShardingColumn(optional, columnName));
     }
     
     private Optional<String> findShardingColumn(final TableRule tableRule, final String columnName) {
@@ -585,7 +654,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return whether given logic table column is generate key column or not
      */
     public boolean isGenerateKeyColumn(final String columnName, final String tableName) {
-        return Optional.ofNullable(tableRules.get(tableName.toLowerCase())).filter(each -> isGenerateKeyColumn(each, columnName)).isPresent();
+        return Optional.ofNullable(tableRules.get(IdentifierUtil.toLowerCase(tableName))).filter(each -> isGenerateKeyColumn(each, columnName)).isPresent();
     }
     
     private boolean isGenerateKeyColumn(final TableRule tableRule, final String columnName) {
@@ -600,7 +669,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        return Optional.ofNullable(tableRules.get(logicTableName.toLowerCase())).filter(each -> each.getGenerateKeyColumn().isPresent()).flatMap(TableRule::getGenerateKeyColumn);
+        return Optional.ofNullable(tableRules.get(IdentifierUtil.toLowerCase(logicTableName))).filter(each -> each.getGenerateKeyColumn().isPresent()).flatMap(TableRule::getGenerateKeyColumn);
     }
     
     /**
@@ -675,7 +744,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return logic tables
      */
     public Collection<String> getLogicTablesByActualTable(final String actualTable) {
-        return tableRules.values().stream().filter(each -> each.isExisted(actualTable)).map(TableRule::getLogicTable).collect(Collectors.toSet());
+        return actualTableRules.getOrDefault(IdentifierUtil.toLowerCase(actualTable), Collections.emptyList()).stream().map(TableRule::getLogicTable).collect(Collectors.toSet());
     }
     
     @Override
@@ -685,7 +754,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     
     @Override
     public Collection<DataNode> getDataNodesByTableName(final String tableName) {
-        return shardingTableDataNodes.getOrDefault(tableName.toLowerCase(), Collections.emptyList());
+        return shardingTableDataNodes.getOrDefault(IdentifierUtil.toLowerCase(tableName), Collections.emptyList());
     }
     
     private Collection<String> getAllActualTables() {
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingTargetNameTableTest {
+    
+    private final Collection<String> availableTargetNames = Arrays.asList("t_order_00", "t_order_01", "t_order_02", "t_order_03");
+    
+    @Test
+    public void assertFindTargetName() {
+        ShardingTargetNameTable targetNameTable = new ShardingTargetNameTable(4, String::valueOf);
+        Optional<String> actual = targetNameTable.findTargetName(availableTargetNames, 2, new DataNodeInfo("t_order_", 2, '0'));
+        assertThat(actual, is(Optional.of("t_order_02")));
+    }
+    
+    @Test
+    public void assertFindTargetNameWithCachedTargetName() {
+        ShardingTargetNameTable targetNameTable = new ShardingTargetNameTable(4, String::valueOf);
+        DataNodeInfo dataNodeInfo = new DataNodeInfo("t_order_", 2, '0');
+        String expected = targetNameTable.findTargetName(availableTargetNames, 3, dataNodeInfo).orElse(null);
+        assertThat(targetNameTable.findTargetName(availableTargetNames, 3, dataNodeInfo).orElse(null), sameInstance(expected));
+    }
+    
+    @Test
+    public void assertFindTargetNameWithUnavailableTarget() {
+        ShardingTargetNameTable targetNameTable = new ShardingTargetNameTable(4, String::valueOf);
+        assertFalse(targetNameTable.findTargetName(availableTargetNames, 1, new DataNodeInfo("t_user_", 2, '0')).isPresent());
+    }
+    
+    @Test
+    public void assertFindTargetNameWithShardIndexOutOfShardingCount() {
+        ShardingTargetNameTable targetNameTable = new ShardingTargetNameTable(2, String::valueOf);
+        assertThat(targetNameTable.findTargetName(availableTargetNames, 3, new DataNodeInfo("t_order_", 2, '0')), is(Optional.of("t_order_03")));
+    }
+}
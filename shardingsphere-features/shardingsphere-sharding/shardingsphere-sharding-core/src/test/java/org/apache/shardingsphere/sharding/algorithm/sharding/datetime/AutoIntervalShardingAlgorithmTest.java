@@ -26,6 +26,9 @@ import org.apache.shardingsphere.sharding.factory.ShardingAlgorithmFactory;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.text.DecimalFormat;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
@@ -165,6 +168,31 @@ public final class AutoIntervalShardingAlgorithmTest {
         return result;
     }
     
+    @Test
+    public void assertPreciseDoShardingEquivalentToDecimalFormatRounding() {
+        AutoIntervalShardingAlgorithm shardingAlgorithm = createAutoIntervalShardingAlgorithm(createRangeWithHourProperties());
+        List<String> availableTargetNames = new LinkedList<>();
+        for (int i = 0; i < shardingAlgorithm.getAutoTablesAmount(); i++) {
+            availableTargetNames.add("t_order_" + i);
+        }
+        LocalDateTime dateTimeLower = LocalDateTime.of(2020, 1, 1, 0, 0);
+        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        for (long seconds = 0L; seconds < 3600L * 30; seconds += 9L) {
+            String position = new DecimalFormat("0.00").format((double) seconds / 3600);
+            int expected = Math.min((int) Math.ceil(Double.parseDouble(position)), shardingAlgorithm.getAutoTablesAmount() - 1);
+            String shardingValue = dateTimeLower.plusSeconds(seconds).format(dateTimeFormatter);
+            assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, shardingValue)), is("t_order_" + expected));
+        }
+    }
+    
+    private Properties createRangeWithHourProperties() {
+        Properties result = new Properties();
+        result.setProperty("datetime-lower", "2020-01-01 00:00:00");
+        result.setProperty("datetime-upper", "2020-01-02 00:00:00");
+        result.setProperty("sharding-seconds", "3600");
+        return result;
+    }
+    
     private AutoIntervalShardingAlgorithm createAutoIntervalShardingAlgorithm(final Properties props) {
         return (AutoIntervalShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("AUTO_INTERVAL", props));
     }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
 
+import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
@@ -42,8 +43,10 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Properties;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
@@ -448,4 +451,75 @@ public final class IntervalShardingAlgorithmTest {
                 new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("04", "10")));
         assertThat(actualAsMonthString.size(), is(4));
     }
+    
+    @Test
+    public void assertPreciseDoShardingEquivalentToLinearScan() {
+        IntervalShardingAlgorithm shardingAlgorithm = (IntervalShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("INTERVAL", createTenYearsDayProperties()));
+        Collection<String> availableTargetNames = createTenYearsDayTables();
+        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        for (LocalDateTime each = LocalDateTime.of(2014, 12, 30, 5, 0); each.isBefore(LocalDateTime.of(2025, 1, 3, 0, 0)); each = each.plusHours(19)) {
+            Collection<String> expected = getMatchedTablesByLinearScan(availableTargetNames, Range.singleton(each));
+            String actual = shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, each.format(dateTimeFormatter)));
+            assertThat(actual, is(expected.isEmpty() ? null : expected.iterator().next()));
+        }
+    }
+    
+    @Test
+    public void assertRangeDoShardingEquivalentToLinearScan() {
+        IntervalShardingAlgorithm shardingAlgorithm = (IntervalShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("INTERVAL", createTenYearsDayProperties()));
+        Collection<String> availableTargetNames = createTenYearsDayTables();
+        for (LocalDateTime each = LocalDateTime.of(2014, 12, 1, 0, 0); each.isBefore(LocalDateTime.of(2025, 2, 1, 0, 0)); each = each.plusDays(37).plusHours(7)) {
+            LocalDateTime upper = each.plusDays(45);
+            assertRangeDoShardingEquivalentToLinearScan(shardingAlgorithm, availableTargetNames, Range.closed(each, upper));
+            assertRangeDoShardingEquivalentToLinearScan(shardingAlgorithm, availableTargetNames, Range.openClosed(each, upper));
+            assertRangeDoShardingEquivalentToLinearScan(shardingAlgorithm, availableTargetNames, Range.closedOpen(each, upper));
+        }
+        for (LocalDateTime each = LocalDateTime.of(2015, 1, 1, 3, 0); each.isBefore(LocalDateTime.of(2024, 12, 31, 0, 0)); each = each.plusDays(101).plusHours(5)) {
+            assertRangeDoShardingEquivalentToLinearScan(shardingAlgorithm, availableTargetNames, Range.atLeast(each));
+            assertRangeDoShardingEquivalentToLinearScan(shardingAlgorithm, availableTargetNames, Range.lessThan(each));
+        }
+    }
+    
+    private void assertRangeDoShardingEquivalentToLinearScan(final IntervalShardingAlgorithm shardingAlgorithm, final Collection<String> availableTargetNames, final Range<LocalDateTime> range) {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, toComparableRange(range)));
+        assertThat(new HashSet<>(actual), is(getMatchedTablesByLinearScan(availableTargetNames, range)));
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Range<Comparable<?>> toComparableRange(final Range<LocalDateTime> range) {
+        return (Range) range;
+    }
+    
+    private Properties createTenYearsDayProperties() {
+        Properties result = new Properties();
+        result.setProperty("datetime-pattern", "yyyy-MM-dd HH:mm:ss");
+        result.setProperty("datetime-lower", "2015-01-01 00:00:00");
+        result.setProperty("datetime-upper", "2024-12-31 00:00:00");
+        result.setProperty("sharding-suffix-pattern", "yyyyMMdd");
+        return result;
+    }
+    
+    private Collection<String> createTenYearsDayTables() {
+        Collection<String> result = new LinkedList<>();
+        for (LocalDate each = LocalDate.of(2015, 1, 1); !each.isAfter(LocalDate.of(2024, 12, 31)); each = each.plusDays(1)) {
+            result.add("t_order_" + each.format(DateTimeFormatter.ofPattern("yyyyMMdd")));
+        }
+        return result;
+    }
+    
+    private Set<String> getMatchedTablesByLinearScan(final Collection<String> availableTargetNames, final Range<LocalDateTime> range) {
+        Set<String> result = new HashSet<>();
+        LocalDateTime dateTimeLower = LocalDateTime.of(2015, 1, 1, 0, 0);
+        LocalDateTime dateTimeUpper = LocalDateTime.of(2024, 12, 31, 0, 0);
+        Range<LocalDateTime> dateTimeRange = Range.range(range.hasLowerBound() ? range.lowerEndpoint() : dateTimeLower, range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED,
+                range.hasUpperBound() ? range.upperEndpoint() : dateTimeUpper, range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED);
+        for (LocalDateTime each = dateTimeLower; !each.isAfter(dateTimeUpper); each = each.plusDays(1)) {
+            Range<LocalDateTime> calculateRange = Range.closedOpen(each, each.plusDays(1));
+            if (calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty()) {
+                String suffix = each.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+                availableTargetNames.stream().filter(table -> table.endsWith(suffix)).forEach(result::add);
+            }
+        }
+        return result;
+    }
 }
@@ -27,6 +27,7 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -49,6 +50,13 @@ public final class ModShardingAlgorithmTest {
         assertThat(algorithm.doSharding(createAvailableTargetNames(), new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, "12345678910111213141516")), is("t_order_12"));
     }
     
+    @Test
+    public void assertPreciseDoShardingWithNegativeShardingValue() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("MOD", createProperties()));
+        assertThat(algorithm.doSharding(createAvailableTargetNames(), new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, -17L)), is("t_order_15"));
+        assertThat(algorithm.doSharding(createAvailableTargetNames(), new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, "-17")), is("t_order_15"));
+    }
+    
     @Test
     public void assertRangeDoShardingWithAllTargets() {
         ModShardingAlgorithm algorithm = (ModShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("MOD", createProperties()));
@@ -66,6 +74,13 @@ public final class ModShardingAlgorithmTest {
         assertTrue(actual.contains("t_order_2"));
     }
     
+    @Test
+    public void assertRangeDoShardingAcrossShardingCount() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("MOD", createProperties()));
+        Collection<String> actual = algorithm.doSharding(createAvailableTargetNames(), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(14L, 17L)));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_14", "t_order_15", "t_order_0", "t_order_1"))));
+    }
+    
     private Properties createProperties() {
         Properties result = new Properties();
         result.setProperty("sharding-count", "16");
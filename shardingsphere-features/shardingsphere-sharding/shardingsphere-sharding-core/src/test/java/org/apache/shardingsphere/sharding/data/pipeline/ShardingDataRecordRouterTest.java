@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.data.pipeline;
+
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.ShardingSpherePipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.importer.DataRecordRouter;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.spi.importer.DataRecordRouterCreatorFactory;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ShardingDataRecordRouterTest {
+    
+    private static final String DATA_SOURCES = "dataSources:\n"
+            + "  ds_0:\n    dataSourceClassName: com.zaxxer.hikari.HikariDataSource\n    jdbcUrl: jdbc:h2:mem:ds_0;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL\n    username: root\n"
+            + "  ds_1:\n    dataSourceClassName: com.zaxxer.hikari.HikariDataSource\n    jdbcUrl: jdbc:h2:mem:ds_1;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL\n    username: root\n";
+    
+    private static final String SHARDING_RULE = "rules:\n"
+            + "- !SHARDING\n"
+            + "  tables:\n"
+            + "    t_order:\n"
+            + "      actualDataNodes: ds_${0..1}.t_order_${0..1}\n"
+            + "      databaseStrategy:\n        standard:\n          shardingColumn: user_id\n          shardingAlgorithmName: database_inline\n"
+            + "      tableStrategy:\n        standard:\n          shardingColumn: order_id\n          shardingAlgorithmName: table_inline\n"
+            + "  shardingAlgorithms:\n"
+            + "    database_inline:\n      type: INLINE\n      props:\n        algorithm-expression: ds_${user_id % 2}\n"
+            + "    table_inline:\n      type: INLINE\n      props:\n        algorithm-expression: t_order_${order_id % 2}\n";
+    
+    @Mock
+    private PipelineDataSourceManager dataSourceManager;
+    
+    private DataRecordRouter dataRecordRouter;
+    
+    @Before
+    public void setUp() {
+        ShardingSpherePipelineDataSourceConfiguration dataSourceConfig = new ShardingSpherePipelineDataSourceConfiguration(DATA_SOURCES + SHARDING_RULE);
+        Optional<DataRecordRouter> dataRecordRouter = DataRecordRouterCreatorFactory.findInstance(dataSourceConfig.getType())
+                .flatMap(each -> each.createDataRecordRouter(dataSourceConfig, dataSourceManager));
+        assertTrue(dataRecordRouter.isPresent());
+        this.dataRecordRouter = dataRecordRouter.get();
+    }
+    
+    @Test
+    public void assertRoute() {
+        Optional<DataNode> actual = dataRecordRouter.route(createDataRecord("t_order", 10, 3));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(new DataNode("ds_1", "t_order_0")));
+    }
+    
+    @Test
+    public void assertRouteWithInstanceContextAwareKeyGenerator() {
+        String keyGenerateRule = SHARDING_RULE.replace("      tableStrategy:", "      keyGenerateStrategy:\n        column: order_id\n        keyGeneratorName: fixture\n      tableStrategy:")
+                + "  keyGenerators:\n    fixture:\n      type: CORE.INSTANCE_CONTEXT_AWARE.FIXTURE\n";
+        ShardingSpherePipelineDataSourceConfiguration dataSourceConfig = new ShardingSpherePipelineDataSourceConfiguration(DATA_SOURCES + keyGenerateRule);
+        Optional<DataRecordRouter> dataRecordRouter = DataRecordRouterCreatorFactory.findInstance(dataSourceConfig.getType())
+                .flatMap(each -> each.createDataRecordRouter(dataSourceConfig, dataSourceManager));
+        assertTrue(dataRecordRouter.isPresent());
+        Optional<DataNode> actual = dataRecordRouter.get().route(createDataRecord("t_order", 10, 3));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(new DataNode("ds_1", "t_order_0")));
+    }
+    
+    @Test
+    public void assertRouteWithUpperCaseColumnNames() {
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 2);
+        dataRecord.setTableName("t_order");
+        dataRecord.addColumn("ORDER_ID", null, 1, true, true);
+        dataRecord.addColumn("USER_ID", null, 2, true, false);
+        Optional<DataNode> actual = dataRecordRouter.route(dataRecord);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(new DataNode("ds_0", "t_order_1")));
+    }
+    
+    @Test
+    public void assertRouteWithoutShardingValue() {
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 1);
+        dataRecord.setTableName("t_order");
+        dataRecord.addColumn("order_id", null, 1, true, true);
+        assertFalse(dataRecordRouter.route(dataRecord).isPresent());
+    }
+    
+    @Test
+    public void assertRouteWithNullShardingValue() {
+        assertFalse(dataRecordRouter.route(createDataRecord("t_order", 1, null)).isPresent());
+    }
+    
+    @Test
+    public void assertRouteUnshardedTable() {
+        assertFalse(dataRecordRouter.route(createDataRecord("t_order_item", 1, 1)).isPresent());
+    }
+    
+    private DataRecord createDataRecord(final String tableName, final Object orderId, final Object userId) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
+        result.setTableName(tableName);
+        result.addColumn("order_id", null, orderId, true, true);
+        result.addColumn("user_id", null, userId, true, false);
+        result.addColumn("status", null, "OK", true, false);
+        return result;
+    }
+}
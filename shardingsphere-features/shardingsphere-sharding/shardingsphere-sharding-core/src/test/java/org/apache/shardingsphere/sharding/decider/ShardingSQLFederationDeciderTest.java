@@ -93,6 +93,37 @@ public final class ShardingSQLFederationDeciderTest {
         assertTrue(actual.isUseSQLFederation());
     }
     
+    @Test
+    public void assertDecideWhenContainsHavingAndGroupByShardingColumnsOfBindingTables() {
+        SelectStatementContext select = createStatementContext();
+        when(select.isContainsHaving()).thenReturn(true);
+        QueryContext queryContext = new QueryContext(select, "", Collections.emptyList());
+        SQLFederationDeciderContext actual = new SQLFederationDeciderContext();
+        ShardingSQLFederationDecider federationDecider = new ShardingSQLFederationDecider();
+        ShardingRule shardingRule = createShardingRule();
+        ShardingSphereDatabase database = createDatabase();
+        when(shardingRule.isAllBindingTables(database, select, Arrays.asList("t_order", "t_order_item"))).thenReturn(true);
+        when(shardingRule.isGroupByContainsShardingColumns(database, select, "t_order")).thenReturn(true);
+        federationDecider.decide(actual, queryContext, database, shardingRule, new ConfigurationProperties(new Properties()));
+        assertThat(actual.getDataNodes().size(), is(4));
+        assertFalse(actual.isUseSQLFederation());
+    }
+    
+    @Test
+    public void assertDecideWhenContainsHavingAndGroupByShardingColumnsOfNotBindingTables() {
+        SelectStatementContext select = createStatementContext();
+        when(select.isContainsHaving()).thenReturn(true);
+        QueryContext queryContext = new QueryContext(select, "", Collections.emptyList());
+        SQLFederationDeciderContext actual = new SQLFederationDeciderContext();
+        ShardingSQLFederationDecider federationDecider = new ShardingSQLFederationDecider();
+        ShardingRule shardingRule = createShardingRule();
+        ShardingSphereDatabase database = createDatabase();
+        when(shardingRule.isGroupByContainsShardingColumns(database, select, "t_order")).thenReturn(true);
+        federationDecider.decide(actual, queryContext, database, shardingRule, new ConfigurationProperties(new Properties()));
+        assertThat(actual.getDataNodes().size(), is(4));
+        assertTrue(actual.isUseSQLFederation());
+    }
+    
     @Test
     public void assertDecideWhenContainsCombine() {
         SelectStatementContext select = createStatementContext();
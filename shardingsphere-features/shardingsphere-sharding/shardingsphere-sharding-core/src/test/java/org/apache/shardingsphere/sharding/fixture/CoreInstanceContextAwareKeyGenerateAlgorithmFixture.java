@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.fixture;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.instance.InstanceContextAware;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+
+import java.util.Properties;
+
+@Getter
+public final class CoreInstanceContextAwareKeyGenerateAlgorithmFixture implements KeyGenerateAlgorithm, InstanceContextAware {
+    
+    private Properties props;
+    
+    private long workerId;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+    }
+    
+    @Override
+    public void setInstanceContext(final InstanceContext instanceContext) {
+        workerId = instanceContext.generateWorkerId(props);
+    }
+    
+    @Override
+    public Comparable<?> generateKey() {
+        return workerId;
+    }
+    
+    @Override
+    public String getType() {
+        return "CORE.INSTANCE_CONTEXT_AWARE.FIXTURE";
+    }
+}
@@ -28,7 +28,9 @@ import org.junit.Test;
 
 import java.util.List;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -62,4 +64,30 @@ public final class ShardingInsertValuesTokenTest {
     public void assertToString() {
         assertThat(shardingInsertValuesToken.toString(routeUnit), is("('shardingsphere', 'test')"));
     }
+    
+    @Test
+    public void assertToStringWithDataNodes() {
+        ShardingInsertValuesToken actual = new ShardingInsertValuesToken(0, 2);
+        actual.getInsertValues().add(createShardingInsertValue("a", new DataNode("logic_ds", "tbl_0")));
+        actual.getInsertValues().add(createShardingInsertValue("b", new DataNode("logic_ds", "tbl_2")));
+        actual.getInsertValues().add(createShardingInsertValue("c", new DataNode("other_ds", "tbl_1")));
+        actual.getInsertValues().add(createShardingInsertValue("d", new DataNode("logic_ds", "tbl_1")));
+        assertThat(actual.toString(routeUnit), is("('a'), ('d')"));
+        assertThat(actual.toString(null), is("('a'), ('b'), ('c'), ('d')"));
+    }
+    
+    @Test
+    public void assertToStringWithInsertValueIndexes() {
+        ShardingInsertValuesToken actual = new ShardingInsertValuesToken(0, 2);
+        actual.getInsertValues().add(createShardingInsertValue("a", new DataNode("logic_ds", "tbl_0")));
+        actual.getInsertValues().add(createShardingInsertValue("b", new DataNode("logic_ds", "tbl_2")));
+        actual.getInsertValues().add(createShardingInsertValue("c", new DataNode("logic_ds", "tbl_1")));
+        BitSet insertValueIndexes = new BitSet();
+        insertValueIndexes.set(2);
+        assertThat(actual.toString(routeUnit, insertValueIndexes), is("('c')"));
+    }
+    
+    private ShardingInsertValue createShardingInsertValue(final String value, final DataNode dataNode) {
+        return new ShardingInsertValue(Collections.singletonList(new LiteralExpressionSegment(0, 0, value)), Collections.singleton(dataNode));
+    }
 }
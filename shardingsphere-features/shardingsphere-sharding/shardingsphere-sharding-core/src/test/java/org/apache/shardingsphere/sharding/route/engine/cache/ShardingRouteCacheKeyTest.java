@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.AlwaysFalseShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingRouteCacheKeyTest {
+    
+    @Test
+    public void assertNewInstanceWithSameShardingValues() {
+        Optional<ShardingRouteCacheKey> actual = ShardingRouteCacheKey.newInstance(
+                createShardingConditionValues(new ListShardingConditionValue<>("user_id", "t_order", Arrays.asList(1, 2))),
+                createShardingConditionValues(new RangeShardingConditionValue<>("order_id", "t_order", Range.closed(1, 10))));
+        Optional<ShardingRouteCacheKey> expected = ShardingRouteCacheKey.newInstance(
+                createShardingConditionValues(new ListShardingConditionValue<>("user_id", "t_order", new LinkedList<>(Arrays.asList(1, 2)))),
+                createShardingConditionValues(new RangeShardingConditionValue<>("order_id", "t_order", Range.closed(1, 10))));
+        assertTrue(actual.isPresent());
+        assertTrue(expected.isPresent());
+        assertThat(actual.get(), is(expected.get()));
+        assertThat(actual.get().hashCode(), is(expected.get().hashCode()));
+    }
+    
+    @Test
+    public void assertNewInstanceWithDifferentShardingValues() {
+        Optional<ShardingRouteCacheKey> actual = ShardingRouteCacheKey.newInstance(
+                createShardingConditionValues(new ListShardingConditionValue<>("user_id", "t_order", Collections.singleton(1))), Collections.emptyList());
+        Optional<ShardingRouteCacheKey> expected = ShardingRouteCacheKey.newInstance(
+                Collections.emptyList(), createShardingConditionValues(new ListShardingConditionValue<>("user_id", "t_order", Collections.singleton(1))));
+        assertTrue(actual.isPresent());
+        assertTrue(expected.isPresent());
+        assertThat(actual.get(), not(expected.get()));
+    }
+    
+    @Test
+    public void assertNewInstanceWithAlwaysFalseShardingValue() {
+        assertFalse(ShardingRouteCacheKey.newInstance(createShardingConditionValues(new AlwaysFalseShardingConditionValue()), Collections.emptyList()).isPresent());
+    }
+    
+    private List<ShardingConditionValue> createShardingConditionValues(final ShardingConditionValue shardingConditionValue) {
+        return Collections.singletonList(shardingConditionValue);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.route.engine.condition.engine;
 
+import com.google.common.collect.Range;
 import org.apache.groovy.util.Maps;
 import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
@@ -29,6 +30,7 @@ import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShar
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BetweenExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
@@ -42,6 +44,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -106,4 +109,52 @@ public final class WhereClauseShardingConditionEngineTest {
         assertThat(actual.get(0).getStartIndex(), is(0));
         assertTrue(actual.get(0).getValues().get(0) instanceof ListShardingConditionValue);
     }
+    
+    @Test
+    public void assertCreateShardingConditionsForSelectOrInStatements() {
+        when(whereSegment.getExpr()).thenReturn(createOrExpression(createInExpression(1, 2), createInExpression(2, 3)));
+        when(shardingRule.findShardingColumn(any(), any())).thenReturn(Optional.of("foo_sharding_col"));
+        List<ShardingCondition> actual = shardingConditionEngine.createShardingConditions(sqlStatementContext, Collections.emptyList());
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getValues().size(), is(1));
+        assertThat(((ListShardingConditionValue<?>) actual.get(0).getValues().get(0)).getValues(), is(Arrays.asList(1, 2, 3)));
+    }
+    
+    @Test
+    public void assertCreateShardingConditionsForSelectOrInAndRangeStatements() {
+        ExpressionSegment expression = createOrExpression(createOrExpression(createInExpression(1, 2, 3), createBetweenExpression(2, 10)), createBetweenExpression(5, 20));
+        when(whereSegment.getExpr()).thenReturn(expression);
+        when(shardingRule.findShardingColumn(any(), any())).thenReturn(Optional.of("foo_sharding_col"));
+        List<ShardingCondition> actual = shardingConditionEngine.createShardingConditions(sqlStatementContext, Collections.emptyList());
+        assertThat(actual.size(), is(2));
+        assertThat(((ListShardingConditionValue<?>) actual.get(0).getValues().get(0)).getValues(), is(Collections.singletonList(1)));
+        assertThat(((RangeShardingConditionValue<?>) actual.get(1).getValues().get(0)).getValueRange(), is(Range.closed(2, 20)));
+    }
+    
+    @Test
+    public void assertCreateShardingConditionsForSelectOrDisjointRangeStatements() {
+        when(whereSegment.getExpr()).thenReturn(createOrExpression(createBetweenExpression(1, 5), createBetweenExpression(10, 20)));
+        when(shardingRule.findShardingColumn(any(), any())).thenReturn(Optional.of("foo_sharding_col"));
+        List<ShardingCondition> actual = shardingConditionEngine.createShardingConditions(sqlStatementContext, Collections.emptyList());
+        assertThat(actual.size(), is(2));
+        assertThat(((RangeShardingConditionValue<?>) actual.get(0).getValues().get(0)).getValueRange(), is(Range.closed(1, 5)));
+        assertThat(((RangeShardingConditionValue<?>) actual.get(1).getValues().get(0)).getValueRange(), is(Range.closed(10, 20)));
+    }
+    
+    private ExpressionSegment createOrExpression(final ExpressionSegment left, final ExpressionSegment right) {
+        return new BinaryOperationExpression(0, 0, left, right, "OR", "");
+    }
+    
+    private ExpressionSegment createInExpression(final int... values) {
+        ListExpression right = new ListExpression(0, 0);
+        for (int each : values) {
+            right.getItems().add(new LiteralExpressionSegment(0, 0, each));
+        }
+        return new InExpression(0, 0, new ColumnSegment(0, 0, new IdentifierValue("foo_sharding_col")), right, false);
+    }
+    
+    private ExpressionSegment createBetweenExpression(final int between, final int and) {
+        return new BetweenExpression(0, 0, new ColumnSegment(0, 0, new IdentifierValue("foo_sharding_col")),
+                new LiteralExpressionSegment(0, 0, between), new LiteralExpressionSegment(0, 0, and), false);
+    }
 }
@@ -19,11 +19,15 @@ package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.exception.algorithm.ShardingRouteAlgorithmException;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCacheKey;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.fixture.AbstractRoutingEngineTest;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.After;
@@ -35,7 +39,9 @@ import java.util.List;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public final class ShardingStandardRoutingEngineTest extends AbstractRoutingEngineTest {
@@ -182,6 +188,40 @@ public final class ShardingStandardRoutingEngineTest extends AbstractRoutingEngi
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_interval_test"));
     }
     
+    @Test
+    public void assertRouteByShardingConditionsWithCachedRouteResult() {
+        ShardingRule shardingRule = createBasedShardingRule();
+        RouteContext expected = createShardingStandardRoutingEngine("t_order", createShardingConditions("t_order")).route(shardingRule);
+        assertTrue(ShardingRouteCache.getInstance(shardingRule.getTableRule("t_order")).get(createOrderRouteCacheKey()).isPresent());
+        RouteContext actual = createShardingStandardRoutingEngine("t_order", createShardingConditions("t_order")).route(shardingRule);
+        assertThat(actual.getRouteUnits(), is(expected.getRouteUnits()));
+        assertThat(actual.getOriginalDataNodes(), is(expected.getOriginalDataNodes()));
+    }
+    
+    @Test
+    public void assertRouteByShardingConditionsWithRouteCacheDisabled() {
+        ShardingRule shardingRule = createBasedShardingRule();
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SHARDING_ROUTE_CACHE_ENABLED.getKey(), Boolean.FALSE.toString());
+        RouteContext actual = new ShardingStandardRoutingEngine("t_order", createShardingConditions("t_order"), new ConfigurationProperties(props)).route(shardingRule);
+        assertThat(actual.getRouteUnits().size(), is(1));
+        assertFalse(ShardingRouteCache.getInstance(shardingRule.getTableRule("t_order")).get(createOrderRouteCacheKey()).isPresent());
+    }
+    
+    @Test
+    public void assertRouteByNonDeterministicShardingAlgorithmWithoutRouteCache() {
+        ShardingRule shardingRule = createIntervalTableShardingRule();
+        createShardingStandardRoutingEngine("t_interval_test", createIntervalShardingConditions("t_interval_test")).route(shardingRule);
+        ShardingRouteCacheKey cacheKey = ShardingRouteCacheKey.newInstance(Collections.emptyList(),
+                Collections.singletonList(new ListShardingConditionValue<>("create_at", "t_interval_test", Collections.singleton("2021-01-01 20:20:20")))).orElseThrow(IllegalStateException::new);
+        assertFalse(ShardingRouteCache.getInstance(shardingRule.getTableRule("t_interval_test")).get(cacheKey).isPresent());
+    }
+    
+    private ShardingRouteCacheKey createOrderRouteCacheKey() {
+        return ShardingRouteCacheKey.newInstance(Collections.singletonList(new ListShardingConditionValue<>("user_id", "t_order", Collections.singleton(1L))),
+                Collections.singletonList(new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(1L)))).orElseThrow(IllegalStateException::new);
+    }
+    
     private ShardingStandardRoutingEngine createShardingStandardRoutingEngine(final String logicTableName, final ShardingConditions shardingConditions) {
         return new ShardingStandardRoutingEngine(logicTableName, shardingConditions, new ConfigurationProperties(new Properties()));
     }
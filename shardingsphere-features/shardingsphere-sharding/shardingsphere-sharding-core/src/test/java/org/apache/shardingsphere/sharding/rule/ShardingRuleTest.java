@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.sharding.rule;
 
+import org.apache.shardingsphere.infra.binder.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
@@ -43,9 +45,11 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingS
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.exception.algorithm.GenerateKeyStrategyNotFoundException;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingRuleNotFoundException;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.JoinTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
@@ -60,6 +64,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -120,6 +125,11 @@ public final class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().findTableRuleByActualTable("table_0").isPresent());
     }
     
+    @Test
+    public void assertFindTableRuleByActualTableIgnoreCase() {
+        assertThat(createMaximumShardingRule().findTableRuleByActualTable("TABLE_0").map(TableRule::getLogicTable), is(Optional.of("LOGIC_TABLE")));
+    }
+    
     @Test
     public void assertNotFindTableRuleByActualTable() {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
@@ -630,6 +640,48 @@ public final class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().isAllBindingTables(database, sqlStatementContext, Arrays.asList("logic_Table", "sub_Logic_Table")));
     }
     
+    @Test
+    public void assertIsGroupByContainsShardingColumns() {
+        ColumnSegment userId = createColumnSegment("user_id", "logic_Table");
+        ColumnSegment orderId = createColumnSegment("order_id", "logic_Table");
+        SelectStatementContext sqlStatementContext = createGroupBySelectStatementContext(userId, orderId);
+        assertTrue(createMaximumShardingRule().isGroupByContainsShardingColumns(createGroupByDatabase(), sqlStatementContext, "logic_Table"));
+    }
+    
+    @Test
+    public void assertIsGroupByNotContainsTableShardingColumn() {
+        ColumnSegment userId = createColumnSegment("user_id", "logic_Table");
+        SelectStatementContext sqlStatementContext = createGroupBySelectStatementContext(userId);
+        assertFalse(createMaximumShardingRule().isGroupByContainsShardingColumns(createGroupByDatabase(), sqlStatementContext, "logic_Table"));
+    }
+    
+    @Test
+    public void assertIsGroupByContainsShardingColumnsOfOtherTable() {
+        ColumnSegment userId = createColumnSegment("user_id", "sub_Logic_Table");
+        ColumnSegment orderId = createColumnSegment("order_id", "sub_Logic_Table");
+        SelectStatementContext sqlStatementContext = createGroupBySelectStatementContext(userId, orderId);
+        assertFalse(createMaximumShardingRule().isGroupByContainsShardingColumns(createGroupByDatabase(), sqlStatementContext, "logic_Table"));
+    }
+    
+    private SelectStatementContext createGroupBySelectStatementContext(final ColumnSegment... groupByColumns) {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        Collection<OrderByItem> groupByItems = new LinkedList<>();
+        for (ColumnSegment each : groupByColumns) {
+            groupByItems.add(new OrderByItem(new ColumnOrderByItemSegment(each, OrderDirection.ASC)));
+        }
+        when(result.getGroupByContext()).thenReturn(new GroupByContext(groupByItems));
+        when(result.getDatabaseType()).thenReturn(new MySQLDatabaseType());
+        when(result.getTablesContext().getSchemaName()).thenReturn(Optional.empty());
+        when(result.getTablesContext().findTableNamesByColumnSegment(Arrays.asList(groupByColumns), null)).thenReturn(createColumnTableNameMap());
+        return result;
+    }
+    
+    private ShardingSphereDatabase createGroupByDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class);
+        when(result.getName()).thenReturn(DefaultDatabase.LOGIC_NAME);
+        return result;
+    }
+    
     @Test
     public void assertIsAllTablesInSameDataSource() {
         Collection<String> logicTableNames = new LinkedHashSet<>();
@@ -142,6 +142,7 @@ public final class SQLStatementContextFactory {
      */
     public static SQLStatementContext<?> newInstance(final Map<String, ShardingSphereDatabase> databases,
                                                      final List<Object> parameters, final SQLStatement sqlStatement, final String defaultDatabaseName) {
+        // TODO share parameter independent parts (tables, projections, order by items) of contexts created for the same cached SQL statement, only parameter aware contexts are reused now
         if (sqlStatement instanceof DMLStatement) {
             return getDMLStatementContext(databases, parameters, (DMLStatement) sqlStatement, defaultDatabaseName);
         }
@@ -21,6 +21,9 @@ import java.util.List;
 
 /**
  * Parameter aware.
+ * 
+ * <p>Statement contexts of prepared statements are created once and set up again with parameters of every execution,
+ * parameter independent parts such as tables and projections are kept, only parameter dependent parts are created again.</p>
  */
 public interface ParameterAware {
     
@@ -129,9 +129,13 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
         }
         SubquerySegment insertSelectSegment = getSqlStatement().getInsertSelect().get();
         SelectStatementContext selectStatementContext = new SelectStatementContext(databases, parameters, insertSelectSegment.getSelect(), defaultDatabaseName);
-        InsertSelectContext insertSelectContext = new InsertSelectContext(selectStatementContext, parameters, parametersOffset.get());
-        parametersOffset.addAndGet(insertSelectContext.getParameterCount());
-        return Optional.of(insertSelectContext);
+        return Optional.of(createInsertSelectContext(selectStatementContext, parameters, parametersOffset));
+    }
+    
+    private InsertSelectContext createInsertSelectContext(final SelectStatementContext selectStatementContext, final List<Object> parameters, final AtomicInteger parametersOffset) {
+        InsertSelectContext result = new InsertSelectContext(selectStatementContext, parameters, parametersOffset.get());
+        parametersOffset.addAndGet(result.getParameterCount());
+        return result;
     }
     
     private Optional<OnDuplicateUpdateContext> getOnDuplicateKeyUpdateValueContext(final List<Object> parameters, final AtomicInteger parametersOffset) {
@@ -265,9 +269,14 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
     public void setUpParameters(final List<Object> parameters) {
         AtomicInteger parametersOffset = new AtomicInteger(0);
         insertValueContexts = getInsertValueContexts(parameters, parametersOffset, valueExpressions);
-        insertSelectContext = getInsertSelectContext(databases, parameters, parametersOffset, defaultDatabaseName).orElse(null);
+        insertSelectContext = null == insertSelectContext ? null : setUpInsertSelectContext(insertSelectContext.getSelectStatementContext(), parameters, parametersOffset);
         onDuplicateKeyUpdateValueContext = getOnDuplicateKeyUpdateValueContext(parameters, parametersOffset).orElse(null);
         ShardingSphereSchema schema = getSchema(databases, defaultDatabaseName);
         generatedKeyContext = new GeneratedKeyContextEngine(getSqlStatement(), schema).createGenerateKeyContext(insertColumnNames, valueExpressions, parameters).orElse(null);
     }
+    
+    private InsertSelectContext setUpInsertSelectContext(final SelectStatementContext selectStatementContext, final List<Object> parameters, final AtomicInteger parametersOffset) {
+        selectStatementContext.setUpParameters(parameters);
+        return createInsertSelectContext(selectStatementContext, parameters, parametersOffset);
+    }
 }
@@ -334,6 +334,9 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
     
     @Override
     public void setUpParameters(final List<Object> parameters) {
+        for (SelectStatementContext each : subqueryContexts.values()) {
+            each.setUpParameters(parameters);
+        }
         paginationContext = new PaginationContextEngine().createPaginationContext(getSqlStatement(), projectionsContext, parameters, whereSegments);
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.binder.statement.impl;
 
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
@@ -32,6 +33,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.L
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.subquery.SubquerySegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.ParameterMarkerLimitValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
@@ -57,6 +60,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
@@ -164,6 +168,26 @@ public final class InsertStatementContextTest {
         assertThat(actual.getGroupedParameters().iterator().next(), is(Collections.emptyList()));
     }
     
+    @Test
+    public void assertInsertSelectWithParametersSetUpAgain() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setLimit(new LimitSegment(0, 0, null, new ParameterMarkerLimitValueSegment(0, 0, 0)));
+        selectStatement.setParameterCount(1);
+        MySQLInsertStatement insertStatement = new MySQLInsertStatement();
+        insertStatement.setInsertSelect(new SubquerySegment(0, 0, selectStatement));
+        insertStatement.setTable(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("tbl"))));
+        setUpOnDuplicateValues(insertStatement);
+        InsertStatementContext actual = createInsertStatementContext(Arrays.asList(5L, "foo"), insertStatement);
+        SelectStatementContext selectStatementContext = actual.getInsertSelectContext().getSelectStatementContext();
+        assertThat(selectStatementContext.getPaginationContext().getActualRowCount(), is(Optional.of(5L)));
+        actual.setUpParameters(Arrays.asList(10L, "bar"));
+        assertThat(actual.getInsertSelectContext().getSelectStatementContext(), sameInstance(selectStatementContext));
+        assertThat(selectStatementContext.getPaginationContext().getActualRowCount(), is(Optional.of(10L)));
+        assertThat(actual.getInsertSelectContext().getParameters(), is(Collections.singletonList(10L)));
+        assertThat(actual.getOnDuplicateKeyUpdateParameters(), is(Collections.singletonList("bar")));
+    }
+    
     private void setUpInsertValues(final InsertStatement insertStatement) {
         insertStatement.getValues().add(new InsertValuesSegment(0, 0, Arrays.asList(
                 new ParameterMarkerExpressionSegment(0, 0, 1), new ParameterMarkerExpressionSegment(0, 0, 2), new LiteralExpressionSegment(0, 0, "init"))));
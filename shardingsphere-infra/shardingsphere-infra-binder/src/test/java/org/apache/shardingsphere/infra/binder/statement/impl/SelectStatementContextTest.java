@@ -40,6 +40,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBy
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.ParameterMarkerLimitValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.AliasSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
@@ -491,6 +493,22 @@ public final class SelectStatementContextTest {
                 Collections.singletonMap(DefaultDatabase.LOGIC_NAME, mock(ShardingSphereDatabase.class)), Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME).isContainsSubquery());
     }
     
+    @Test
+    public void assertSetUpParametersWithSubqueryPagination() {
+        MySQLSelectStatement subSelectStatement = new MySQLSelectStatement();
+        subSelectStatement.setProjections(new ProjectionsSegment(0, 0));
+        subSelectStatement.setLimit(new LimitSegment(0, 0, null, new ParameterMarkerLimitValueSegment(0, 0, 0)));
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setWhere(new WhereSegment(0, 0, new SubqueryExpressionSegment(new SubquerySegment(0, 0, subSelectStatement))));
+        SelectStatementContext actual = new SelectStatementContext(
+                Collections.singletonMap(DefaultDatabase.LOGIC_NAME, mock(ShardingSphereDatabase.class)), Collections.singletonList(5L), selectStatement, DefaultDatabase.LOGIC_NAME);
+        SelectStatementContext subqueryContext = actual.getSubqueryContexts().values().iterator().next();
+        assertThat(subqueryContext.getPaginationContext().getActualRowCount(), is(Optional.of(5L)));
+        actual.setUpParameters(Collections.singletonList(10L));
+        assertThat(subqueryContext.getPaginationContext().getActualRowCount(), is(Optional.of(10L)));
+    }
+    
     @Test
     public void assertContainsDollarParameterMarkerForMySQL() {
         assertContainsDollarParameterMarker(new MySQLSelectStatement());
@@ -57,11 +57,40 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether load meta data of single tables lazily, they are loaded when first used or by background filling after startup.
+     */
+    LAZY_TABLE_METADATA_LOADING_ENABLED("lazy-table-metadata-loading-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * SQL federation type.
      */
     SQL_FEDERATION_TYPE("sql-federation-type", "NONE", String.class, false),
     
+    /**
+     * Max memory bytes of rows loaded by table scans of SQL federation for each query, rows beyond it will be spilled to local disk.
+     * Join, sort and aggregate operators of SQL federation are not limited by it.
+     * Less than or equal to 0 means no limitation.
+     */
+    SQL_FEDERATION_QUERY_MEMORY_LIMIT("sql-federation-query-memory-limit", String.valueOf(0L), long.class, false),
+    
+    /**
+     * Max rows of insert values merged into one multi-row insert statement for each actual table when prepared statement executes batch.
+     * Less than or equal to 1 means no merging.
+     */
+    BATCH_INSERT_VALUES_MERGE_SIZE("batch-insert-values-merge-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max rows of insert values in one statement routed to each actual table, rows beyond it are split into more statements.
+     * Less than or equal to 0 means no splitting.
+     */
+    INSERT_VALUES_SPLIT_SIZE("insert-values-split-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether cache sharding route results of deterministic sharding algorithms.
+     */
+    SHARDING_ROUTE_CACHE_ENABLED("sharding-route-cache-enabled", String.valueOf(Boolean.TRUE), boolean.class, false),
+    
     /**
      * Frontend database protocol type for ShardingSphere-Proxy.
      */
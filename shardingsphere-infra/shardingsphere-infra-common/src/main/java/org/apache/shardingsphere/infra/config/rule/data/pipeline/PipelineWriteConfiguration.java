@@ -34,5 +34,7 @@ public final class PipelineWriteConfiguration {
     
     private final Integer batchSize;
     
+    private final Boolean multiRowInsert;
+    
     private final AlgorithmConfiguration rateLimiter;
 }
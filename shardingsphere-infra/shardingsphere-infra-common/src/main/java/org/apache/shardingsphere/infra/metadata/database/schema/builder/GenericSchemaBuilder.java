@@ -17,6 +17,9 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
@@ -37,24 +40,39 @@ import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.Tab
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.ViewMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SchemaMetaDataUtil;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.wrapper.SQLWrapperException;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
  * Generic schema builder.
+ * 
+ * <p>When lazy table meta data loading is enabled, tables only contained by mutable data node rules are put into default schema as lazy tables,
+ * they are loaded when first used, and filled in batches by background thread after building.</p>
  */
+@Slf4j
 public final class GenericSchemaBuilder {
     
+    private static final int LAZY_TABLE_FILLING_BATCH_SIZE = 1000;
+    
+    private static final ExecutorService LAZY_TABLE_FILLING_EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-LazyTableMetaDataFilling-%d").build());
+    
     /**
      * Build generic schema.
      *
@@ -63,7 +81,25 @@ public final class GenericSchemaBuilder {
      * @throws SQLException SQL exception
      */
     public static Map<String, ShardingSphereSchema> build(final GenericSchemaBuilderMaterials materials) throws SQLException {
-        return build(getAllTableNames(materials.getRules()), materials);
+        boolean isLazyLoading = materials.getProps().getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_LOADING_ENABLED);
+        if (!isLazyLoading) {
+            return build(getAllTableNames(materials.getRules()), materials);
+        }
+        Collection<String> eagerTableNames = getEagerTableNames(materials.getRules());
+        Collection<String> lazyTableNames = getAllTableNames(materials.getRules());
+        lazyTableNames.removeAll(eagerTableNames);
+        Map<String, ShardingSphereSchema> result = new LinkedHashMap<>(build(eagerTableNames, materials));
+        if (lazyTableNames.isEmpty()) {
+            return result;
+        }
+        String schemaName = DatabaseTypeEngine.getDefaultSchemaName(materials.getProtocolType(), materials.getDefaultSchemaName());
+        if (eagerTableNames.isEmpty()) {
+            result.clear();
+        }
+        ShardingSphereSchema schema = result.computeIfAbsent(schemaName, key -> new ShardingSphereSchema());
+        schema.putLazyTables(lazyTableNames, tableNames -> loadLazyTables(tableNames, schemaName, materials));
+        LAZY_TABLE_FILLING_EXECUTOR_SERVICE.execute(() -> fillLazyTables(schema));
+        return result;
     }
     
     /**
@@ -86,6 +122,31 @@ public final class GenericSchemaBuilder {
         return rules.stream().filter(each -> each instanceof TableContainedRule).flatMap(each -> ((TableContainedRule) each).getTables().stream()).collect(Collectors.toSet());
     }
     
+    private static Collection<String> getEagerTableNames(final Collection<ShardingSphereRule> rules) {
+        return rules.stream().filter(each -> each instanceof TableContainedRule && !(each instanceof MutableDataNodeRule))
+                .flatMap(each -> ((TableContainedRule) each).getTables().stream()).collect(Collectors.toSet());
+    }
+    
+    private static Map<String, ShardingSphereTable> loadLazyTables(final Collection<String> tableNames, final String schemaName, final GenericSchemaBuilderMaterials materials) {
+        try {
+            return Optional.ofNullable(build(tableNames, materials).get(schemaName)).map(ShardingSphereSchema::getTables).orElseGet(Collections::emptyMap);
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
+    
+    private static void fillLazyTables(final ShardingSphereSchema schema) {
+        List<String> lazyTableNames = new ArrayList<>(schema.getLazyTableNames());
+        for (List<String> each : Lists.partition(lazyTableNames, LAZY_TABLE_FILLING_BATCH_SIZE)) {
+            try {
+                schema.loadLazyTables(each);
+            } catch (final SQLWrapperException ex) {
+                log.warn("Fill lazy table meta data error, lazy tables will be loaded when first used.", ex);
+                return;
+            }
+        }
+    }
+    
     private static Map<String, SchemaMetaData> loadSchemas(final Collection<String> tableNames, final GenericSchemaBuilderMaterials materials) throws SQLException {
         boolean isCheckingMetaData = materials.getProps().getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED);
         Collection<SchemaMetaDataLoaderMaterials> schemaMetaDataLoaderMaterials = SchemaMetaDataUtil.getSchemaMetaDataLoaderMaterials(tableNames, materials, isCheckingMetaData);
@@ -17,25 +17,44 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.decorator.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * ShardingSphere schema.
+ * 
+ * <p>Version is unique among schemas and changes whenever tables or views are put or removed.</p>
+ * 
+ * <p>Lazy tables are contained by schema before their meta data are loaded, meta data of lazy table is loaded by table loader when the table is first used.</p>
  */
 @Getter
 public final class ShardingSphereSchema {
     
+    private static final AtomicLong VERSION_SEQUENCE = new AtomicLong();
+    
     private final Map<String, ShardingSphereTable> tables;
     
     private final Map<String, ShardingSphereView> views;
     
+    private volatile long version = VERSION_SEQUENCE.incrementAndGet();
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> lazyTableNames = ConcurrentHashMap.newKeySet();
+    
+    @Getter(AccessLevel.NONE)
+    private volatile Function<Collection<String>, Map<String, ShardingSphereTable>> lazyTableLoader;
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
@@ -55,7 +74,21 @@ public final class ShardingSphereSchema {
      * @return all table names
      */
     public Collection<String> getAllTableNames() {
-        return tables.keySet();
+        if (lazyTableNames.isEmpty()) {
+            return tables.keySet();
+        }
+        Collection<String> result = new LinkedHashSet<>(tables.keySet());
+        result.addAll(lazyTableNames);
+        return result;
+    }
+    
+    /**
+     * Get lazy table names whose meta data are not loaded yet.
+     *
+     * @return lazy table names
+     */
+    public Collection<String> getLazyTableNames() {
+        return new LinkedList<>(lazyTableNames);
     }
     
     /**
@@ -74,7 +107,11 @@ public final class ShardingSphereSchema {
      * @return table meta data
      */
     public ShardingSphereTable getTable(final String tableName) {
-        return tables.get(tableName.toLowerCase());
+        String lowerCaseTableName = tableName.toLowerCase();
+        if (lazyTableNames.contains(lowerCaseTableName)) {
+            loadLazyTables(Collections.singleton(lowerCaseTableName));
+        }
+        return tables.get(lowerCaseTableName);
     }
     
     /**
@@ -94,7 +131,9 @@ public final class ShardingSphereSchema {
      * @param table table
      */
     public void putTable(final String tableName, final ShardingSphereTable table) {
+        lazyTableNames.remove(tableName.toLowerCase());
         tables.put(tableName.toLowerCase(), table);
+        version = VERSION_SEQUENCE.incrementAndGet();
     }
     
     /**
@@ -105,6 +144,7 @@ public final class ShardingSphereSchema {
      */
     public void putView(final String viewName, final ShardingSphereView view) {
         views.put(viewName.toLowerCase(), view);
+        version = VERSION_SEQUENCE.incrementAndGet();
     }
     
     /**
@@ -118,13 +158,54 @@ public final class ShardingSphereSchema {
         }
     }
     
+    /**
+     * Add lazy tables.
+     *
+     * @param tableNames table names
+     * @param tableLoader table loader to load meta data of lazy tables, loaded tables are keyed by lower case table names
+     */
+    public void putLazyTables(final Collection<String> tableNames, final Function<Collection<String>, Map<String, ShardingSphereTable>> tableLoader) {
+        lazyTableLoader = tableLoader;
+        for (String each : tableNames) {
+            if (!tables.containsKey(each.toLowerCase())) {
+                lazyTableNames.add(each.toLowerCase());
+            }
+        }
+    }
+    
+    /**
+     * Load meta data of lazy tables.
+     *
+     * @param tableNames table names
+     */
+    public void loadLazyTables(final Collection<String> tableNames) {
+        Collection<String> lazyTableNamesToBeLoaded = new LinkedList<>();
+        for (String each : tableNames) {
+            if (lazyTableNames.contains(each.toLowerCase())) {
+                lazyTableNamesToBeLoaded.add(each.toLowerCase());
+            }
+        }
+        if (lazyTableNamesToBeLoaded.isEmpty()) {
+            return;
+        }
+        Map<String, ShardingSphereTable> loadedTables = lazyTableLoader.apply(lazyTableNamesToBeLoaded);
+        for (String each : lazyTableNamesToBeLoaded) {
+            if (lazyTableNames.remove(each) && loadedTables.containsKey(each)) {
+                tables.put(each, loadedTables.get(each));
+            }
+        }
+        version = VERSION_SEQUENCE.incrementAndGet();
+    }
+    
     /**
      * Remove table meta data.
      *
      * @param tableName table name
      */
     public void removeTable(final String tableName) {
+        lazyTableNames.remove(tableName.toLowerCase());
         tables.remove(tableName.toLowerCase());
+        version = VERSION_SEQUENCE.incrementAndGet();
     }
     
     /**
@@ -134,6 +215,7 @@ public final class ShardingSphereSchema {
      */
     public void removeView(final String viewName) {
         views.remove(viewName.toLowerCase());
+        version = VERSION_SEQUENCE.incrementAndGet();
     }
     
     /**
@@ -143,7 +225,7 @@ public final class ShardingSphereSchema {
      * @return contains table from table meta data or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(tableName.toLowerCase());
+        return null != getTable(tableName);
     }
     
     /**
@@ -76,11 +76,15 @@ public final class SchemaMetaDataLoaderEngine {
         Collection<TableMetaData> tableMetaData = new LinkedList<>();
         Collection<ViewMetaData> viewMetaData = new LinkedList<>();
         String defaultSchemaName = null;
+        Collection<Future<Collection<TableMetaData>>> futures = new LinkedList<>();
         for (SchemaMetaDataLoaderMaterials each : materials) {
             defaultSchemaName = each.getDefaultSchemaName();
-            for (String tableName : each.getActualTableNames()) {
-                TableMetaDataLoader.load(each.getDataSource(), tableName, databaseType).ifPresent(tableMetaData::add);
-            }
+            futures.add(EXECUTOR_SERVICE.submit(() -> TableMetaDataLoader.load(each.getDataSource(), each.getActualTableNames(), databaseType)));
+        }
+        for (Future<Collection<TableMetaData>> each : futures) {
+            tableMetaData.addAll(getFutureResult(each));
+        }
+        for (SchemaMetaDataLoaderMaterials each : materials) {
             ViewMetaDataLoader.load(each.getDataSource(), databaseType).ifPresent(viewMetaData::add);
         }
         return Collections.singletonMap(defaultSchemaName, new SchemaMetaData(defaultSchemaName, tableMetaData, viewMetaData));
@@ -92,17 +96,21 @@ public final class SchemaMetaDataLoaderEngine {
         for (SchemaMetaDataLoaderMaterials each : materials) {
             futures.add(EXECUTOR_SERVICE.submit(() -> loader.load(each.getDataSource(), each.getActualTableNames(), each.getDefaultSchemaName())));
         }
+        for (Future<Collection<SchemaMetaData>> each : futures) {
+            mergeSchemaMetaDataMap(result, getFutureResult(each));
+        }
+        return result;
+    }
+    
+    private static <T> T getFutureResult(final Future<T> future) throws SQLException {
         try {
-            for (Future<Collection<SchemaMetaData>> each : futures) {
-                mergeSchemaMetaDataMap(result, each.get());
-            }
+            return future.get();
         } catch (final InterruptedException | ExecutionException ex) {
             if (ex.getCause() instanceof SQLException) {
                 throw (SQLException) ex.getCause();
             }
             throw new UnknownSQLException(ex).toSQLException();
         }
-        return result;
     }
     
     private static void mergeSchemaMetaDataMap(final Map<String, SchemaMetaData> schemaMetaDataMap, final Collection<SchemaMetaData> addedSchemaMetaDataList) {
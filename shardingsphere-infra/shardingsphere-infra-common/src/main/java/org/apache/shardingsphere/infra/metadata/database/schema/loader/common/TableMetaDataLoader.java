@@ -27,7 +27,9 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.Optional;
 
 /**
@@ -47,14 +49,37 @@ public final class TableMetaDataLoader {
      */
     public static Optional<TableMetaData> load(final DataSource dataSource, final String tableNamePattern, final DatabaseType databaseType) throws SQLException {
         try (MetaDataLoaderConnectionAdapter connectionAdapter = new MetaDataLoaderConnectionAdapter(databaseType, dataSource.getConnection())) {
-            String formattedTableNamePattern = databaseType.formatTableNamePattern(tableNamePattern);
-            return isTableExist(connectionAdapter, formattedTableNamePattern)
-                    ? Optional.of(new TableMetaData(tableNamePattern, ColumnMetaDataLoader.load(
-                            connectionAdapter, formattedTableNamePattern, databaseType), IndexMetaDataLoader.load(connectionAdapter, formattedTableNamePattern), Collections.emptyList()))
-                    : Optional.empty();
+            return load(connectionAdapter, tableNamePattern, databaseType);
         }
     }
     
+    /**
+     * Load table meta data list with one connection.
+     *
+     * @param dataSource data source
+     * @param tableNamePatterns table name patterns
+     * @param databaseType database type
+     * @return table meta data list
+     * @throws SQLException SQL exception
+     */
+    public static Collection<TableMetaData> load(final DataSource dataSource, final Collection<String> tableNamePatterns, final DatabaseType databaseType) throws SQLException {
+        Collection<TableMetaData> result = new LinkedList<>();
+        try (MetaDataLoaderConnectionAdapter connectionAdapter = new MetaDataLoaderConnectionAdapter(databaseType, dataSource.getConnection())) {
+            for (String each : tableNamePatterns) {
+                load(connectionAdapter, each, databaseType).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+    
+    private static Optional<TableMetaData> load(final Connection connection, final String tableNamePattern, final DatabaseType databaseType) throws SQLException {
+        String formattedTableNamePattern = databaseType.formatTableNamePattern(tableNamePattern);
+        return isTableExist(connection, formattedTableNamePattern)
+                ? Optional.of(new TableMetaData(tableNamePattern, ColumnMetaDataLoader.load(
+                        connection, formattedTableNamePattern, databaseType), IndexMetaDataLoader.load(connection, formattedTableNamePattern), Collections.emptyList()))
+                : Optional.empty();
+    }
+    
     private static boolean isTableExist(final Connection connection, final String tableNamePattern) throws SQLException {
         try (ResultSet resultSet = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(), tableNamePattern, null)) {
             return resultSet.next();
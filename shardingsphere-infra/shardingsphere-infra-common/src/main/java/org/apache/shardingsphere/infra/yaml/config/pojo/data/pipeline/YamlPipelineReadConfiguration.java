@@ -39,6 +39,8 @@ public final class YamlPipelineReadConfiguration implements YamlConfiguration {
     
     private Integer shardingSize;
     
+    private String decodingPlugin;
+    
     private YamlAlgorithmConfiguration rateLimiter;
     
     /**
@@ -87,6 +89,9 @@ public final class YamlPipelineReadConfiguration implements YamlConfiguration {
         if (null != another.shardingSize) {
             shardingSize = another.shardingSize;
         }
+        if (null != another.decodingPlugin) {
+            decodingPlugin = another.decodingPlugin;
+        }
         if (null != another.rateLimiter) {
             rateLimiter = another.rateLimiter;
         }
@@ -108,6 +113,9 @@ public final class YamlPipelineReadConfiguration implements YamlConfiguration {
             case "SHARDING_SIZE":
                 shardingSize = null;
                 break;
+            case "DECODING_PLUGIN":
+                decodingPlugin = null;
+                break;
             case "RATE_LIMITER":
                 rateLimiter = null;
                 break;
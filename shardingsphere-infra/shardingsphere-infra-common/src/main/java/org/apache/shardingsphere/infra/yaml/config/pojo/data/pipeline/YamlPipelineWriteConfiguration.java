@@ -31,10 +31,14 @@ public final class YamlPipelineWriteConfiguration implements YamlConfiguration {
     
     private static final Integer DEFAULT_BATCH_SIZE = 1000;
     
+    private static final Boolean DEFAULT_MULTI_ROW_INSERT = Boolean.TRUE;
+    
     private Integer workerThread;
     
     private Integer batchSize;
     
+    private Boolean multiRowInsert;
+    
     private YamlAlgorithmConfiguration rateLimiter;
     
     /**
@@ -46,6 +50,7 @@ public final class YamlPipelineWriteConfiguration implements YamlConfiguration {
         YamlPipelineWriteConfiguration result = new YamlPipelineWriteConfiguration();
         result.workerThread = DEFAULT_WORKER_THREAD;
         result.batchSize = DEFAULT_BATCH_SIZE;
+        result.multiRowInsert = DEFAULT_MULTI_ROW_INSERT;
         return result;
     }
     
@@ -59,6 +64,9 @@ public final class YamlPipelineWriteConfiguration implements YamlConfiguration {
         if (null == batchSize) {
             batchSize = DEFAULT_BATCH_SIZE;
         }
+        if (null == multiRowInsert) {
+            multiRowInsert = DEFAULT_MULTI_ROW_INSERT;
+        }
     }
     
     /**
@@ -76,6 +84,9 @@ public final class YamlPipelineWriteConfiguration implements YamlConfiguration {
         if (null != another.batchSize) {
             batchSize = another.batchSize;
         }
+        if (null != another.multiRowInsert) {
+            multiRowInsert = another.multiRowInsert;
+        }
         if (null != another.rateLimiter) {
             rateLimiter = another.rateLimiter;
         }
@@ -94,6 +105,9 @@ public final class YamlPipelineWriteConfiguration implements YamlConfiguration {
             case "BATCH_SIZE":
                 batchSize = null;
                 break;
+            case "MULTI_ROW_INSERT":
+                multiRowInsert = null;
+                break;
             case "RATE_LIMITER":
                 rateLimiter = null;
                 break;
@@ -36,7 +36,12 @@ public final class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
         assertTrue(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_LOADING_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_TYPE), is("ORIGINAL"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_QUERY_MEMORY_LIMIT), is(1048576L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_VALUES_MERGE_SIZE), is(100));
+        assertThat(actual.getValue(ConfigurationPropertyKey.INSERT_VALUES_SPLIT_SIZE), is(1000));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.SHARDING_ROUTE_CACHE_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is("PostgreSQL"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
         assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
@@ -57,7 +62,12 @@ public final class ConfigurationPropertiesTest {
         result.setProperty(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "20");
         result.setProperty(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20");
         result.setProperty(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString());
+        result.setProperty(ConfigurationPropertyKey.LAZY_TABLE_METADATA_LOADING_ENABLED.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.SQL_FEDERATION_TYPE.getKey(), "ORIGINAL");
+        result.setProperty(ConfigurationPropertyKey.SQL_FEDERATION_QUERY_MEMORY_LIMIT.getKey(), "1048576");
+        result.setProperty(ConfigurationPropertyKey.BATCH_INSERT_VALUES_MERGE_SIZE.getKey(), "100");
+        result.setProperty(ConfigurationPropertyKey.INSERT_VALUES_SPLIT_SIZE.getKey(), "1000");
+        result.setProperty(ConfigurationPropertyKey.SHARDING_ROUTE_CACHE_ENABLED.getKey(), Boolean.FALSE.toString());
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE.getKey(), "PostgreSQL");
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20");
         result.setProperty(ConfigurationPropertyKey.PROXY_HINT_ENABLED.getKey(), Boolean.TRUE.toString());
@@ -80,7 +90,12 @@ public final class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
         assertFalse(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.LAZY_TABLE_METADATA_LOADING_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_TYPE), is("NONE"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_QUERY_MEMORY_LIMIT), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_VALUES_MERGE_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.INSERT_VALUES_SPLIT_SIZE), is(0));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.SHARDING_ROUTE_CACHE_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is(""));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
         assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
@@ -24,10 +24,15 @@ import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereView;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedList;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -74,6 +79,57 @@ public final class ShardingSphereSchemaTest {
         assertNull(actual.getTable("tbl"));
     }
     
+    @Test
+    public void assertGetTableWhenLazyTable() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap(), Collections.emptyMap());
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        Collection<Collection<String>> loadedTableNames = new LinkedList<>();
+        actual.putLazyTables(Arrays.asList("TBL", "tbl_dropped"), tableNames -> {
+            loadedTableNames.add(tableNames);
+            return Collections.singletonMap("tbl", table);
+        });
+        assertThat(actual.getAllTableNames(), is(new HashSet<>(Arrays.asList("tbl", "tbl_dropped"))));
+        assertThat(actual.getTable("tbl"), is(table));
+        assertThat(actual.getTable("Tbl"), is(table));
+        assertThat(loadedTableNames, is(Collections.singletonList(Collections.singletonList("tbl"))));
+        assertThat(actual.getLazyTableNames(), is(Collections.singletonList("tbl_dropped")));
+    }
+    
+    @Test
+    public void assertLoadLazyTables() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap(), Collections.emptyMap());
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        actual.putLazyTables(Arrays.asList("tbl", "tbl_dropped"), tableNames -> Collections.singletonMap("tbl", table));
+        final long version = actual.getVersion();
+        actual.loadLazyTables(Arrays.asList("tbl", "tbl_dropped"));
+        assertTrue(actual.getLazyTableNames().isEmpty());
+        assertThat(actual.getTables(), is(Collections.singletonMap("tbl", table)));
+        assertFalse(actual.containsTable("tbl_dropped"));
+        assertThat(actual.getVersion(), not(version));
+    }
+    
+    @Test
+    public void assertPutTableWhenLazyTable() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap(), Collections.emptyMap());
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        actual.putLazyTables(Collections.singleton("tbl"), tableNames -> Collections.singletonMap("tbl", mock(ShardingSphereTable.class)));
+        actual.putTable("tbl", table);
+        assertTrue(actual.getLazyTableNames().isEmpty());
+        assertThat(actual.getTable("tbl"), is(table));
+    }
+    
+    @Test
+    public void assertGetVersionWhenTablesChanged() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap(), Collections.emptyMap());
+        long originalVersion = actual.getVersion();
+        assertThat(new ShardingSphereSchema(Collections.emptyMap(), Collections.emptyMap()).getVersion(), not(originalVersion));
+        actual.putTable("tbl", mock(ShardingSphereTable.class));
+        long putVersion = actual.getVersion();
+        assertThat(putVersion, not(originalVersion));
+        actual.removeTable("tbl");
+        assertThat(actual.getVersion(), not(putVersion));
+    }
+    
     @Test
     public void assertContainsTable() {
         assertTrue(new ShardingSphereSchema(Collections.singletonMap("tbl", mock(ShardingSphereTable.class)), Collections.emptyMap()).containsTable("tbl"));
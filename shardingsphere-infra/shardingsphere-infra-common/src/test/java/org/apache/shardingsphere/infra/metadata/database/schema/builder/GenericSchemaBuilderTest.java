@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
@@ -26,6 +27,8 @@ import org.apache.shardingsphere.infra.metadata.database.schema.fixture.rule.Tab
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.SchemaMetaDataLoaderEngine;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.SchemaMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -36,6 +39,7 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
 import java.util.stream.Collectors;
@@ -47,6 +51,8 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public final class GenericSchemaBuilderTest {
     
@@ -90,6 +96,22 @@ public final class GenericSchemaBuilderTest {
         assertTables(new ShardingSphereSchema(actual.values().iterator().next().getTables(), Collections.emptyMap()).getTables());
     }
     
+    @Test
+    public void assertBuildWithLazyTables() throws SQLException {
+        TableContainedRule mutableDataNodeRule = mock(TableContainedRule.class, withSettings().extraInterfaces(MutableDataNodeRule.class));
+        when(mutableDataNodeRule.getTables()).thenReturn(Arrays.asList("data_node_routed_table1", "data_node_routed_table2"));
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.LAZY_TABLE_METADATA_LOADING_ENABLED.getKey(), Boolean.TRUE.toString());
+        GenericSchemaBuilderMaterials lazyMaterials = new GenericSchemaBuilderMaterials(materials.getProtocolType(), materials.getStorageType(), materials.getDataSourceMap(),
+                Arrays.asList(new TableContainedFixtureRule(), mutableDataNodeRule), new ConfigurationProperties(props), DefaultDatabase.LOGIC_NAME);
+        engine.when(() -> SchemaMetaDataLoaderEngine.load(any(), any())).thenReturn(createSchemaMetaDataMap(Collections.singletonList("data_node_routed_table1"), materials));
+        ShardingSphereSchema actual = GenericSchemaBuilder.build(lazyMaterials).get(DefaultDatabase.LOGIC_NAME);
+        assertTrue(actual.getTables().isEmpty());
+        assertThat(actual.getAllTableNames(), is(new HashSet<>(Arrays.asList("data_node_routed_table1", "data_node_routed_table2"))));
+        assertTrue(actual.getTable("data_node_routed_table1").getColumns().isEmpty());
+        assertFalse(actual.containsTable("data_node_routed_table2"));
+    }
+    
     private Map<String, SchemaMetaData> createSchemaMetaDataMap(final Collection<String> tableNames, final GenericSchemaBuilderMaterials materials) {
         if (!tableNames.isEmpty() && (tableNames.contains("data_node_routed_table1") || tableNames.contains("data_node_routed_table2"))) {
             Collection<TableMetaData> tableMetaDataList = tableNames.stream()
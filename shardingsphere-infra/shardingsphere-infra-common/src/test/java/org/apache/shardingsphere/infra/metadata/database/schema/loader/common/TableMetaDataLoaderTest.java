@@ -32,10 +32,12 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -48,6 +50,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -126,6 +129,34 @@ public final class TableMetaDataLoaderTest {
         assertThat(actual.isCaseSensitive(), is(caseSensitive));
     }
     
+    @Test
+    public void assertLoadWithMultipleMaterials() throws SQLException {
+        DatabaseType databaseType = mock(DatabaseType.class, RETURNS_DEEP_STUBS);
+        when(databaseType.formatTableNamePattern(TEST_TABLE)).thenReturn(TEST_TABLE);
+        when(columnResultSet.next()).thenReturn(true, true, false, true, true, false);
+        when(primaryResultSet.next()).thenReturn(true, false, true, false);
+        when(indexResultSet.next()).thenReturn(true, false, true, false);
+        Map<String, SchemaMetaData> actual = SchemaMetaDataLoaderEngine.load(Arrays.asList(
+                new SchemaMetaDataLoaderMaterials(Collections.singletonList(TEST_TABLE), dataSource, "sharding_db"),
+                new SchemaMetaDataLoaderMaterials(Collections.singletonList(TEST_TABLE), dataSource, "sharding_db")), databaseType);
+        assertThat(actual.get("sharding_db").getTables().size(), is(2));
+    }
+    
+    @Test
+    public void assertLoadMultipleTablesWithOneConnection() throws SQLException {
+        DatabaseType databaseType = mock(DatabaseType.class, RETURNS_DEEP_STUBS);
+        when(databaseType.formatTableNamePattern(TEST_TABLE)).thenReturn(TEST_TABLE);
+        when(databaseType.formatTableNamePattern("not_existed_table")).thenReturn("not_existed_table");
+        DataSource singleConnectionDataSource = mock(DataSource.class);
+        Connection connection = dataSource.getConnection();
+        when(singleConnectionDataSource.getConnection()).thenReturn(connection);
+        Collection<TableMetaData> actual = TableMetaDataLoader.load(singleConnectionDataSource, Arrays.asList(TEST_TABLE, "not_existed_table"), databaseType);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getName(), is(TEST_TABLE));
+        verify(singleConnectionDataSource).getConnection();
+        verify(connection).close();
+    }
+    
     @Test
     public void assertLoadWithNotExistedTable() throws SQLException {
         Map<String, SchemaMetaData> actual = SchemaMetaDataLoaderEngine.load(Collections.singletonList(
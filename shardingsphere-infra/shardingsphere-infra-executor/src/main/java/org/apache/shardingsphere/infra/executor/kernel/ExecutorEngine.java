@@ -43,10 +43,15 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private static final int CPU_CORES = Runtime.getRuntime().availableProcessors();
     
+    private static final String BACKGROUND_NAME_FORMAT = "Background-%d";
+    
     private final ExecutorServiceManager executorServiceManager;
     
+    private final ExecutorServiceManager backgroundExecutorServiceManager;
+    
     private ExecutorEngine(final int executorSize) {
         executorServiceManager = new ExecutorServiceManager(executorSize);
+        backgroundExecutorServiceManager = ExecutorServiceManager.createHandOffExecutorServiceManager(Math.max(2, CPU_CORES), BACKGROUND_NAME_FORMAT);
     }
     
     /**
@@ -170,5 +175,6 @@ public final class ExecutorEngine implements AutoCloseable {
     @Override
     public void close() {
         executorServiceManager.close();
+        backgroundExecutorServiceManager.close();
     }
 }
@@ -21,7 +21,9 @@ import lombok.Getter;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -44,11 +46,28 @@ public final class ExecutorServiceManager {
         executorService = getExecutorService(executorSize, nameFormat);
     }
     
+    private ExecutorServiceManager(final ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+    
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    /**
+     * Create hand off executor service manager, which hands tasks over to idle or new threads up to max executor size without queueing,
+     * and rejects tasks with {@code RejectedExecutionException} when all threads are busy.
+     *
+     * @param maxExecutorSize max executor size
+     * @param nameFormat thread name format
+     * @return created executor service manager
+     */
+    public static ExecutorServiceManager createHandOffExecutorServiceManager(final int maxExecutorSize, final String nameFormat) {
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
+        return new ExecutorServiceManager(new ThreadPoolExecutor(0, maxExecutorSize, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory));
+    }
+    
     /**
      * Close executor service.
      */
@@ -73,6 +73,12 @@ public final class ExecutionContextBuilder {
             result.add(new ExecutionUnit(entry.getKey().getDataSourceMapper().getActualName(),
                     new SQLUnit(entry.getValue().getSql(), entry.getValue().getParameters(), getRouteTableRouteMappers(entry.getKey().getTableMappers()))));
         }
+        for (Entry<RouteUnit, Collection<SQLRewriteUnit>> entry : sqlRewriteResult.getSplitSQLRewriteUnits().entrySet()) {
+            for (SQLRewriteUnit each : entry.getValue()) {
+                result.add(new ExecutionUnit(entry.getKey().getDataSourceMapper().getActualName(),
+                        new SQLUnit(each.getSql(), each.getParameters(), getRouteTableRouteMappers(entry.getKey().getTableMappers()))));
+            }
+        }
         return result;
     }
     
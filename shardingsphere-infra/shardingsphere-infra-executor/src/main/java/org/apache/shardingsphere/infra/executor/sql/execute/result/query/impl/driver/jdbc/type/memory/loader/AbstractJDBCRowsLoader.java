@@ -38,16 +38,21 @@ public abstract class AbstractJDBCRowsLoader implements JDBCRowsLoader {
     public Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
         Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnCount);
-            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                Object rowValue = loadRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
-            }
-            result.add(new MemoryQueryResultDataRow(rowData));
+            result.add(loadRow(columnCount, resultSet));
         }
         return result;
     }
     
+    @Override
+    public MemoryQueryResultDataRow loadRow(final int columnCount, final ResultSet resultSet) throws SQLException {
+        List<Object> rowData = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            Object rowValue = loadRowValue(resultSet, columnIndex);
+            rowData.add(resultSet.wasNull() ? null : rowValue);
+        }
+        return new MemoryQueryResultDataRow(rowData);
+    }
+    
     @SuppressWarnings("ReturnOfNull")
     private Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
         ResultSetMetaData metaData = resultSet.getMetaData();
@@ -41,4 +41,14 @@ public interface JDBCRowsLoader extends TypedSPI, RequiredSPI {
      * @throws SQLException SQL exception
      */
     Collection<MemoryQueryResultDataRow> load(int columnCount, ResultSet resultSet) throws SQLException;
+    
+    /**
+     * Load current row.
+     *
+     * @param columnCount column count
+     * @param resultSet result set of JDBC which cursor is on current row
+     * @return Query result data row
+     * @throws SQLException SQL exception
+     */
+    MemoryQueryResultDataRow loadRow(int columnCount, ResultSet resultSet) throws SQLException;
 }
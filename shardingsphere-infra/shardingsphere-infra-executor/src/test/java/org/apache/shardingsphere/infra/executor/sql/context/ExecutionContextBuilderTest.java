@@ -85,6 +85,22 @@ public final class ExecutionContextBuilderTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    public void assertBuildRouteSQLRewriteResultWithSplitSQLRewriteUnits() {
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("logicName1", "actualName1"), Collections.singletonList(new RouteMapper("logicName1", "actualName1")));
+        Collection<SQLRewriteUnit> splitSQLRewriteUnits = Arrays.asList(
+                new SQLRewriteUnit("sql1", Collections.singletonList("parameter1")), new SQLRewriteUnit("sql2", Collections.singletonList("parameter2")));
+        ShardingSphereResource resource = new ShardingSphereResource("sharding_db", Collections.emptyMap());
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList());
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class), resource, ruleMetaData, buildDatabase());
+        Collection<ExecutionUnit> actual = ExecutionContextBuilder.build(database,
+                new RouteSQLRewriteResult(Collections.emptyMap(), Collections.singletonMap(routeUnit, splitSQLRewriteUnits)), mock(SQLStatementContext.class));
+        Collection<ExecutionUnit> expected = new LinkedHashSet<>(2, 1);
+        expected.add(new ExecutionUnit("actualName1", new SQLUnit("sql1", Collections.singletonList("parameter1"))));
+        expected.add(new ExecutionUnit("actualName1", new SQLUnit("sql2", Collections.singletonList("parameter2"))));
+        assertThat(actual, is(expected));
+    }
+    
     @Test
     public void assertBuildRouteSQLRewriteResultWithEmptyPrimaryKeyMeta() {
         RouteUnit routeUnit2 = new RouteUnit(new RouteMapper("logicName2", "actualName2"), Collections.singletonList(new RouteMapper("logicName2", "actualName2")));
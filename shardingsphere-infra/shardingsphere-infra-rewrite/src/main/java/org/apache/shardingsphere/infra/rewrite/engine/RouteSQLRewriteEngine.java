@@ -21,7 +21,6 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
-import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
@@ -29,6 +28,10 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.SQLRewriteTemplate;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.InsertValuesSplittable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.route.context.OriginalDataNodeIndex;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -36,6 +39,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -45,6 +49,8 @@ import java.util.Map.Entry;
 
 /**
  * Route SQL rewrite engine.
+ * 
+ * <p>Insert values of route unit are split into statements with at most insert values split size rows if insert values split size is greater than 0.</p>
  */
 @RequiredArgsConstructor
 public final class RouteSQLRewriteEngine {
@@ -55,6 +61,12 @@ public final class RouteSQLRewriteEngine {
     
     private final DatabaseType storageType;
     
+    private final int insertValuesSplitSize;
+    
+    public RouteSQLRewriteEngine(final SQLTranslatorRule translatorRule, final DatabaseType protocolType, final DatabaseType storageType) {
+        this(translatorRule, protocolType, storageType, 0);
+    }
+    
     /**
      * Rewrite SQL and parameters.
      *
@@ -64,37 +76,86 @@ public final class RouteSQLRewriteEngine {
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1);
+        Map<RouteUnit, Collection<SQLRewriteUnit>> splitSQLRewriteUnits = new LinkedHashMap<>();
+        SQLRewriteTemplate template = new SQLRewriteTemplate(sqlRewriteContext);
+        OriginalDataNodeIndex originalDataNodeIndex = new OriginalDataNodeIndex(routeContext.getOriginalDataNodes());
         for (Entry<String, Collection<RouteUnit>> entry : aggregateRouteUnitGroups(routeContext.getRouteUnits()).entrySet()) {
             Collection<RouteUnit> routeUnits = entry.getValue();
             if (isNeedAggregateRewrite(sqlRewriteContext.getSqlStatementContext(), routeUnits)) {
-                sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits));
+                sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, template, originalDataNodeIndex, routeUnits));
             } else {
-                addSQLRewriteUnits(sqlRewriteUnits, sqlRewriteContext, routeContext, routeUnits);
+                addSQLRewriteUnits(sqlRewriteUnits, splitSQLRewriteUnits, sqlRewriteContext, template, originalDataNodeIndex, routeUnits);
             }
         }
-        return new RouteSQLRewriteResult(translate(sqlRewriteContext.getSqlStatementContext().getSqlStatement(), sqlRewriteUnits));
+        SQLStatement sqlStatement = sqlRewriteContext.getSqlStatementContext().getSqlStatement();
+        return new RouteSQLRewriteResult(translate(sqlStatement, sqlRewriteUnits), translateSplitSQLRewriteUnits(sqlStatement, splitSQLRewriteUnits));
     }
     
-    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final SQLRewriteTemplate template,
+                                                final OriginalDataNodeIndex originalDataNodeIndex, final Collection<RouteUnit> routeUnits) {
         Collection<String> sql = new LinkedList<>();
         List<Object> parameters = new LinkedList<>();
         boolean containsDollarMarker = sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext
                 && ((SelectStatementContext) (sqlRewriteContext.getSqlStatementContext())).isContainsDollarParameterMarker();
         for (RouteUnit each : routeUnits) {
-            sql.add(SQLUtil.trimSemicolon(new RouteSQLBuilder(sqlRewriteContext, each).toSQL()));
+            sql.add(SQLUtil.trimSemicolon(new RouteSQLBuilder(template, each).toSQL()));
             if (containsDollarMarker && !parameters.isEmpty()) {
                 continue;
             }
-            parameters.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each));
+            parameters.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), originalDataNodeIndex, each));
         }
         return new SQLRewriteUnit(String.join(" UNION ALL ", sql), parameters);
     }
     
-    private void addSQLRewriteUnits(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final SQLRewriteContext sqlRewriteContext,
-                                    final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+    private void addSQLRewriteUnits(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final Map<RouteUnit, Collection<SQLRewriteUnit>> splitSQLRewriteUnits,
+                                    final SQLRewriteContext sqlRewriteContext, final SQLRewriteTemplate template, final OriginalDataNodeIndex originalDataNodeIndex,
+                                    final Collection<RouteUnit> routeUnits) {
+        if (!isInsertValuesSplittable(sqlRewriteContext, originalDataNodeIndex)) {
+            for (RouteUnit each : routeUnits) {
+                sqlRewriteUnits.put(each, new SQLRewriteUnit(new RouteSQLBuilder(template, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), originalDataNodeIndex, each)));
+            }
+            return;
+        }
+        GroupedParameterBuilder parameterBuilder = (GroupedParameterBuilder) sqlRewriteContext.getParameterBuilder();
         for (RouteUnit each : routeUnits) {
-            sqlRewriteUnits.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
+            BitSet insertValueIndexes = originalDataNodeIndex.getMatchedIndexes(each);
+            if (insertValueIndexes.cardinality() > insertValuesSplitSize) {
+                splitSQLRewriteUnits.put(each, createSplitSQLRewriteUnits(parameterBuilder, template, each, insertValueIndexes));
+            } else {
+                sqlRewriteUnits.put(each, new SQLRewriteUnit(new RouteSQLBuilder(template, each).toSQL(), buildRouteParameters(parameterBuilder, insertValueIndexes)));
+            }
+        }
+    }
+    
+    private boolean isInsertValuesSplittable(final SQLRewriteContext sqlRewriteContext, final OriginalDataNodeIndex originalDataNodeIndex) {
+        if (insertValuesSplitSize <= 0 || !(sqlRewriteContext.getParameterBuilder() instanceof GroupedParameterBuilder) || originalDataNodeIndex.isEmpty()) {
+            return false;
+        }
+        for (SQLToken each : sqlRewriteContext.getSqlTokens()) {
+            if (each instanceof InsertValuesSplittable) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Collection<SQLRewriteUnit> createSplitSQLRewriteUnits(final GroupedParameterBuilder parameterBuilder, final SQLRewriteTemplate template,
+                                                                  final RouteUnit routeUnit, final BitSet insertValueIndexes) {
+        Collection<SQLRewriteUnit> result = new LinkedList<>();
+        BitSet splitIndexes = new BitSet();
+        int splitSize = 0;
+        for (int i = insertValueIndexes.nextSetBit(0); i >= 0; i = insertValueIndexes.nextSetBit(i + 1)) {
+            splitIndexes.set(i);
+            if (++splitSize == insertValuesSplitSize) {
+                result.add(new SQLRewriteUnit(new RouteSQLBuilder(template, routeUnit, splitIndexes).toSQL(), buildRouteParameters(parameterBuilder, splitIndexes)));
+                splitIndexes = new BitSet();
+                splitSize = 0;
+            }
+        }
+        if (splitSize > 0) {
+            result.add(new SQLRewriteUnit(new RouteSQLBuilder(template, routeUnit, splitIndexes).toSQL(), buildRouteParameters(parameterBuilder, splitIndexes)));
         }
+        return result;
     }
     
     private boolean isNeedAggregateRewrite(final SQLStatementContext<?> sqlStatementContext, final Collection<RouteUnit> routeUnits) {
@@ -119,40 +180,24 @@ public final class RouteSQLRewriteEngine {
         return result;
     }
     
-    private List<Object> getParameters(final ParameterBuilder parameterBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
+    private List<Object> getParameters(final ParameterBuilder parameterBuilder, final OriginalDataNodeIndex originalDataNodeIndex, final RouteUnit routeUnit) {
         if (parameterBuilder instanceof StandardParameterBuilder) {
             return parameterBuilder.getParameters();
         }
-        return routeContext.getOriginalDataNodes().isEmpty()
+        return originalDataNodeIndex.isEmpty()
                 ? ((GroupedParameterBuilder) parameterBuilder).getParameters()
-                : buildRouteParameters((GroupedParameterBuilder) parameterBuilder, routeContext, routeUnit);
+                : buildRouteParameters((GroupedParameterBuilder) parameterBuilder, originalDataNodeIndex.getMatchedIndexes(routeUnit));
     }
     
-    private List<Object> buildRouteParameters(final GroupedParameterBuilder parameterBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
+    private List<Object> buildRouteParameters(final GroupedParameterBuilder parameterBuilder, final BitSet matchedIndexes) {
         List<Object> result = new LinkedList<>();
-        int count = 0;
-        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
-            if (isInSameDataNode(each, routeUnit)) {
-                result.addAll(parameterBuilder.getParameters(count));
-            }
-            count++;
+        for (int i = matchedIndexes.nextSetBit(0); i >= 0; i = matchedIndexes.nextSetBit(i + 1)) {
+            result.addAll(parameterBuilder.getParameters(i));
         }
         result.addAll(parameterBuilder.getGenericParameterBuilder().getParameters());
         return result;
     }
     
-    private boolean isInSameDataNode(final Collection<DataNode> dataNodes, final RouteUnit routeUnit) {
-        if (dataNodes.isEmpty()) {
-            return true;
-        }
-        for (DataNode each : dataNodes) {
-            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
-            }
-        }
-        return false;
-    }
-    
     private Map<RouteUnit, SQLRewriteUnit> translate(final SQLStatement sqlStatement, final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits) {
         Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(sqlRewriteUnits.size(), 1);
         for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteUnits.entrySet()) {
@@ -162,4 +207,16 @@ public final class RouteSQLRewriteEngine {
         }
         return result;
     }
+    
+    private Map<RouteUnit, Collection<SQLRewriteUnit>> translateSplitSQLRewriteUnits(final SQLStatement sqlStatement, final Map<RouteUnit, Collection<SQLRewriteUnit>> splitSQLRewriteUnits) {
+        Map<RouteUnit, Collection<SQLRewriteUnit>> result = new LinkedHashMap<>(splitSQLRewriteUnits.size(), 1);
+        for (Entry<RouteUnit, Collection<SQLRewriteUnit>> entry : splitSQLRewriteUnits.entrySet()) {
+            Collection<SQLRewriteUnit> sqlRewriteUnits = new LinkedList<>();
+            for (SQLRewriteUnit each : entry.getValue()) {
+                sqlRewriteUnits.add(new SQLRewriteUnit(translatorRule.translate(each.getSql(), sqlStatement, protocolType, storageType), each.getParameters()));
+            }
+            result.put(entry.getKey(), sqlRewriteUnits);
+        }
+        return result;
+    }
 }
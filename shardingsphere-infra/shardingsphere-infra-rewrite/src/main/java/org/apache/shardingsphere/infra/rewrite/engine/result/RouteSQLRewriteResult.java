@@ -21,14 +21,24 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 
 /**
  * Route SQL rewrite result.
+ * 
+ * <p>Route units whose insert values are split into more statements are in split SQL rewrite units only.</p>
  */
 @RequiredArgsConstructor
 @Getter
 public final class RouteSQLRewriteResult implements SQLRewriteResult {
     
     private final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits;
+    
+    private final Map<RouteUnit, Collection<SQLRewriteUnit>> splitSQLRewriteUnits;
+    
+    public RouteSQLRewriteResult(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits) {
+        this(sqlRewriteUnits, Collections.emptyMap());
+    }
 }
@@ -18,10 +18,13 @@
 package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.InsertValuesSplittable;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
+import java.util.BitSet;
+
 /**
  * SQL builder with route.
  */
@@ -29,13 +32,29 @@ public final class RouteSQLBuilder extends AbstractSQLBuilder {
     
     private final RouteUnit routeUnit;
     
+    private final BitSet insertValueIndexes;
+    
     public RouteSQLBuilder(final SQLRewriteContext context, final RouteUnit routeUnit) {
         super(context, routeUnit);
         this.routeUnit = routeUnit;
+        insertValueIndexes = null;
+    }
+    
+    public RouteSQLBuilder(final SQLRewriteTemplate template, final RouteUnit routeUnit) {
+        this(template, routeUnit, null);
+    }
+    
+    public RouteSQLBuilder(final SQLRewriteTemplate template, final RouteUnit routeUnit, final BitSet insertValueIndexes) {
+        super(template, routeUnit);
+        this.routeUnit = routeUnit;
+        this.insertValueIndexes = insertValueIndexes;
     }
     
     @Override
     protected String getSQLTokenText(final SQLToken sqlToken) {
+        if (null != insertValueIndexes && sqlToken instanceof InsertValuesSplittable) {
+            return ((InsertValuesSplittable) sqlToken).toString(routeUnit, insertValueIndexes);
+        }
         if (sqlToken instanceof RouteUnitAware) {
             return ((RouteUnitAware) sqlToken).toString(routeUnit);
         }
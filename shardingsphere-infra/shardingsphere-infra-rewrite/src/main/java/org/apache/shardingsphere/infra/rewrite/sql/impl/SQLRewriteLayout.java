@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+
+import java.util.List;
+
+/**
+ * SQL rewrite layout.
+ * 
+ * <p>Layout keeps conjunction texts of original SQL between sorted SQL tokens, it only depends on SQL and positions of SQL tokens.</p>
+ */
+public final class SQLRewriteLayout {
+    
+    private final String sql;
+    
+    @Getter
+    private final long metaDataVersion;
+    
+    private final int[] startIndexes;
+    
+    private final int[] conjunctionStartIndexes;
+    
+    @Getter
+    private final String[] conjunctionTexts;
+    
+    @Getter
+    private final int conjunctionLength;
+    
+    public SQLRewriteLayout(final String sql, final List<SQLToken> sortedSQLTokens, final long metaDataVersion) {
+        this.sql = sql;
+        this.metaDataVersion = metaDataVersion;
+        startIndexes = new int[sortedSQLTokens.size()];
+        conjunctionStartIndexes = new int[sortedSQLTokens.size()];
+        conjunctionTexts = new String[sortedSQLTokens.size()];
+        int length = sortedSQLTokens.isEmpty() ? sql.length() : sortedSQLTokens.get(0).getStartIndex();
+        int index = 0;
+        for (SQLToken each : sortedSQLTokens) {
+            startIndexes[index] = each.getStartIndex();
+            conjunctionStartIndexes[index] = getConjunctionStartIndex(each);
+            int conjunctionStopIndex = sortedSQLTokens.size() - 1 == index ? sql.length() : sortedSQLTokens.get(index + 1).getStartIndex();
+            conjunctionTexts[index] = sql.substring(conjunctionStartIndexes[index], conjunctionStopIndex);
+            length += conjunctionTexts[index].length();
+            index++;
+        }
+        conjunctionLength = length;
+    }
+    
+    private int getConjunctionStartIndex(final SQLToken sqlToken) {
+        int result = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(result, sql.length());
+    }
+    
+    /**
+     * Judge whether layout matches SQL and SQL tokens.
+     *
+     * @param sql SQL
+     * @param sortedSQLTokens sorted SQL tokens
+     * @param metaDataVersion meta data version
+     * @return matches or not
+     */
+    public boolean isMatched(final String sql, final List<SQLToken> sortedSQLTokens, final long metaDataVersion) {
+        if (this.metaDataVersion != metaDataVersion || startIndexes.length != sortedSQLTokens.size() || !this.sql.equals(sql)) {
+            return false;
+        }
+        int index = 0;
+        for (SQLToken each : sortedSQLTokens) {
+            if (startIndexes[index] != each.getStartIndex() || conjunctionStartIndexes[index] != getConjunctionStartIndex(each)) {
+                return false;
+            }
+            index++;
+        }
+        return true;
+    }
+}
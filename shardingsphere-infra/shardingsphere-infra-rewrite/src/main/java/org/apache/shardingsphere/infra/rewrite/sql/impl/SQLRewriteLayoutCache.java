@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL rewrite layout cache.
+ * 
+ * <p>Layouts are cached by parsed SQL statement weakly, so they live as long as parsed SQL statements in SQL statement cache.
+ * Cached layout is reused only if meta data version and positions of SQL tokens are not changed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLRewriteLayoutCache {
+    
+    private static final Cache<SQLStatement, SQLRewriteLayout> LAYOUTS = Caffeine.newBuilder().weakKeys().build();
+    
+    /**
+     * Get SQL rewrite layout.
+     *
+     * @param context SQL rewrite context
+     * @param sortedSQLTokens sorted SQL tokens
+     * @return SQL rewrite layout
+     */
+    public static SQLRewriteLayout getLayout(final SQLRewriteContext context, final List<SQLToken> sortedSQLTokens) {
+        SQLStatement sqlStatement = null == context.getSqlStatementContext() ? null : context.getSqlStatementContext().getSqlStatement();
+        long metaDataVersion = getMetaDataVersion(context.getSchemas());
+        if (null == sqlStatement) {
+            return new SQLRewriteLayout(context.getSql(), sortedSQLTokens, metaDataVersion);
+        }
+        SQLRewriteLayout cachedLayout = LAYOUTS.getIfPresent(sqlStatement);
+        if (null != cachedLayout && cachedLayout.isMatched(context.getSql(), sortedSQLTokens, metaDataVersion)) {
+            return cachedLayout;
+        }
+        SQLRewriteLayout result = new SQLRewriteLayout(context.getSql(), sortedSQLTokens, metaDataVersion);
+        LAYOUTS.put(sqlStatement, result);
+        return result;
+    }
+    
+    private static long getMetaDataVersion(final Map<String, ShardingSphereSchema> schemas) {
+        long result = 0L;
+        if (null == schemas) {
+            return result;
+        }
+        for (ShardingSphereSchema each : schemas.values()) {
+            result = Math.max(result, each.getVersion());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * SQL rewrite template.
+ * 
+ * <p>SQL tokens are sorted and original SQL is split around them by cached SQL rewrite layout, texts of SQL tokens which do not depend on route unit are rendered once,
+ * so SQL of every route unit is built by filling route unit aware SQL tokens only.</p>
+ */
+public final class SQLRewriteTemplate {
+    
+    private static final int ESTIMATED_SQL_TOKEN_TEXT_LENGTH = 16;
+    
+    private final String sql;
+    
+    private final List<SQLToken> sqlTokens;
+    
+    private final String[] conjunctionTexts;
+    
+    private final String[] fixedSQLTokenTexts;
+    
+    private final int fixedLength;
+    
+    public SQLRewriteTemplate(final SQLRewriteContext context) {
+        sql = context.getSql();
+        sqlTokens = context.getSqlTokens();
+        Collections.sort(sqlTokens);
+        SQLRewriteLayout layout = SQLRewriteLayoutCache.getLayout(context, sqlTokens);
+        conjunctionTexts = layout.getConjunctionTexts();
+        fixedSQLTokenTexts = new String[sqlTokens.size()];
+        int length = layout.getConjunctionLength();
+        int index = 0;
+        for (SQLToken each : sqlTokens) {
+            if (isFixedSQLToken(each)) {
+                fixedSQLTokenTexts[index] = each.toString();
+                length += fixedSQLTokenTexts[index].length();
+            }
+            index++;
+        }
+        fixedLength = length;
+    }
+    
+    private boolean isFixedSQLToken(final SQLToken sqlToken) {
+        return !(sqlToken instanceof RouteUnitAware) && !(sqlToken instanceof ComposableSQLToken);
+    }
+    
+    /**
+     * Build SQL by filling texts of SQL tokens.
+     *
+     * @param sqlTokenTextProvider provider of text of SQL token which is not rendered in template
+     * @return built SQL
+     */
+    public String toSQL(final Function<SQLToken, String> sqlTokenTextProvider) {
+        if (sqlTokens.isEmpty()) {
+            return sql;
+        }
+        StringBuilder result = new StringBuilder(fixedLength + ESTIMATED_SQL_TOKEN_TEXT_LENGTH * sqlTokens.size());
+        result.append(sql, 0, sqlTokens.get(0).getStartIndex());
+        for (int i = 0; i < conjunctionTexts.length; i++) {
+            result.append(null == fixedSQLTokenTexts[i] ? sqlTokenTextProvider.apply(sqlTokens.get(i)) : fixedSQLTokenTexts[i]);
+            result.append(conjunctionTexts[i]);
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Get conjunction text between SQL token and its next SQL token.
+     *
+     * @param sqlToken SQL token
+     * @return conjunction text
+     */
+    public String getConjunctionText(final SQLToken sqlToken) {
+        return conjunctionTexts[sqlTokens.indexOf(sqlToken)];
+    }
+}
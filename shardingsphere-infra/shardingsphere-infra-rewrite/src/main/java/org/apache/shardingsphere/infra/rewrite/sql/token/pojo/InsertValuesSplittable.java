@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.token.pojo;
+
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.BitSet;
+
+/**
+ * Insert values splittable, whose insert values of route unit could be split into more statements.
+ */
+public interface InsertValuesSplittable extends RouteUnitAware {
+    
+    /**
+     * To string.
+     *
+     * @param routeUnit route unit
+     * @param insertValueIndexes indexes of insert values in original SQL which belong to route unit
+     * @return literal
+     */
+    String toString(RouteUnit routeUnit, BitSet insertValueIndexes);
+}
@@ -28,6 +28,8 @@ import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.InsertValuesSplittableSQLTokenFixture;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
@@ -37,6 +39,7 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -153,4 +156,33 @@ public final class RouteSQLRewriteEngineTest {
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("INSERT INTO tbl VALUES (?)"));
         assertTrue(actual.getSqlRewriteUnits().get(routeUnit).getParameters().isEmpty());
     }
+    
+    @Test
+    public void assertRewriteWithInsertValuesSplit() {
+        InsertStatementContext statementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(((TableAvailable) statementContext).getTablesContext().getDatabaseName().isPresent()).thenReturn(false);
+        when(statementContext.getInsertSelectContext()).thenReturn(null);
+        when(statementContext.getGroupedParameters()).thenReturn(Arrays.asList(Collections.singletonList(1), Collections.singletonList(2), Collections.singletonList(3)));
+        when(statementContext.getOnDuplicateKeyUpdateParameters()).thenReturn(Collections.emptyList());
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(DefaultDatabase.LOGIC_NAME, Collections.singletonMap("test", mock(ShardingSphereSchema.class)),
+                statementContext, "INSERT INTO tbl VALUES (?), (?), (?)", Arrays.asList(1, 2, 3), mock(ConnectionContext.class));
+        sqlRewriteContext.getSqlTokens().add(new InsertValuesSplittableSQLTokenFixture(23, 35));
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(routeUnit);
+        routeContext.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds.tbl_0")));
+        routeContext.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds.tbl_0")));
+        routeContext.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds.tbl_0")));
+        DatabaseType databaseType = mock(DatabaseType.class);
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, databaseType, 2).rewrite(sqlRewriteContext, routeContext);
+        assertTrue(actual.getSqlRewriteUnits().isEmpty());
+        assertThat(actual.getSplitSQLRewriteUnits().get(routeUnit).size(), is(2));
+        Iterator<SQLRewriteUnit> splitSQLRewriteUnits = actual.getSplitSQLRewriteUnits().get(routeUnit).iterator();
+        SQLRewriteUnit firstSQLRewriteUnit = splitSQLRewriteUnits.next();
+        assertThat(firstSQLRewriteUnit.getSql(), is("INSERT INTO tbl VALUES (0), (1)"));
+        assertThat(firstSQLRewriteUnit.getParameters(), is(Arrays.<Object>asList(1, 2)));
+        SQLRewriteUnit secondSQLRewriteUnit = splitSQLRewriteUnits.next();
+        assertThat(secondSQLRewriteUnit.getSql(), is("INSERT INTO tbl VALUES (2)"));
+        assertThat(secondSQLRewriteUnit.getParameters(), is(Collections.<Object>singletonList(3)));
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.RouteUnitAwareSQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SQLRewriteLayoutCacheTest {
+    
+    private final ShardingSphereSchema schema = new ShardingSphereSchema();
+    
+    private SQLRewriteContext context;
+    
+    @SuppressWarnings("unchecked")
+    @Before
+    public void setUp() {
+        context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT id FROM tbl WHERE id=?");
+        when(context.getSchemas()).thenReturn(Collections.singletonMap("foo_schema", schema));
+        SQLStatementContext<SQLStatement> sqlStatementContext = mock(SQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SQLStatement.class));
+        when(context.getSqlStatementContext()).thenReturn((SQLStatementContext) sqlStatementContext);
+    }
+    
+    @Test
+    public void assertGetLayoutWithSameSQLTokenPositions() {
+        SQLRewriteLayout expected = SQLRewriteLayoutCache.getLayout(context, createSQLTokens(15));
+        assertThat(SQLRewriteLayoutCache.getLayout(context, createSQLTokens(15)), sameInstance(expected));
+    }
+    
+    @Test
+    public void assertGetLayoutWithChangedSQLTokenPositions() {
+        SQLRewriteLayout expected = SQLRewriteLayoutCache.getLayout(context, createSQLTokens(15));
+        assertThat(SQLRewriteLayoutCache.getLayout(context, createSQLTokens(16)), not(sameInstance(expected)));
+    }
+    
+    @Test
+    public void assertGetLayoutWithChangedMetaDataVersion() {
+        SQLRewriteLayout expected = SQLRewriteLayoutCache.getLayout(context, createSQLTokens(15));
+        schema.putTable("foo_tbl", new ShardingSphereTable());
+        assertThat(SQLRewriteLayoutCache.getLayout(context, createSQLTokens(15)), not(sameInstance(expected)));
+    }
+    
+    private List<SQLToken> createSQLTokens(final int tableStartIndex) {
+        return Arrays.asList(new SQLTokenFixture(7, 8), new RouteUnitAwareSQLTokenFixture(tableStartIndex, 17));
+    }
+}
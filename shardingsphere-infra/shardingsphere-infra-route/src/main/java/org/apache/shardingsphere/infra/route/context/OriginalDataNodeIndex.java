@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.context;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.util.identifier.IdentifierUtil;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Original data node index, which indexes positions of original data node groups by data source and actual table in one pass.
+ * 
+ * <p>Original data node group without data node matches all route units.</p>
+ */
+public final class OriginalDataNodeIndex {
+    
+    private final Collection<? extends Collection<DataNode>> originalDataNodes;
+    
+    private final BitSet unconditionalIndexes = new BitSet();
+    
+    private final Map<String, Map<String, BitSet>> dataNodeIndexes = new HashMap<>();
+    
+    private boolean indexed;
+    
+    public OriginalDataNodeIndex(final Collection<? extends Collection<DataNode>> originalDataNodes) {
+        this.originalDataNodes = originalDataNodes;
+    }
+    
+    /**
+     * Judge whether original data nodes are empty.
+     *
+     * @return original data nodes are empty or not
+     */
+    public boolean isEmpty() {
+        return originalDataNodes.isEmpty();
+    }
+    
+    /**
+     * Get positions of original data node groups which belong to route unit.
+     *
+     * @param routeUnit route unit
+     * @return positions of matched original data node groups in ascending order
+     */
+    public BitSet getMatchedIndexes(final RouteUnit routeUnit) {
+        if (!indexed) {
+            buildIndexes();
+            indexed = true;
+        }
+        BitSet result = (BitSet) unconditionalIndexes.clone();
+        Map<String, BitSet> tableIndexes = dataNodeIndexes.get(IdentifierUtil.toLowerCase(routeUnit.getDataSourceMapper().getLogicName()));
+        if (null == tableIndexes) {
+            return result;
+        }
+        for (RouteMapper each : routeUnit.getTableMappers()) {
+            BitSet indexes = tableIndexes.get(IdentifierUtil.toLowerCase(each.getActualName()));
+            if (null != indexes) {
+                result.or(indexes);
+            }
+        }
+        return result;
+    }
+    
+    private void buildIndexes() {
+        int index = 0;
+        for (Collection<DataNode> each : originalDataNodes) {
+            if (each.isEmpty()) {
+                unconditionalIndexes.set(index);
+            }
+            for (DataNode dataNode : each) {
+                dataNodeIndexes.computeIfAbsent(IdentifierUtil.toLowerCase(dataNode.getDataSourceName()), unused -> new HashMap<>())
+                        .computeIfAbsent(IdentifierUtil.toLowerCase(dataNode.getTableName()), unused -> new BitSet()).set(index);
+            }
+            index++;
+        }
+    }
+}
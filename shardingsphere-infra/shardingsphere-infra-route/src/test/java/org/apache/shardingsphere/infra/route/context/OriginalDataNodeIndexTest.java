@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.context;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class OriginalDataNodeIndexTest {
+    
+    private final OriginalDataNodeIndex originalDataNodeIndex = new OriginalDataNodeIndex(createOriginalDataNodes());
+    
+    private List<Collection<DataNode>> createOriginalDataNodes() {
+        return Arrays.asList(Collections.singleton(new DataNode("ds_0", "tbl_0")), Collections.singleton(new DataNode("ds_1", "tbl_1")), Collections.emptyList(),
+                Collections.singleton(new DataNode("DS_0", "TBL_1")), Arrays.asList(new DataNode("ds_0", "tbl_0"), new DataNode("ds_1", "tbl_0")));
+    }
+    
+    @Test
+    public void assertIsEmpty() {
+        assertFalse(originalDataNodeIndex.isEmpty());
+        assertTrue(new OriginalDataNodeIndex(Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertGetMatchedIndexes() {
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Arrays.asList(new RouteMapper("tbl", "tbl_0"), new RouteMapper("tbl", "tbl_1")));
+        assertThat(originalDataNodeIndex.getMatchedIndexes(routeUnit), is(createBitSet(0, 2, 3, 4)));
+    }
+    
+    @Test
+    public void assertGetMatchedIndexesWithOtherDataSource() {
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singleton(new RouteMapper("tbl", "tbl_0")));
+        assertThat(originalDataNodeIndex.getMatchedIndexes(routeUnit), is(createBitSet(2, 4)));
+    }
+    
+    @Test
+    public void assertGetMatchedIndexesWithoutMatchedDataNode() {
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds_2", "ds_2"), Collections.singleton(new RouteMapper("tbl", "tbl_0")));
+        assertThat(originalDataNodeIndex.getMatchedIndexes(routeUnit), is(createBitSet(2)));
+    }
+    
+    private BitSet createBitSet(final int... indexes) {
+        BitSet result = new BitSet();
+        for (int each : indexes) {
+            result.set(each);
+        }
+        return result;
+    }
+}
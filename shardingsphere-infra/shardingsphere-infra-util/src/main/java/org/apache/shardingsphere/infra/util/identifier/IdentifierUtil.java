@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.identifier;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Identifier utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IdentifierUtil {
+    
+    private static final int MAX_CACHED_IDENTIFIER_COUNT = 65536;
+    
+    private static final Map<String, String> LOWER_CASE_IDENTIFIERS = new ConcurrentHashMap<>();
+    
+    /**
+     * Convert identifier to lower case, which returns identifier itself if it is already in lower case and reuses canonical lower case identifier otherwise.
+     *
+     * @param identifier identifier
+     * @return lower case identifier
+     */
+    public static String toLowerCase(final String identifier) {
+        if (isLowerCase(identifier)) {
+            return identifier;
+        }
+        String result = LOWER_CASE_IDENTIFIERS.get(identifier);
+        if (null != result) {
+            return result;
+        }
+        result = identifier.toLowerCase();
+        if (LOWER_CASE_IDENTIFIERS.size() < MAX_CACHED_IDENTIFIER_COUNT) {
+            LOWER_CASE_IDENTIFIERS.put(identifier, result);
+        }
+        return result;
+    }
+    
+    private static boolean isLowerCase(final String identifier) {
+        for (int i = 0; i < identifier.length(); i++) {
+            char each = identifier.charAt(i);
+            if (each >= 'A' && each <= 'Z' || each > 127) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.driver.executor.batch;
 
-import lombok.Getter;
+import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -32,12 +35,16 @@ import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
 
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -55,8 +62,7 @@ public final class BatchPreparedStatementExecutor {
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
     
     private int batchCount;
     
@@ -70,7 +76,7 @@ public final class BatchPreparedStatementExecutor {
         this.jdbcExecutor = jdbcExecutor;
         this.eventBusContext = eventBusContext;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>());
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
     }
     
     /**
@@ -88,44 +94,101 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
+        for (ExecutionUnit each : executionUnits) {
+            BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == batchExecutionUnit) {
+                batchExecutionUnit = new BatchExecutionUnit(each);
+                batchExecutionUnits.put(each, batchExecutionUnit);
+            } else {
+                batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
+            }
+            batchExecutionUnit.mapAddBatchCount(batchCount);
+        }
         batchCount++;
     }
     
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
-        for (ExecutionUnit each : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
+    }
+    
+    /**
+     * Merge rows of insert values added for same actual table into multi-row insert statements.
+     *
+     * @param sqlStatementContext SQL statement context
+     */
+    public void mergeInsertValues(final SQLStatementContext<?> sqlStatementContext) {
+        int mergeSize = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_VALUES_MERGE_SIZE);
+        if (mergeSize <= 1 || batchCount <= 1 || !isMergeableInsert(sqlStatementContext)) {
+            return;
+        }
+        Collection<BatchExecutionUnit> mergedBatchExecutionUnits = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits.values()) {
+            Optional<MultiRowInsertSQLBuilder> sqlBuilder = MultiRowInsertSQLBuilder.newInstance(each.getExecutionUnit().getSqlUnit().getSql());
+            List<List<Object>> parameterSets = each.getParameterSets();
+            if (sqlBuilder.isPresent() && parameterSets.size() > 1 && !parameterSets.get(0).isEmpty() && parameterSets.size() == each.getJdbcAndActualAddBatchCallTimesMap().size()) {
+                mergedBatchExecutionUnits.addAll(createMergedBatchExecutionUnits(each, sqlBuilder.get(), parameterSets, mergeSize));
+            } else {
+                mergedBatchExecutionUnits.add(each);
+            }
+        }
+        batchExecutionUnits.clear();
+        for (BatchExecutionUnit each : mergedBatchExecutionUnits) {
+            batchExecutionUnits.put(each.getExecutionUnit(), each);
         }
-        return result;
     }
     
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
+    private boolean isMergeableInsert(final SQLStatementContext<?> sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        InsertStatement insertStatement = insertStatementContext.getSqlStatement();
+        return 1 == insertStatementContext.getInsertValueContexts().size() && null == insertStatementContext.getInsertSelectContext()
+                && !InsertStatementHandler.getOnDuplicateKeyColumnsSegment(insertStatement).isPresent() && !InsertStatementHandler.getSetAssignmentSegment(insertStatement).isPresent()
+                && !InsertStatementHandler.getOutputSegment(insertStatement).isPresent() && !InsertStatementHandler.getInsertMultiTableElementSegment(insertStatement).isPresent();
     }
     
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
-            }
+    private Collection<BatchExecutionUnit> createMergedBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit, final MultiRowInsertSQLBuilder sqlBuilder,
+                                                                           final List<List<Object>> parameterSets, final int mergeSize) {
+        List<Integer> jdbcAddBatchTimes = getJdbcAddBatchTimesOrderedByActualCall(batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap());
+        Collection<BatchExecutionUnit> result = new LinkedList<>();
+        int fullChunkRowCount = parameterSets.size() / mergeSize * mergeSize;
+        if (fullChunkRowCount > 0) {
+            result.add(createMergedBatchExecutionUnit(batchExecutionUnit, sqlBuilder, parameterSets.subList(0, fullChunkRowCount), jdbcAddBatchTimes.subList(0, fullChunkRowCount), mergeSize));
         }
+        int remainedRowCount = parameterSets.size() - fullChunkRowCount;
+        if (remainedRowCount > 0) {
+            result.add(createMergedBatchExecutionUnit(batchExecutionUnit, sqlBuilder, parameterSets.subList(fullChunkRowCount, parameterSets.size()),
+                    jdbcAddBatchTimes.subList(fullChunkRowCount, parameterSets.size()), remainedRowCount));
+        }
+        return result;
     }
     
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
+    private List<Integer> getJdbcAddBatchTimesOrderedByActualCall(final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap) {
+        Integer[] result = new Integer[jdbcAndActualAddBatchCallTimesMap.size()];
+        for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
+            result[entry.getValue()] = entry.getKey();
+        }
+        return Arrays.asList(result);
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
+    private BatchExecutionUnit createMergedBatchExecutionUnit(final BatchExecutionUnit batchExecutionUnit, final MultiRowInsertSQLBuilder sqlBuilder,
+                                                              final List<List<Object>> parameterSets, final List<Integer> jdbcAddBatchTimes, final int rowCount) {
+        SQLUnit sqlUnit = batchExecutionUnit.getExecutionUnit().getSqlUnit();
+        String sql = 1 == rowCount ? sqlUnit.getSql() : sqlBuilder.build(rowCount);
+        List<Object> parameters = new ArrayList<>(parameterSets.size() * parameterSets.get(0).size());
+        parameterSets.forEach(parameters::addAll);
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit(batchExecutionUnit.getExecutionUnit().getDataSourceName(),
+                new SQLUnit(sql, parameters, sqlUnit.getTableRouteMappers())), rowCount);
+        for (int i = 0; i < jdbcAddBatchTimes.size(); i += rowCount) {
+            result.mapAddBatchCounts(jdbcAddBatchTimes.subList(i, i + rowCount));
         }
-        batchExecutionUnits.addAll(newExecutionUnits);
+        return result;
     }
     
     /**
@@ -155,7 +218,19 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        if (isNeedAccumulate(sqlStatementContext)) {
+            return accumulate(results);
+        }
+        return isInsertValuesMerged() ? accumulateFirstDataSource(results) : results.get(0);
+    }
+    
+    private boolean isInsertValuesMerged() {
+        for (BatchExecutionUnit each : batchExecutionUnits.values()) {
+            if (each.getInsertValuesRowCount() > 1) {
+                return true;
+            }
+        }
+        return false;
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext<?> sqlStatementContext) {
@@ -167,21 +242,18 @@ public final class BatchPreparedStatementExecutor {
         return false;
     }
     
-    private int[] accumulate(final List<int[]> results) {
+    private int[] accumulateFirstDataSource(final List<int[]> results) {
         int[] result = new int[batchCount];
+        String firstDataSourceName = null;
         int count = 0;
         for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
             for (JDBCExecutionUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = Collections.emptyMap();
-                for (BatchExecutionUnit eachExecutionUnit : batchExecutionUnits) {
-                    if (isSameDataSourceAndSQL(eachExecutionUnit, eachUnit)) {
-                        jdbcAndActualAddBatchCallTimesMap = eachExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
-                    }
+                String dataSourceName = eachUnit.getExecutionUnit().getDataSourceName();
+                if (null == firstDataSourceName) {
+                    firstDataSourceName = dataSourceName;
                 }
-                for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
-                    int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
-                    result[entry.getKey()] += value;
+                if (firstDataSourceName.equals(dataSourceName)) {
+                    accumulate(result, results.get(count), eachUnit);
                 }
                 count++;
             }
@@ -189,9 +261,37 @@ public final class BatchPreparedStatementExecutor {
         return result;
     }
     
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
+    private int[] accumulate(final List<int[]> results) {
+        int[] result = new int[batchCount];
+        int count = 0;
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit eachUnit : each.getInputs()) {
+                accumulate(result, results.get(count), eachUnit);
+                count++;
+            }
+        }
+        return result;
+    }
+    
+    private void accumulate(final int[] result, final int[] actualResult, final JDBCExecutionUnit executionUnit) {
+        BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null != batchExecutionUnit) {
+            accumulate(result, actualResult, batchExecutionUnit);
+        }
+    }
+    
+    private void accumulate(final int[] result, final int[] actualResult, final BatchExecutionUnit batchExecutionUnit) {
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+            int value = null == actualResult ? 0 : getUpdateCount(actualResult[entry.getValue()], batchExecutionUnit.getInsertValuesRowCount());
+            result[entry.getKey()] = Statement.SUCCESS_NO_INFO == value || Statement.SUCCESS_NO_INFO == result[entry.getKey()] ? Statement.SUCCESS_NO_INFO : result[entry.getKey()] + value;
+        }
+    }
+    
+    private int getUpdateCount(final int actualUpdateCount, final int insertValuesRowCount) {
+        if (1 == insertValuesRowCount) {
+            return actualUpdateCount;
+        }
+        return actualUpdateCount == insertValuesRowCount ? 1 : Statement.SUCCESS_NO_INFO;
     }
     
     /**
@@ -236,12 +336,9 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
-        }
-        throw new IllegalStateException();
+        BatchExecutionUnit result = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        Preconditions.checkState(null != result);
+        return result.getParameterSets();
     }
     
     /**
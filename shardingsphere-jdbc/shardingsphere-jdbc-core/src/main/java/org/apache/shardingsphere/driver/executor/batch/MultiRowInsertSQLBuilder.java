@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Multi-row insert SQL builder, which repeats the trailing values row of actual insert SQL.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MultiRowInsertSQLBuilder {
+    
+    private static final String VALUES_KEYWORD = "VALUES";
+    
+    private final String prefix;
+    
+    private final String valuesRow;
+    
+    /**
+     * Create multi-row insert SQL builder.
+     *
+     * @param sql actual insert SQL which ends with one values row
+     * @return multi-row insert SQL builder, empty if SQL does not end with values row
+     */
+    public static Optional<MultiRowInsertSQLBuilder> newInstance(final String sql) {
+        int stopIndex = sql.length() - 1;
+        while (stopIndex >= 0 && Character.isWhitespace(sql.charAt(stopIndex))) {
+            stopIndex--;
+        }
+        if (stopIndex < 0 || ')' != sql.charAt(stopIndex)) {
+            return Optional.empty();
+        }
+        int startIndex = findLastTopLevelParenthesesStartIndex(sql, stopIndex);
+        if (startIndex < 0 || !isPrecededByValuesKeyword(sql, startIndex)) {
+            return Optional.empty();
+        }
+        return Optional.of(new MultiRowInsertSQLBuilder(sql.substring(0, startIndex), sql.substring(startIndex, stopIndex + 1)));
+    }
+    
+    private static int findLastTopLevelParenthesesStartIndex(final String sql, final int stopIndex) {
+        int result = -1;
+        int depth = 0;
+        char quote = 0;
+        boolean escaped = false;
+        for (int i = 0; i <= stopIndex; i++) {
+            char each = sql.charAt(i);
+            if (0 != quote) {
+                if (escaped) {
+                    escaped = false;
+                } else if ('\\' == each) {
+                    escaped = true;
+                } else if (quote == each) {
+                    quote = 0;
+                }
+                continue;
+            }
+            if ('\'' == each || '"' == each || '`' == each) {
+                quote = each;
+            } else if ('(' == each) {
+                if (0 == depth) {
+                    result = i;
+                }
+                depth++;
+            } else if (')' == each) {
+                depth--;
+                if (depth < 0) {
+                    return -1;
+                }
+            }
+        }
+        return 0 == depth && 0 == quote ? result : -1;
+    }
+    
+    private static boolean isPrecededByValuesKeyword(final String sql, final int startIndex) {
+        int stopIndex = startIndex - 1;
+        while (stopIndex >= 0 && Character.isWhitespace(sql.charAt(stopIndex))) {
+            stopIndex--;
+        }
+        int keywordStartIndex = stopIndex - VALUES_KEYWORD.length() + 1;
+        if (keywordStartIndex <= 0 || !sql.regionMatches(true, keywordStartIndex, VALUES_KEYWORD, 0, VALUES_KEYWORD.length())) {
+            return false;
+        }
+        char previous = sql.charAt(keywordStartIndex - 1);
+        return Character.isWhitespace(previous) || ')' == previous;
+    }
+    
+    /**
+     * Build multi-row insert SQL.
+     *
+     * @param rowCount row count of insert values
+     * @return multi-row insert SQL
+     */
+    public String build(final int rowCount) {
+        StringBuilder result = new StringBuilder(prefix.length() + (valuesRow.length() + 2) * rowCount).append(prefix);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(valuesRow);
+        }
+        return result.toString();
+    }
+}
@@ -38,7 +38,6 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -46,8 +45,6 @@ import java.util.List;
  */
 public abstract class AbstractPreparedStatementAdapter extends AbstractUnsupportedOperationPreparedStatement {
     
-    private final List<PreparedStatementInvocationReplayer> setParameterMethodInvocations = new LinkedList<>();
-    
     @Getter
     private final List<Object> parameters = new ArrayList<>();
     
@@ -275,30 +272,11 @@ public abstract class AbstractPreparedStatementAdapter extends AbstractUnsupport
     }
     
     protected final void replaySetParameter(final PreparedStatement preparedStatement, final List<Object> parameters) throws SQLException {
-        setParameterMethodInvocations.clear();
-        addParameters(parameters);
-        for (PreparedStatementInvocationReplayer each : setParameterMethodInvocations) {
-            each.replayOn(preparedStatement);
-        }
-    }
-    
-    private void addParameters(final List<Object> parameters) {
-        int i = 0;
-        for (Object each : parameters) {
-            int index = ++i;
-            setParameterMethodInvocations.add(preparedStatement -> preparedStatement.setObject(index, each));
-        }
+        PreparedStatementParameterBinder.bind(preparedStatement, parameters);
     }
     
     @Override
     public final void clearParameters() {
         parameters.clear();
-        setParameterMethodInvocations.clear();
-    }
-    
-    @FunctionalInterface
-    interface PreparedStatementInvocationReplayer {
-        
-        void replayOn(PreparedStatement preparedStatement) throws SQLException;
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.adapter;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Prepared statement parameter binder, which binds parameters to prepared statement directly without recording replay invocations.
+ * 
+ * <p>Parameters are bound by {@code setObject}, so drivers convert values in the same way as before.
+ * Parameters are still recorded and rewritten as boxed values, typed parameter buffers are not introduced.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class PreparedStatementParameterBinder {
+    
+    /**
+     * Bind parameters.
+     *
+     * @param preparedStatement prepared statement to be bound
+     * @param parameters parameters
+     * @throws SQLException SQL exception
+     */
+    static void bind(final PreparedStatement preparedStatement, final List<Object> parameters) throws SQLException {
+        int index = 0;
+        for (Object each : parameters) {
+            preparedStatement.setObject(++index, each);
+        }
+    }
+}
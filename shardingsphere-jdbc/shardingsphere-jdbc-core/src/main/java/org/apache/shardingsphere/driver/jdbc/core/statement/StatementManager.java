@@ -51,7 +51,7 @@ public final class StatementManager implements ExecutorJDBCStatementManager, Aut
     @Override
     public Statement createStorageResource(final ExecutionUnit executionUnit, final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
         Statement result = cachedStatements.get(new CacheKey(executionUnit, connectionMode));
-        if (null == result) {
+        if (null == result || result.isClosed()) {
             String sql = executionUnit.getSqlUnit().getSql();
             result = option.isReturnGeneratedKeys()
                     ? (ArrayUtils.isNotEmpty(option.getColumns()) ? connection.prepareStatement(sql, option.getColumns()) : connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS))
@@ -21,6 +21,8 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -47,6 +49,19 @@ public final class BatchExecutionUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    public void assertGetParameterSetsWithInsertValuesRows() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, new ArrayList<>(Arrays.asList(1, 2, 3, 4)))), 2);
+        batchExecutionUnit.mapAddBatchCounts(Arrays.asList(0, 1));
+        batchExecutionUnit.mapAddBatchCounts(Arrays.asList(2, 3));
+        List<List<Object>> actual = batchExecutionUnit.getParameterSets();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(Arrays.<Object>asList(1, 2)));
+        assertThat(actual.get(1), is(Arrays.<Object>asList(3, 4)));
+        assertThat(batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().get(1), is(0));
+        assertThat(batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().get(2), is(1));
+    }
+    
     @Test
     public void assertEquals() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
@@ -59,7 +74,7 @@ public final class BatchExecutionUnitTest {
         ExecutionUnit executionUnit = new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1)));
         BatchExecutionUnit actual = new BatchExecutionUnit(executionUnit);
         assertThat(actual.toString(), is(String.format("BatchExecutionUnit(executionUnit=ExecutionUnit"
-                + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), "
+                + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), insertValuesRowCount=1, "
                 + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
     }
 }
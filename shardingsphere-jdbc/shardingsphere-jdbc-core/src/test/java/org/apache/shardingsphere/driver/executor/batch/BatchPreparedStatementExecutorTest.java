@@ -24,12 +24,18 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.driver.executor.AbstractBaseExecutorTest;
 import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
+import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertValueContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
 import org.junit.Test;
 import org.mockito.Mock;
 
@@ -38,14 +44,19 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -55,6 +66,8 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     
     private static final String SQL = "DELETE FROM table_x WHERE id=?";
     
+    private static final String INSERT_SQL = "INSERT INTO t_order_0 (order_id) VALUES (?)";
+    
     private BatchPreparedStatementExecutor actual;
     
     @Mock
@@ -129,16 +142,74 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertExecuteBatchWithMergedInsertValues() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.BATCH_INSERT_VALUES_MERGE_SIZE.getKey(), "2");
+        when(getConnection().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(props));
+        for (int i = 1; i <= 3; i++) {
+            actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL, new ArrayList<>(Collections.singletonList(i))))));
+        }
+        actual.mergeInsertValues(mockInsertStatementContext());
+        List<BatchExecutionUnit> batchExecutionUnits = new ArrayList<>(actual.getBatchExecutionUnits());
+        assertThat(batchExecutionUnits.size(), is(2));
+        assertThat(batchExecutionUnits.get(0).getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id) VALUES (?), (?)"));
+        assertThat(batchExecutionUnits.get(0).getParameterSets(), is(Collections.singletonList(Arrays.<Object>asList(1, 2))));
+        assertThat(batchExecutionUnits.get(1).getExecutionUnit().getSqlUnit().getSql(), is(INSERT_SQL));
+        assertThat(batchExecutionUnits.get(1).getParameterSets(), is(Collections.singletonList(Collections.<Object>singletonList(3))));
+        PreparedStatement preparedStatement1 = getPreparedStatement();
+        PreparedStatement preparedStatement2 = getPreparedStatement();
+        when(preparedStatement1.executeBatch()).thenReturn(new int[]{2});
+        when(preparedStatement2.executeBatch()).thenReturn(new int[]{1});
+        List<JDBCExecutionUnit> executionUnits = Arrays.asList(new JDBCExecutionUnit(batchExecutionUnits.get(0).getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, preparedStatement1),
+                new JDBCExecutionUnit(batchExecutionUnits.get(1).getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, preparedStatement2));
+        actual.init(new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(executionUnits))));
+        assertThat(actual.executeBatch(sqlStatementContext), is(new int[]{1, 1, 1}));
+    }
+    
+    @Test
+    public void assertExecuteBatchWithMergedInsertValuesWithoutAccumulate() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.BATCH_INSERT_VALUES_MERGE_SIZE.getKey(), "2");
+        when(getConnection().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(props));
+        ShardingRule shardingRule = (ShardingRule) getConnection().getContextManager().getMetaDataContexts().getMetaData().getDatabase(DefaultDatabase.LOGIC_NAME).getRuleMetaData().getRules()
+                .iterator().next();
+        when(shardingRule.isNeedAccumulate(any())).thenReturn(false);
+        for (int i = 1; i <= 5; i++) {
+            actual.addBatchForExecutionUnits(Arrays.asList(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL, new ArrayList<>(Collections.singletonList(i)))),
+                    new ExecutionUnit("ds_1", new SQLUnit(INSERT_SQL, new ArrayList<>(Collections.singletonList(i))))));
+        }
+        actual.mergeInsertValues(mockInsertStatementContext());
+        List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
+        for (BatchExecutionUnit each : actual.getBatchExecutionUnits()) {
+            PreparedStatement preparedStatement = getPreparedStatement();
+            int[] updateCounts = new int[each.getParameterSets().size()];
+            Arrays.fill(updateCounts, each.getInsertValuesRowCount());
+            when(preparedStatement.executeBatch()).thenReturn(updateCounts);
+            executionUnits.add(new JDBCExecutionUnit(each.getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, preparedStatement));
+        }
+        assertThat(executionUnits.size(), is(4));
+        actual.init(new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(executionUnits))));
+        assertThat(actual.executeBatch(sqlStatementContext), is(new int[]{1, 1, 1, 1, 1}));
+    }
+    
+    private InsertStatementContext mockInsertStatementContext() {
+        InsertStatementContext result = mock(InsertStatementContext.class);
+        when(result.getInsertValueContexts()).thenReturn(Collections.singletonList(mock(InsertValueContext.class)));
+        when(result.getSqlStatement()).thenReturn(new MySQLInsertStatement());
+        return result;
+    }
+    
     private void setExecutionGroups(final List<PreparedStatement> preparedStatements) {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))),
                     ConnectionMode.MEMORY_STRICTLY, each));
         }
@@ -146,7 +217,7 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         Field field = BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext");
         field.setAccessible(true);
         field.set(actual, new ExecutionGroupContext<>(executionGroups));
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MultiRowInsertSQLBuilderTest {
+    
+    @Test
+    public void assertBuild() {
+        Optional<MultiRowInsertSQLBuilder> actual = MultiRowInsertSQLBuilder.newInstance("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?) ");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().build(1), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)"));
+        assertThat(actual.get().build(3), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?), (?, ?), (?, ?)"));
+    }
+    
+    @Test
+    public void assertBuildWithQuotedParentheses() {
+        Optional<MultiRowInsertSQLBuilder> actual = MultiRowInsertSQLBuilder.newInstance("insert into t_order_0 (order_id, status) values(?, concat('(', ?, 'it''s)'))");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().build(2), is("insert into t_order_0 (order_id, status) values(?, concat('(', ?, 'it''s)')), (?, concat('(', ?, 'it''s)'))"));
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutTrailingValuesRow() {
+        assertFalse(MultiRowInsertSQLBuilder.newInstance("INSERT INTO t_order_0 (order_id) VALUES (?) ON DUPLICATE KEY UPDATE status = ?").isPresent());
+        assertFalse(MultiRowInsertSQLBuilder.newInstance("INSERT INTO t_order_0 (order_id) SELECT order_id FROM t_order_1 WHERE order_id IN (?)").isPresent());
+        assertFalse(MultiRowInsertSQLBuilder.newInstance("INSERT INTO t_order_0 (order_id) VALUES (?) RETURNING (order_id)").isPresent());
+        assertFalse(MultiRowInsertSQLBuilder.newInstance("INSERT INTO t_order_0 (order_id) VALUES (?))").isPresent());
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.adapter;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+public final class PreparedStatementParameterBinderTest {
+    
+    @Test
+    public void assertBind() throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        Timestamp timestamp = new Timestamp(0L);
+        Object other = new Object();
+        PreparedStatementParameterBinder.bind(preparedStatement, Arrays.asList("foo", 1, 2L, BigDecimal.ONE, true, timestamp, null, other));
+        verify(preparedStatement).setObject(1, "foo");
+        verify(preparedStatement).setObject(2, 1);
+        verify(preparedStatement).setObject(3, 2L);
+        verify(preparedStatement).setObject(4, BigDecimal.ONE);
+        verify(preparedStatement).setObject(5, true);
+        verify(preparedStatement).setObject(6, timestamp);
+        verify(preparedStatement).setObject(7, null);
+        verify(preparedStatement).setObject(8, other);
+        verifyNoMoreInteractions(preparedStatement);
+    }
+}
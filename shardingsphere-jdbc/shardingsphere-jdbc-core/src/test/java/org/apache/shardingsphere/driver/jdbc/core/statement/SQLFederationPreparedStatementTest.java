@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.core.statement;
+
+import org.apache.shardingsphere.driver.jdbc.base.AbstractShardingSphereDataSourceForFederationTest;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLFederationPreparedStatementTest extends AbstractShardingSphereDataSourceForFederationTest {
+    
+    private static final String SELECT_JOIN_SQL = "SELECT o.order_id, i.item_id FROM t_order o INNER JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? ORDER BY i.item_id";
+    
+    @Test
+    public void assertExecuteQueryWithJoin() throws SQLException {
+        try (
+                Connection connection = getShardingSphereDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(SELECT_JOIN_SQL)) {
+            preparedStatement.setInt(1, 10);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertRow(resultSet, 1000, 100000);
+                assertRow(resultSet, 1000, 100001);
+                assertRow(resultSet, 1001, 100100);
+                assertRow(resultSet, 1001, 100101);
+                assertFalse(resultSet.next());
+            }
+            preparedStatement.setInt(1, 11);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertRow(resultSet, 1100, 110000);
+                assertRow(resultSet, 1100, 110001);
+                assertRow(resultSet, 1101, 110100);
+                assertRow(resultSet, 1101, 110101);
+                assertFalse(resultSet.next());
+            }
+        }
+    }
+    
+    @Test
+    public void assertExecuteQueryWithJoinInTransaction() throws SQLException {
+        try (
+                Connection connection = getShardingSphereDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(SELECT_JOIN_SQL)) {
+            connection.setAutoCommit(false);
+            preparedStatement.setInt(1, 10);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertRow(resultSet, 1000, 100000);
+                assertRow(resultSet, 1000, 100001);
+                assertRow(resultSet, 1001, 100100);
+                assertRow(resultSet, 1001, 100101);
+                assertFalse(resultSet.next());
+            }
+            connection.commit();
+        }
+    }
+    
+    private void assertRow(final ResultSet resultSet, final int orderId, final int itemId) throws SQLException {
+        assertTrue(resultSet.next());
+        assertThat(resultSet.getInt(1), is(orderId));
+        assertThat(resultSet.getInt(2), is(itemId));
+    }
+}
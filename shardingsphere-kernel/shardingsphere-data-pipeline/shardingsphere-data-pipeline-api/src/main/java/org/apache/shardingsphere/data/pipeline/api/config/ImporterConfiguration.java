@@ -52,6 +52,8 @@ public final class ImporterConfiguration {
     
     private final int batchSize;
     
+    private final boolean multiRowInsert;
+    
     private final JobRateLimitAlgorithm rateLimitAlgorithm;
     
     private final int retryTimes;
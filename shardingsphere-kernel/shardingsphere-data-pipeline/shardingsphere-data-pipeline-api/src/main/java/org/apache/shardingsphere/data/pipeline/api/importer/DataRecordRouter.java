@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+/**
+ * Data record router, which routes data record to actual data node of target directly, without parsing, routing and rewriting SQL.
+ */
+public interface DataRecordRouter {
+    
+    /**
+     * Route data record.
+     *
+     * @param dataRecord data record
+     * @return routed data node, empty if data record could not be routed to one data node
+     */
+    Optional<DataNode> route(DataRecord dataRecord);
+    
+    /**
+     * Get actual data source.
+     *
+     * @param dataSourceName data source name of routed data node
+     * @return actual data source
+     */
+    DataSource getDataSource(String dataSourceName);
+}
@@ -27,10 +27,23 @@ import lombok.RequiredArgsConstructor;
 @Getter
 public final class StringPrimaryKeyPosition extends PrimaryKeyPosition<String> implements IngestPosition<StringPrimaryKeyPosition> {
     
+    private static final String UNBOUNDED_END_VALUE = "~";
+    
     private final String beginValue;
     
     private final String endValue;
     
+    /**
+     * Judge whether range is bounded by end value.
+     * 
+     * <p>Range ended with {@code ~} is created for empty table or persisted by previous versions, it is not bounded by end value.</p>
+     *
+     * @return bounded by end value or not
+     */
+    public boolean isEndBounded() {
+        return !UNBOUNDED_END_VALUE.equals(endValue);
+    }
+    
     @Override
     protected String convert(final String value) {
         return value;
@@ -21,35 +21,58 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
-import lombok.ToString;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Data record.
+ * <p>Columns are stored in compact columnar arrays, column names are shared with table meta data, updated and unique key flags are stored in bit sets.</p>
+ * <p>Keys are computed once and reset when columns or table name change, equality and hash code are computed on unique key values in place.</p>
  */
-@Getter
-@Setter
-@EqualsAndHashCode(of = {"tableName", "uniqueKeyValue"}, callSuper = false)
-@ToString
 public final class DataRecord extends Record {
     
-    private final List<Column> columns;
+    private String[] columnNames;
     
-    private final List<Object> uniqueKeyValue = new LinkedList<>();
+    private Object[] values;
     
-    private final List<Object> oldUniqueKeyValues = new ArrayList<>();
+    private Object[] oldValues;
     
+    private final BitSet updatedFlags = new BitSet();
+    
+    private final BitSet uniqueKeyFlags = new BitSet();
+    
+    private int columnCount;
+    
+    @Getter
+    @Setter
     private String type;
     
+    @Getter
     private String tableName;
     
+    private Key key;
+    
+    private Key oldKey;
+    
     public DataRecord(final IngestPosition<?> position, final int columnCount) {
         super(position);
-        columns = new ArrayList<>(columnCount);
+        columnNames = new String[columnCount];
+        values = new Object[columnCount];
+    }
+    
+    /**
+     * Set table name.
+     *
+     * @param tableName table name
+     */
+    public void setTableName(final String tableName) {
+        this.tableName = tableName;
+        resetKeys();
     }
     
     /**
@@ -58,11 +81,44 @@ public final class DataRecord extends Record {
      * @param data column
      */
     public void addColumn(final Column data) {
-        columns.add(data);
-        if (data.isUniqueKey()) {
-            uniqueKeyValue.add(data.getValue());
-            oldUniqueKeyValues.add(data.getOldValue());
+        addColumn(data.getName(), data.getOldValue(), data.getValue(), data.isUpdated(), data.isUniqueKey());
+    }
+    
+    /**
+     * Add a column to record without creating column object.
+     *
+     * @param name column name
+     * @param oldValue old value, it's available only when the primary key column is updated
+     * @param value value
+     * @param updated whether column is updated
+     * @param uniqueKey whether column is unique key
+     */
+    public void addColumn(final String name, final Object oldValue, final Object value, final boolean updated, final boolean uniqueKey) {
+        if (columnCount == values.length) {
+            int capacity = Math.max(4, columnCount * 2);
+            columnNames = Arrays.copyOf(columnNames, capacity);
+            values = Arrays.copyOf(values, capacity);
+            if (null != oldValues) {
+                oldValues = Arrays.copyOf(oldValues, capacity);
+            }
+        }
+        columnNames[columnCount] = name;
+        values[columnCount] = value;
+        if (null != oldValue) {
+            if (null == oldValues) {
+                oldValues = new Object[values.length];
+            }
+            oldValues[columnCount] = oldValue;
         }
+        updatedFlags.set(columnCount, updated);
+        uniqueKeyFlags.set(columnCount, uniqueKey);
+        columnCount++;
+        resetKeys();
+    }
+    
+    private void resetKeys() {
+        key = null;
+        oldKey = null;
     }
     
     /**
@@ -71,17 +127,119 @@ public final class DataRecord extends Record {
      * @return count
      */
     public int getColumnCount() {
-        return columns.size();
+        return columnCount;
     }
     
     /**
      * Get column by index.
+     * <p>Column object is created on every call, use index based accessors on hot path.</p>
      *
      * @param index of column
      * @return column
      */
     public Column getColumn(final int index) {
-        return columns.get(index);
+        checkIndex(index);
+        return new Column(columnNames[index], getOldValue(index), values[index], isUpdated(index), isUniqueKey(index));
+    }
+    
+    /**
+     * Get columns.
+     *
+     * @return columns
+     */
+    public List<Column> getColumns() {
+        List<Column> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            result.add(getColumn(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Get column name by index.
+     *
+     * @param index of column
+     * @return column name
+     */
+    public String getColumnName(final int index) {
+        checkIndex(index);
+        return columnNames[index];
+    }
+    
+    /**
+     * Get column value by index.
+     *
+     * @param index of column
+     * @return column value
+     */
+    public Object getValue(final int index) {
+        checkIndex(index);
+        return values[index];
+    }
+    
+    /**
+     * Get column old value by index.
+     *
+     * @param index of column
+     * @return column old value, it's available only when the primary key column is updated
+     */
+    public Object getOldValue(final int index) {
+        checkIndex(index);
+        return null == oldValues ? null : oldValues[index];
+    }
+    
+    /**
+     * Judge whether column is updated.
+     *
+     * @param index of column
+     * @return updated or not
+     */
+    public boolean isUpdated(final int index) {
+        checkIndex(index);
+        return updatedFlags.get(index);
+    }
+    
+    /**
+     * Judge whether column is unique key.
+     *
+     * @param index of column
+     * @return unique key or not
+     */
+    public boolean isUniqueKey(final int index) {
+        checkIndex(index);
+        return uniqueKeyFlags.get(index);
+    }
+    
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= columnCount) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, columnCount));
+        }
+    }
+    
+    /**
+     * Get unique key values.
+     *
+     * @return unique key values
+     */
+    public List<Object> getUniqueKeyValue() {
+        List<Object> result = new ArrayList<>(uniqueKeyFlags.cardinality());
+        for (int i = uniqueKeyFlags.nextSetBit(0); i >= 0; i = uniqueKeyFlags.nextSetBit(i + 1)) {
+            result.add(values[i]);
+        }
+        return result;
+    }
+    
+    /**
+     * Get old unique key values.
+     *
+     * @return old unique key values
+     */
+    public List<Object> getOldUniqueKeyValues() {
+        List<Object> result = new ArrayList<>(uniqueKeyFlags.cardinality());
+        for (int i = uniqueKeyFlags.nextSetBit(0); i >= 0; i = uniqueKeyFlags.nextSetBit(i + 1)) {
+            result.add(null == oldValues ? null : oldValues[i]);
+        }
+        return result;
     }
     
     /**
@@ -90,7 +248,10 @@ public final class DataRecord extends Record {
      * @return key
      */
     public Key getKey() {
-        return new Key(tableName, uniqueKeyValue);
+        if (null == key) {
+            key = new Key(tableName, getUniqueKeyValue());
+        }
+        return key;
     }
     
     /**
@@ -99,7 +260,49 @@ public final class DataRecord extends Record {
      * @return key
      */
     public Key getOldKey() {
-        return new Key(tableName, oldUniqueKeyValues);
+        if (null == oldKey) {
+            oldKey = new Key(tableName, getOldUniqueKeyValues());
+        }
+        return oldKey;
+    }
+    
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (null == o || getClass() != o.getClass()) {
+            return false;
+        }
+        DataRecord dataRecord = (DataRecord) o;
+        return Objects.equals(tableName, dataRecord.tableName) && isUniqueKeyValueEquals(dataRecord);
+    }
+    
+    private boolean isUniqueKeyValueEquals(final DataRecord dataRecord) {
+        int index = uniqueKeyFlags.nextSetBit(0);
+        int otherIndex = dataRecord.uniqueKeyFlags.nextSetBit(0);
+        while (index >= 0 && otherIndex >= 0) {
+            if (!Objects.equals(values[index], dataRecord.values[otherIndex])) {
+                return false;
+            }
+            index = uniqueKeyFlags.nextSetBit(index + 1);
+            otherIndex = dataRecord.uniqueKeyFlags.nextSetBit(otherIndex + 1);
+        }
+        return index < 0 && otherIndex < 0;
+    }
+    
+    @Override
+    public int hashCode() {
+        int uniqueKeyValueHashCode = 1;
+        for (int i = uniqueKeyFlags.nextSetBit(0); i >= 0; i = uniqueKeyFlags.nextSetBit(i + 1)) {
+            uniqueKeyValueHashCode = 31 * uniqueKeyValueHashCode + Objects.hashCode(values[i]);
+        }
+        return 31 * (31 + Objects.hashCode(tableName)) + uniqueKeyValueHashCode;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("DataRecord(type=%s, tableName=%s, columns=%s, position=%s, commitTime=%s)", type, tableName, getColumns(), getPosition(), getCommitTime());
     }
     
     @EqualsAndHashCode
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.spi.ingest.position;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Ingest position codec, which encodes dialect position field by field.
+ */
+public interface IngestPositionCodec extends TypedSPI {
+    
+    /**
+     * Judge whether position is supported.
+     *
+     * @param position position
+     * @return supported or not
+     */
+    boolean isSupported(IngestPosition<?> position);
+    
+    /**
+     * Encode position.
+     *
+     * @param position position
+     * @param output output
+     * @throws IOException IO exception
+     */
+    void encode(IngestPosition<?> position, DataOutput output) throws IOException;
+    
+    /**
+     * Decode position.
+     *
+     * @param input input
+     * @return position
+     * @throws IOException IO exception
+     */
+    IngestPosition<?> decode(DataInput input) throws IOException;
+}
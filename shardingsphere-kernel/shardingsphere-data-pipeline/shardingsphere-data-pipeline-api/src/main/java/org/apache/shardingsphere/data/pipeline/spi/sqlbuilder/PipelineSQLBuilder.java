@@ -53,9 +53,10 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
      * @param uniqueKey unique key
      * @param uniqueKeyDataType unique key data type
      * @param firstQuery whether it's the first time query
+     * @param endBounded whether unique key range is bounded by end value
      * @return inventory dump SQL
      */
-    String buildInventoryDumpSQL(String schemaName, String tableName, String uniqueKey, int uniqueKeyDataType, boolean firstQuery);
+    String buildInventoryDumpSQL(String schemaName, String tableName, String uniqueKey, int uniqueKeyDataType, boolean firstQuery, boolean endBounded);
     
     /**
      * Build insert SQL.
@@ -67,6 +68,19 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
      */
     String buildInsertSQL(String schemaName, DataRecord dataRecord, Map<LogicTableName, Set<String>> shardingColumnsMap);
     
+    /**
+     * Build multi-row insert SQL, which inserts several rows in one statement.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @param shardingColumnsMap sharding columns map
+     * @param rowCount row count
+     * @return multi-row insert SQL, empty if database does not support it
+     */
+    default Optional<String> buildMultiRowInsertSQL(String schemaName, DataRecord dataRecord, Map<LogicTableName, Set<String>> shardingColumnsMap, int rowCount) {
+        return Optional.empty();
+    }
+    
     /**
      * Build update SQL.
      *
@@ -145,6 +159,17 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
      */
     String buildSplitByPrimaryKeyRangeSQL(String schemaName, String tableName, String primaryKey);
     
+    /**
+     * Build split by unique key range SQL, which samples minimum and maximum unique key values of next range in unique key order.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param firstQuery whether it's the first time query
+     * @return split SQL
+     */
+    String buildSplitByUniqueKeyRangeSQL(String schemaName, String tableName, String uniqueKey, boolean firstQuery);
+    
     /**
      * Build CRC32 SQL.
      *
@@ -156,4 +181,44 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
     default Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.empty();
     }
+    
+    /**
+     * Build chunked hash SQL, which calculates maximum unique key value, record count and aggregated hash of records in next chunk.
+     * 
+     * <p>Record hashes are aggregated in unique key order, parameters are exclusive lower bound if it's not the first query, inclusive upper bound if it's end bounded, and row limit.</p>
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param columnNames column names
+     * @param firstQuery whether it's the first time query
+     * @param endBounded whether records are bounded by upper unique key value
+     * @return chunked hash SQL
+     */
+    default Optional<String> buildChunkedHashSQL(final String schemaName, final String tableName, final String uniqueKey, final Collection<String> columnNames, final boolean firstQuery,
+                                                 final boolean endBounded) {
+        return Optional.empty();
+    }
+    
+    /**
+     * Build session SQL, which is executed on connection before chunked hash SQL.
+     *
+     * @return chunked hash session SQL, empty if it's not necessary
+     */
+    default Optional<String> buildChunkedHashSessionSQL() {
+        return Optional.empty();
+    }
+    
+    /**
+     * Build unique key range query SQL, which queries records in unique key range in unique key order.
+     * 
+     * <p>Parameters are exclusive lower bound if it's not the first query and inclusive upper bound.</p>
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param firstQuery whether it's the first time query
+     * @return unique key range query SQL
+     */
+    String buildUniqueKeyRangeQuerySQL(String schemaName, String tableName, String uniqueKey, boolean firstQuery);
 }
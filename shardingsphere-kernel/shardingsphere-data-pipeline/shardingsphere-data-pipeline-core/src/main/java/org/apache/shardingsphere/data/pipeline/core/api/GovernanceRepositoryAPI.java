@@ -21,6 +21,7 @@ import org.apache.shardingsphere.data.pipeline.api.job.JobType;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -45,6 +46,14 @@ public interface GovernanceRepositoryAPI {
      */
     void persistJobItemProgress(String jobId, int shardingItem, String progressValue);
     
+    /**
+     * Persist progresses of several job items in one batch.
+     *
+     * @param jobId job id
+     * @param progressValues progress values, key is sharding item
+     */
+    void persistJobItemProgresses(String jobId, Map<Integer, String> progressValues);
+    
     /**
      * Get job item progress.
      *
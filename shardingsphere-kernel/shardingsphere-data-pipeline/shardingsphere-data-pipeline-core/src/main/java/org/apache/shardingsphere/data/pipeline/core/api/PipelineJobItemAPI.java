@@ -33,6 +33,14 @@ public interface PipelineJobItemAPI {
      */
     void persistJobItemProgress(PipelineJobItemContext jobItemContext);
     
+    /**
+     * Marshal job item progress.
+     *
+     * @param jobItemContext job item context
+     * @return marshaled job item progress
+     */
+    String marshalJobItemProgress(PipelineJobItemContext jobItemContext);
+    
     /**
      * Get job item progress.
      *
@@ -26,7 +26,10 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.node.PipelineMetaDa
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -49,6 +52,15 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
         repository.persist(PipelineMetaDataNode.getJobOffsetItemPath(jobId, shardingItem), progressValue);
     }
     
+    @Override
+    public void persistJobItemProgresses(final String jobId, final Map<Integer, String> progressValues) {
+        Map<String, String> keyValues = new LinkedHashMap<>(progressValues.size(), 1);
+        for (Entry<Integer, String> entry : progressValues.entrySet()) {
+            keyValues.put(PipelineMetaDataNode.getJobOffsetItemPath(jobId, entry.getKey()), entry.getValue());
+        }
+        repository.batchPersist(keyValues);
+    }
+    
     @Override
     public String getJobItemProgress(final String jobId, final int shardingItem) {
         return repository.get(PipelineMetaDataNode.getJobOffsetItemPath(jobId, shardingItem));
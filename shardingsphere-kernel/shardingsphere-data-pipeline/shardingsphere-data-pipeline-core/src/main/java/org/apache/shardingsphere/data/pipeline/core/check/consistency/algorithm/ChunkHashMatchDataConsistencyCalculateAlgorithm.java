@@ -0,0 +1,316 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineDataConsistencyCheckFailedException;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Chunk hash match data consistency calculate algorithm.
+ *
+ * <p>Record hashes of every chunk are aggregated in unique key order by database, so only one row is transferred for one chunk.</p>
+ * 
+ * <p>Unique key range of mismatched chunk is bisected on both sides until records in range are few enough to be compared row by row,
+ * then mismatched records are logged.</p>
+ */
+@Slf4j
+public final class ChunkHashMatchDataConsistencyCalculateAlgorithm extends AbstractStreamingDataConsistencyCalculateAlgorithm {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = Arrays.asList(
+            new MySQLDatabaseType().getType(), new PostgreSQLDatabaseType().getType(), new OpenGaussDatabaseType().getType());
+    
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 10000;
+    
+    private static final int RECORD_COMPARE_THRESHOLD = 100;
+    
+    private static final int MAX_BISECT_DEPTH = 32;
+    
+    @Getter
+    private Properties props;
+    
+    private int chunkSize;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        chunkSize = getChunkSize(props);
+    }
+    
+    private int getChunkSize(final Properties props) {
+        int result = Integer.parseInt(props.getProperty(CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE + ""));
+        if (result <= 0) {
+            log.warn("Invalid result={}, use default value", result);
+            return DEFAULT_CHUNK_SIZE;
+        }
+        return result;
+    }
+    
+    @Override
+    protected Optional<Object> calculateChunk(final DataConsistencyCalculateParameter parameter) {
+        if (!parameter.getDatabaseType().equalsIgnoreCase(parameter.getPeerDatabaseType())) {
+            throw new PipelineDataConsistencyCheckFailedException(String.format("Chunk hash match requires the same database type on both sides, but was `%s` and `%s`",
+                    parameter.getDatabaseType(), parameter.getPeerDatabaseType()));
+        }
+        CalculatedResult previousCalculatedResult = (CalculatedResult) parameter.getPreviousCalculatedResult();
+        Object beginUniqueKeyValue = null == previousCalculatedResult ? null : previousCalculatedResult.getMaxUniqueKeyValue();
+        return calculateRange(parameter, beginUniqueKeyValue, null, chunkSize).map(each -> each);
+    }
+    
+    private Optional<CalculatedResult> calculateRange(final DataConsistencyCalculateParameter parameter, final Object beginUniqueKeyValue, final Object endUniqueKeyValue, final int limit) {
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.getInstance(parameter.getDatabaseType());
+        String sql = getQuerySQL(sqlBuilder, parameter, null == beginUniqueKeyValue, null != endUniqueKeyValue);
+        try (
+                Connection connection = parameter.getDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            executeSessionSQL(connection, sqlBuilder);
+            int parameterIndex = 0;
+            if (null != beginUniqueKeyValue) {
+                preparedStatement.setObject(++parameterIndex, beginUniqueKeyValue);
+            }
+            if (null != endUniqueKeyValue) {
+                preparedStatement.setObject(++parameterIndex, endUniqueKeyValue);
+            }
+            preparedStatement.setInt(++parameterIndex, limit);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next() || 0L == resultSet.getLong(2)) {
+                    return Optional.empty();
+                }
+                return Optional.of(new CalculatedResult(parameter, beginUniqueKeyValue, resultSet.getObject(1), resultSet.getLong(2), resultSet.getString(3)));
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineDataConsistencyCheckFailedException(String.format("table %s data check failed.", parameter.getLogicTableName()), ex);
+        }
+    }
+    
+    private void executeSessionSQL(final Connection connection, final PipelineSQLBuilder sqlBuilder) throws SQLException {
+        Optional<String> sessionSQL = sqlBuilder.buildChunkedHashSessionSQL();
+        if (!sessionSQL.isPresent()) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sessionSQL.get());
+        }
+    }
+    
+    private String getQuerySQL(final PipelineSQLBuilder sqlBuilder, final DataConsistencyCalculateParameter parameter, final boolean firstQuery, final boolean endBounded) {
+        String logicTableName = parameter.getLogicTableName();
+        String schemaName = parameter.getTableNameSchemaNameMapping().getSchemaName(logicTableName);
+        Optional<String> result = sqlBuilder.buildChunkedHashSQL(schemaName, logicTableName, parameter.getUniqueKey().getName(), parameter.getColumnNames(), firstQuery, endBounded);
+        if (!result.isPresent()) {
+            throw new PipelineDataConsistencyCheckFailedException(
+                    String.format("Unsupported chunk hash data consistency calculate algorithm with database type `%s`", parameter.getDatabaseType()));
+        }
+        return result.get();
+    }
+    
+    private void bisect(final DataConsistencyCalculateParameter parameter, final DataConsistencyCalculateParameter peerParameter,
+                        final Object beginUniqueKeyValue, final Object endUniqueKeyValue, final int depth) {
+        Optional<CalculatedResult> calculatedResult = calculateRange(parameter, beginUniqueKeyValue, endUniqueKeyValue, Integer.MAX_VALUE);
+        Optional<CalculatedResult> peerCalculatedResult = calculateRange(peerParameter, beginUniqueKeyValue, endUniqueKeyValue, Integer.MAX_VALUE);
+        if (calculatedResult.isPresent() && peerCalculatedResult.isPresent() && calculatedResult.get().isMatched(peerCalculatedResult.get())
+                || !calculatedResult.isPresent() && !peerCalculatedResult.isPresent()) {
+            return;
+        }
+        long recordCount = calculatedResult.map(CalculatedResult::getRecordCount).orElse(0L);
+        long peerRecordCount = peerCalculatedResult.map(CalculatedResult::getRecordCount).orElse(0L);
+        if (Math.max(recordCount, peerRecordCount) <= RECORD_COMPARE_THRESHOLD || depth >= MAX_BISECT_DEPTH) {
+            compareRecords(parameter, peerParameter, beginUniqueKeyValue, endUniqueKeyValue);
+            return;
+        }
+        Object middleUniqueKeyValue = recordCount >= peerRecordCount
+                ? getMiddleUniqueKeyValue(parameter, beginUniqueKeyValue, recordCount)
+                : getMiddleUniqueKeyValue(peerParameter, beginUniqueKeyValue, peerRecordCount);
+        if (null == middleUniqueKeyValue || Objects.equals(middleUniqueKeyValue, endUniqueKeyValue)) {
+            compareRecords(parameter, peerParameter, beginUniqueKeyValue, endUniqueKeyValue);
+            return;
+        }
+        bisect(parameter, peerParameter, beginUniqueKeyValue, middleUniqueKeyValue, depth + 1);
+        bisect(parameter, peerParameter, middleUniqueKeyValue, endUniqueKeyValue, depth + 1);
+    }
+    
+    private Object getMiddleUniqueKeyValue(final DataConsistencyCalculateParameter parameter, final Object beginUniqueKeyValue, final long recordCount) {
+        String logicTableName = parameter.getLogicTableName();
+        String schemaName = parameter.getTableNameSchemaNameMapping().getSchemaName(logicTableName);
+        String sql = PipelineSQLBuilderFactory.getInstance(parameter.getDatabaseType())
+                .buildSplitByUniqueKeyRangeSQL(schemaName, logicTableName, parameter.getUniqueKey().getName(), null == beginUniqueKeyValue);
+        try (
+                Connection connection = parameter.getDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            int parameterIndex = 0;
+            if (null != beginUniqueKeyValue) {
+                preparedStatement.setObject(++parameterIndex, beginUniqueKeyValue);
+            }
+            preparedStatement.setLong(++parameterIndex, recordCount / 2);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? resultSet.getObject(2) : null;
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineDataConsistencyCheckFailedException(String.format("table %s data check failed.", parameter.getLogicTableName()), ex);
+        }
+    }
+    
+    private void compareRecords(final DataConsistencyCalculateParameter parameter, final DataConsistencyCalculateParameter peerParameter,
+                                final Object beginUniqueKeyValue, final Object endUniqueKeyValue) {
+        Map<Object, Object[]> records = queryRecords(parameter, beginUniqueKeyValue, endUniqueKeyValue);
+        Map<Object, Object[]> peerRecords = queryRecords(peerParameter, beginUniqueKeyValue, endUniqueKeyValue);
+        Set<Object> uniqueKeyValues = new LinkedHashSet<>(records.keySet());
+        uniqueKeyValues.addAll(peerRecords.keySet());
+        for (Object each : uniqueKeyValues) {
+            Object[] record = records.get(each);
+            Object[] peerRecord = peerRecords.get(each);
+            if (!Arrays.deepEquals(record, peerRecord)) {
+                log.warn("record not match, table={}, unique key value={}, record1={}, record2={}",
+                        parameter.getLogicTableName(), each, Arrays.deepToString(record), Arrays.deepToString(peerRecord));
+            }
+        }
+    }
+    
+    private Map<Object, Object[]> queryRecords(final DataConsistencyCalculateParameter parameter, final Object beginUniqueKeyValue, final Object endUniqueKeyValue) {
+        String logicTableName = parameter.getLogicTableName();
+        String schemaName = parameter.getTableNameSchemaNameMapping().getSchemaName(logicTableName);
+        String uniqueKey = parameter.getUniqueKey().getName();
+        String sql = PipelineSQLBuilderFactory.getInstance(parameter.getDatabaseType()).buildUniqueKeyRangeQuerySQL(schemaName, logicTableName, uniqueKey, null == beginUniqueKeyValue);
+        try (
+                Connection connection = parameter.getDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            int parameterIndex = 0;
+            if (null != beginUniqueKeyValue) {
+                preparedStatement.setObject(++parameterIndex, beginUniqueKeyValue);
+            }
+            preparedStatement.setObject(++parameterIndex, endUniqueKeyValue);
+            Map<Object, Object[]> result = new LinkedHashMap<>();
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                int columnCount = resultSet.getMetaData().getColumnCount();
+                while (resultSet.next()) {
+                    Object[] record = new Object[columnCount];
+                    for (int i = 0; i < columnCount; i++) {
+                        record[i] = resultSet.getObject(i + 1);
+                    }
+                    result.put(resultSet.getObject(uniqueKey), record);
+                }
+            }
+            return result;
+        } catch (final SQLException ex) {
+            throw new PipelineDataConsistencyCheckFailedException(String.format("table %s data check failed.", parameter.getLogicTableName()), ex);
+        }
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Object getEndUniqueKeyValue(final Object maxUniqueKeyValue, final Object peerMaxUniqueKeyValue) {
+        if (null == maxUniqueKeyValue || null == peerMaxUniqueKeyValue) {
+            return null == maxUniqueKeyValue ? peerMaxUniqueKeyValue : maxUniqueKeyValue;
+        }
+        if (maxUniqueKeyValue instanceof Comparable && maxUniqueKeyValue.getClass() == peerMaxUniqueKeyValue.getClass()) {
+            return ((Comparable) maxUniqueKeyValue).compareTo(peerMaxUniqueKeyValue) >= 0 ? maxUniqueKeyValue : peerMaxUniqueKeyValue;
+        }
+        return maxUniqueKeyValue;
+    }
+    
+    @Override
+    public String getType() {
+        return "CHUNK_HASH_MATCH";
+    }
+    
+    @Override
+    public Collection<String> getSupportedDatabaseTypes() {
+        return SUPPORTED_DATABASE_TYPES;
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Match aggregated hash of records chunk by chunk.";
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private final class CalculatedResult {
+        
+        private final DataConsistencyCalculateParameter parameter;
+        
+        private final Object beginUniqueKeyValue;
+        
+        private final Object maxUniqueKeyValue;
+        
+        private final long recordCount;
+        
+        private final String hash;
+        
+        private boolean isMatched(final CalculatedResult that) {
+            return recordCount == that.recordCount && Objects.equals(maxUniqueKeyValue, that.maxUniqueKeyValue) && Objects.equals(hash, that.hash);
+        }
+        
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CalculatedResult)) {
+                return false;
+            }
+            CalculatedResult that = (CalculatedResult) o;
+            boolean result = isMatched(that);
+            if (!result) {
+                log.warn("chunk not match, unique key range=({}, {}], recordCount1={}, recordCount2={}, maxUniqueKeyValue2={}, hash1={}, hash2={}",
+                        beginUniqueKeyValue, maxUniqueKeyValue, recordCount, that.recordCount, that.maxUniqueKeyValue, hash, that.hash);
+                locateMismatchedRecords(that);
+            }
+            return result;
+        }
+        
+        private void locateMismatchedRecords(final CalculatedResult that) {
+            if (!Objects.equals(beginUniqueKeyValue, that.beginUniqueKeyValue)) {
+                return;
+            }
+            try {
+                bisect(parameter, that.parameter, beginUniqueKeyValue, getEndUniqueKeyValue(maxUniqueKeyValue, that.maxUniqueKeyValue), 0);
+            } catch (final PipelineDataConsistencyCheckFailedException ex) {
+                log.warn("locate mismatched records failed, unique key range begin={}", beginUniqueKeyValue, ex);
+            }
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(maxUniqueKeyValue, recordCount, hash);
+        }
+    }
+}
@@ -17,12 +17,10 @@
 
 package org.apache.shardingsphere.data.pipeline.core.importer;
 
-import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.GroupedDataRecord;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineUnexpectedDataRecordOrderException;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
-import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 
@@ -127,11 +125,12 @@ public final class DataRecordMerger {
         if (null != beforeDataRecord && IngestDataChangeType.UPDATE.equals(beforeDataRecord.getType()) && checkUpdatedPrimaryKey(beforeDataRecord)) {
             DataRecord mergedDataRecord = new DataRecord(dataRecord.getPosition(), dataRecord.getColumnCount());
             for (int i = 0; i < dataRecord.getColumnCount(); i++) {
-                mergedDataRecord.addColumn(new Column(
-                        dataRecord.getColumn(i).getName(),
-                        dataRecord.getColumn(i).isUniqueKey() ? beforeDataRecord.getColumn(i).getOldValue() : beforeDataRecord.getColumn(i).getValue(),
+                mergedDataRecord.addColumn(
+                        dataRecord.getColumnName(i),
+                        null,
+                        dataRecord.isUniqueKey(i) ? beforeDataRecord.getOldValue(i) : beforeDataRecord.getValue(i),
                         true,
-                        dataRecord.getColumn(i).isUniqueKey()));
+                        dataRecord.isUniqueKey(i));
             }
             mergedDataRecord.setTableName(dataRecord.getTableName());
             mergedDataRecord.setType(IngestDataChangeType.DELETE);
@@ -143,25 +142,30 @@ public final class DataRecordMerger {
     }
     
     private boolean checkUpdatedPrimaryKey(final DataRecord dataRecord) {
-        return RecordUtil.extractPrimaryColumns(dataRecord).stream().anyMatch(Column::isUpdated);
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (dataRecord.isUniqueKey(i) && dataRecord.isUpdated(i)) {
+                return true;
+            }
+        }
+        return false;
     }
     
     private DataRecord mergeColumn(final DataRecord preDataRecord, final DataRecord curDataRecord) {
         DataRecord result = new DataRecord(curDataRecord.getPosition(), curDataRecord.getColumnCount());
         for (int i = 0; i < curDataRecord.getColumnCount(); i++) {
-            result.addColumn(new Column(
-                    curDataRecord.getColumn(i).getName(),
-                    preDataRecord.getColumn(i).isUniqueKey()
-                            ? mergePrimaryKeyOldValue(preDataRecord.getColumn(i), curDataRecord.getColumn(i))
+            result.addColumn(
+                    curDataRecord.getColumnName(i),
+                    preDataRecord.isUniqueKey(i)
+                            ? mergePrimaryKeyOldValue(preDataRecord, curDataRecord, i)
                             : null,
-                    curDataRecord.getColumn(i).getValue(),
-                    preDataRecord.getColumn(i).isUpdated() || curDataRecord.getColumn(i).isUpdated(),
-                    curDataRecord.getColumn(i).isUniqueKey()));
+                    curDataRecord.getValue(i),
+                    preDataRecord.isUpdated(i) || curDataRecord.isUpdated(i),
+                    curDataRecord.isUniqueKey(i));
         }
         return result;
     }
     
-    private Object mergePrimaryKeyOldValue(final Column beforeColumn, final Column column) {
-        return beforeColumn.isUpdated() ? beforeColumn.getOldValue() : (column.isUpdated() ? column.getOldValue() : null);
+    private Object mergePrimaryKeyOldValue(final DataRecord preDataRecord, final DataRecord curDataRecord, final int columnIndex) {
+        return preDataRecord.isUpdated(columnIndex) ? preDataRecord.getOldValue(columnIndex) : (curDataRecord.isUpdated(columnIndex) ? curDataRecord.getOldValue(columnIndex) : null);
     }
 }
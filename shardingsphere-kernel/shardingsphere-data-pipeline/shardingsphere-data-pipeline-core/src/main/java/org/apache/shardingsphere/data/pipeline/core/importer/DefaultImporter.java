@@ -23,6 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.config.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.api.executor.AbstractLifecycleExecutor;
+import org.apache.shardingsphere.data.pipeline.api.importer.DataRecordRouter;
 import org.apache.shardingsphere.data.pipeline.api.importer.Importer;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
@@ -39,15 +40,24 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
 import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
+import org.apache.shardingsphere.data.pipeline.spi.importer.DataRecordRouterCreator;
+import org.apache.shardingsphere.data.pipeline.spi.importer.DataRecordRouterCreatorFactory;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -59,6 +69,8 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final int MAX_PARAMETER_COUNT = 32767;
+    
     @Getter(AccessLevel.PROTECTED)
     private final ImporterConfiguration importerConfig;
     
@@ -72,6 +84,8 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
     
     private final JobRateLimitAlgorithm rateLimitAlgorithm;
     
+    private final DataRecordRouter dataRecordRouter;
+    
     public DefaultImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel,
                            final PipelineJobProgressListener jobProgressListener) {
         this.importerConfig = importerConfig;
@@ -80,6 +94,12 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
         this.channel = channel;
         pipelineSqlBuilder = PipelineSQLBuilderFactory.getInstance(importerConfig.getDataSourceConfig().getDatabaseType().getType());
         this.jobProgressListener = jobProgressListener;
+        dataRecordRouter = createDataRecordRouter(importerConfig, dataSourceManager);
+    }
+    
+    private DataRecordRouter createDataRecordRouter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager) {
+        Optional<DataRecordRouterCreator> creator = DataRecordRouterCreatorFactory.findInstance(importerConfig.getDataSourceConfig().getType());
+        return creator.flatMap(each -> each.createDataRecordRouter(importerConfig.getDataSourceConfig(), dataSourceManager)).orElse(null);
     }
     
     @Override
@@ -122,24 +142,49 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
             deleteRecordNumber += null != each.getDeleteDataRecords() ? each.getDeleteDataRecords().size() : 0;
             flushInternal(dataSource, each.getDeleteDataRecords());
             insertRecordNumber += null != each.getInsertDataRecords() ? each.getInsertDataRecords().size() : 0;
-            flushInternal(dataSource, each.getInsertDataRecords());
+            flushInsert(dataSource, each.getInsertDataRecords());
             flushInternal(dataSource, each.getUpdateDataRecords());
         }
         return new PipelineJobProgressUpdatedParameter(insertRecordNumber, deleteRecordNumber);
     }
     
+    private void flushInsert(final DataSource dataSource, final List<DataRecord> buffer) {
+        if (null == dataRecordRouter || null == buffer || buffer.isEmpty()) {
+            flushInternal(dataSource, buffer);
+            return;
+        }
+        Map<DataNode, List<DataRecord>> routedRecords = new LinkedHashMap<>();
+        List<DataRecord> unroutedRecords = new LinkedList<>();
+        for (DataRecord each : buffer) {
+            Optional<DataNode> dataNode = dataRecordRouter.route(each);
+            if (dataNode.isPresent()) {
+                routedRecords.computeIfAbsent(dataNode.get(), key -> new LinkedList<>()).add(each);
+            } else {
+                unroutedRecords.add(each);
+            }
+        }
+        for (Entry<DataNode, List<DataRecord>> entry : routedRecords.entrySet()) {
+            flushInternal(dataRecordRouter.getDataSource(entry.getKey().getDataSourceName()), entry.getValue(), entry.getKey().getTableName());
+        }
+        flushInternal(dataSource, unroutedRecords);
+    }
+    
     private void flushInternal(final DataSource dataSource, final List<DataRecord> buffer) {
+        flushInternal(dataSource, buffer, null);
+    }
+    
+    private void flushInternal(final DataSource dataSource, final List<DataRecord> buffer, final String actualTableName) {
         if (null == buffer || buffer.isEmpty()) {
             return;
         }
-        boolean success = tryFlush(dataSource, buffer);
+        boolean success = tryFlush(dataSource, buffer, actualTableName);
         ShardingSpherePreconditions.checkState(!isRunning() || success, PipelineImporterJobWriteException::new);
     }
     
-    private boolean tryFlush(final DataSource dataSource, final List<DataRecord> buffer) {
+    private boolean tryFlush(final DataSource dataSource, final List<DataRecord> buffer, final String actualTableName) {
         for (int i = 0; isRunning() && i <= importerConfig.getRetryTimes(); i++) {
             try {
-                doFlush(dataSource, buffer);
+                doFlush(dataSource, buffer, actualTableName);
                 return true;
             } catch (final SQLException ex) {
                 log.error("flush failed {}/{} times.", i, importerConfig.getRetryTimes(), ex);
@@ -149,7 +194,7 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
         return false;
     }
     
-    private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
+    private void doFlush(final DataSource dataSource, final List<DataRecord> buffer, final String actualTableName) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
             switch (buffer.get(0).getType()) {
@@ -157,7 +202,7 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
                     if (null != rateLimitAlgorithm) {
                         rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
                     }
-                    executeBatchInsert(connection, buffer);
+                    executeBatchInsert(connection, buffer, actualTableName);
                     break;
                 case IngestDataChangeType.UPDATE:
                     if (null != rateLimitAlgorithm) {
@@ -178,14 +223,26 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
         }
     }
     
-    private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+    private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords, final String actualTableName) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
-        String insertSql = pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord, importerConfig.getShardingColumnsMap());
+        DataRecord sqlDataRecord = null == actualTableName ? dataRecord : createActualTableDataRecord(dataRecord, actualTableName);
+        Map<LogicTableName, Set<String>> shardingColumnsMap = null == actualTableName ? importerConfig.getShardingColumnsMap() : createActualTableShardingColumnsMap(dataRecord, actualTableName);
+        if (importerConfig.isMultiRowInsert() && dataRecords.size() > 1) {
+            try {
+                if (executeMultiRowInsert(connection, dataRecords, sqlDataRecord, shardingColumnsMap)) {
+                    return;
+                }
+            } catch (final SQLException ex) {
+                log.warn("multi-row insert failed, fall back to batch insert, table={}, rowCount={}", dataRecords.get(0).getTableName(), dataRecords.size(), ex);
+                connection.rollback();
+            }
+        }
+        String insertSql = pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), sqlDataRecord, shardingColumnsMap);
         try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
             ps.setQueryTimeout(30);
             for (DataRecord each : dataRecords) {
                 for (int i = 0; i < each.getColumnCount(); i++) {
-                    ps.setObject(i + 1, each.getColumn(i).getValue());
+                    ps.setObject(i + 1, each.getValue(i));
                 }
                 ps.addBatch();
             }
@@ -193,6 +250,44 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
         }
     }
     
+    private boolean executeMultiRowInsert(final Connection connection, final List<DataRecord> dataRecords, final DataRecord sqlDataRecord,
+                                          final Map<LogicTableName, Set<String>> shardingColumnsMap) throws SQLException {
+        String schemaName = getSchemaName(dataRecords.get(0).getTableName());
+        int maxRowCount = Math.max(1, MAX_PARAMETER_COUNT / Math.max(1, sqlDataRecord.getColumnCount()));
+        for (int fromIndex = 0; fromIndex < dataRecords.size(); fromIndex += maxRowCount) {
+            List<DataRecord> rows = dataRecords.subList(fromIndex, Math.min(fromIndex + maxRowCount, dataRecords.size()));
+            Optional<String> insertSQL = pipelineSqlBuilder.buildMultiRowInsertSQL(schemaName, sqlDataRecord, shardingColumnsMap, rows.size());
+            if (!insertSQL.isPresent()) {
+                return false;
+            }
+            try (PreparedStatement ps = connection.prepareStatement(insertSQL.get())) {
+                ps.setQueryTimeout(30);
+                int parameterIndex = 1;
+                for (DataRecord each : rows) {
+                    for (int i = 0; i < each.getColumnCount(); i++) {
+                        ps.setObject(parameterIndex++, each.getValue(i));
+                    }
+                }
+                ps.executeUpdate();
+            }
+        }
+        return true;
+    }
+    
+    private DataRecord createActualTableDataRecord(final DataRecord dataRecord, final String actualTableName) {
+        DataRecord result = new DataRecord(dataRecord.getPosition(), dataRecord.getColumnCount());
+        result.setType(dataRecord.getType());
+        result.setTableName(actualTableName);
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            result.addColumn(dataRecord.getColumnName(i), dataRecord.getOldValue(i), dataRecord.getValue(i), dataRecord.isUpdated(i), dataRecord.isUniqueKey(i));
+        }
+        return result;
+    }
+    
+    private Map<LogicTableName, Set<String>> createActualTableShardingColumnsMap(final DataRecord dataRecord, final String actualTableName) {
+        return Collections.singletonMap(new LogicTableName(actualTableName), importerConfig.getShardingColumns(dataRecord.getTableName()));
+    }
+    
     private String getSchemaName(final String logicTableName) {
         return getImporterConfig().getSchemaName(new LogicTableName(logicTableName));
     }
@@ -232,10 +327,10 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
         String deleteSQL = pipelineSqlBuilder.buildDeleteSQL(getSchemaName(dataRecord.getTableName()), dataRecord, conditionColumns);
         try (PreparedStatement ps = connection.prepareStatement(deleteSQL)) {
             ps.setQueryTimeout(30);
+            int[] conditionColumnIndexes = RecordUtil.extractConditionColumnIndexes(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName()));
             for (DataRecord each : dataRecords) {
-                conditionColumns = RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName()));
-                for (int i = 0; i < conditionColumns.size(); i++) {
-                    ps.setObject(i + 1, conditionColumns.get(i).getValue());
+                for (int i = 0; i < conditionColumnIndexes.length; i++) {
+                    ps.setObject(i + 1, each.getValue(conditionColumnIndexes[i]));
                 }
                 ps.addBatch();
             }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
 
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
@@ -24,26 +25,50 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Multiplex memory pipeline channel.
+ * 
+ * <p>Data records are partitioned by unique key, so records of the same row keep their order in one channel.
+ * Records are acknowledged to callback only when all records pushed before them have been acknowledged by their channels,
+ * so the acknowledged position never goes beyond the minimum committed position across channels.</p>
+ * 
+ * <p>Records of every partition are kept in memory channels by default. Other channels such as spill channels could be supplied instead,
+ * then records waiting for acknowledgement only keep their positions and commit times, so they are not held in memory.</p>
  */
 @Slf4j
 public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     private static final EmptyAckCallback EMPTY_ACK_CALLBACK = new EmptyAckCallback();
     
+    private static final long BARRIER_WAIT_MILLISECONDS = 100L;
+    
     private final int channelNumber;
     
     private final PipelineChannel[] channels;
     
     private final Map<String, Integer> channelAssignment = new HashMap<>();
     
+    private final AckCallback ackCallback;
+    
+    private final Deque<PendingRecord> pendingRecords = new ArrayDeque<>();
+    
+    private final Deque<PendingRecord>[] channelPendingRecords;
+    
+    private final boolean releasePushedRecords;
+    
+    private volatile boolean closed;
+    
     public MultiplexMemoryPipelineChannel() {
         this(EMPTY_ACK_CALLBACK);
     }
@@ -57,47 +82,129 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     }
     
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
+        this(channelNumber, () -> new SimpleMemoryPipelineChannel(blockQueueSize, EMPTY_ACK_CALLBACK), false, ackCallback);
+    }
+    
+    @SuppressWarnings("unchecked")
+    public MultiplexMemoryPipelineChannel(final int channelNumber, final Supplier<PipelineChannel> channelSupplier, final boolean releasePushedRecords, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
+        this.releasePushedRecords = releasePushedRecords;
+        this.ackCallback = ackCallback;
         channels = new PipelineChannel[channelNumber];
+        channelPendingRecords = new Deque[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
-            channels[i] = new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback);
+            channels[i] = channelSupplier.get();
+            channelPendingRecords[i] = new ArrayDeque<>();
         }
     }
     
     @Override
     public void pushRecord(final Record record) {
         if (FinishedRecord.class.equals(record.getClass())) {
+            PendingRecord pendingRecord = createPendingRecord(record, channelNumber);
             for (int i = 0; i < channelNumber; i++) {
-                pushRecord(record, i);
+                pushPendingRecord(record, pendingRecord, i);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
-            pushRecord(record, Math.abs(record.hashCode() % channelNumber));
+            pushDataRecord((DataRecord) record);
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
-            pushRecord(record, 0);
+            pushPendingRecord(record, createPendingRecord(record, 1), 0);
         } else {
             throw new RuntimeException("Not Support Record Type");
         }
     }
     
-    private void pushRecord(final Record record, final int channelIndex) {
+    private void pushDataRecord(final DataRecord dataRecord) {
+        int channelIndex = Math.abs(dataRecord.getKey().hashCode() % channelNumber);
+        if (1 == channelNumber || !isUniqueKeyUpdated(dataRecord)) {
+            pushPendingRecord(dataRecord, createPendingRecord(dataRecord, 1), channelIndex);
+            return;
+        }
+        waitForAllAcked();
+        pushPendingRecord(dataRecord, createPendingRecord(dataRecord, 1), channelIndex);
+        waitForAllAcked();
+    }
+    
+    private boolean isUniqueKeyUpdated(final DataRecord dataRecord) {
+        if (!IngestDataChangeType.UPDATE.equals(dataRecord.getType())) {
+            return false;
+        }
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (dataRecord.isUniqueKey(i) && dataRecord.isUpdated(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private synchronized void waitForAllAcked() {
+        while (!closed && !pendingRecords.isEmpty()) {
+            try {
+                wait(BARRIER_WAIT_MILLISECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    private PendingRecord createPendingRecord(final Record record, final int ackCount) {
+        if (!releasePushedRecords) {
+            return new PendingRecord(record, ackCount);
+        }
+        Record ackRecord = new PlaceholderRecord(record.getPosition());
+        ackRecord.setCommitTime(record.getCommitTime());
+        return new PendingRecord(ackRecord, ackCount);
+    }
+    
+    private void pushPendingRecord(final Record record, final PendingRecord pendingRecord, final int channelIndex) {
+        synchronized (this) {
+            if (pendingRecords.isEmpty() || pendingRecords.getLast() != pendingRecord) {
+                pendingRecords.addLast(pendingRecord);
+            }
+            channelPendingRecords[channelIndex].addLast(pendingRecord);
+        }
         PipelineChannel channel = channels[channelIndex];
         channel.pushRecord(record);
     }
     
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
-        return findChannel().fetchRecords(batchSize, timeoutSeconds);
+        return channels[findChannelIndex()].fetchRecords(batchSize, timeoutSeconds);
     }
     
     @Override
     public void ack(final List<Record> records) {
-        findChannel().ack(records);
+        if (records.isEmpty()) {
+            return;
+        }
+        List<Record> ackedRecords = ack(findChannelIndex(), records.size());
+        if (!ackedRecords.isEmpty()) {
+            ackCallback.onAck(ackedRecords);
+        }
     }
     
-    private PipelineChannel findChannel() {
+    private synchronized List<Record> ack(final int channelIndex, final int recordCount) {
+        for (int i = 0; i < recordCount; i++) {
+            PendingRecord pendingRecord = channelPendingRecords[channelIndex].pollFirst();
+            if (null != pendingRecord) {
+                pendingRecord.remainingAckCount--;
+            }
+        }
+        List<Record> result = new LinkedList<>();
+        while (!pendingRecords.isEmpty() && 0 == pendingRecords.getFirst().remainingAckCount) {
+            result.add(pendingRecords.pollFirst().record);
+        }
+        if (!result.isEmpty()) {
+            notifyAll();
+        }
+        return result;
+    }
+    
+    private int findChannelIndex() {
         String threadId = Long.toString(Thread.currentThread().getId());
         checkAssignment(threadId);
-        return channels[channelAssignment.get(threadId)];
+        return channelAssignment.get(threadId);
     }
     
     private void checkAssignment(final String threadId) {
@@ -121,8 +228,24 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     @Override
     public void close() {
+        closed = true;
         for (PipelineChannel each : channels) {
             each.close();
         }
+        synchronized (this) {
+            pendingRecords.clear();
+            for (Deque<PendingRecord> each : channelPendingRecords) {
+                each.clear();
+            }
+            notifyAll();
+        }
+    }
+    
+    @AllArgsConstructor
+    private static final class PendingRecord {
+        
+        private final Record record;
+        
+        private int remainingAckCount;
     }
 }
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spill pipeline channel.
+ * 
+ * <p>Records are kept in memory until block queue is full, then overflow into append-only local segment files,
+ * so dumper keeps ingesting at source speed when importer falls behind.
+ * Once records are spilled, following records are spilled too until spilled records are fetched, so records are fetched in push order.
+ * Records which could not be encoded, or could not be spilled because spilled bytes reach max spill size, wait for room like memory pipeline channel.</p>
+ */
+public final class SpillPipelineChannel implements PipelineChannel {
+    
+    private static final long WAIT_MILLISECONDS = 100L;
+    
+    private final int blockQueueSize;
+    
+    private final Path spillDirectory;
+    
+    private final int segmentSize;
+    
+    private final long maxSpillSize;
+    
+    private final AckCallback ackCallback;
+    
+    private final Deque<Record> memoryRecords = new ArrayDeque<>();
+    
+    private final Deque<SpillSegment> segments = new ArrayDeque<>();
+    
+    private long spilledRecordCount;
+    
+    private long spilledBytes;
+    
+    private boolean closed;
+    
+    public SpillPipelineChannel(final int blockQueueSize, final Path spillDirectory, final int segmentSize, final long maxSpillSize, final AckCallback ackCallback) {
+        this.blockQueueSize = blockQueueSize;
+        this.spillDirectory = spillDirectory;
+        this.segmentSize = segmentSize;
+        this.maxSpillSize = maxSpillSize;
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void pushRecord(final Record record) {
+        synchronized (this) {
+            if (hasMemoryRoom()) {
+                pushMemoryRecord(record);
+                return;
+            }
+        }
+        Optional<byte[]> encodedRecord = SpillRecordCodec.encode(record);
+        synchronized (this) {
+            while (!closed && !hasMemoryRoom()) {
+                if (encodedRecord.isPresent() && trySpill(encodedRecord.get())) {
+                    return;
+                }
+                waitForChange(WAIT_MILLISECONDS);
+            }
+            pushMemoryRecord(record);
+        }
+    }
+    
+    private boolean hasMemoryRoom() {
+        return segments.isEmpty() && memoryRecords.size() < blockQueueSize;
+    }
+    
+    private void pushMemoryRecord(final Record record) {
+        memoryRecords.addLast(record);
+        notifyAll();
+    }
+    
+    private boolean trySpill(final byte[] encodedRecord) {
+        if (segments.isEmpty() || !segments.getLast().tryAppend(encodedRecord)) {
+            int capacity = Math.max(segmentSize, SpillSegment.getEntryCapacity(encodedRecord));
+            if (spilledBytes + capacity > maxSpillSize) {
+                return false;
+            }
+            SpillSegment segment = createSegment(capacity);
+            segments.addLast(segment);
+            spilledBytes += capacity;
+            segment.tryAppend(encodedRecord);
+        }
+        spilledRecordCount++;
+        notifyAll();
+        return true;
+    }
+    
+    private SpillSegment createSegment(final int capacity) {
+        try {
+            return new SpillSegment(spillDirectory, capacity);
+        } catch (final IOException ex) {
+            throw new IngestException("Spill record into " + spillDirectory + " failed", ex);
+        }
+    }
+    
+    @Override
+    public synchronized List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        long deadline = System.currentTimeMillis() + timeoutSeconds * 1000L;
+        while (!closed && batchSize > memoryRecords.size() + spilledRecordCount) {
+            long remainingMillis = deadline - System.currentTimeMillis();
+            if (remainingMillis <= 0L) {
+                break;
+            }
+            waitForChange(Math.min(remainingMillis, WAIT_MILLISECONDS));
+        }
+        List<Record> result = new ArrayList<>(batchSize);
+        while (result.size() < batchSize && !memoryRecords.isEmpty()) {
+            result.add(memoryRecords.pollFirst());
+        }
+        while (result.size() < batchSize && spilledRecordCount > 0L) {
+            result.add(readSpilledRecord());
+        }
+        if (!result.isEmpty()) {
+            notifyAll();
+        }
+        return result;
+    }
+    
+    private Record readSpilledRecord() {
+        while (!segments.getFirst().hasRemaining()) {
+            closeSegment(segments.pollFirst());
+        }
+        SpillSegment segment = segments.getFirst();
+        Record result;
+        try {
+            result = SpillRecordCodec.decode(segment.read());
+        } catch (final IOException ex) {
+            throw new IngestException("Read spilled record from " + spillDirectory + " failed", ex);
+        }
+        spilledRecordCount--;
+        if (0L == spilledRecordCount) {
+            closeSegments();
+        }
+        return result;
+    }
+    
+    private void waitForChange(final long timeoutMillis) {
+        try {
+            wait(timeoutMillis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IngestException("Wait for pipeline channel interrupted", ex);
+        }
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public synchronized void close() {
+        closed = true;
+        memoryRecords.clear();
+        closeSegments();
+        spilledRecordCount = 0L;
+        notifyAll();
+    }
+    
+    private void closeSegments() {
+        for (SpillSegment each : segments) {
+            closeSegment(each);
+        }
+        segments.clear();
+    }
+    
+    private void closeSegment(final SpillSegment segment) {
+        segment.close();
+        spilledBytes -= segment.getCapacity();
+        notifyAll();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.MemoryPipelineChannelCreator;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.MultiplexMemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * Spill implementation of pipeline channel creator.
+ * 
+ * <p>Records of multiple output concurrency are partitioned by multiplex channel, and every partition spills into its own segments.
+ * Spilled bytes of all partitions of one channel are limited by max spill size.</p>
+ */
+public final class SpillPipelineChannelCreator implements PipelineChannelCreator {
+    
+    public static final String TYPE = "SPILL";
+    
+    public static final String SPILL_DIRECTORY_KEY = "spill-directory";
+    
+    public static final int SEGMENT_SIZE_DEFAULT_VALUE = 64 * 1024 * 1024;
+    
+    public static final String SEGMENT_SIZE_KEY = "segment-size";
+    
+    public static final long MAX_SPILL_SIZE_DEFAULT_VALUE = 1024L * 1024L * 1024L;
+    
+    public static final String MAX_SPILL_SIZE_KEY = "max-spill-size";
+    
+    private static final EmptyAckCallback EMPTY_ACK_CALLBACK = new EmptyAckCallback();
+    
+    @Getter
+    private Properties props;
+    
+    private int blockQueueSize = MemoryPipelineChannelCreator.BLOCK_QUEUE_SIZE_DEFAULT_VALUE;
+    
+    private Path spillDirectory = Paths.get(System.getProperty("java.io.tmpdir"), "shardingsphere-pipeline");
+    
+    private int segmentSize = SEGMENT_SIZE_DEFAULT_VALUE;
+    
+    private long maxSpillSize = MAX_SPILL_SIZE_DEFAULT_VALUE;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        String blockQueueSizeValue = props.getProperty(MemoryPipelineChannelCreator.BLOCK_QUEUE_SIZE_KEY);
+        if (!Strings.isNullOrEmpty(blockQueueSizeValue)) {
+            blockQueueSize = Integer.parseInt(blockQueueSizeValue);
+        }
+        String spillDirectoryValue = props.getProperty(SPILL_DIRECTORY_KEY);
+        if (!Strings.isNullOrEmpty(spillDirectoryValue)) {
+            spillDirectory = Paths.get(spillDirectoryValue);
+        }
+        String segmentSizeValue = props.getProperty(SEGMENT_SIZE_KEY);
+        if (!Strings.isNullOrEmpty(segmentSizeValue)) {
+            segmentSize = Integer.parseInt(segmentSizeValue);
+        }
+        String maxSpillSizeValue = props.getProperty(MAX_SPILL_SIZE_KEY);
+        if (!Strings.isNullOrEmpty(maxSpillSizeValue)) {
+            maxSpillSize = Long.parseLong(maxSpillSizeValue);
+        }
+    }
+    
+    @Override
+    public PipelineChannel createPipelineChannel(final int outputConcurrency, final AckCallback ackCallback) {
+        Path processDirectory = SpillProcessDirectory.get(spillDirectory);
+        if (1 == outputConcurrency) {
+            return new SpillPipelineChannel(blockQueueSize, processDirectory, segmentSize, maxSpillSize, ackCallback);
+        }
+        long partitionMaxSpillSize = maxSpillSize / outputConcurrency;
+        return new MultiplexMemoryPipelineChannel(outputConcurrency,
+                () -> new SpillPipelineChannel(blockQueueSize, processDirectory, segmentSize, partitionMaxSpillSize, EMPTY_ACK_CALLBACK), true, ackCallback);
+    }
+    
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+}
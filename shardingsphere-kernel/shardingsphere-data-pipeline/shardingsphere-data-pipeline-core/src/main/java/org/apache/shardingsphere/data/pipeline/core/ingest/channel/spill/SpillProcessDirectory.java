@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Spill process directory, which holds segment files of current process.
+ * 
+ * <p>Every process spills into its own sub directory of spill directory, guarded by a lock file locked until process exits.
+ * Sub directories whose lock files are not locked were left by crashed processes, they are deleted when spill directory is first used.
+ * Lock files are created before they are locked, so lock files younger than grace period are treated as live even if they are not locked.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class SpillProcessDirectory {
+    
+    private static final String PROCESS_DIRECTORY_PREFIX = "process-";
+    
+    private static final String LOCK_FILE_SUFFIX = ".lock";
+    
+    private static final long LOCK_GRACE_PERIOD_MILLIS = 60 * 1000L;
+    
+    private static final Map<Path, Path> PROCESS_DIRECTORIES = new ConcurrentHashMap<>();
+    
+    private static final Map<Path, FileLock> PROCESS_LOCKS = new ConcurrentHashMap<>();
+    
+    /**
+     * Get process directory of spill directory, stale process directories are cleaned at first time.
+     *
+     * @param spillDirectory spill directory
+     * @return process directory
+     */
+    public static Path get(final Path spillDirectory) {
+        return PROCESS_DIRECTORIES.computeIfAbsent(spillDirectory.toAbsolutePath().normalize(), SpillProcessDirectory::create);
+    }
+    
+    private static Path create(final Path spillDirectory) {
+        try {
+            Files.createDirectories(spillDirectory);
+            cleanStaleProcessDirectories(spillDirectory);
+            Path lockFile = Files.createTempFile(spillDirectory, PROCESS_DIRECTORY_PREFIX, LOCK_FILE_SUFFIX);
+            PROCESS_LOCKS.put(lockFile, FileChannel.open(lockFile, StandardOpenOption.WRITE).lock());
+            return Files.createDirectories(getProcessDirectory(lockFile));
+        } catch (final IOException ex) {
+            throw new IngestException("Create spill process directory in " + spillDirectory + " failed", ex);
+        }
+    }
+    
+    private static void cleanStaleProcessDirectories(final Path spillDirectory) throws IOException {
+        try (DirectoryStream<Path> lockFiles = Files.newDirectoryStream(spillDirectory, PROCESS_DIRECTORY_PREFIX + "*" + LOCK_FILE_SUFFIX)) {
+            for (Path each : lockFiles) {
+                cleanIfStale(each);
+            }
+        }
+        try (DirectoryStream<Path> processDirectories = Files.newDirectoryStream(spillDirectory, PROCESS_DIRECTORY_PREFIX + "*")) {
+            for (Path each : processDirectories) {
+                if (Files.isDirectory(each) && !Files.exists(each.resolveSibling(each.getFileName() + LOCK_FILE_SUFFIX))) {
+                    deleteRecursively(each);
+                }
+            }
+        }
+    }
+    
+    private static void cleanIfStale(final Path lockFile) throws IOException {
+        if (System.currentTimeMillis() - Files.getLastModifiedTime(lockFile).toMillis() < LOCK_GRACE_PERIOD_MILLIS) {
+            return;
+        }
+        try (FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.WRITE)) {
+            FileLock lock = lockChannel.tryLock();
+            if (null == lock) {
+                return;
+            }
+            log.info("Clean stale spill process directory of {}", lockFile);
+            deleteRecursively(getProcessDirectory(lockFile));
+            lock.release();
+        } catch (final OverlappingFileLockException ignored) {
+            return;
+        }
+        Files.deleteIfExists(lockFile);
+    }
+    
+    private static Path getProcessDirectory(final Path lockFile) {
+        String lockFileName = lockFile.getFileName().toString();
+        return lockFile.resolveSibling(lockFileName.substring(0, lockFileName.length() - LOCK_FILE_SUFFIX.length()));
+    }
+    
+    private static void deleteRecursively(final Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        List<Path> paths;
+        try (Stream<Path> walkedPaths = Files.walk(directory)) {
+            paths = walkedPaths.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path each : paths) {
+            Files.deleteIfExists(each);
+        }
+    }
+}
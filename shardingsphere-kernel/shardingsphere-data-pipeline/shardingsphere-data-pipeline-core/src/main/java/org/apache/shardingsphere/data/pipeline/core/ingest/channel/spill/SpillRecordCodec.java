@@ -0,0 +1,398 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPositionFactory;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.position.IngestPositionCodec;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.position.IngestPositionCodecFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Optional;
+
+/**
+ * Spill record codec, which encodes records into compact binary format with type tags.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillRecordCodec {
+    
+    private static final byte DATA_RECORD = 1;
+    
+    private static final byte PLACEHOLDER_RECORD = 2;
+    
+    private static final byte FINISHED_RECORD = 3;
+    
+    private static final byte PLACEHOLDER_POSITION = 1;
+    
+    private static final byte FINISHED_POSITION = 2;
+    
+    private static final byte PRIMARY_KEY_POSITION = 3;
+    
+    private static final byte DIALECT_POSITION = 4;
+    
+    private static final byte UPDATED_FLAG = 1;
+    
+    private static final byte UNIQUE_KEY_FLAG = 2;
+    
+    private static final byte OLD_VALUE_FLAG = 4;
+    
+    private static final byte NULL = 0;
+    
+    private static final byte BOOLEAN = 1;
+    
+    private static final byte BYTE = 2;
+    
+    private static final byte SHORT = 3;
+    
+    private static final byte INTEGER = 4;
+    
+    private static final byte LONG = 5;
+    
+    private static final byte FLOAT = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte BIG_INTEGER = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte STRING = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte DATE = 12;
+    
+    private static final byte TIME = 13;
+    
+    private static final byte TIMESTAMP = 14;
+    
+    private static final byte SERIALIZABLE = 15;
+    
+    /**
+     * Encode record.
+     *
+     * @param record record
+     * @return encoded bytes, empty if record can not be encoded
+     */
+    public static Optional<byte[]> encode(final Record record) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(256);
+        try (DataOutputStream output = new DataOutputStream(result)) {
+            if (DataRecord.class.equals(record.getClass())) {
+                output.writeByte(DATA_RECORD);
+            } else if (PlaceholderRecord.class.equals(record.getClass())) {
+                output.writeByte(PLACEHOLDER_RECORD);
+            } else if (FinishedRecord.class.equals(record.getClass())) {
+                output.writeByte(FINISHED_RECORD);
+            } else {
+                return Optional.empty();
+            }
+            writePosition(output, record.getPosition());
+            output.writeLong(record.getCommitTime());
+            if (record instanceof DataRecord) {
+                writeDataRecord(output, (DataRecord) record);
+            }
+        } catch (final IOException ignored) {
+            return Optional.empty();
+        }
+        return Optional.of(result.toByteArray());
+    }
+    
+    private static void writePosition(final DataOutput output, final IngestPosition<?> position) throws IOException {
+        if (position instanceof PlaceholderPosition) {
+            output.writeByte(PLACEHOLDER_POSITION);
+        } else if (position instanceof FinishedPosition) {
+            output.writeByte(FINISHED_POSITION);
+        } else if (position instanceof PrimaryKeyPosition) {
+            output.writeByte(PRIMARY_KEY_POSITION);
+            writeString(output, position.toString());
+        } else {
+            writeDialectPosition(output, position);
+        }
+    }
+    
+    private static void writeDialectPosition(final DataOutput output, final IngestPosition<?> position) throws IOException {
+        Optional<IngestPositionCodec> positionCodec = IngestPositionCodecFactory.findInstance(position);
+        if (!positionCodec.isPresent()) {
+            throw new NotSerializableException(position.getClass().getName());
+        }
+        output.writeByte(DIALECT_POSITION);
+        output.writeUTF(positionCodec.get().getType());
+        positionCodec.get().encode(position, output);
+    }
+    
+    private static void writeDataRecord(final DataOutput output, final DataRecord dataRecord) throws IOException {
+        writeString(output, dataRecord.getType());
+        writeString(output, dataRecord.getTableName());
+        output.writeInt(dataRecord.getColumnCount());
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            writeString(output, dataRecord.getColumnName(i));
+            Object oldValue = dataRecord.getOldValue(i);
+            output.writeByte((dataRecord.isUpdated(i) ? UPDATED_FLAG : 0) | (dataRecord.isUniqueKey(i) ? UNIQUE_KEY_FLAG : 0) | (null == oldValue ? 0 : OLD_VALUE_FLAG));
+            writeValue(output, dataRecord.getValue(i));
+            if (null != oldValue) {
+                writeValue(output, oldValue);
+            }
+        }
+    }
+    
+    private static void writeValue(final DataOutput output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeString(output, (String) value);
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else {
+            writeTemporalOrSerializableValue(output, value);
+        }
+    }
+    
+    private static void writeTemporalOrSerializableValue(final DataOutput output, final Object value) throws IOException {
+        if (Date.class.equals(value.getClass())) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (Time.class.equals(value.getClass())) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (Timestamp.class.equals(value.getClass())) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof Serializable) {
+            output.writeByte(SERIALIZABLE);
+            writeBytes(output, serialize(value));
+        } else {
+            throw new NotSerializableException(value.getClass().getName());
+        }
+    }
+    
+    private static void writeString(final DataOutput output, final String value) throws IOException {
+        if (null == value) {
+            output.writeInt(-1);
+            return;
+        }
+        writeBytes(output, value.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static void writeBytes(final DataOutput output, final byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+    
+    private static byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Decode record.
+     *
+     * @param bytes encoded bytes
+     * @return record
+     * @throws IOException IO exception
+     */
+    public static Record decode(final byte[] bytes) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+        byte recordType = input.readByte();
+        IngestPosition<?> position = readPosition(input);
+        long commitTime = input.readLong();
+        Record result;
+        switch (recordType) {
+            case DATA_RECORD:
+                result = readDataRecord(input, position);
+                break;
+            case PLACEHOLDER_RECORD:
+                result = new PlaceholderRecord(position);
+                break;
+            case FINISHED_RECORD:
+                result = new FinishedRecord(position);
+                break;
+            default:
+                throw new IOException(String.format("Unknown spilled record type `%s`.", recordType));
+        }
+        result.setCommitTime(commitTime);
+        return result;
+    }
+    
+    private static IngestPosition<?> readPosition(final DataInput input) throws IOException {
+        byte positionType = input.readByte();
+        switch (positionType) {
+            case PLACEHOLDER_POSITION:
+                return new PlaceholderPosition();
+            case FINISHED_POSITION:
+                return new FinishedPosition();
+            case PRIMARY_KEY_POSITION:
+                return PrimaryKeyPositionFactory.newInstance(readString(input));
+            case DIALECT_POSITION:
+                return readDialectPosition(input);
+            default:
+                throw new IOException(String.format("Unknown spilled position type `%s`.", positionType));
+        }
+    }
+    
+    private static IngestPosition<?> readDialectPosition(final DataInput input) throws IOException {
+        String positionCodecType = input.readUTF();
+        Optional<IngestPositionCodec> positionCodec = IngestPositionCodecFactory.findInstance(positionCodecType);
+        if (!positionCodec.isPresent()) {
+            throw new IOException(String.format("Can not find ingest position codec `%s`.", positionCodecType));
+        }
+        return positionCodec.get().decode(input);
+    }
+    
+    private static DataRecord readDataRecord(final DataInput input, final IngestPosition<?> position) throws IOException {
+        String type = readString(input);
+        String tableName = readString(input);
+        int columnCount = input.readInt();
+        DataRecord result = new DataRecord(position, columnCount);
+        result.setType(type);
+        result.setTableName(tableName);
+        for (int i = 0; i < columnCount; i++) {
+            String columnName = readString(input);
+            byte flags = input.readByte();
+            Object value = readValue(input);
+            Object oldValue = 0 == (flags & OLD_VALUE_FLAG) ? null : readValue(input);
+            result.addColumn(columnName, oldValue, value, 0 != (flags & UPDATED_FLAG), 0 != (flags & UNIQUE_KEY_FLAG));
+        }
+        return result;
+    }
+    
+    private static Object readValue(final DataInput input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return input.readBoolean();
+            case BYTE:
+                return input.readByte();
+            case SHORT:
+                return input.readShort();
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case STRING:
+                return readString(input);
+            case BYTES:
+                return readBytes(input);
+            case DATE:
+                return new Date(input.readLong());
+            case TIME:
+                return new Time(input.readLong());
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                return timestamp;
+            case SERIALIZABLE:
+                return deserialize(readBytes(input));
+            default:
+                throw new IOException(String.format("Unknown spilled value type `%s`.", type));
+        }
+    }
+    
+    private static String readString(final DataInput input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] result = new byte[length];
+        input.readFully(result);
+        return new String(result, StandardCharsets.UTF_8);
+    }
+    
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    private static Object deserialize(final byte[] bytes) throws IOException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objectInputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+}
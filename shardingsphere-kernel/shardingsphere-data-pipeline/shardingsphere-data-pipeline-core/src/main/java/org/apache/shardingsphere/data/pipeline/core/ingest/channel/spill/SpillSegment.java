@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Spill segment, which is an append-only local file accessed by memory mapping.
+ * 
+ * <p>Every entry is stored as length, CRC32 checksum and encoded record. Mapped buffer is unmapped on close, so disk space is released at once.</p>
+ */
+@Slf4j
+public final class SpillSegment implements AutoCloseable {
+    
+    private static final String SEGMENT_FILE_PREFIX = "pipeline-channel-";
+    
+    private static final String SEGMENT_FILE_SUFFIX = ".segment";
+    
+    private static final int ENTRY_HEADER_BYTES = 8;
+    
+    private final Path file;
+    
+    private final MappedByteBuffer buffer;
+    
+    private int writePosition;
+    
+    private int readPosition;
+    
+    private boolean closed;
+    
+    public SpillSegment(final Path directory, final int capacity) throws IOException {
+        Files.createDirectories(directory);
+        file = Files.createTempFile(directory, SEGMENT_FILE_PREFIX, SEGMENT_FILE_SUFFIX);
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = fileChannel.map(MapMode.READ_WRITE, 0L, capacity);
+        }
+    }
+    
+    /**
+     * Get capacity needed by entry.
+     *
+     * @param entry entry
+     * @return capacity
+     */
+    public static int getEntryCapacity(final byte[] entry) {
+        return ENTRY_HEADER_BYTES + entry.length;
+    }
+    
+    /**
+     * Get capacity.
+     *
+     * @return capacity
+     */
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+    
+    /**
+     * Try to append entry.
+     *
+     * @param entry entry
+     * @return appended or not, not appended if remaining capacity is not enough
+     */
+    public boolean tryAppend(final byte[] entry) {
+        if (writePosition + getEntryCapacity(entry) > buffer.capacity()) {
+            return false;
+        }
+        buffer.putInt(writePosition, entry.length);
+        buffer.putInt(writePosition + 4, checksum(entry));
+        ByteBuffer entryBuffer = buffer.duplicate();
+        entryBuffer.position(writePosition + ENTRY_HEADER_BYTES);
+        entryBuffer.put(entry);
+        writePosition += getEntryCapacity(entry);
+        return true;
+    }
+    
+    /**
+     * Judge whether there are entries not read.
+     *
+     * @return has remaining entries or not
+     */
+    public boolean hasRemaining() {
+        return readPosition < writePosition;
+    }
+    
+    /**
+     * Read next entry.
+     *
+     * @return entry
+     * @throws IOException IO exception if checksum mismatched
+     */
+    public byte[] read() throws IOException {
+        int length = buffer.getInt(readPosition);
+        int checksum = buffer.getInt(readPosition + 4);
+        byte[] result = new byte[length];
+        ByteBuffer entryBuffer = buffer.duplicate();
+        entryBuffer.position(readPosition + ENTRY_HEADER_BYTES);
+        entryBuffer.get(result);
+        if (checksum != checksum(result)) {
+            throw new IOException(String.format("Checksum mismatched of spilled entry at position %d in `%s`.", readPosition, file));
+        }
+        readPosition += getEntryCapacity(result);
+        return result;
+    }
+    
+    private int checksum(final byte[] entry) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(entry, 0, entry.length);
+        return (int) crc32.getValue();
+    }
+    
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        unmap(buffer);
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    private static void unmap(final MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(unsafeField.get(null), buffer);
+        } catch (final NoSuchMethodException ignored) {
+            unmapBeforeJava9(buffer);
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("Unmap spill segment failed, it will be unmapped by garbage collection.", ex);
+        }
+    }
+    
+    private static void unmapBeforeJava9(final MappedByteBuffer buffer) {
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            cleaner.getClass().getMethod("clean").invoke(cleaner);
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("Unmap spill segment failed, it will be unmapped by garbage collection.", ex);
+        }
+    }
+}
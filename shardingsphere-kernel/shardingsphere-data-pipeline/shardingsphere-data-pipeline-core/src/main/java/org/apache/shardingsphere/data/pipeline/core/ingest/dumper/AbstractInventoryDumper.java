@@ -33,7 +33,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPositio
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPositionFactory;
-import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
@@ -111,9 +111,10 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
     private void dump() {
         String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
         int uniqueKeyDataType = dumperConfig.getUniqueKeyDataType();
-        String firstSQL = pipelineSQLBuilder.buildInventoryDumpSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), uniqueKeyDataType, true);
-        String laterSQL = pipelineSQLBuilder.buildInventoryDumpSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), uniqueKeyDataType, false);
         IngestPosition<?> position = dumperConfig.getPosition();
+        boolean endBounded = isEndBounded(position);
+        String firstSQL = pipelineSQLBuilder.buildInventoryDumpSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), uniqueKeyDataType, true, endBounded);
+        String laterSQL = pipelineSQLBuilder.buildInventoryDumpSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), uniqueKeyDataType, false, endBounded);
         log.info("inventory dump, uniqueKeyDataType={}, firstSQL={}, laterSQL={}, position={}", uniqueKeyDataType, firstSQL, laterSQL, position);
         if (position instanceof FinishedPosition) {
             log.info("It is already finished, ignore");
@@ -153,21 +154,22 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
         PipelineTableMetaData tableMetaData = getTableMetaData();
         try (PreparedStatement preparedStatement = createPreparedStatement(conn, sql)) {
             preparedStatement.setFetchSize(batchSize);
-            if (PipelineJdbcUtils.isIntegerColumn(uniqueKeyDataType)) {
-                preparedStatement.setObject(1, startUniqueKeyValue);
+            if (!PipelineJdbcUtils.isIntegerColumn(uniqueKeyDataType) && !PipelineJdbcUtils.isStringColumn(uniqueKeyDataType)) {
+                throw new IllegalArgumentException("Unsupported uniqueKeyDataType: " + uniqueKeyDataType);
+            }
+            preparedStatement.setObject(1, startUniqueKeyValue);
+            if (isEndBounded(dumperConfig.getPosition())) {
                 preparedStatement.setObject(2, getPositionEndValue(dumperConfig.getPosition()));
                 preparedStatement.setInt(3, batchSize);
-            } else if (PipelineJdbcUtils.isStringColumn(uniqueKeyDataType)) {
-                preparedStatement.setObject(1, startUniqueKeyValue);
-                preparedStatement.setInt(2, batchSize);
             } else {
-                throw new IllegalArgumentException("Unsupported uniqueKeyDataType: " + uniqueKeyDataType);
+                preparedStatement.setInt(2, batchSize);
             }
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
                 int rowCount = 0;
                 Object maxUniqueKeyValue = null;
                 String logicTableName = dumperConfig.getLogicTableName();
+                String[] columnNames = getColumnNames(resultSetMetaData);
                 while (resultSet.next()) {
                     DataRecord record = new DataRecord(newPosition(resultSet), resultSetMetaData.getColumnCount());
                     record.setType(IngestDataChangeType.INSERT);
@@ -175,7 +177,7 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
                     maxUniqueKeyValue = columnValueReader.readValue(resultSet, resultSetMetaData, tableMetaData.getColumnMetaData(uniqueKey).getOrdinalPosition());
                     for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
                         boolean isUniqueKey = tableMetaData.getColumnMetaData(i).isUniqueKey();
-                        record.addColumn(new Column(resultSetMetaData.getColumnName(i), columnValueReader.readValue(resultSet, resultSetMetaData, i), true, isUniqueKey));
+                        record.addColumn(columnNames[i - 1], null, columnValueReader.readValue(resultSet, resultSetMetaData, i), true, isUniqueKey);
                     }
                     pushRecord(record);
                     rowCount++;
@@ -192,10 +194,22 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
         }
     }
     
+    private String[] getColumnNames(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        String[] result = new String[resultSetMetaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = resultSetMetaData.getColumnName(i + 1);
+        }
+        return result;
+    }
+    
     private Object getPositionBeginValue(final IngestPosition<?> position) {
         return ((PrimaryKeyPosition<?>) position).getBeginValue();
     }
     
+    private boolean isEndBounded(final IngestPosition<?> position) {
+        return !(position instanceof StringPrimaryKeyPosition) || ((StringPrimaryKeyPosition) position).isEndBounded();
+    }
+    
     private Object getPositionEndValue(final IngestPosition<?> position) {
         return ((PrimaryKeyPosition<?>) position).getEndValue();
     }
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.job.progress.persist;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pipeline job progress persist metrics.
+ */
+@Getter
+public final class PipelineJobProgressPersistMetrics {
+    
+    private final AtomicLong persistedProgressCount = new AtomicLong();
+    
+    private final AtomicLong skippedProgressCount = new AtomicLong();
+    
+    private final AtomicLong persistedBytes = new AtomicLong();
+    
+    private final AtomicLong persistMillis = new AtomicLong();
+    
+    private final AtomicLong lastPersistMillis = new AtomicLong();
+    
+    /**
+     * Record one batch of persisting.
+     *
+     * @param persistedCount persisted progress count
+     * @param skippedCount skipped progress count, which is not changed since last persisting
+     * @param bytes persisted bytes
+     * @param millis persisting cost milliseconds
+     */
+    public void record(final int persistedCount, final int skippedCount, final long bytes, final long millis) {
+        persistedProgressCount.addAndGet(persistedCount);
+        skippedProgressCount.addAndGet(skippedCount);
+        persistedBytes.addAndGet(bytes);
+        persistMillis.addAndGet(millis);
+        lastPersistMillis.set(millis);
+    }
+}
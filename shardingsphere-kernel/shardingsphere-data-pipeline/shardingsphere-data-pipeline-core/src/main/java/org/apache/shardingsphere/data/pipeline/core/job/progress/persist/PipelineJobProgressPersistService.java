@@ -20,11 +20,14 @@ package org.apache.shardingsphere.data.pipeline.core.job.progress.persist;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.context.PipelineJobItemContext;
 import org.apache.shardingsphere.data.pipeline.core.api.PipelineAPIFactory;
+import org.apache.shardingsphere.data.pipeline.core.api.PipelineJobAPI;
 import org.apache.shardingsphere.data.pipeline.core.job.PipelineJobCenter;
 import org.apache.shardingsphere.data.pipeline.core.job.PipelineJobIdUtils;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -36,12 +39,16 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * Pipeline job progress persist service.
+ * 
+ * <p>Progresses of job items are coalesced per job, only changed progresses are persisted in one batch.</p>
  */
 @Slf4j
 public final class PipelineJobProgressPersistService {
     
     private static final Map<String, Map<Integer, PipelineJobProgressPersistContext>> JOB_PROGRESS_PERSIST_MAP = new ConcurrentHashMap<>();
     
+    private static final Map<String, PipelineJobProgressPersistMetrics> JOB_PROGRESS_PERSIST_METRICS_MAP = new ConcurrentHashMap<>();
+    
     private static final ScheduledExecutorService JOB_PERSIST_EXECUTOR = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("pipeline-progress-persist-%d"));
     
     private static final long DELAY_SECONDS = 1;
@@ -58,6 +65,7 @@ public final class PipelineJobProgressPersistService {
     public static void removeJobProgressPersistContext(final String jobId) {
         log.info("Remove job progress persist context, jobId={}", jobId);
         JOB_PROGRESS_PERSIST_MAP.remove(jobId);
+        JOB_PROGRESS_PERSIST_METRICS_MAP.remove(jobId);
     }
     
     /**
@@ -69,6 +77,17 @@ public final class PipelineJobProgressPersistService {
     public static void addJobProgressPersistContext(final String jobId, final int shardingItem) {
         log.info("Add job progress persist context, jobId={}, shardingItem={}", jobId, shardingItem);
         JOB_PROGRESS_PERSIST_MAP.computeIfAbsent(jobId, key -> new ConcurrentHashMap<>()).put(shardingItem, new PipelineJobProgressPersistContext(jobId, shardingItem));
+        JOB_PROGRESS_PERSIST_METRICS_MAP.computeIfAbsent(jobId, key -> new PipelineJobProgressPersistMetrics());
+    }
+    
+    /**
+     * Get job progress persist metrics.
+     *
+     * @param jobId job id
+     * @return job progress persist metrics
+     */
+    public static Optional<PipelineJobProgressPersistMetrics> getJobProgressPersistMetrics(final String jobId) {
+        return Optional.ofNullable(JOB_PROGRESS_PERSIST_METRICS_MAP.get(jobId));
     }
     
     /**
@@ -87,26 +106,70 @@ public final class PipelineJobProgressPersistService {
         persistContext.getHasNewEvents().set(true);
     }
     
-    private static void persist(final String jobId, final int shardingItem, final PipelineJobProgressPersistContext persistContext) {
-        Long beforePersistingProgressMillis = persistContext.getBeforePersistingProgressMillis().get();
-        if ((null == beforePersistingProgressMillis || System.currentTimeMillis() - beforePersistingProgressMillis < TimeUnit.SECONDS.toMillis(DELAY_SECONDS))
-                && !persistContext.getHasNewEvents().get()) {
-            return;
+    /**
+     * Persist changed progresses of job items of job.
+     *
+     * @param jobId job id
+     */
+    public static void persist(final String jobId) {
+        Map<Integer, PipelineJobProgressPersistContext> persistContextMap = JOB_PROGRESS_PERSIST_MAP.getOrDefault(jobId, Collections.emptyMap());
+        PipelineJobAPI jobAPI = PipelineAPIFactory.getPipelineJobAPI(PipelineJobIdUtils.parseJobType(jobId));
+        Map<Integer, String> changedProgresses = new LinkedHashMap<>(persistContextMap.size(), 1);
+        int skippedCount = 0;
+        long bytes = 0L;
+        for (Entry<Integer, PipelineJobProgressPersistContext> entry : persistContextMap.entrySet()) {
+            PipelineJobProgressPersistContext persistContext = entry.getValue();
+            if (!isPersistNeeded(persistContext)) {
+                continue;
+            }
+            Optional<PipelineJobItemContext> jobItemContext = PipelineJobCenter.getJobItemContext(jobId, entry.getKey());
+            if (!jobItemContext.isPresent()) {
+                log.warn("persist, job item context does not exist, jobId={}, shardingItem={}", jobId, entry.getKey());
+                continue;
+            }
+            if (null == persistContext.getBeforePersistingProgressMillis().get()) {
+                persistContext.getBeforePersistingProgressMillis().set(System.currentTimeMillis());
+            }
+            persistContext.getHasNewEvents().set(false);
+            String progress = jobAPI.marshalJobItemProgress(jobItemContext.get());
+            if (progress.equals(persistContext.getLastPersistedProgress().get())) {
+                persistContext.getBeforePersistingProgressMillis().set(null);
+                skippedCount++;
+                continue;
+            }
+            changedProgresses.put(entry.getKey(), progress);
+            bytes += progress.getBytes(StandardCharsets.UTF_8).length;
         }
-        Optional<PipelineJobItemContext> jobItemContext = PipelineJobCenter.getJobItemContext(jobId, shardingItem);
-        if (!jobItemContext.isPresent()) {
-            log.warn("persist, job item context does not exist, jobId={}, shardingItem={}", jobId, shardingItem);
+        if (changedProgresses.isEmpty()) {
+            recordMetrics(jobId, 0, skippedCount, 0L, 0L);
             return;
         }
-        if (null == beforePersistingProgressMillis) {
-            persistContext.getBeforePersistingProgressMillis().set(System.currentTimeMillis());
-        }
-        persistContext.getHasNewEvents().set(false);
         long startTimeMillis = System.currentTimeMillis();
-        PipelineAPIFactory.getPipelineJobAPI(PipelineJobIdUtils.parseJobType(jobId)).persistJobItemProgress(jobItemContext.get());
-        persistContext.getBeforePersistingProgressMillis().set(null);
+        PipelineAPIFactory.getGovernanceRepositoryAPI().persistJobItemProgresses(jobId, changedProgresses);
+        long costMillis = System.currentTimeMillis() - startTimeMillis;
+        for (Entry<Integer, String> entry : changedProgresses.entrySet()) {
+            PipelineJobProgressPersistContext persistContext = persistContextMap.get(entry.getKey());
+            persistContext.getLastPersistedProgress().set(entry.getValue());
+            persistContext.getBeforePersistingProgressMillis().set(null);
+        }
+        recordMetrics(jobId, changedProgresses.size(), skippedCount, bytes, costMillis);
         if (6 == ThreadLocalRandom.current().nextInt(100)) {
-            log.info("persist, jobId={}, shardingItem={}, cost time: {} ms", jobId, shardingItem, System.currentTimeMillis() - startTimeMillis);
+            log.info("persist, jobId={}, shardingItems={}, bytes={}, cost time: {} ms", jobId, changedProgresses.keySet(), bytes, costMillis);
+        }
+    }
+    
+    private static boolean isPersistNeeded(final PipelineJobProgressPersistContext persistContext) {
+        if (persistContext.getHasNewEvents().get()) {
+            return true;
+        }
+        Long beforePersistingProgressMillis = persistContext.getBeforePersistingProgressMillis().get();
+        return null != beforePersistingProgressMillis && System.currentTimeMillis() - beforePersistingProgressMillis >= TimeUnit.SECONDS.toMillis(DELAY_SECONDS);
+    }
+    
+    private static void recordMetrics(final String jobId, final int persistedCount, final int skippedCount, final long bytes, final long millis) {
+        PipelineJobProgressPersistMetrics metrics = JOB_PROGRESS_PERSIST_METRICS_MAP.get(jobId);
+        if (null != metrics) {
+            metrics.record(persistedCount, skippedCount, bytes, millis);
         }
     }
     
@@ -114,8 +177,8 @@ public final class PipelineJobProgressPersistService {
         
         @Override
         public void run() {
-            for (Entry<String, Map<Integer, PipelineJobProgressPersistContext>> entry : JOB_PROGRESS_PERSIST_MAP.entrySet()) {
-                entry.getValue().forEach((shardingItem, persistContext) -> persist(entry.getKey(), shardingItem, persistContext));
+            for (String each : JOB_PROGRESS_PERSIST_MAP.keySet()) {
+                persist(each);
             }
         }
     }
@@ -42,6 +42,7 @@ import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 import org.apache.shardingsphere.infra.config.rule.data.pipeline.PipelineReadConfiguration;
 
 import javax.sql.DataSource;
@@ -52,6 +53,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Inventory data task splitter.
@@ -148,7 +150,7 @@ public final class InventoryTaskSplitter {
             return getPositionByIntegerPrimaryKeyRange(jobItemContext, dataSource, dumperConfig);
         }
         if (PipelineJdbcUtils.isStringColumn(uniqueKeyDataType)) {
-            return getPositionByStringPrimaryKeyRange();
+            return getPositionByStringPrimaryKeyRange(jobItemContext, dataSource, dumperConfig);
         }
         throw new SplitPipelineJobException(dumperConfig.getActualTableName(), "primary key is not integer or string type");
     }
@@ -192,9 +194,42 @@ public final class InventoryTaskSplitter {
         return result;
     }
     
-    private Collection<IngestPosition<?>> getPositionByStringPrimaryKeyRange() {
+    private Collection<IngestPosition<?>> getPositionByStringPrimaryKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
+                                                                             final InventoryDumperConfiguration dumperConfig) {
         Collection<IngestPosition<?>> result = new LinkedList<>();
-        result.add(new StringPrimaryKeyPosition("!", "~"));
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.getInstance(jobItemContext.getJobConfig().getSourceDatabaseType());
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        String firstSQL = sqlBuilder.buildSplitByUniqueKeyRangeSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), true);
+        String laterSQL = sqlBuilder.buildSplitByUniqueKeyRangeSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), false);
+        int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement firstStatement = connection.prepareStatement(firstSQL);
+                PreparedStatement laterStatement = connection.prepareStatement(laterSQL)) {
+            firstStatement.setInt(1, shardingSize);
+            Optional<StringPrimaryKeyPosition> position = sampleStringPrimaryKeyRange(firstStatement);
+            while (position.isPresent()) {
+                result.add(position.get());
+                laterStatement.setString(1, position.get().getEndValue());
+                laterStatement.setInt(2, shardingSize);
+                position = sampleStringPrimaryKeyRange(laterStatement);
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineJobPrepareFailedException(String.format("Split task for table %s by primary key %s error", dumperConfig.getActualTableName(), dumperConfig.getUniqueKey()), ex);
+        }
+        // fix empty table missing inventory task
+        if (result.isEmpty()) {
+            result.add(new StringPrimaryKeyPosition("!", "~"));
+        }
         return result;
     }
+    
+    private Optional<StringPrimaryKeyPosition> sampleStringPrimaryKeyRange(final PreparedStatement preparedStatement) throws SQLException {
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            if (!resultSet.next() || null == resultSet.getString(1)) {
+                return Optional.empty();
+            }
+            return Optional.of(new StringPrimaryKeyPosition(resultSet.getString(1), resultSet.getString(2)));
+        }
+    }
 }
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -39,10 +40,10 @@ public final class RecordUtil {
      * @return primary columns
      */
     public static List<Column> extractPrimaryColumns(final DataRecord dataRecord) {
-        List<Column> result = new ArrayList<>(dataRecord.getColumns().size());
-        for (Column each : dataRecord.getColumns()) {
-            if (each.isUniqueKey()) {
-                result.add(each);
+        List<Column> result = new ArrayList<>(dataRecord.getColumnCount());
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (dataRecord.isUniqueKey(i)) {
+                result.add(dataRecord.getColumn(i));
             }
         }
         return result;
@@ -56,15 +57,33 @@ public final class RecordUtil {
      * @return condition columns
      */
     public static List<Column> extractConditionColumns(final DataRecord dataRecord, final Set<String> shardingColumns) {
-        List<Column> result = new ArrayList<>(dataRecord.getColumns().size());
-        for (Column each : dataRecord.getColumns()) {
-            if (each.isUniqueKey() || shardingColumns.contains(each.getName())) {
-                result.add(each);
+        List<Column> result = new ArrayList<>(dataRecord.getColumnCount());
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (dataRecord.isUniqueKey(i) || shardingColumns.contains(dataRecord.getColumnName(i))) {
+                result.add(dataRecord.getColumn(i));
             }
         }
         return result;
     }
     
+    /**
+     * Extract condition column indexes(include primary and sharding columns) from data record, column objects are not created.
+     *
+     * @param dataRecord data record
+     * @param shardingColumns sharding columns
+     * @return condition column indexes
+     */
+    public static int[] extractConditionColumnIndexes(final DataRecord dataRecord, final Set<String> shardingColumns) {
+        int[] result = new int[dataRecord.getColumnCount()];
+        int count = 0;
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (dataRecord.isUniqueKey(i) || shardingColumns.contains(dataRecord.getColumnName(i))) {
+                result[count++] = i;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+    
     /**
      * Extract updated columns from data record.
      *
@@ -72,10 +91,10 @@ public final class RecordUtil {
      * @return updated columns
      */
     public static List<Column> extractUpdatedColumns(final DataRecord dataRecord) {
-        List<Column> result = new ArrayList<>(dataRecord.getColumns().size());
-        for (Column each : dataRecord.getColumns()) {
-            if (each.isUpdated()) {
-                result.add(each);
+        List<Column> result = new ArrayList<>(dataRecord.getColumnCount());
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (dataRecord.isUpdated(i)) {
+                result.add(dataRecord.getColumn(i));
             }
         }
         return result;
@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -75,15 +76,13 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
     }
     
     @Override
-    public String buildInventoryDumpSQL(final String schemaName, final String tableName, final String uniqueKey, final int uniqueKeyDataType, final boolean firstQuery) {
+    public String buildInventoryDumpSQL(final String schemaName, final String tableName, final String uniqueKey, final int uniqueKeyDataType, final boolean firstQuery,
+                                        final boolean endBounded) {
         String decoratedTableName = decorate(schemaName, tableName);
         String quotedUniqueKey = quote(uniqueKey);
-        if (PipelineJdbcUtils.isIntegerColumn(uniqueKeyDataType)) {
+        if (PipelineJdbcUtils.isIntegerColumn(uniqueKeyDataType) || PipelineJdbcUtils.isStringColumn(uniqueKeyDataType)) {
             return "SELECT * FROM " + decoratedTableName + " WHERE " + quotedUniqueKey + " " + (firstQuery ? ">=" : ">") + " ?"
-                    + " AND " + quotedUniqueKey + " <= ? ORDER BY " + quotedUniqueKey + " ASC LIMIT ?";
-        } else if (PipelineJdbcUtils.isStringColumn(uniqueKeyDataType)) {
-            return "SELECT * FROM " + decoratedTableName + " WHERE " + quotedUniqueKey + " " + (firstQuery ? ">=" : ">") + " ?"
-                    + " ORDER BY " + quotedUniqueKey + " ASC LIMIT ?";
+                    + (endBounded ? " AND " + quotedUniqueKey + " <= ?" : "") + " ORDER BY " + quotedUniqueKey + " ASC LIMIT ?";
         } else {
             throw new IllegalArgumentException("Unknown uniqueKeyDataType: " + uniqueKeyDataType);
         }
@@ -123,6 +122,20 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return String.format("INSERT INTO %s(%s) VALUES(%s)", decorate(schemaName, tableName), columnsLiteral, holder);
     }
     
+    @Override
+    public Optional<String> buildMultiRowInsertSQL(final String schemaName, final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap, final int rowCount) {
+        String singleRowInsertSQL = buildInsertSQL(schemaName, dataRecord, shardingColumnsMap);
+        int valuesEndIndex = singleRowInsertSQL.indexOf(')', singleRowInsertSQL.indexOf(" VALUES(")) + 1;
+        String valuesHolder = singleRowInsertSQL.substring(singleRowInsertSQL.indexOf(" VALUES(") + " VALUES".length(), valuesEndIndex);
+        StringBuilder result = new StringBuilder(singleRowInsertSQL.length() + valuesHolder.length() * rowCount);
+        result.append(singleRowInsertSQL, 0, valuesEndIndex);
+        for (int i = 1; i < rowCount; i++) {
+            result.append(',').append(valuesHolder);
+        }
+        result.append(singleRowInsertSQL, valuesEndIndex, singleRowInsertSQL.length());
+        return Optional.of(result.toString());
+    }
+    
     // TODO seems sharding column could be updated for insert statement on conflict by kernel now
     protected final boolean isShardingColumn(final Map<LogicTableName, Set<String>> shardingColumnsMap, final String tableName, final String columnName) {
         Set<String> shardingColumns = shardingColumnsMap.get(new LogicTableName(tableName));
@@ -193,6 +206,29 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         }
     }
     
+    @Override
+    public String buildUniqueKeyRangeQuerySQL(final String schemaName, final String tableName, final String uniqueKey, final boolean firstQuery) {
+        String quotedKey = quote(uniqueKey);
+        String whereSQL = firstQuery ? quotedKey + "<=?" : quotedKey + ">? AND " + quotedKey + "<=?";
+        return "SELECT * FROM " + decorate(schemaName, tableName) + " WHERE " + whereSQL + " ORDER BY " + quotedKey + " ASC";
+    }
+    
+    /**
+     * Build where SQL of chunked hash SQL.
+     *
+     * @param uniqueKey unique key
+     * @param firstQuery whether it's the first time query
+     * @param endBounded whether records are bounded by upper unique key value
+     * @return where SQL
+     */
+    protected final String buildChunkedHashWhereSQL(final String uniqueKey, final boolean firstQuery, final boolean endBounded) {
+        String quotedKey = quote(uniqueKey);
+        if (firstQuery) {
+            return endBounded ? " WHERE " + quotedKey + "<=?" : "";
+        }
+        return " WHERE " + quotedKey + ">?" + (endBounded ? " AND " + quotedKey + "<=?" : "");
+    }
+    
     @Override
     public String buildCheckEmptySQL(final String schemaName, final String tableName) {
         return String.format("SELECT * FROM %s LIMIT 1", decorate(schemaName, tableName));
@@ -203,4 +239,11 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         String quotedKey = quote(primaryKey);
         return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t", quotedKey, quotedKey, decorate(schemaName, tableName), quotedKey, quotedKey);
     }
+    
+    @Override
+    public String buildSplitByUniqueKeyRangeSQL(final String schemaName, final String tableName, final String uniqueKey, final boolean firstQuery) {
+        String quotedKey = quote(uniqueKey);
+        String whereSQL = firstQuery ? "" : String.format(" WHERE %s>?", quotedKey);
+        return String.format("SELECT MIN(%s),MAX(%s) FROM (SELECT %s FROM %s%s ORDER BY %s LIMIT ?) t", quotedKey, quotedKey, quotedKey, decorate(schemaName, tableName), whereSQL, quotedKey);
+    }
 }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -47,15 +48,13 @@ public final class OraclePipelineSQLBuilder extends AbstractPipelineSQLBuilder {
     }
     
     @Override
-    public String buildInventoryDumpSQL(final String schemaName, final String tableName, final String uniqueKey, final int uniqueKeyDataType, final boolean firstQuery) {
+    public String buildInventoryDumpSQL(final String schemaName, final String tableName, final String uniqueKey, final int uniqueKeyDataType, final boolean firstQuery,
+                                        final boolean endBounded) {
         String decoratedTableName = decorate(schemaName, tableName);
         String quotedUniqueKey = quote(uniqueKey);
-        if (PipelineJdbcUtils.isIntegerColumn(uniqueKeyDataType)) {
+        if (PipelineJdbcUtils.isIntegerColumn(uniqueKeyDataType) || PipelineJdbcUtils.isStringColumn(uniqueKeyDataType)) {
             return "SELECT * FROM (SELECT * FROM " + decoratedTableName + " WHERE " + quotedUniqueKey + " " + (firstQuery ? ">=" : ">") + " ?"
-                    + " AND " + quotedUniqueKey + " <= ? ORDER BY " + quotedUniqueKey + " ASC) WHERE ROWNUM<=?";
-        } else if (PipelineJdbcUtils.isStringColumn(uniqueKeyDataType)) {
-            return "SELECT * FROM (SELECT * FROM " + decoratedTableName + " WHERE " + quotedUniqueKey + " " + (firstQuery ? ">=" : ">") + " ?"
-                    + " ORDER BY " + quotedUniqueKey + " ASC) WHERE ROWNUM<=?";
+                    + (endBounded ? " AND " + quotedUniqueKey + " <= ?" : "") + " ORDER BY " + quotedUniqueKey + " ASC) WHERE ROWNUM<=?";
         } else {
             throw new IllegalArgumentException("Unknown uniqueKeyDataType: " + uniqueKeyDataType);
         }
@@ -68,6 +67,11 @@ public final class OraclePipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         // TODO refactor PipelineSQLBuilder to combine SQL building and parameters set
     }
     
+    @Override
+    public Optional<String> buildMultiRowInsertSQL(final String schemaName, final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap, final int rowCount) {
+        return Optional.empty();
+    }
+    
     @Override
     public String buildChunkedQuerySQL(final String schemaName, final @NonNull String tableName, final @NonNull String uniqueKey, final boolean firstQuery) {
         if (firstQuery) {
@@ -89,6 +93,14 @@ public final class OraclePipelineSQLBuilder extends AbstractPipelineSQLBuilder {
                 quotedKey, quotedKey, decorate(schemaName, tableName), quotedKey, quotedKey);
     }
     
+    @Override
+    public String buildSplitByUniqueKeyRangeSQL(final String schemaName, final String tableName, final String uniqueKey, final boolean firstQuery) {
+        String quotedKey = quote(uniqueKey);
+        String whereSQL = firstQuery ? "" : String.format(" WHERE %s>?", quotedKey);
+        return String.format("SELECT MIN(%s),MAX(%s) FROM (SELECT * FROM (SELECT %s FROM %s%s ORDER BY %s) WHERE ROWNUM<=?) t",
+                quotedKey, quotedKey, quotedKey, decorate(schemaName, tableName), whereSQL, quotedKey);
+    }
+    
     @Override
     public String getType() {
         return "Oracle";
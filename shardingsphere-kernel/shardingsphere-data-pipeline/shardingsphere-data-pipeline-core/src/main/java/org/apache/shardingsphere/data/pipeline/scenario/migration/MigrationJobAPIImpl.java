@@ -204,7 +204,8 @@ public final class MigrationJobAPIImpl extends AbstractPipelineJobAPIImpl implem
         Map<LogicTableName, String> tableNameSchemaMap = TableNameSchemaNameMapping.convert(jobConfig.getSourceSchemaName(), Collections.singletonList(jobConfig.getTargetTableName()));
         TableNameSchemaNameMapping tableNameSchemaNameMapping = new TableNameSchemaNameMapping(tableNameSchemaMap);
         CreateTableConfiguration createTableConfig = buildCreateTableConfiguration(jobConfig);
-        DumperConfiguration dumperConfig = buildDumperConfiguration(jobConfig.getJobId(), jobConfig.getSourceResourceName(), jobConfig.getSource(), tableNameMap, tableNameSchemaNameMapping);
+        DumperConfiguration dumperConfig = buildDumperConfiguration(jobConfig.getJobId(), jobConfig.getSourceResourceName(), jobConfig.getSource(), tableNameMap, tableNameSchemaNameMapping,
+                pipelineProcessConfig.getRead().getDecodingPlugin());
         // TODO now shardingColumnsMap always empty,
         ImporterConfiguration importerConfig = buildImporterConfiguration(jobConfig, pipelineProcessConfig, Collections.emptyMap(), tableNameSchemaNameMapping);
         MigrationTaskConfiguration result = new MigrationTaskConfiguration(jobConfig.getSourceResourceName(), createTableConfig, dumperConfig, importerConfig);
@@ -222,23 +223,27 @@ public final class MigrationJobAPIImpl extends AbstractPipelineJobAPIImpl implem
     }
     
     private DumperConfiguration buildDumperConfiguration(final String jobId, final String dataSourceName, final PipelineDataSourceConfiguration sourceDataSource,
-                                                         final Map<ActualTableName, LogicTableName> tableNameMap, final TableNameSchemaNameMapping tableNameSchemaNameMapping) {
+                                                         final Map<ActualTableName, LogicTableName> tableNameMap, final TableNameSchemaNameMapping tableNameSchemaNameMapping,
+                                                         final String decodingPlugin) {
         DumperConfiguration result = new DumperConfiguration();
         result.setJobId(jobId);
         result.setDataSourceName(dataSourceName);
         result.setDataSourceConfig(sourceDataSource);
         result.setTableNameMap(tableNameMap);
         result.setTableNameSchemaNameMapping(tableNameSchemaNameMapping);
+        result.setDecodingPlugin(decodingPlugin);
         return result;
     }
     
     private ImporterConfiguration buildImporterConfiguration(final MigrationJobConfiguration jobConfig, final PipelineProcessConfiguration pipelineProcessConfig,
                                                              final Map<LogicTableName, Set<String>> shardingColumnsMap, final TableNameSchemaNameMapping tableNameSchemaNameMapping) {
         int batchSize = pipelineProcessConfig.getWrite().getBatchSize();
+        boolean multiRowInsert = pipelineProcessConfig.getWrite().getMultiRowInsert();
         int retryTimes = jobConfig.getRetryTimes();
         int concurrency = jobConfig.getConcurrency();
         MigrationProcessContext migrationProcessContext = new MigrationProcessContext(jobConfig.getJobId(), pipelineProcessConfig);
-        return new ImporterConfiguration(jobConfig.getTarget(), unmodifiable(shardingColumnsMap), tableNameSchemaNameMapping, batchSize, migrationProcessContext.getWriteRateLimitAlgorithm(),
+        return new ImporterConfiguration(jobConfig.getTarget(), unmodifiable(shardingColumnsMap), tableNameSchemaNameMapping, batchSize, multiRowInsert,
+                migrationProcessContext.getWriteRateLimitAlgorithm(),
                 retryTimes, concurrency);
     }
     
@@ -286,6 +291,11 @@ public final class MigrationJobAPIImpl extends AbstractPipelineJobAPIImpl implem
         jobItemAPI.persistJobItemProgress(jobItemContext);
     }
     
+    @Override
+    public String marshalJobItemProgress(final PipelineJobItemContext jobItemContext) {
+        return jobItemAPI.marshalJobItemProgress(jobItemContext);
+    }
+    
     @Override
     public void updateJobItemStatus(final String jobId, final int shardingItem, final JobStatus status) {
         jobItemAPI.updateJobItemStatus(jobId, shardingItem, status);
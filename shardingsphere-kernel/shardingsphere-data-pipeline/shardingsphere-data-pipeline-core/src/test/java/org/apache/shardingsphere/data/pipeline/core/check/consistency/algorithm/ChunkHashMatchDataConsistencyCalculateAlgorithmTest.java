@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.config.TableNameSchemaNameMapping;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineDataConsistencyCheckFailedException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ChunkHashMatchDataConsistencyCalculateAlgorithmTest {
+    
+    private final PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true);
+    
+    @Mock
+    private PipelineDataSourceWrapper pipelineDataSource;
+    
+    @Mock
+    private Connection connection;
+    
+    private ChunkHashMatchDataConsistencyCalculateAlgorithm algorithm;
+    
+    @Before
+    public void setUp() {
+        Properties props = new Properties();
+        props.setProperty("chunk-size", "2");
+        algorithm = new ChunkHashMatchDataConsistencyCalculateAlgorithm();
+        algorithm.init(props);
+    }
+    
+    @Test
+    public void assertCalculate() throws SQLException {
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        PreparedStatement firstStatement = mockPreparedStatement(2, 2L, "100");
+        when(connection.prepareStatement("SELECT HASH FROM foo_tbl")).thenReturn(firstStatement);
+        PreparedStatement laterStatement = mockPreparedStatement(3, 1L, "200");
+        PreparedStatement lastStatement = mockEmptyPreparedStatement();
+        when(connection.prepareStatement("SELECT HASH FROM foo_tbl WHERE id>?")).thenReturn(laterStatement, lastStatement);
+        Iterator<Object> actual = algorithm.calculate(createParameter("FIXTURE")).iterator();
+        Object firstResult = actual.next();
+        Object secondResult = actual.next();
+        assertFalse(actual.hasNext());
+        assertThat(firstResult, not(secondResult));
+        verify(firstStatement).setInt(1, 2);
+        verify(laterStatement).setObject(1, 2);
+        verify(laterStatement).setInt(2, 2);
+        verify(lastStatement).setObject(1, 3);
+    }
+    
+    @Test
+    public void assertCalculatedResultsEqualsWithSameHash() throws SQLException {
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        PreparedStatement preparedStatement = mockPreparedStatement(2, 2L, "100");
+        when(connection.prepareStatement("SELECT HASH FROM foo_tbl")).thenReturn(preparedStatement);
+        Object sourceResult = algorithm.calculate(createParameter("FIXTURE")).iterator().next();
+        Object targetResult = algorithm.calculate(createParameter("FIXTURE")).iterator().next();
+        assertThat(sourceResult, is(targetResult));
+    }
+    
+    @Test
+    public void assertCalculatedResultsNotEqualsWithRecordsCompared() throws SQLException {
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        PipelineDataSourceWrapper peerDataSource = mock(PipelineDataSourceWrapper.class);
+        Connection peerConnection = mock(Connection.class);
+        when(peerDataSource.getConnection()).thenReturn(peerConnection);
+        PreparedStatement firstStatement = mockPreparedStatement(2, 2L, "100");
+        when(connection.prepareStatement("SELECT HASH FROM foo_tbl")).thenReturn(firstStatement);
+        when(connection.prepareStatement("SELECT HASH FROM foo_tbl BOUNDED")).thenReturn(firstStatement);
+        PreparedStatement peerFirstStatement = mockPreparedStatement(2, 2L, "200");
+        when(peerConnection.prepareStatement("SELECT HASH FROM foo_tbl")).thenReturn(peerFirstStatement);
+        when(peerConnection.prepareStatement("SELECT HASH FROM foo_tbl BOUNDED")).thenReturn(peerFirstStatement);
+        PreparedStatement recordStatement = mockRecordPreparedStatement(1, "foo");
+        when(connection.prepareStatement("SELECT * FROM foo_tbl BOUNDED")).thenReturn(recordStatement);
+        PreparedStatement peerRecordStatement = mockRecordPreparedStatement(1, "bar");
+        when(peerConnection.prepareStatement("SELECT * FROM foo_tbl BOUNDED")).thenReturn(peerRecordStatement);
+        Object sourceResult = algorithm.calculate(createParameter("FIXTURE")).iterator().next();
+        Object targetResult = algorithm.calculate(createParameter(peerDataSource)).iterator().next();
+        assertThat(sourceResult, not(targetResult));
+        verify(firstStatement).setObject(1, 2);
+        verify(peerFirstStatement).setObject(1, 2);
+        verify(recordStatement).setObject(1, 2);
+        verify(peerRecordStatement).setObject(1, 2);
+    }
+    
+    @Test
+    public void assertCalculatedResultsNotEqualsWithRangeBisected() throws SQLException {
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        PipelineDataSourceWrapper peerDataSource = mock(PipelineDataSourceWrapper.class);
+        Connection peerConnection = mock(Connection.class);
+        when(peerDataSource.getConnection()).thenReturn(peerConnection);
+        PreparedStatement firstStatement = mockPreparedStatement(200, 200L, "100");
+        when(connection.prepareStatement("SELECT HASH FROM foo_tbl")).thenReturn(firstStatement);
+        PreparedStatement lowerHalfStatement = mockPreparedStatement(100, 100L, "300");
+        when(connection.prepareStatement("SELECT HASH FROM foo_tbl BOUNDED")).thenReturn(firstStatement, lowerHalfStatement);
+        PreparedStatement upperHalfStatement = mockPreparedStatement(200, 100L, "400");
+        when(connection.prepareStatement("SELECT HASH FROM foo_tbl WHERE id>? BOUNDED")).thenReturn(upperHalfStatement);
+        PreparedStatement peerFirstStatement = mockPreparedStatement(200, 200L, "200");
+        when(peerConnection.prepareStatement("SELECT HASH FROM foo_tbl")).thenReturn(peerFirstStatement);
+        PreparedStatement peerLowerHalfStatement = mockPreparedStatement(100, 100L, "300");
+        when(peerConnection.prepareStatement("SELECT HASH FROM foo_tbl BOUNDED")).thenReturn(peerFirstStatement, peerLowerHalfStatement);
+        PreparedStatement peerUpperHalfStatement = mockPreparedStatement(200, 100L, "500");
+        when(peerConnection.prepareStatement("SELECT HASH FROM foo_tbl WHERE id>? BOUNDED")).thenReturn(peerUpperHalfStatement);
+        PreparedStatement splitStatement = mock(PreparedStatement.class);
+        ResultSet splitResultSet = mock(ResultSet.class);
+        when(splitResultSet.next()).thenReturn(true);
+        when(splitResultSet.getObject(2)).thenReturn(100);
+        when(splitStatement.executeQuery()).thenReturn(splitResultSet);
+        when(connection.prepareStatement("SELECT SPLIT FROM foo_tbl")).thenReturn(splitStatement);
+        PreparedStatement recordStatement = mockRecordPreparedStatement(150, "foo");
+        when(connection.prepareStatement("SELECT * FROM foo_tbl WHERE id>? BOUNDED")).thenReturn(recordStatement);
+        PreparedStatement peerRecordStatement = mockRecordPreparedStatement(150, "bar");
+        when(peerConnection.prepareStatement("SELECT * FROM foo_tbl WHERE id>? BOUNDED")).thenReturn(peerRecordStatement);
+        Object sourceResult = algorithm.calculate(createParameter("FIXTURE")).iterator().next();
+        Object targetResult = algorithm.calculate(createParameter(peerDataSource)).iterator().next();
+        assertThat(sourceResult, not(targetResult));
+        verify(splitStatement).setLong(1, 100L);
+        verify(lowerHalfStatement).setObject(1, 100);
+        verify(upperHalfStatement).setObject(1, 100);
+        verify(upperHalfStatement).setObject(2, 200);
+        verify(recordStatement).setObject(1, 100);
+        verify(recordStatement).setObject(2, 200);
+        verify(peerRecordStatement).setObject(1, 100);
+        verify(peerRecordStatement).setObject(2, 200);
+    }
+    
+    @Test(expected = PipelineDataConsistencyCheckFailedException.class)
+    public void assertCalculateWithDifferentPeerDatabaseType() {
+        algorithm.calculate(createParameter("MySQL")).iterator().next();
+    }
+    
+    @Test(expected = PipelineDataConsistencyCheckFailedException.class)
+    public void assertCalculateFailed() throws SQLException {
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT HASH FROM foo_tbl")).thenThrow(new SQLException());
+        algorithm.calculate(createParameter("FIXTURE")).iterator().next();
+    }
+    
+    private DataConsistencyCalculateParameter createParameter(final String peerDatabaseType) {
+        return new DataConsistencyCalculateParameter(pipelineDataSource, new TableNameSchemaNameMapping(Collections.emptyMap()),
+                "foo_tbl", Arrays.asList("id", "foo_col"), "FIXTURE", peerDatabaseType, uniqueKey);
+    }
+    
+    private DataConsistencyCalculateParameter createParameter(final PipelineDataSourceWrapper dataSource) {
+        return new DataConsistencyCalculateParameter(dataSource, new TableNameSchemaNameMapping(Collections.emptyMap()),
+                "foo_tbl", Arrays.asList("id", "foo_col"), "FIXTURE", "FIXTURE", uniqueKey);
+    }
+    
+    private PreparedStatement mockPreparedStatement(final Object maxUniqueKeyValue, final long recordCount, final String hash) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getObject(1)).thenReturn(maxUniqueKeyValue);
+        when(resultSet.getLong(2)).thenReturn(recordCount);
+        when(resultSet.getString(3)).thenReturn(hash);
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+    
+    private PreparedStatement mockEmptyPreparedStatement() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(2)).thenReturn(0L);
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+    
+    private PreparedStatement mockRecordPreparedStatement(final Object uniqueKeyValue, final Object columnValue) throws SQLException {
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getObject(1)).thenReturn(uniqueKeyValue);
+        when(resultSet.getObject(2)).thenReturn(columnValue);
+        when(resultSet.getObject("id")).thenReturn(uniqueKeyValue);
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+}
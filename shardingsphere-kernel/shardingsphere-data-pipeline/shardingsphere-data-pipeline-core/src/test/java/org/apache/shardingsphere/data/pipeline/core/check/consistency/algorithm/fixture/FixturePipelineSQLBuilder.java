@@ -32,7 +32,8 @@ import java.util.Set;
 public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
     
     @Override
-    public String buildInventoryDumpSQL(final String schemaName, final String tableName, final String uniqueKey, final int uniqueKeyDataType, final boolean firstQuery) {
+    public String buildInventoryDumpSQL(final String schemaName, final String tableName, final String uniqueKey, final int uniqueKeyDataType, final boolean firstQuery,
+                                        final boolean endBounded) {
         return "";
     }
     
@@ -81,11 +82,28 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildSplitByUniqueKeyRangeSQL(final String schemaName, final String tableName, final String uniqueKey, final boolean firstQuery) {
+        return firstQuery ? String.format("SELECT SPLIT FROM %s", tableName) : String.format("SELECT SPLIT FROM %s WHERE %s>?", tableName, uniqueKey);
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", column, tableName));
     }
     
+    @Override
+    public Optional<String> buildChunkedHashSQL(final String schemaName, final String tableName, final String uniqueKey, final Collection<String> columnNames, final boolean firstQuery,
+                                                final boolean endBounded) {
+        String whereSQL = firstQuery ? "" : String.format(" WHERE %s>?", uniqueKey);
+        return Optional.of(String.format("SELECT HASH FROM %s%s%s", tableName, whereSQL, endBounded ? " BOUNDED" : ""));
+    }
+    
+    @Override
+    public String buildUniqueKeyRangeQuerySQL(final String schemaName, final String tableName, final String uniqueKey, final boolean firstQuery) {
+        return firstQuery ? String.format("SELECT * FROM %s BOUNDED", tableName) : String.format("SELECT * FROM %s WHERE %s>? BOUNDED", tableName, uniqueKey);
+    }
+    
     @Override
     public String getType() {
         return "FIXTURE";
@@ -25,7 +25,6 @@ import org.apache.shardingsphere.data.pipeline.api.datasource.config.yaml.YamlJd
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
-import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
@@ -138,7 +137,7 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
             record.setType(IngestDataChangeType.INSERT);
             for (int i = 0; i < each.length; i++) {
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
-                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, tableMetaData.getColumnMetaData(i + 1).isUniqueKey()));
+                record.addColumn(columnMetaData.getName(), null, handleValue(columnMetaData, each[i]), true, columnMetaData.isUniqueKey());
             }
             pushRecord(record);
         }
@@ -159,9 +158,9 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
                 Serializable newValue = afterValues[j];
                 boolean updated = !Objects.equals(newValue, oldValue);
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(j + 1);
-                record.addColumn(new Column(columnMetaData.getName(),
+                record.addColumn(columnMetaData.getName(),
                         (columnMetaData.isPrimaryKey() && updated) ? handleValue(columnMetaData, oldValue) : null,
-                        handleValue(columnMetaData, newValue), updated, columnMetaData.isPrimaryKey()));
+                        handleValue(columnMetaData, newValue), updated, columnMetaData.isPrimaryKey());
             }
             pushRecord(record);
         }
@@ -173,7 +172,7 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
             record.setType(IngestDataChangeType.DELETE);
             for (int i = 0, length = each.length; i < length; i++) {
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
-                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, tableMetaData.getColumnMetaData(i + 1).isUniqueKey()));
+                record.addColumn(columnMetaData.getName(), null, handleValue(columnMetaData, each[i]), true, columnMetaData.isUniqueKey());
             }
             pushRecord(record);
         }
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogPosition;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.position.IngestPositionCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * MySQL ingest position codec.
+ */
+public final class MySQLIngestPositionCodec implements IngestPositionCodec {
+    
+    @Override
+    public boolean isSupported(final IngestPosition<?> position) {
+        return position instanceof BinlogPosition;
+    }
+    
+    @Override
+    public void encode(final IngestPosition<?> position, final DataOutput output) throws IOException {
+        BinlogPosition binlogPosition = (BinlogPosition) position;
+        output.writeUTF(binlogPosition.getFilename());
+        output.writeLong(binlogPosition.getPosition());
+        output.writeLong(binlogPosition.getServerId());
+    }
+    
+    @Override
+    public BinlogPosition decode(final DataInput input) throws IOException {
+        return new BinlogPosition(input.readUTF(), input.readLong(), input.readLong());
+    }
+    
+    @Override
+    public String getType() {
+        return "MySQL";
+    }
+}
@@ -32,9 +32,11 @@ import io.netty.util.concurrent.Promise;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.BinlogSyncChannelAlreadyClosedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.GlobalTableMapEventMapping;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty.MySQLBinlogEventPacketDecoder;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty.MySQLBinlogRowsEventDecodeTask;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty.MySQLCommandPacketDecoder;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty.MySQLNegotiateHandler;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty.MySQLNegotiatePackageDecoder;
@@ -46,13 +48,18 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.que
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.netty.ChannelAttrInitializer;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 
 import java.net.InetSocketAddress;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -64,6 +71,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 @Slf4j
 public final class MySQLClient {
     
+    private static final int DECODE_THREAD_COUNT = Math.min(4, Runtime.getRuntime().availableProcessors());
+    
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+    
     private final ConnectInfo connectInfo;
     
     private EventLoopGroup eventLoopGroup;
@@ -72,7 +83,11 @@ public final class MySQLClient {
     
     private Promise<Object> responseCallback;
     
-    private final ArrayBlockingQueue<AbstractBinlogEvent> blockingEventQueue = new ArrayBlockingQueue<>(10000);
+    private final ArrayBlockingQueue<Future<? extends AbstractBinlogEvent>> blockingEventQueue = new ArrayBlockingQueue<>(10000);
+    
+    private Future<? extends AbstractBinlogEvent> pendingEventFuture;
+    
+    private ExecutorService decodeExecutor;
     
     private ServerInfo serverInfo;
     
@@ -196,7 +211,8 @@ public final class MySQLClient {
         channel.pipeline().remove(MySQLCommandPacketDecoder.class);
         channel.pipeline().remove(MySQLCommandResponseHandler.class);
         String tableKey = String.join(":", connectInfo.getHost(), String.valueOf(connectInfo.getPort()));
-        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, GlobalTableMapEventMapping.getTableMapEventMap(tableKey)));
+        decodeExecutor = Executors.newFixedThreadPool(DECODE_THREAD_COUNT, ExecutorThreadFactoryBuilder.build("mysql-binlog-decode-%d"));
+        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, GlobalTableMapEventMapping.getTableMapEventMap(tableKey), true));
         channel.pipeline().addLast(new MySQLBinlogEventHandler());
         channel.writeAndFlush(new MySQLComBinlogDumpCommandPacket((int) binlogPosition, connectInfo.getServerId(), binlogFileName));
     }
@@ -204,14 +220,31 @@ public final class MySQLClient {
     /**
      * Poll binlog event.
      *
+     * <p>Rows of binlog events are decoded by decode threads in parallel, but events are polled in binlog order.
+     * Event which is still being decoded is kept and polled again next time, so the client is not locked by slow decoding.</p>
+     *
      * @return binlog event
      */
     public synchronized AbstractBinlogEvent poll() {
         ShardingSpherePreconditions.checkState(running, BinlogSyncChannelAlreadyClosedException::new);
         try {
-            return blockingEventQueue.poll(100L, TimeUnit.MILLISECONDS);
-        } catch (final InterruptedException ignored) {
+            if (null == pendingEventFuture) {
+                pendingEventFuture = blockingEventQueue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            if (null == pendingEventFuture) {
+                return null;
+            }
+            AbstractBinlogEvent result = pendingEventFuture.get(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            pendingEventFuture = null;
+            return result;
+        } catch (final InterruptedException | TimeoutException ignored) {
             return null;
+        } catch (final ExecutionException ex) {
+            running = false;
+            pendingEventFuture = null;
+            decodeExecutor.shutdownNow();
+            blockingEventQueue.clear();
+            throw new IngestException("Decode binlog rows event failed", ex.getCause());
         }
     }
     
@@ -238,13 +271,15 @@ public final class MySQLClient {
      * Close netty channel.
      */
     public void closeChannel() {
-        if (null == channel || !channel.isOpen()) {
-            return;
+        if (null != channel && channel.isOpen()) {
+            try {
+                channel.close().sync();
+            } catch (final InterruptedException ex) {
+                log.error("close channel interrupted", ex);
+            }
         }
-        try {
-            channel.close().sync();
-        } catch (final InterruptedException ex) {
-            log.error("close channel interrupted", ex);
+        if (null != decodeExecutor) {
+            decodeExecutor.shutdown();
         }
     }
     
@@ -275,9 +310,12 @@ public final class MySQLClient {
             if (!running) {
                 return;
             }
-            if (msg instanceof AbstractBinlogEvent) {
+            if (msg instanceof MySQLBinlogRowsEventDecodeTask) {
+                lastBinlogEvent = ((MySQLBinlogRowsEventDecodeTask) msg).getRowsEvent();
+                blockingEventQueue.put(decodeExecutor.submit((MySQLBinlogRowsEventDecodeTask) msg));
+            } else if (msg instanceof AbstractBinlogEvent) {
                 lastBinlogEvent = (AbstractBinlogEvent) msg;
-                blockingEventQueue.put(lastBinlogEvent);
+                blockingEventQueue.put(CompletableFuture.completedFuture(lastBinlogEvent));
             }
         }
         
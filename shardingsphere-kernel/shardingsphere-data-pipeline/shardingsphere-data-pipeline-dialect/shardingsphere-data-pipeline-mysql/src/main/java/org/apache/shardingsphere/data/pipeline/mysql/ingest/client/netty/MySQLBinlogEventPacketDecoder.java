@@ -19,11 +19,11 @@ package org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogContext;
-import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.DeleteRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
@@ -50,8 +50,15 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private final BinlogContext binlogContext;
     
+    private final boolean deferRowsDecoding;
+    
     public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap) {
+        this(checksumLength, tableMap, false);
+    }
+    
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean deferRowsDecoding) {
         binlogContext = new BinlogContext(checksumLength, tableMap);
+        this.deferRowsDecoding = deferRowsDecoding;
     }
     
     @Override
@@ -74,7 +81,7 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         }
     }
     
-    private AbstractBinlogEvent decodeEvent(final MySQLPacketPayload payload, final MySQLBinlogEventHeader binlogEventHeader) {
+    private Object decodeEvent(final MySQLPacketPayload payload, final MySQLBinlogEventHeader binlogEventHeader) {
         switch (MySQLBinlogEventType.valueOf(binlogEventHeader.getEventType())) {
             case ROTATE_EVENT:
                 decodeRotateEvent(binlogEventHeader, payload);
@@ -96,13 +103,13 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 return null;
             case WRITE_ROWS_EVENTv1:
             case WRITE_ROWS_EVENTv2:
-                return decodeWriteRowsEventV2(binlogEventHeader, payload);
+                return decodeRowsEvent(binlogEventHeader, payload, new WriteRowsEvent());
             case UPDATE_ROWS_EVENTv1:
             case UPDATE_ROWS_EVENTv2:
-                return decodeUpdateRowsEventV2(binlogEventHeader, payload);
+                return decodeRowsEvent(binlogEventHeader, payload, new UpdateRowsEvent());
             case DELETE_ROWS_EVENTv1:
             case DELETE_ROWS_EVENTv2:
-                return decodeDeleteRowsEventV2(binlogEventHeader, payload);
+                return decodeRowsEvent(binlogEventHeader, payload, new DeleteRowsEvent());
             default:
                 PlaceholderEvent result = createPlaceholderEvent(binlogEventHeader);
                 int remainDataLength = binlogEventHeader.getEventSize() + 2 - binlogEventHeader.getChecksumLength() - payload.getByteBuf().readerIndex();
@@ -151,32 +158,25 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         binlogContext.putTableMapEvent(tableMapEventPacket.getTableId(), tableMapEventPacket);
     }
     
-    private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private Object decodeRowsEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload, final AbstractRowsEvent rowsEvent) {
         MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
-        DeleteRowsEvent result = new DeleteRowsEvent();
-        initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setBeforeRows(rowsEventPacket.getRows());
-        return result;
-    }
-    
-    private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
-        UpdateRowsEvent result = new UpdateRowsEvent();
-        initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setBeforeRows(rowsEventPacket.getRows());
-        result.setAfterRows(rowsEventPacket.getRows2());
-        return result;
+        initRowsEvent(rowsEvent, binlogEventHeader, rowsEventPacket.getTableId());
+        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(rowsEventPacket.getTableId());
+        if (!deferRowsDecoding) {
+            return new MySQLBinlogRowsEventDecodeTask(rowsEvent, rowsEventPacket, tableMapEventPacket, payload).call();
+        }
+        return new MySQLBinlogRowsEventDecodeTask(rowsEvent, rowsEventPacket, tableMapEventPacket, copyRowsPayload(binlogEventHeader, payload));
     }
     
-    private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
-        WriteRowsEvent result = new WriteRowsEvent();
-        initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setAfterRows(rowsEventPacket.getRows());
-        return result;
+    private MySQLPacketPayload copyRowsPayload(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+        ByteBuf byteBuf = payload.getByteBuf();
+        // keep the same reader index as original event, because remain rows length is calculated by event size
+        int rowsEndIndex = binlogEventHeader.getEventSize() + 2 - binlogEventHeader.getChecksumLength();
+        ByteBuf result = Unpooled.buffer(rowsEndIndex);
+        result.writeBytes(byteBuf, 0, rowsEndIndex);
+        result.readerIndex(byteBuf.readerIndex());
+        byteBuf.readerIndex(rowsEndIndex);
+        return new MySQLPacketPayload(result, payload.getCharset());
     }
     
     private void initRowsEvent(final AbstractRowsEvent rowsEvent, final MySQLBinlogEventHeader binlogEventHeader, final long tableId) {
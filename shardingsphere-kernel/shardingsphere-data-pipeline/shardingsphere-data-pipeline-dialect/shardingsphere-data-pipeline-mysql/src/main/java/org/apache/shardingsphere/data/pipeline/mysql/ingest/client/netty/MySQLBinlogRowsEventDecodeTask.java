@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractRowsEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.DeleteRowsEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.UpdateRowsEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogRowsEventPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.util.concurrent.Callable;
+
+/**
+ * MySQL binlog rows event decode task, which decodes row values of framed rows event.
+ */
+@RequiredArgsConstructor
+public final class MySQLBinlogRowsEventDecodeTask implements Callable<AbstractRowsEvent> {
+    
+    @Getter
+    private final AbstractRowsEvent rowsEvent;
+    
+    private final MySQLBinlogRowsEventPacket rowsEventPacket;
+    
+    private final MySQLBinlogTableMapEventPacket tableMapEventPacket;
+    
+    private final MySQLPacketPayload payload;
+    
+    @Override
+    public AbstractRowsEvent call() {
+        rowsEventPacket.readRows(tableMapEventPacket, payload);
+        if (rowsEvent instanceof WriteRowsEvent) {
+            ((WriteRowsEvent) rowsEvent).setAfterRows(rowsEventPacket.getRows());
+        } else if (rowsEvent instanceof UpdateRowsEvent) {
+            ((UpdateRowsEvent) rowsEvent).setBeforeRows(rowsEventPacket.getRows());
+            ((UpdateRowsEvent) rowsEvent).setAfterRows(rowsEventPacket.getRows2());
+        } else if (rowsEvent instanceof DeleteRowsEvent) {
+            ((DeleteRowsEvent) rowsEvent).setBeforeRows(rowsEventPacket.getRows());
+        }
+        return rowsEvent;
+    }
+}
@@ -17,14 +17,15 @@
 
 package org.apache.shardingsphere.data.pipeline.mysql.sqlbuilder;
 
-import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * MySQL pipeline SQL builder.
@@ -49,11 +50,11 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
     private String buildDuplicateUpdateSQL(final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
         StringBuilder result = new StringBuilder(" ON DUPLICATE KEY UPDATE ");
         for (int i = 0; i < dataRecord.getColumnCount(); i++) {
-            Column column = dataRecord.getColumn(i);
-            if (column.isUniqueKey() || isShardingColumn(shardingColumnsMap, dataRecord.getTableName(), column.getName())) {
+            String columnName = dataRecord.getColumnName(i);
+            if (dataRecord.isUniqueKey(i) || isShardingColumn(shardingColumnsMap, dataRecord.getTableName(), columnName)) {
                 continue;
             }
-            result.append(quote(column.getName())).append("=VALUES(").append(quote(column.getName())).append("),");
+            result.append(quote(columnName)).append("=VALUES(").append(quote(columnName)).append("),");
         }
         result.setLength(result.length() - 1);
         return result.toString();
@@ -64,6 +65,21 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum FROM %s", quote(column), quote(tableName)));
     }
     
+    @Override
+    public Optional<String> buildChunkedHashSQL(final String schemaName, final String tableName, final String uniqueKey, final Collection<String> columnNames, final boolean firstQuery,
+                                                final boolean endBounded) {
+        String quotedKey = quote(uniqueKey);
+        String columns = columnNames.stream().map(this::quote).collect(Collectors.joining(","));
+        String nullFlags = columnNames.stream().map(each -> "ISNULL(" + quote(each) + ")").collect(Collectors.joining(","));
+        return Optional.of(String.format("SELECT MAX(%s),COUNT(*),MD5(GROUP_CONCAT(MD5(CONCAT_WS('#',%s,%s)) ORDER BY %s SEPARATOR '')) FROM (SELECT %s FROM %s%s ORDER BY %s LIMIT ?) t",
+                quotedKey, columns, nullFlags, quotedKey, columns, decorate(schemaName, tableName), buildChunkedHashWhereSQL(uniqueKey, firstQuery, endBounded), quotedKey));
+    }
+    
+    @Override
+    public Optional<String> buildChunkedHashSessionSQL() {
+        return Optional.of("SET SESSION group_concat_max_len = 4294967295");
+    }
+    
     @Override
     public String getType() {
         return "MySQL";
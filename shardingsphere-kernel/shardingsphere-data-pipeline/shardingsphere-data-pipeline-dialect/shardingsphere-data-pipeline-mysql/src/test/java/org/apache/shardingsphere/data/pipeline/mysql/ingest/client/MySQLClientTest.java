@@ -23,7 +23,10 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.concurrent.Promise;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.BinlogSyncChannelAlreadyClosedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.core.util.ReflectionUtil;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.binlog.MySQLComBinlogDumpCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.binlog.MySQLComRegisterSlaveCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
@@ -36,9 +39,15 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.net.InetSocketAddress;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
@@ -150,6 +159,40 @@ public final class MySQLClientTest {
         assertFalse(channel.isOpen());
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertPollInBinlogOrder() throws NoSuchFieldException, IllegalAccessException {
+        Queue<Future<? extends AbstractBinlogEvent>> blockingEventQueue = ReflectionUtil.getFieldValue(mysqlClient, "blockingEventQueue", Queue.class);
+        PlaceholderEvent secondEvent = new PlaceholderEvent();
+        CompletableFuture<AbstractBinlogEvent> firstFuture = new CompletableFuture<>();
+        blockingEventQueue.add(firstFuture);
+        blockingEventQueue.add(CompletableFuture.completedFuture(secondEvent));
+        assertNull(mysqlClient.poll());
+        PlaceholderEvent firstEvent = new PlaceholderEvent();
+        firstFuture.complete(firstEvent);
+        assertThat(mysqlClient.poll(), is(firstEvent));
+        assertThat(mysqlClient.poll(), is(secondEvent));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test(expected = IngestException.class)
+    public void assertPollWhenDecodeFailed() throws NoSuchFieldException, IllegalAccessException {
+        ExecutorService decodeExecutor = Executors.newSingleThreadExecutor();
+        ReflectionUtil.setFieldValue(mysqlClient, "decodeExecutor", decodeExecutor);
+        Queue<Future<? extends AbstractBinlogEvent>> blockingEventQueue = ReflectionUtil.getFieldValue(mysqlClient, "blockingEventQueue", Queue.class);
+        CompletableFuture<AbstractBinlogEvent> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(new IllegalStateException("decode failed"));
+        blockingEventQueue.add(failedFuture);
+        blockingEventQueue.add(CompletableFuture.completedFuture(new PlaceholderEvent()));
+        try {
+            mysqlClient.poll();
+        } finally {
+            assertTrue(decodeExecutor.isShutdown());
+            assertTrue(blockingEventQueue.isEmpty());
+            assertFalse(ReflectionUtil.getFieldValue(mysqlClient, "running", Boolean.class));
+        }
+    }
+    
     @Test(expected = BinlogSyncChannelAlreadyClosedException.class)
     public void assertPollFailed() throws NoSuchFieldException, IllegalAccessException {
         ReflectionUtil.setFieldValue(mysqlClient, "channel", channel);
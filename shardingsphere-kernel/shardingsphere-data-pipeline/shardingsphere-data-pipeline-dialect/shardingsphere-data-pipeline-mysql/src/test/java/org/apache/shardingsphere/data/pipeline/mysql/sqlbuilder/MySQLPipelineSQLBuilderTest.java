@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
@@ -51,6 +52,13 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual, is("INSERT INTO t2(id,sc,c1,c2,c3) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE c1=VALUES(c1),c2=VALUES(c2),c3=VALUES(c3)"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        Optional<String> actual = sqlBuilder.buildMultiRowInsertSQL(null, mockDataRecord("t2"), shardingColumnsMap, 3);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("INSERT INTO t2(id,sc,c1,c2,c3) VALUES(?,?,?,?,?),(?,?,?,?,?),(?,?,?,?,?) ON DUPLICATE KEY UPDATE c1=VALUES(c1),c2=VALUES(c2),c3=VALUES(c3)"));
+    }
+    
     @Test
     public void assertBuildSumCrc32SQL() {
         Optional<String> actual = sqlBuilder.buildCRC32SQL(null, "t2", "id");
@@ -58,6 +66,22 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum FROM t2"));
     }
     
+    @Test
+    public void assertBuildChunkedHashSQL() {
+        Optional<String> actual = sqlBuilder.buildChunkedHashSQL(null, "t2", "id", Arrays.asList("id", "c1"), false, false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT MAX(id),COUNT(*),MD5(GROUP_CONCAT(MD5(CONCAT_WS('#',id,c1,ISNULL(id),ISNULL(c1))) ORDER BY id SEPARATOR ''))"
+                + " FROM (SELECT id,c1 FROM t2 WHERE id>? ORDER BY id LIMIT ?) t"));
+    }
+    
+    @Test
+    public void assertBuildBoundedChunkedHashSQL() {
+        Optional<String> actual = sqlBuilder.buildChunkedHashSQL(null, "t2", "id", Arrays.asList("id", "c1"), false, true);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT MAX(id),COUNT(*),MD5(GROUP_CONCAT(MD5(CONCAT_WS('#',id,c1,ISNULL(id),ISNULL(c1))) ORDER BY id SEPARATOR ''))"
+                + " FROM (SELECT id,c1 FROM t2 WHERE id>? AND id<=? ORDER BY id LIMIT ?) t"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.opengauss.ingest;
+
+import org.apache.shardingsphere.data.pipeline.opengauss.ingest.wal.decode.OpenGaussLogSequenceNumber;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WalPosition;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.position.IngestPositionCodec;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.position.IngestPositionCodecFactory;
+import org.junit.Test;
+import org.opengauss.replication.LogSequenceNumber;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class OpenGaussIngestPositionCodecTest {
+    
+    @Test
+    public void assertEncodeAndDecode() throws IOException {
+        WalPosition position = new WalPosition(new OpenGaussLogSequenceNumber(LogSequenceNumber.valueOf(100L)));
+        IngestPositionCodec codec = IngestPositionCodecFactory.findInstance(position).orElseThrow(IllegalStateException::new);
+        assertThat(codec, instanceOf(OpenGaussIngestPositionCodec.class));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            codec.encode(position, output);
+        }
+        IngestPositionCodec decodeCodec = IngestPositionCodecFactory.findInstance("openGauss").orElseThrow(IllegalStateException::new);
+        WalPosition actual = (WalPosition) decodeCodec.decode(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertThat(actual.getLogSequenceNumber(), instanceOf(OpenGaussLogSequenceNumber.class));
+        assertThat(actual.getLogSequenceNumber().asLong(), is(100L));
+    }
+}
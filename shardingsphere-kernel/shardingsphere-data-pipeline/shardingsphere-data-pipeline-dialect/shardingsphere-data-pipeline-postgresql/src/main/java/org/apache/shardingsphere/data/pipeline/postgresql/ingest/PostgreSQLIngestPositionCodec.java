@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WalPosition;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.position.IngestPositionCodec;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * PostgreSQL ingest position codec.
+ */
+public final class PostgreSQLIngestPositionCodec implements IngestPositionCodec {
+    
+    @Override
+    public boolean isSupported(final IngestPosition<?> position) {
+        return position instanceof WalPosition && ((WalPosition) position).getLogSequenceNumber() instanceof PostgreSQLLogSequenceNumber;
+    }
+    
+    @Override
+    public void encode(final IngestPosition<?> position, final DataOutput output) throws IOException {
+        output.writeLong(((WalPosition) position).getLogSequenceNumber().asLong());
+    }
+    
+    @Override
+    public WalPosition decode(final DataInput input) throws IOException {
+        return new WalPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(input.readLong())));
+    }
+    
+    @Override
+    public String getType() {
+        return "PostgreSQL";
+    }
+}
@@ -19,9 +19,13 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PrepareJobWithInvalidSourceDataSourceException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WalPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.position.PositionInitializer;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.postgresql.replication.LogSequenceNumber;
 
 import javax.sql.DataSource;
@@ -29,6 +33,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * PostgreSQL wal position initializer.
@@ -36,16 +43,40 @@ import java.sql.SQLException;
 @Slf4j
 public final class PostgreSQLPositionInitializer implements PositionInitializer {
     
+    public static final String PGOUTPUT_DECODE_PLUGIN = "pgoutput";
+    
     private static final String SLOT_NAME_PREFIX = "pipeline";
     
-    private static final String DECODE_PLUGIN = "test_decoding";
+    private static final String DEFAULT_DECODE_PLUGIN = "test_decoding";
     
     private static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
+    private static final String REPLICA_IDENTITY_FULL = "f";
+    
+    private static final String QUERY_REPLICA_IDENTITY_SQL = "SELECT c.relreplident, EXISTS (SELECT 1 FROM pg_attribute a WHERE a.attrelid = c.oid AND a.attnum > 0 AND NOT a.attisdropped"
+            + " AND a.attstorage <> 'p') FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace WHERE n.nspname = COALESCE(?, current_schema()) AND c.relname = ?";
+    
     @Override
     public WalPosition init(final DataSource dataSource, final String slotNameSuffix) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
-            createSlotIfNotExist(connection, getUniqueSlotName(connection, slotNameSuffix));
+            createSlotIfNotExist(connection, getUniqueSlotName(connection, slotNameSuffix), DEFAULT_DECODE_PLUGIN);
+            return getWalPosition(connection);
+        }
+    }
+    
+    @Override
+    public WalPosition init(final DataSource dataSource, final DumperConfiguration dumperConfig) throws SQLException {
+        String decodePlugin = null == dumperConfig.getDecodingPlugin() ? DEFAULT_DECODE_PLUGIN : dumperConfig.getDecodingPlugin();
+        if (!DEFAULT_DECODE_PLUGIN.equals(decodePlugin) && !PGOUTPUT_DECODE_PLUGIN.equals(decodePlugin)) {
+            throw new UnsupportedSQLOperationException(String.format("Unsupported decoding plugin `%s`", decodePlugin));
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            String slotName = getUniqueSlotName(connection, dumperConfig.getJobId());
+            if (PGOUTPUT_DECODE_PLUGIN.equals(decodePlugin)) {
+                checkReplicaIdentity(connection, dumperConfig);
+                createPublicationIfNotExist(connection, slotName, dumperConfig);
+            }
+            createSlotIfNotExist(connection, slotName, decodePlugin);
             return getWalPosition(connection);
         }
     }
@@ -55,13 +86,68 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         return new WalPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(Long.parseLong(data))));
     }
     
-    private void createSlotIfNotExist(final Connection connection, final String slotName) throws SQLException {
-        if (isSlotExisting(connection, slotName)) {
-            log.info("createSlotIfNotExist, slot exist, slotName={}", slotName);
+    // pgoutput sends unchanged TOAST values without content, they can only be restored from old rows of tables with replica identity full
+    private void checkReplicaIdentity(final Connection connection, final DumperConfiguration dumperConfig) throws SQLException {
+        for (ActualTableName each : dumperConfig.getTableNameMap().keySet()) {
+            String schemaName = dumperConfig.getSchemaName(each);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(QUERY_REPLICA_IDENTITY_SQL)) {
+                preparedStatement.setString(1, null == schemaName ? null : foldIdentifier(schemaName));
+                preparedStatement.setString(2, foldIdentifier(each.getOriginal()));
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    if (resultSet.next() && !REPLICA_IDENTITY_FULL.equals(resultSet.getString(1)) && resultSet.getBoolean(2)) {
+                        throw new PrepareJobWithInvalidSourceDataSourceException(
+                                String.format("REPLICA IDENTITY of %s", getQualifiedTableName(dumperConfig, each)), "FULL", getReplicaIdentityName(resultSet.getString(1)));
+                    }
+                }
+            }
+        }
+    }
+    
+    private String getReplicaIdentityName(final String replicaIdentity) {
+        switch (replicaIdentity) {
+            case "d":
+                return "DEFAULT";
+            case "n":
+                return "NOTHING";
+            case "i":
+                return "INDEX";
+            default:
+                return replicaIdentity;
+        }
+    }
+    
+    private void createPublicationIfNotExist(final Connection connection, final String publicationName, final DumperConfiguration dumperConfig) throws SQLException {
+        String tableNames = dumperConfig.getTableNameMap().keySet().stream().map(each -> getQualifiedTableName(dumperConfig, each)).collect(Collectors.joining(","));
+        String createPublicationSQL = String.format("CREATE PUBLICATION %s FOR TABLE %s", quoteIdentifier(publicationName), tableNames);
+        executeIgnoringDuplicateObject(connection, createPublicationSQL);
+    }
+    
+    private String getQualifiedTableName(final DumperConfiguration dumperConfig, final ActualTableName actualTableName) {
+        String schemaName = dumperConfig.getSchemaName(actualTableName);
+        String quotedTableName = quoteIdentifier(foldIdentifier(actualTableName.getOriginal()));
+        return null == schemaName ? quotedTableName : String.format("%s.%s", quoteIdentifier(foldIdentifier(schemaName)), quotedTableName);
+    }
+    
+    // Other pipeline SQL uses unquoted identifiers, which are folded to lower case by PostgreSQL
+    private static String foldIdentifier(final String identifier) {
+        return identifier.toLowerCase(Locale.ROOT);
+    }
+    
+    private static String quoteIdentifier(final String identifier) {
+        return String.format("\"%s\"", identifier.replace("\"", "\"\""));
+    }
+    
+    private void createSlotIfNotExist(final Connection connection, final String slotName, final String decodePlugin) throws SQLException {
+        Optional<String> existingDecodePlugin = getSlotDecodingPlugin(connection, slotName);
+        if (existingDecodePlugin.isPresent()) {
+            log.info("createSlotIfNotExist, slot exist, slotName={}, plugin={}", slotName, existingDecodePlugin.get());
             return;
         }
-        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, DECODE_PLUGIN);
-        try (PreparedStatement preparedStatement = connection.prepareStatement(createSlotSQL)) {
+        executeIgnoringDuplicateObject(connection, String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, decodePlugin));
+    }
+    
+    private void executeIgnoringDuplicateObject(final Connection connection, final String sql) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             preparedStatement.execute();
         } catch (final SQLException ex) {
             if (!DUPLICATE_OBJECT_ERROR_CODE.equals(ex.getSQLState())) {
@@ -70,13 +156,20 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         }
     }
     
-    private boolean isSlotExisting(final Connection connection, final String slotName) throws SQLException {
-        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
+    /**
+     * Get decoding plugin of replication slot.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @return decoding plugin, empty if slot does not exist
+     * @throws SQLException SQL exception
+     */
+    public static Optional<String> getSlotDecodingPlugin(final Connection connection, final String slotName) throws SQLException {
+        String checkSlotSQL = "SELECT plugin FROM pg_replication_slots WHERE slot_name=?";
         try (PreparedStatement preparedStatement = connection.prepareStatement(checkSlotSQL)) {
             preparedStatement.setString(1, slotName);
-            preparedStatement.setString(2, DECODE_PLUGIN);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                return resultSet.next();
+                return resultSet.next() ? Optional.of(resultSet.getString(1)) : Optional.empty();
             }
         }
     }
@@ -109,7 +202,8 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
     
     private void dropSlotIfExist(final Connection connection, final String slotNameSuffix) throws SQLException {
         String slotName = getUniqueSlotName(connection, slotNameSuffix);
-        if (!isSlotExisting(connection, slotName)) {
+        Optional<String> decodePlugin = getSlotDecodingPlugin(connection, slotName);
+        if (!decodePlugin.isPresent()) {
             log.info("dropSlotIfExist, slot not exist, slotName={}", slotName);
             return;
         }
@@ -119,6 +213,11 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
             preparedStatement.setString(1, slotName);
             preparedStatement.execute();
         }
+        if (PGOUTPUT_DECODE_PLUGIN.equals(decodePlugin.get())) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("DROP PUBLICATION IF EXISTS %s", quoteIdentifier(slotName)))) {
+                preparedStatement.execute();
+            }
+        }
     }
     
     /**
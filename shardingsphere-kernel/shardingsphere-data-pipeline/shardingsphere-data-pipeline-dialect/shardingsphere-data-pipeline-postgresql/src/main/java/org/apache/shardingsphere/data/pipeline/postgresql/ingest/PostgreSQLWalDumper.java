@@ -31,6 +31,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.LogicalRepl
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WalEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WalPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLTimestampUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
@@ -59,6 +60,8 @@ public final class PostgreSQLWalDumper extends AbstractIncrementalDumper<WalPosi
     
     private final PipelineChannel channel;
     
+    private boolean isPgOutputDecoding;
+    
     public PostgreSQLWalDumper(final DumperConfiguration dumperConfig, final IngestPosition<WalPosition> position,
                                final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         super(dumperConfig, position, channel, metaDataLoader);
@@ -80,10 +83,9 @@ public final class PostgreSQLWalDumper extends AbstractIncrementalDumper<WalPosi
         // TODO use unified PgConnection
         try (
                 Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig());
-                PGReplicationStream stream = logicalReplication.createReplicationStream(connection, PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId()),
-                        walPosition.getLogSequenceNumber())) {
+                PGReplicationStream stream = createReplicationStream(connection)) {
             PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
+            DecodingPlugin decodingPlugin = isPgOutputDecoding ? new PgOutputDecodingPlugin(utils) : new TestDecodingPlugin(utils);
             while (isRunning()) {
                 ByteBuffer message = stream.readPending();
                 if (null == message) {
@@ -99,6 +101,14 @@ public final class PostgreSQLWalDumper extends AbstractIncrementalDumper<WalPosi
         }
     }
     
+    private PGReplicationStream createReplicationStream(final Connection connection) throws SQLException {
+        String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId());
+        isPgOutputDecoding = PostgreSQLPositionInitializer.PGOUTPUT_DECODE_PLUGIN.equals(PostgreSQLPositionInitializer.getSlotDecodingPlugin(connection, slotName).orElse(null));
+        return isPgOutputDecoding
+                ? logicalReplication.createPgOutputReplicationStream(connection, slotName, walPosition.getLogSequenceNumber())
+                : logicalReplication.createReplicationStream(connection, slotName, walPosition.getLogSequenceNumber());
+    }
+    
     private void pushRecord(final Record record) {
         channel.pushRecord(record);
     }
@@ -18,14 +18,15 @@
 package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal;
 
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
-import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineTableMetaData;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWalEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
@@ -107,16 +108,35 @@ public final class WalEventConverter {
     
     private DataRecord handleDeleteRowsEvent(final DeleteRowEvent event) {
         // TODO completion columns
-        DataRecord result = createDataRecord(event, event.getPrimaryKeys().size());
-        result.setType(IngestDataChangeType.DELETE);
         // TODO Unique key may be a column within unique index
         List<String> primaryKeyColumns = getPipelineTableMetaData(event.getTableName()).getPrimaryKeyColumns();
-        for (int i = 0; i < event.getPrimaryKeys().size(); i++) {
-            result.addColumn(new Column(primaryKeyColumns.get(i), event.getPrimaryKeys().get(i), true, true));
+        DataRecord result = createDataRecord(event, primaryKeyColumns.size());
+        result.setType(IngestDataChangeType.DELETE);
+        if (null == event.getColumnNames()) {
+            for (int i = 0; i < event.getPrimaryKeys().size(); i++) {
+                result.addColumn(primaryKeyColumns.get(i), null, event.getPrimaryKeys().get(i), true, true);
+            }
+            return result;
+        }
+        for (String each : primaryKeyColumns) {
+            int index = indexOfColumn(event.getColumnNames(), each);
+            if (index < 0) {
+                throw new IngestException(String.format("Primary key column `%s` is missing in delete event of table `%s`", each, event.getTableName()));
+            }
+            result.addColumn(each, null, event.getPrimaryKeys().get(index), true, true);
         }
         return result;
     }
     
+    private int indexOfColumn(final List<String> columnNames, final String columnName) {
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (columnNames.get(i).equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
     private DataRecord createDataRecord(final AbstractRowEvent rowsEvent, final int columnCount) {
         DataRecord result = new DataRecord(new WalPosition(rowsEvent.getLogSequenceNumber()), columnCount);
         result.setTableName(dumperConfig.getLogicTableName(rowsEvent.getTableName()).getLowercase());
@@ -125,10 +145,10 @@ public final class WalEventConverter {
     
     private void putColumnsIntoDataRecord(final DataRecord dataRecord, final PipelineTableMetaData tableMetaData, final List<Object> values) {
         for (int i = 0, count = values.size(); i < count; i++) {
-            boolean isUniqueKey = tableMetaData.getColumnMetaData(i + 1).isUniqueKey();
+            PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
+            boolean isUniqueKey = columnMetaData.isUniqueKey();
             Object uniqueKeyOldValue = isUniqueKey ? values.get(i) : null;
-            Column column = new Column(tableMetaData.getColumnMetaData(i + 1).getName(), uniqueKeyOldValue, values.get(i), true, isUniqueKey);
-            dataRecord.addColumn(column);
+            dataRecord.addColumn(columnMetaData.getName(), uniqueKeyOldValue, values.get(i), true, isUniqueKey);
         }
     }
 }
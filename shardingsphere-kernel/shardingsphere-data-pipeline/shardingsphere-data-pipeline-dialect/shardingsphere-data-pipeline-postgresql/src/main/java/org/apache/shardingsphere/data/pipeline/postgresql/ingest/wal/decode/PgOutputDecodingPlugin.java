@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.postgresql.core.Oid;
+import org.postgresql.util.PGbytea;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pgoutput decoding plugin, which decodes binary messages of PostgreSQL built-in logical replication output plugin.
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/protocol-logicalrep-message-formats.html">Logical Replication Message Formats</a>
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    private static final byte RELATION = 'R';
+    
+    private static final byte INSERT = 'I';
+    
+    private static final byte UPDATE = 'U';
+    
+    private static final byte DELETE = 'D';
+    
+    private static final byte KEY_TUPLE = 'K';
+    
+    private static final byte OLD_TUPLE = 'O';
+    
+    private static final byte NULL_VALUE = 'n';
+    
+    private static final byte UNCHANGED_TOAST_VALUE = 'u';
+    
+    private static final byte TEXT_VALUE = 't';
+    
+    private final BaseTimestampUtils timestampUtils;
+    
+    private final Map<Integer, Relation> relations = new HashMap<>();
+    
+    @Override
+    public AbstractWalEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWalEvent result;
+        byte messageType = data.get();
+        switch (messageType) {
+            case RELATION:
+                readRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case INSERT:
+                result = readWriteRowEvent(data);
+                break;
+            case UPDATE:
+                result = readUpdateRowEvent(data);
+                break;
+            case DELETE:
+                result = readDeleteRowEvent(data);
+                break;
+            default:
+                result = new PlaceholderEvent();
+                break;
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        // replica identity setting
+        data.get();
+        int columnCount = data.getShort();
+        List<RelationColumn> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            // flags, the key flag marks every column under REPLICA IDENTITY FULL, so delete keys are matched by name later
+            data.get();
+            String columnName = readString(data);
+            int typeOid = data.getInt();
+            // type modifier
+            data.getInt();
+            columns.add(new RelationColumn(columnName, typeOid));
+        }
+        relations.put(relationId, new Relation(schemaName, tableName, columns));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        // new tuple flag
+        data.get();
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(data, relation, null));
+        initRowEvent(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        byte tupleType = data.get();
+        List<Object> beforeRow = null;
+        if (KEY_TUPLE == tupleType || OLD_TUPLE == tupleType) {
+            List<Object> oldTuple = readTupleData(data, relation, null);
+            // key tuple only contains values of replica identity columns, other values are null
+            beforeRow = OLD_TUPLE == tupleType ? oldTuple : null;
+            // new tuple flag
+            data.get();
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setAfterRow(readTupleData(data, relation, beforeRow));
+        initRowEvent(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        // key or old tuple flag
+        data.get();
+        List<Object> beforeRow = readTupleData(data, relation, null);
+        List<String> columnNames = new ArrayList<>(relation.getColumns().size());
+        for (RelationColumn each : relation.getColumns()) {
+            columnNames.add(each.getName());
+        }
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(beforeRow);
+        result.setColumnNames(columnNames);
+        initRowEvent(result, relation);
+        return result;
+    }
+    
+    private Relation getRelation(final int relationId) {
+        Relation result = relations.get(relationId);
+        if (null == result) {
+            throw new IngestException("Unknown relation id: " + relationId);
+        }
+        return result;
+    }
+    
+    private void initRowEvent(final AbstractRowEvent rowEvent, final Relation relation) {
+        rowEvent.setDatabaseName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final Relation relation, final List<Object> beforeRow) {
+        int columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            byte valueType = data.get();
+            switch (valueType) {
+                case NULL_VALUE:
+                    result.add(null);
+                    break;
+                case UNCHANGED_TOAST_VALUE:
+                    if (null == beforeRow) {
+                        throw new IngestException(String.format("Unchanged toast value of column `%s` in table `%s` can not be decoded, table requires REPLICA IDENTITY FULL",
+                                relation.getColumns().get(i).getName(), relation.getTableName()));
+                    }
+                    result.add(beforeRow.get(i));
+                    break;
+                case TEXT_VALUE:
+                    byte[] value = new byte[data.getInt()];
+                    data.get(value);
+                    result.add(readColumnValue(value, relation.getColumns().get(i).getTypeOid()));
+                    break;
+                default:
+                    throw new IngestException("Unknown tuple value type: " + (char) valueType);
+            }
+        }
+        return result;
+    }
+    
+    private Object readColumnValue(final byte[] value, final int typeOid) {
+        if (Oid.BYTEA == typeOid) {
+            try {
+                return PGbytea.toBytes(value);
+            } catch (final SQLException ex) {
+                throw new DecodingException(ex);
+            }
+        }
+        String text = new String(value, StandardCharsets.UTF_8);
+        switch (typeOid) {
+            case Oid.BOOL:
+                return "t".equals(text);
+            case Oid.INT2:
+                return Short.parseShort(text);
+            case Oid.INT4:
+                return Integer.parseInt(text);
+            case Oid.INT8:
+                return Long.parseLong(text);
+            case Oid.FLOAT4:
+                return Float.parseFloat(text);
+            case Oid.FLOAT8:
+                return Double.parseDouble(text);
+            case Oid.NUMERIC:
+                return readNumeric(text);
+            case Oid.DATE:
+                return Date.valueOf(text);
+            case Oid.TIME:
+                try {
+                    return timestampUtils.toTime(null, text);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case Oid.TIMESTAMP:
+                try {
+                    return timestampUtils.toTimestamp(null, text);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            default:
+                return text;
+        }
+    }
+    
+    private Object readNumeric(final String text) {
+        switch (text) {
+            case "NaN":
+                return Double.NaN;
+            case "Infinity":
+                return Double.POSITIVE_INFINITY;
+            case "-Infinity":
+                return Double.NEGATIVE_INFINITY;
+            default:
+                return new BigDecimal(text);
+        }
+    }
+    
+    private String readString(final ByteBuffer data) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte each = data.get();
+        while (0 != each) {
+            result.write(each);
+            each = data.get();
+        }
+        return new String(result.toByteArray(), StandardCharsets.UTF_8);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Relation {
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final List<RelationColumn> columns;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RelationColumn {
+        
+        private final String name;
+        
+        private final int typeOid;
+    }
+}
@@ -23,8 +23,11 @@ import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * PostgreSQL pipeline SQL builder.
@@ -60,16 +63,25 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         result.setLength(result.length() - 1);
         result.append(") DO UPDATE SET ");
         for (int i = 0; i < dataRecord.getColumnCount(); i++) {
-            Column column = dataRecord.getColumn(i);
-            if (column.isUniqueKey() || isShardingColumn(shardingColumnsMap, dataRecord.getTableName(), column.getName())) {
+            String columnName = dataRecord.getColumnName(i);
+            if (dataRecord.isUniqueKey(i) || isShardingColumn(shardingColumnsMap, dataRecord.getTableName(), columnName)) {
                 continue;
             }
-            result.append(quote(column.getName())).append("=EXCLUDED.").append(quote(column.getName())).append(",");
+            result.append(quote(columnName)).append("=EXCLUDED.").append(quote(columnName)).append(",");
         }
         result.setLength(result.length() - 1);
         return result.toString();
     }
     
+    @Override
+    public Optional<String> buildChunkedHashSQL(final String schemaName, final String tableName, final String uniqueKey, final Collection<String> columnNames, final boolean firstQuery,
+                                                final boolean endBounded) {
+        String quotedKey = quote(uniqueKey);
+        String columns = columnNames.stream().map(this::quote).collect(Collectors.joining(","));
+        return Optional.of(String.format("SELECT MAX(%s),COUNT(*),MD5(STRING_AGG(MD5(CAST(t AS TEXT)),'' ORDER BY %s)) FROM (SELECT %s FROM %s%s ORDER BY %s LIMIT ?) t",
+                quotedKey, quotedKey, columns, decorate(schemaName, tableName), buildChunkedHashWhereSQL(uniqueKey, firstQuery, endBounded), quotedKey));
+    }
+    
     @Override
     public String getType() {
         return "PostgreSQL";
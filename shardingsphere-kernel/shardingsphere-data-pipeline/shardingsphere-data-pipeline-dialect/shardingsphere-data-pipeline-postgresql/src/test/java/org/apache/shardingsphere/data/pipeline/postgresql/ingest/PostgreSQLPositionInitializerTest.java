@@ -18,7 +18,13 @@
 package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.config.TableNameSchemaNameMapping;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PrepareJobWithInvalidSourceDataSourceException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WalPosition;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -32,9 +38,11 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -116,18 +124,88 @@ public final class PostgreSQLPositionInitializerTest {
     @SneakyThrows(SQLException.class)
     private void mockSlotExistsOrNot(final boolean exists) {
         PreparedStatement preparedStatement = mock(PreparedStatement.class);
-        when(connection.prepareStatement("SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?")).thenReturn(preparedStatement);
+        when(connection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name=?")).thenReturn(preparedStatement);
         ResultSet resultSet = mock(ResultSet.class);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
         when(resultSet.next()).thenReturn(exists);
     }
     
+    @SneakyThrows(SQLException.class)
+    private void mockSlotExisting(final String decodePlugin) {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name=?")).thenReturn(preparedStatement);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn(decodePlugin);
+    }
+    
+    @Test
+    public void assertInitWithPgOutputDecodingPlugin() throws SQLException {
+        mockSlotExistsOrNot(false);
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, "foo_job");
+        mockReplicaIdentity("d", false);
+        PreparedStatement createPublicationPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("CREATE PUBLICATION \"%s\" FOR TABLE \"public\".\"t_order_0\"", slotName))).thenReturn(createPublicationPreparedStatement);
+        PreparedStatement createSlotPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', 'pgoutput')", slotName))).thenReturn(createSlotPreparedStatement);
+        WalPosition actual = new PostgreSQLPositionInitializer().init(dataSource, createDumperConfiguration("pgoutput"));
+        assertThat(actual.getLogSequenceNumber().get(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
+        verify(createPublicationPreparedStatement).execute();
+        verify(createSlotPreparedStatement).execute();
+    }
+    
+    @Test(expected = PrepareJobWithInvalidSourceDataSourceException.class)
+    public void assertInitWithPgOutputDecodingPluginWithoutReplicaIdentityFull() throws SQLException {
+        mockReplicaIdentity("d", true);
+        new PostgreSQLPositionInitializer().init(dataSource, createDumperConfiguration("pgoutput"));
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void mockReplicaIdentity(final String replicaIdentity, final boolean toastable) {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(startsWith("SELECT c.relreplident"))).thenReturn(preparedStatement);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn(replicaIdentity);
+        when(resultSet.getBoolean(2)).thenReturn(toastable);
+    }
+    
+    @Test(expected = UnsupportedSQLOperationException.class)
+    public void assertInitWithUnsupportedDecodingPlugin() throws SQLException {
+        new PostgreSQLPositionInitializer().init(dataSource, createDumperConfiguration("wal2json"));
+    }
+    
+    private DumperConfiguration createDumperConfiguration(final String decodingPlugin) {
+        DumperConfiguration result = new DumperConfiguration();
+        result.setJobId("foo_job");
+        result.setTableNameMap(Collections.singletonMap(new ActualTableName("t_order_0"), new LogicTableName("t_order")));
+        result.setTableNameSchemaNameMapping(new TableNameSchemaNameMapping(Collections.singletonMap(new LogicTableName("t_order"), "public")));
+        result.setDecodingPlugin(decodingPlugin);
+        return result;
+    }
+    
     @Test
     public void assertDestroyWhenSlotExists() throws SQLException {
-        mockSlotExistsOrNot(true);
+        mockSlotExisting("test_decoding");
         PreparedStatement preparedStatement = mock(PreparedStatement.class);
         when(connection.prepareStatement("SELECT pg_drop_replication_slot(?)")).thenReturn(preparedStatement);
         new PostgreSQLPositionInitializer().destroy(dataSource, "");
         verify(preparedStatement).execute();
     }
+    
+    @Test
+    public void assertDestroyWhenPgOutputSlotExists() throws SQLException {
+        mockSlotExisting("pgoutput");
+        PreparedStatement dropSlotPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT pg_drop_replication_slot(?)")).thenReturn(dropSlotPreparedStatement);
+        PreparedStatement dropPublicationPreparedStatement = mock(PreparedStatement.class);
+        String dropPublicationSQL = String.format("DROP PUBLICATION IF EXISTS \"%s\"", PostgreSQLPositionInitializer.getUniqueSlotName(connection, ""));
+        when(connection.prepareStatement(dropPublicationSQL)).thenReturn(dropPublicationPreparedStatement);
+        new PostgreSQLPositionInitializer().destroy(dataSource, "");
+        verify(dropSlotPreparedStatement).execute();
+        verify(dropPublicationPreparedStatement).execute();
+    }
 }
@@ -110,6 +110,20 @@ public final class WalEventConverterTest {
         assertThat(((DataRecord) record).getType(), is(IngestDataChangeType.DELETE));
     }
     
+    @Test
+    public void assertConvertDeleteRowEventWithAllColumns() {
+        DeleteRowEvent event = new DeleteRowEvent();
+        event.setDatabaseName("");
+        event.setTableName("t_order");
+        event.setPrimaryKeys(Arrays.<Object>asList("xxx", 1));
+        event.setColumnNames(Arrays.asList("user_id", "order_id"));
+        DataRecord actual = (DataRecord) walEventConverter.convert(event);
+        assertThat(actual.getType(), is(IngestDataChangeType.DELETE));
+        assertThat(actual.getColumnCount(), is(1));
+        assertThat(actual.getColumnName(0), is("order_id"));
+        assertThat(actual.getValue(0), is(1));
+    }
+    
     @Test
     public void assertConvertPlaceholderEvent() {
         Record record = walEventConverter.convert(new PlaceholderEvent());
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.junit.Test;
+import org.postgresql.core.Oid;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class PgOutputDecodingPluginTest {
+    
+    private static final String UNCHANGED_TOAST = "<unchanged toast>";
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    @Test
+    public void assertDecodeRelationMessage() throws IOException {
+        assertThat(new PgOutputDecodingPlugin(null).decode(createRelationMessage(), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEvent() throws IOException {
+        PgOutputDecodingPlugin decodingPlugin = new PgOutputDecodingPlugin(null);
+        decodingPlugin.decode(createRelationMessage(), logSequenceNumber);
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(createTupleMessage('I', null, "1", "1 2 3'", "\\xff00ab", "12.50", "t", null), logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getDatabaseName(), is("public"));
+        assertThat(actual.getTableName(), is("test"));
+        assertThat(actual.getAfterRow().get(0), is(1));
+        assertThat(actual.getAfterRow().get(1), is("1 2 3'"));
+        assertThat(actual.getAfterRow().get(2), is(new byte[]{(byte) 0xff, (byte) 0, (byte) 0xab}));
+        assertThat(actual.getAfterRow().get(3), is(new BigDecimal("12.50")));
+        assertThat(actual.getAfterRow().get(4), is(true));
+        assertNull(actual.getAfterRow().get(5));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEventSameAsTestDecoding() throws IOException {
+        PgOutputDecodingPlugin decodingPlugin = new PgOutputDecodingPlugin(null);
+        decodingPlugin.decode(createRelationMessage(), logSequenceNumber);
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(createTupleMessage('I', null, "1", "1 2 3'", "\\xff00ab", "12.50", "t", null), logSequenceNumber);
+        ByteBuffer testDecodingData = ByteBuffer.wrap(("table public.test: INSERT: id[integer]:1 data[character varying]:'1 2 3''' bin[bytea]:'\\xff00ab' amount[numeric]:12.50"
+                + " flag[boolean]:true remark[text]:null").getBytes(StandardCharsets.UTF_8));
+        WriteRowEvent expected = (WriteRowEvent) new TestDecodingPlugin(null).decode(testDecodingData, logSequenceNumber);
+        assertThat(actual.getDatabaseName(), is(expected.getDatabaseName()));
+        assertThat(actual.getTableName(), is(expected.getTableName()));
+        assertThat(actual.getAfterRow().size(), is(expected.getAfterRow().size()));
+        for (int i = 0; i < expected.getAfterRow().size(); i++) {
+            assertThat(actual.getAfterRow().get(i), is(expected.getAfterRow().get(i)));
+        }
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastValue() throws IOException {
+        PgOutputDecodingPlugin decodingPlugin = new PgOutputDecodingPlugin(null);
+        decodingPlugin.decode(createRelationMessage(), logSequenceNumber);
+        ByteBuffer data = createTupleMessage('U', new String[]{"1", "old", "\\x00", "1", "f", "remark"}, "1", "new", "\\x00", "2", "t", UNCHANGED_TOAST);
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("test"));
+        assertThat(actual.getAfterRow().get(1), is("new"));
+        assertThat(actual.getAfterRow().get(5), is("remark"));
+    }
+    
+    @Test(expected = IngestException.class)
+    public void assertDecodeUpdateRowEventWithUnchangedToastValueWithoutOldTuple() throws IOException {
+        PgOutputDecodingPlugin decodingPlugin = new PgOutputDecodingPlugin(null);
+        decodingPlugin.decode(createRelationMessage(), logSequenceNumber);
+        decodingPlugin.decode(createTupleMessage('U', null, "1", "new", "\\x00", "2", "t", UNCHANGED_TOAST), logSequenceNumber);
+    }
+    
+    @Test(expected = IngestException.class)
+    public void assertDecodeUpdateRowEventWithUnchangedToastValueWithKeyTuple() throws IOException {
+        PgOutputDecodingPlugin decodingPlugin = new PgOutputDecodingPlugin(null);
+        decodingPlugin.decode(createRelationMessage(), logSequenceNumber);
+        decodingPlugin.decode(createTupleMessage('U', 'K', new String[]{"1", null, null, null, null, null}, "2", "new", "\\x00", "2", "t", UNCHANGED_TOAST), logSequenceNumber);
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEventWithNumericSpecialValues() throws IOException {
+        PgOutputDecodingPlugin decodingPlugin = new PgOutputDecodingPlugin(null);
+        decodingPlugin.decode(createRelationMessage(), logSequenceNumber);
+        assertThat(((WriteRowEvent) decodingPlugin.decode(createTupleMessage('I', null, "1", "a", "\\x00", "NaN", "t", null), logSequenceNumber)).getAfterRow().get(3), is(Double.NaN));
+        assertThat(((WriteRowEvent) decodingPlugin.decode(createTupleMessage('I', null, "1", "a", "\\x00", "Infinity", "t", null), logSequenceNumber)).getAfterRow().get(3),
+                is(Double.POSITIVE_INFINITY));
+        assertThat(((WriteRowEvent) decodingPlugin.decode(createTupleMessage('I', null, "1", "a", "\\x00", "-Infinity", "t", null), logSequenceNumber)).getAfterRow().get(3),
+                is(Double.NEGATIVE_INFINITY));
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEvent() throws IOException {
+        PgOutputDecodingPlugin decodingPlugin = new PgOutputDecodingPlugin(null);
+        decodingPlugin.decode(createRelationMessage(), logSequenceNumber);
+        ByteBuffer data = createTupleMessage('D', new String[]{"1", null, null, null, null, null});
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("test"));
+        assertThat(actual.getPrimaryKeys(), is(Arrays.<Object>asList(1, null, null, null, null, null)));
+        assertThat(actual.getColumnNames(), is(Arrays.asList("id", "data", "bin", "amount", "flag", "remark")));
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEventWithReplicaIdentityFull() throws IOException {
+        PgOutputDecodingPlugin decodingPlugin = new PgOutputDecodingPlugin(null);
+        decodingPlugin.decode(createRelationMessage('f'), logSequenceNumber);
+        ByteBuffer data = createTupleMessage('D', new String[]{"1", "old", "\\x00", "1", "f", null});
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("test"));
+        assertThat(actual.getPrimaryKeys().size(), is(6));
+        assertThat(actual.getPrimaryKeys().get(0), is(1));
+        assertThat(actual.getPrimaryKeys().get(1), is("old"));
+        assertThat(actual.getColumnNames().get(0), is("id"));
+    }
+    
+    @Test(expected = IngestException.class)
+    public void assertDecodeRowEventOfUnknownRelation() throws IOException {
+        new PgOutputDecodingPlugin(null).decode(createTupleMessage('I', null, "1", "a", "\\x00", "1", "t", null), logSequenceNumber);
+    }
+    
+    @Test
+    public void assertDecodeBeginMessage() {
+        ByteBuffer data = ByteBuffer.wrap(new byte[]{'B', 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 1});
+        assertThat(new PgOutputDecodingPlugin(null).decode(data, logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    private ByteBuffer createRelationMessage() throws IOException {
+        return createRelationMessage('d');
+    }
+    
+    private ByteBuffer createRelationMessage(final char replicaIdentity) throws IOException {
+        final boolean fullIdentity = 'f' == replicaIdentity;
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(result);
+        output.writeByte('R');
+        output.writeInt(16384);
+        writeString(output, "public");
+        writeString(output, "test");
+        output.writeByte(replicaIdentity);
+        output.writeShort(6);
+        writeColumn(output, true, "id", Oid.INT4);
+        writeColumn(output, fullIdentity, "data", Oid.VARCHAR);
+        writeColumn(output, fullIdentity, "bin", Oid.BYTEA);
+        writeColumn(output, fullIdentity, "amount", Oid.NUMERIC);
+        writeColumn(output, fullIdentity, "flag", Oid.BOOL);
+        writeColumn(output, fullIdentity, "remark", Oid.TEXT);
+        return ByteBuffer.wrap(result.toByteArray());
+    }
+    
+    private void writeColumn(final DataOutputStream output, final boolean key, final String name, final int typeOid) throws IOException {
+        output.writeByte(key ? 1 : 0);
+        writeString(output, name);
+        output.writeInt(typeOid);
+        output.writeInt(-1);
+    }
+    
+    private ByteBuffer createTupleMessage(final char messageType, final String[] oldValues, final String... newValues) throws IOException {
+        return createTupleMessage(messageType, 'O', oldValues, newValues);
+    }
+    
+    private ByteBuffer createTupleMessage(final char messageType, final char oldTupleType, final String[] oldValues, final String... newValues) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(result);
+        output.writeByte(messageType);
+        output.writeInt(16384);
+        if (null != oldValues) {
+            output.writeByte(oldTupleType);
+            writeTuple(output, oldValues);
+        }
+        if (newValues.length > 0) {
+            output.writeByte('N');
+            writeTuple(output, newValues);
+        }
+        return ByteBuffer.wrap(result.toByteArray());
+    }
+    
+    private void writeTuple(final DataOutputStream output, final String[] values) throws IOException {
+        output.writeShort(values.length);
+        for (String each : values) {
+            if (null == each) {
+                output.writeByte('n');
+            } else if (UNCHANGED_TOAST.equals(each)) {
+                output.writeByte('u');
+            } else {
+                byte[] value = each.getBytes(StandardCharsets.UTF_8);
+                output.writeByte('t');
+                output.writeInt(value.length);
+                output.write(value);
+            }
+        }
+    }
+    
+    private void writeString(final DataOutputStream output, final String value) throws IOException {
+        output.write(value.getBytes(StandardCharsets.UTF_8));
+        output.writeByte(0);
+    }
+}
@@ -29,10 +29,12 @@ import org.postgresql.replication.LogSequenceNumber;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class PostgreSQLPipelineSQLBuilderTest {
     
@@ -48,6 +50,22 @@ public final class PostgreSQLPipelineSQLBuilderTest {
                 + " DO UPDATE SET status=EXCLUDED.status"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        Optional<String> actual = sqlBuilder.buildMultiRowInsertSQL("schema1", mockDataRecord(), shardingColumnsMap, 2);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("INSERT INTO schema1.t_order(order_id,user_id,status) VALUES(?,?,?),(?,?,?) ON CONFLICT (order_id)"
+                + " DO UPDATE SET status=EXCLUDED.status"));
+    }
+    
+    @Test
+    public void assertBuildChunkedHashSQL() {
+        Optional<String> actual = sqlBuilder.buildChunkedHashSQL("schema1", "t_order", "order_id", Arrays.asList("order_id", "status"), true, false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT MAX(order_id),COUNT(*),MD5(STRING_AGG(MD5(CAST(t AS TEXT)),'' ORDER BY order_id))"
+                + " FROM (SELECT order_id,status FROM schema1.t_order ORDER BY order_id LIMIT ?) t"));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WalPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L))), 2);
         result.setTableName("t_order");
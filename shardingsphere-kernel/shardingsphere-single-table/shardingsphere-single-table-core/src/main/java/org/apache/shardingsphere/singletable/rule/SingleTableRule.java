@@ -32,6 +32,7 @@ import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedR
 import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.exportable.ExportableRule;
+import org.apache.shardingsphere.infra.util.identifier.IdentifierUtil;
 import org.apache.shardingsphere.singletable.config.SingleTableRuleConfiguration;
 import org.apache.shardingsphere.singletable.datanode.SingleTableDataNodeLoader;
 
@@ -171,7 +172,7 @@ public final class SingleTableRule implements DatabaseRule, DataNodeContainedRul
     public Collection<QualifiedTable> getSingleTableNames(final Collection<QualifiedTable> qualifiedTables) {
         Collection<QualifiedTable> result = new LinkedList<>();
         for (QualifiedTable each : qualifiedTables) {
-            Collection<DataNode> dataNodes = singleTableDataNodes.getOrDefault(each.getTableName().toLowerCase(), new LinkedList<>());
+            Collection<DataNode> dataNodes = singleTableDataNodes.getOrDefault(IdentifierUtil.toLowerCase(each.getTableName()), new LinkedList<>());
             if (!dataNodes.isEmpty() && containsDataNode(each, dataNodes)) {
                 result.add(each);
             }
@@ -191,35 +192,35 @@ public final class SingleTableRule implements DatabaseRule, DataNodeContainedRul
     @Override
     public void put(final String dataSourceName, final String schemaName, final String tableName) {
         if (dataSourceNames.contains(dataSourceName)) {
-            Collection<DataNode> dataNodes = singleTableDataNodes.computeIfAbsent(tableName.toLowerCase(), key -> new LinkedHashSet<>());
+            Collection<DataNode> dataNodes = singleTableDataNodes.computeIfAbsent(IdentifierUtil.toLowerCase(tableName), key -> new LinkedHashSet<>());
             DataNode dataNode = new DataNode(dataSourceName, tableName);
             dataNode.setSchemaName(schemaName);
             dataNodes.add(dataNode);
-            tableNames.put(tableName.toLowerCase(), tableName);
+            tableNames.put(IdentifierUtil.toLowerCase(tableName), tableName);
         }
     }
     
     @Override
     public void remove(final String schemaName, final String tableName) {
-        remove(Collections.singleton(schemaName.toLowerCase()), tableName);
+        remove(Collections.singleton(IdentifierUtil.toLowerCase(schemaName)), tableName);
     }
     
     @Override
     public void remove(final Collection<String> schemaNames, final String tableName) {
-        if (!singleTableDataNodes.containsKey(tableName.toLowerCase())) {
+        if (!singleTableDataNodes.containsKey(IdentifierUtil.toLowerCase(tableName))) {
             return;
         }
-        Collection<DataNode> dataNodes = singleTableDataNodes.get(tableName.toLowerCase());
-        dataNodes.removeIf(each -> schemaNames.contains(each.getSchemaName().toLowerCase()));
+        Collection<DataNode> dataNodes = singleTableDataNodes.get(IdentifierUtil.toLowerCase(tableName));
+        dataNodes.removeIf(each -> schemaNames.contains(IdentifierUtil.toLowerCase(each.getSchemaName())));
         if (dataNodes.isEmpty()) {
-            singleTableDataNodes.remove(tableName.toLowerCase());
-            tableNames.remove(tableName.toLowerCase());
+            singleTableDataNodes.remove(IdentifierUtil.toLowerCase(tableName));
+            tableNames.remove(IdentifierUtil.toLowerCase(tableName));
         }
     }
     
     @Override
     public Optional<DataNode> findSingleTableDataNode(final String schemaName, final String tableName) {
-        Collection<DataNode> dataNodes = singleTableDataNodes.getOrDefault(tableName.toLowerCase(), new LinkedHashSet<>());
+        Collection<DataNode> dataNodes = singleTableDataNodes.getOrDefault(IdentifierUtil.toLowerCase(tableName), new LinkedHashSet<>());
         for (DataNode each : dataNodes) {
             if (schemaName.equalsIgnoreCase(each.getSchemaName())) {
                 return Optional.of(each);
@@ -241,7 +242,7 @@ public final class SingleTableRule implements DatabaseRule, DataNodeContainedRul
     
     @Override
     public Collection<DataNode> getDataNodesByTableName(final String tableName) {
-        return singleTableDataNodes.getOrDefault(tableName.toLowerCase(), Collections.emptyList());
+        return singleTableDataNodes.getOrDefault(IdentifierUtil.toLowerCase(tableName), Collections.emptyList());
     }
     
     @Override
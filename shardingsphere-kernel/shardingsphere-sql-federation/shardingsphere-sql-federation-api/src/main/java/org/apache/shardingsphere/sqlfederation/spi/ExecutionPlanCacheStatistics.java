@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.spi;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Execution plan cache statistics of SQL federation.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ExecutionPlanCacheStatistics {
+    
+    private final long hitCount;
+    
+    private final long missCount;
+    
+    private final long evictionCount;
+    
+    private final long size;
+    
+    @Override
+    public String toString() {
+        return String.format("hit_count=%d, miss_count=%d, eviction_count=%d, size=%d", hitCount, missCount, evictionCount, size);
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * SQL federation executor.
@@ -67,6 +68,15 @@ public interface SQLFederationExecutor extends TypedSPI, RequiredSPI, AutoClosea
      */
     ResultSet getResultSet() throws SQLException;
     
+    /**
+     * Get execution plan cache statistics.
+     *
+     * @return execution plan cache statistics, empty if execution plan is not cached
+     */
+    default Optional<ExecutionPlanCacheStatistics> getExecutionPlanCacheStatistics() {
+        return Optional.empty();
+    }
+    
     @Override
     void close() throws SQLException;
 }
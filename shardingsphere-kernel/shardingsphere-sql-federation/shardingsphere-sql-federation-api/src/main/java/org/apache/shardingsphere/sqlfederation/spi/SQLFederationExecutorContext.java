@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sqlfederation.spi;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 
@@ -41,4 +42,6 @@ public final class SQLFederationExecutorContext {
     private final QueryContext queryContext;
     
     private final Map<String, ShardingSphereDatabase> databases;
+    
+    private final ConnectionContext connectionContext;
 }
@@ -24,8 +24,11 @@ import org.apache.shardingsphere.infra.rule.identifier.scope.GlobalRule;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.sqlfederation.api.config.SQLFederationRuleConfiguration;
 import org.apache.shardingsphere.sqlfederation.factory.SQLFederationExecutorFactory;
+import org.apache.shardingsphere.sqlfederation.spi.ExecutionPlanCacheStatistics;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutor;
 
+import java.util.Optional;
+
 /**
  * SQL federation rule.
  */
@@ -57,6 +60,15 @@ public final class SQLFederationRule implements GlobalRule {
         return sqlFederationExecutor;
     }
     
+    /**
+     * Get execution plan cache statistics.
+     *
+     * @return execution plan cache statistics
+     */
+    public Optional<ExecutionPlanCacheStatistics> getExecutionPlanCacheStatistics() {
+        return sqlFederationExecutor.getExecutionPlanCacheStatistics();
+    }
+    
     @Override
     public String getType() {
         return SQLFederationRule.class.getSimpleName();
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.sqlfederation.advanced;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.Preconditions;
 import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
 import org.apache.calcite.adapter.enumerable.EnumerableRel;
@@ -35,6 +37,7 @@ import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
@@ -44,11 +47,15 @@ import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.SQLFederationDataContext;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.ExecutionPlanCacheBuilder;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.advanced.resultset.SQLFederationResultSet;
 import org.apache.shardingsphere.sqlfederation.executor.FilterableTableScanExecutor;
 import org.apache.shardingsphere.sqlfederation.executor.TableScanExecutorContext;
+import org.apache.shardingsphere.sqlfederation.memory.SQLFederationMemoryContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.ShardingSphereOptimizer;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContextFactory;
@@ -56,6 +63,7 @@ import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.Optimiz
 import org.apache.shardingsphere.sqlfederation.optimizer.executor.TableScanExecutor;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.filter.FilterableSchema;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.QueryOptimizePlannerFactory;
+import org.apache.shardingsphere.sqlfederation.spi.ExecutionPlanCacheStatistics;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutor;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutorContext;
 
@@ -66,12 +74,17 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Advanced sql federation executor.
  */
 public final class AdvancedSQLFederationExecutor implements SQLFederationExecutor {
     
+    private static final CacheOption EXECUTION_PLAN_CACHE_OPTION = new CacheOption(128, 1024L);
+    
+    private final Cache<ExecutionPlanCacheKey, Bindable<Object[]>> executionPlanCache = ExecutionPlanCacheBuilder.build(EXECUTION_PLAN_CACHE_OPTION);
+    
     private String databaseName;
     
     private String schemaName;
@@ -105,11 +118,21 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
         SQLStatementContext<?> sqlStatementContext = federationContext.getQueryContext().getSqlStatementContext();
         Preconditions.checkArgument(sqlStatementContext instanceof SelectStatementContext, "SQL statement context must be select statement context.");
         ShardingSphereSchema schema = federationContext.getDatabases().get(databaseName.toLowerCase()).getSchema(schemaName);
-        AbstractSchema sqlFederationSchema = createSQLFederationSchema(prepareEngine, schema, callback, federationContext);
-        Map<String, Object> parameters = createParameters(federationContext.getQueryContext().getParameters());
-        Enumerator<Object[]> enumerator = execute(sqlStatementContext.getSqlStatement(), sqlFederationSchema, parameters).enumerator();
-        resultSet = new SQLFederationResultSet(enumerator, schema, sqlFederationSchema, sqlStatementContext);
-        return resultSet;
+        SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(props.<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_QUERY_MEMORY_LIMIT));
+        TableScanExecutorContext executorContext = new TableScanExecutorContext(databaseName, schemaName, props, federationContext, memoryContext, jdbcExecutor.getExecutorEngine());
+        try {
+            AbstractSchema sqlFederationSchema = createSQLFederationSchema(prepareEngine, schema, callback, executorContext);
+            Map<String, Object> parameters = createParameters(federationContext.getQueryContext().getParameters());
+            ExecutionPlanCacheKey cacheKey = new ExecutionPlanCacheKey(federationContext.getQueryContext().getSql(), databaseName, schemaName, schema.getVersion());
+            Enumerator<Object[]> enumerator = execute(cacheKey, sqlStatementContext.getSqlStatement(), sqlFederationSchema, parameters).enumerator();
+            resultSet = new SQLFederationResultSet(enumerator, schema, sqlFederationSchema, sqlStatementContext, executorContext);
+            return resultSet;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            executorContext.close();
+            throw ex;
+        }
     }
     
     private Map<String, Object> createParameters(final List<Object> parameters) {
@@ -122,25 +145,28 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
     }
     
     private AbstractSchema createSQLFederationSchema(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final ShardingSphereSchema schema,
-                                                     final JDBCExecutorCallback<? extends ExecuteResult> callback, final SQLFederationExecutorContext federationContext) {
-        TableScanExecutorContext executorContext = new TableScanExecutorContext(databaseName, schemaName, props, federationContext);
+                                                     final JDBCExecutorCallback<? extends ExecuteResult> callback, final TableScanExecutorContext executorContext) {
         // TODO replace FilterableTableScanExecutor with TranslatableTableScanExecutor
         TableScanExecutor executor = new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, globalRuleMetaData, executorContext, eventBusContext);
         // TODO replace FilterableSchema with TranslatableSchema
         return new FilterableSchema(schemaName, schema, executor);
     }
     
-    @SuppressWarnings("unchecked")
-    private Enumerable<Object[]> execute(final SQLStatement sqlStatement, final AbstractSchema sqlFederationSchema, final Map<String, Object> parameters) {
+    Enumerable<Object[]> execute(final ExecutionPlanCacheKey cacheKey, final SQLStatement sqlStatement, final AbstractSchema sqlFederationSchema, final Map<String, Object> parameters) {
         CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(OptimizerPlannerContextFactory.createConnectionProperties());
         RelDataTypeFactory relDataTypeFactory = new JavaTypeFactoryImpl();
         CalciteCatalogReader catalogReader = OptimizerPlannerContextFactory.createCatalogReader(schemaName, sqlFederationSchema, relDataTypeFactory, connectionConfig);
         SqlValidator validator = OptimizerPlannerContextFactory.createValidator(catalogReader, relDataTypeFactory, connectionConfig);
         SqlToRelConverter converter = OptimizerPlannerContextFactory.createConverter(catalogReader, validator, relDataTypeFactory);
+        Bindable<Object[]> executablePlan = executionPlanCache.get(cacheKey, unused -> createExecutablePlan(sqlStatement, converter));
+        return executablePlan.bind(new SQLFederationDataContext(validator, converter, parameters));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Bindable<Object[]> createExecutablePlan(final SQLStatement sqlStatement, final SqlToRelConverter converter) {
         RelNode bestPlan =
                 new ShardingSphereOptimizer(converter, QueryOptimizePlannerFactory.createHepPlanner()).optimize(sqlStatement);
-        Bindable<Object[]> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) bestPlan, EnumerableRel.Prefer.ARRAY);
-        return executablePlan.bind(new SQLFederationDataContext(validator, converter, parameters));
+        return EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) bestPlan, EnumerableRel.Prefer.ARRAY);
     }
     
     @Override
@@ -148,6 +174,12 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
         return resultSet;
     }
     
+    @Override
+    public Optional<ExecutionPlanCacheStatistics> getExecutionPlanCacheStatistics() {
+        CacheStats stats = executionPlanCache.stats();
+        return Optional.of(new ExecutionPlanCacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), executionPlanCache.estimatedSize()));
+    }
+    
     @Override
     public void close() throws SQLException {
         if (null != resultSet) {
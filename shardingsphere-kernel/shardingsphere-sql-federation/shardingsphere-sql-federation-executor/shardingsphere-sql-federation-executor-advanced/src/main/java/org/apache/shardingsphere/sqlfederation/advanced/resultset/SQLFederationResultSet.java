@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementConte
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.util.ResultSetUtil;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sqlfederation.executor.TableScanExecutorContext;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -66,14 +67,18 @@ public final class SQLFederationResultSet extends AbstractUnsupportedOperationRe
     
     private final SQLFederationResultSetMetaData resultSetMetaData;
     
+    private final TableScanExecutorContext executorContext;
+    
     private Object[] currentRows;
     
     private boolean wasNull;
     
     private boolean closed;
     
-    public SQLFederationResultSet(final Enumerator<Object[]> enumerator, final ShardingSphereSchema schema, final AbstractSchema filterableSchema, final SQLStatementContext<?> sqlStatementContext) {
+    public SQLFederationResultSet(final Enumerator<Object[]> enumerator, final ShardingSphereSchema schema, final AbstractSchema filterableSchema, final SQLStatementContext<?> sqlStatementContext,
+                                  final TableScanExecutorContext executorContext) {
         this.enumerator = enumerator;
+        this.executorContext = executorContext;
         columnLabelAndIndexMap = createColumnLabelAndIndexMap(sqlStatementContext);
         resultSetMetaData = new SQLFederationResultSetMetaData(schema, filterableSchema, new JavaTypeFactoryImpl(), (SelectStatementContext) sqlStatementContext);
     }
@@ -98,7 +103,11 @@ public final class SQLFederationResultSet extends AbstractUnsupportedOperationRe
     @Override
     public void close() {
         closed = true;
-        enumerator.close();
+        try {
+            enumerator.close();
+        } finally {
+            executorContext.close();
+        }
         currentRows = null;
     }
     
@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.sqlfederation.advanced;
 
 import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -27,11 +30,17 @@ import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRule
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
-import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.ExecutionPlanCacheKey;
+import org.apache.shardingsphere.sqlfederation.optimizer.executor.FilterableScanNodeExecutorContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.filter.FilterableSchema;
+import org.apache.shardingsphere.sqlfederation.spi.ExecutionPlanCacheStatistics;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -39,30 +48,44 @@ import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class AdvancedSQLFederationExecutorTest {
     
-    private SQLFederationExecutor sqlFederationExecutor;
+    private static final String DATABASE_NAME = "database_name";
+    
+    private static final String SCHEMA_NAME = "federate_jdbc";
+    
+    private static final String SELECT_WHERE_USER_ID = "SELECT order_id, user_id FROM t_order_federate WHERE user_id = ?";
+    
+    private static final List<Object[]> ORDER_ROWS = Arrays.asList(new Object[]{"1", "1", "OK"}, new Object[]{"2", "2", "OK"}, new Object[]{"3", "2", "OK"});
+    
+    private ShardingSphereSchema schema;
+    
+    private AdvancedSQLFederationExecutor sqlFederationExecutor;
     
     @Before
     public void init() {
         Map<String, ShardingSphereTable> tables = new HashMap<>(2, 1);
         tables.put("t_order_federate", createOrderTableMetaData());
         tables.put("t_user_info", createUserInfoTableMetaData());
-        String schemaName = "federate_jdbc";
-        String databaseName = "database_name";
-        Map<String, ShardingSphereSchema> schemas = Collections.singletonMap(schemaName, new ShardingSphereSchema(tables, Collections.emptyMap()));
-        ShardingSphereDatabase database = new ShardingSphereDatabase(databaseName, new H2DatabaseType(), mockResource(), null, schemas);
+        schema = new ShardingSphereSchema(tables, Collections.emptyMap());
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DATABASE_NAME, new H2DatabaseType(), mockResource(), null, Collections.singletonMap(SCHEMA_NAME, schema));
         ShardingSphereRuleMetaData globalRuleMetaData = createGlobalRuleMetaData();
         ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
-        when(metaData.getDatabase(databaseName)).thenReturn(database);
+        when(metaData.getDatabase(DATABASE_NAME)).thenReturn(database);
         when(metaData.getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
         sqlFederationExecutor = new AdvancedSQLFederationExecutor();
-        sqlFederationExecutor.init(databaseName, schemaName, metaData, mock(JDBCExecutor.class), mock(EventBusContext.class));
+        sqlFederationExecutor.init(DATABASE_NAME, SCHEMA_NAME, metaData, mock(JDBCExecutor.class), mock(EventBusContext.class));
     }
     
     private ShardingSphereRuleMetaData createGlobalRuleMetaData() {
@@ -94,4 +117,46 @@ public class AdvancedSQLFederationExecutorTest {
     public void assertSelectWhereSingleField() {
         // TODO add executor.executeQuery()
     }
+    
+    @Test
+    public void assertGetExecutionPlanCacheStatistics() {
+        Optional<ExecutionPlanCacheStatistics> actual = sqlFederationExecutor.getExecutionPlanCacheStatistics();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getHitCount(), is(0L));
+        assertThat(actual.get().getMissCount(), is(0L));
+        assertThat(actual.get().getSize(), is(0L));
+    }
+    
+    @Test
+    public void assertExecuteWithCachedExecutionPlan() {
+        ShardingSphereSQLParserEngine sqlParserEngine = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build())
+                .getSQLParserEngine(DatabaseTypeEngine.getTrunkDatabaseTypeName(new H2DatabaseType()));
+        SQLStatement sqlStatement = sqlParserEngine.parse(SELECT_WHERE_USER_ID, false);
+        FilterableSchema sqlFederationSchema = new FilterableSchema(SCHEMA_NAME, schema, (table, scanContext) -> scanOrderRows((FilterableScanNodeExecutorContext) scanContext));
+        ExecutionPlanCacheKey cacheKey = new ExecutionPlanCacheKey(SELECT_WHERE_USER_ID, DATABASE_NAME, SCHEMA_NAME, schema.getVersion());
+        assertThat(getOrderIds(sqlFederationExecutor.execute(cacheKey, sqlStatement, sqlFederationSchema, Collections.singletonMap("?0", "1"))), is(Collections.singletonList("1")));
+        assertThat(getOrderIds(sqlFederationExecutor.execute(cacheKey, sqlStatement, sqlFederationSchema, Collections.singletonMap("?0", "2"))), is(Arrays.asList("2", "3")));
+        Optional<ExecutionPlanCacheStatistics> actual = sqlFederationExecutor.getExecutionPlanCacheStatistics();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getMissCount(), is(1L));
+        assertThat(actual.get().getHitCount(), is(1L));
+        assertThat(actual.get().getSize(), is(1L));
+    }
+    
+    private Enumerable<Object[]> scanOrderRows(final FilterableScanNodeExecutorContext scanContext) {
+        int[] projects = scanContext.getProjects();
+        List<Object[]> result = new LinkedList<>();
+        for (Object[] each : ORDER_ROWS) {
+            result.add(null == projects ? each : Arrays.stream(projects).mapToObj(index -> each[index]).toArray());
+        }
+        return Linq4j.asEnumerable(result);
+    }
+    
+    private List<Object> getOrderIds(final Enumerable<Object[]> rows) {
+        List<Object> result = new LinkedList<>();
+        for (Object[] each : rows) {
+            result.add(each[0]);
+        }
+        return result;
+    }
 }
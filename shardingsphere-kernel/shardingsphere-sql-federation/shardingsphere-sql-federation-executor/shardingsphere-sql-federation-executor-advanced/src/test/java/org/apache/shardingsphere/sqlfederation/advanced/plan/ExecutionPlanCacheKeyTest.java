@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.advanced.plan;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public final class ExecutionPlanCacheKeyTest {
+    
+    private static final String SQL = "SELECT order_id FROM t_order WHERE user_id = ?";
+    
+    @Test
+    public void assertEqualsWithSameSchemaVersion() {
+        ShardingSphereSchema schema = new ShardingSphereSchema(Collections.singletonMap("t_order", createTable()), Collections.emptyMap());
+        ExecutionPlanCacheKey expected = new ExecutionPlanCacheKey(SQL, "foo_db", "foo_schema", schema.getVersion());
+        ExecutionPlanCacheKey actual = new ExecutionPlanCacheKey(SQL, "foo_db", "foo_schema", schema.getVersion());
+        assertThat(actual, is(expected));
+        assertThat(actual.hashCode(), is(expected.hashCode()));
+    }
+    
+    @Test
+    public void assertNotEqualsWithAlteredTableMetaData() {
+        ShardingSphereSchema schema = new ShardingSphereSchema(Collections.singletonMap("t_order", createTable()), Collections.emptyMap());
+        ExecutionPlanCacheKey expected = new ExecutionPlanCacheKey(SQL, "foo_db", "foo_schema", schema.getVersion());
+        schema.putTable("t_order", new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true), new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true)),
+                Collections.emptyList(), Collections.emptyList()));
+        ExecutionPlanCacheKey actual = new ExecutionPlanCacheKey(SQL, "foo_db", "foo_schema", schema.getVersion());
+        assertThat(actual, not(expected));
+    }
+    
+    private ShardingSphereTable createTable() {
+        return new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true)), Collections.emptyList(), Collections.emptyList());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor;
+
+import java.sql.Connection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+
+/**
+ * Scan connection guard, which prevents table scans of one query from executing on the same connection at the same time.
+ */
+public final class ScanConnectionGuard {
+    
+    private final Collection<Connection> occupiedConnections = new HashSet<>();
+    
+    private final Collection<Connection> waitingConnections = new LinkedList<>();
+    
+    /**
+     * Acquire connections, wait until none of them is occupied by other table scans.
+     *
+     * @param connections connections to be acquired
+     * @throws InterruptedException interrupted exception
+     */
+    public synchronized void acquire(final Collection<Connection> connections) throws InterruptedException {
+        if (Collections.disjoint(occupiedConnections, connections)) {
+            occupiedConnections.addAll(connections);
+            return;
+        }
+        waitingConnections.addAll(connections);
+        try {
+            while (!Collections.disjoint(occupiedConnections, connections)) {
+                wait();
+            }
+        } finally {
+            for (Connection each : connections) {
+                waitingConnections.remove(each);
+            }
+        }
+        occupiedConnections.addAll(connections);
+    }
+    
+    /**
+     * Judge whether any of connections is waited by other table scans.
+     *
+     * @param connections connections
+     * @return waited or not
+     */
+    public synchronized boolean isWaited(final Collection<Connection> connections) {
+        return !Collections.disjoint(waitingConnections, connections);
+    }
+    
+    /**
+     * Release connections.
+     *
+     * @param connections connections to be released
+     */
+    public synchronized void release(final Collection<Connection> connections) {
+        occupiedConnections.removeAll(connections);
+        notifyAll();
+    }
+}
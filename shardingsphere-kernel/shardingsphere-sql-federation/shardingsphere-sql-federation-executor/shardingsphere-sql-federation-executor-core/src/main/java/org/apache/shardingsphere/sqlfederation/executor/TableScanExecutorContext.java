@@ -17,17 +17,26 @@
 
 package org.apache.shardingsphere.sqlfederation.executor;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.sqlfederation.memory.SQLFederationMemoryContext;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutorContext;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
 /**
- * Translatable table scan executor context.
+ * Table scan executor context, which is created for one query and owns memory of the query.
+ * Table scans run in background threads shared by all queries of executor engine.
  */
 @RequiredArgsConstructor
 @Getter
-public final class TableScanExecutorContext {
+public final class TableScanExecutorContext implements AutoCloseable {
     
     private final String databaseName;
     
@@ -36,4 +45,48 @@ public final class TableScanExecutorContext {
     private final ConfigurationProperties props;
     
     private final SQLFederationExecutorContext federationContext;
+    
+    private final SQLFederationMemoryContext memoryContext;
+    
+    @Getter(AccessLevel.NONE)
+    private final ExecutorEngine executorEngine;
+    
+    private final ScanConnectionGuard connectionGuard = new ScanConnectionGuard();
+    
+    @Getter(AccessLevel.NONE)
+    private volatile boolean closed;
+    
+    /**
+     * Try to execute table scan in background thread, the executor data map of current thread is passed to background thread.
+     *
+     * @param task table scan
+     * @return executed in background thread or not, false if all background threads are busy
+     */
+    public boolean tryExecute(final Runnable task) {
+        if (closed) {
+            return false;
+        }
+        Map<String, Object> executorDataMap = new LinkedHashMap<>(ExecutorDataMap.getValue());
+        try {
+            executorEngine.getBackgroundExecutorServiceManager().getExecutorService().execute(() -> execute(task, executorDataMap));
+            return true;
+        } catch (final RejectedExecutionException ignored) {
+            return false;
+        }
+    }
+    
+    private void execute(final Runnable task, final Map<String, Object> executorDataMap) {
+        ExecutorDataMap.getValue().putAll(executorDataMap);
+        try {
+            task.run();
+        } finally {
+            ExecutorDataMap.getValue().clear();
+        }
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        memoryContext.close();
+    }
 }
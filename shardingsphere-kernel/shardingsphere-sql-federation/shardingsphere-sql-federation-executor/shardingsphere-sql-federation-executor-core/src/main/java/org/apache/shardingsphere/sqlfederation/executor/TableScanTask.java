@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.sqlfederation.memory.DetachableQueryResult;
+import org.apache.shardingsphere.sqlfederation.memory.SQLFederationMemoryContext;
+import org.apache.shardingsphere.sqlfederation.memory.SpillableQueryResult;
+import org.apache.shardingsphere.sqlfederation.row.SQLFederationRowQueue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Table scan task, which executes shard queries of one table scan and merges their rows.
+ * Rows are loaded into memory or spill files before merging when the task runs in current thread,
+ * and are streamed into row queue when the task runs in background, until other table scans of the same query wait for its connections.
+ */
+@RequiredArgsConstructor
+public final class TableScanTask {
+    
+    private final JDBCExecutor jdbcExecutor;
+    
+    private final JDBCExecutorCallback<? extends ExecuteResult> callback;
+    
+    private final EventBusContext eventBusContext;
+    
+    private final TableScanExecutorContext executorContext;
+    
+    private final DatabaseType databaseType;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final ExecutionContext context;
+    
+    private final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
+    
+    private final Collection<Connection> connections;
+    
+    private final Collection<DetachableQueryResult> detachableQueryResults = new LinkedList<>();
+    
+    @Getter
+    private int columnCount;
+    
+    private boolean connectionsOccupied;
+    
+    /**
+     * Execute shard queries with rows loaded, and merge them in current thread.
+     *
+     * @return merged result
+     * @throws SQLException SQL exception
+     */
+    public MergedResult execute() throws SQLException {
+        try {
+            acquireConnections();
+            return merge(executeQueries(false));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } finally {
+            releaseConnections();
+        }
+    }
+    
+    /**
+     * Execute shard queries, merge them and stream merged rows into row queue.
+     *
+     * @param rowQueue row queue
+     */
+    public void stream(final SQLFederationRowQueue rowQueue) {
+        Throwable failure = null;
+        try {
+            acquireConnections();
+            putRows(merge(executeQueries(true)), rowQueue);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failure = ex;
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            failure = ex;
+        } finally {
+            releaseConnections();
+            if (null == failure) {
+                rowQueue.finish();
+            } else {
+                rowQueue.fail(failure);
+            }
+        }
+    }
+    
+    private void acquireConnections() throws InterruptedException {
+        executorContext.getConnectionGuard().acquire(connections);
+        connectionsOccupied = true;
+    }
+    
+    private void releaseConnections() {
+        if (connectionsOccupied) {
+            connectionsOccupied = false;
+            executorContext.getConnectionGuard().release(connections);
+        }
+    }
+    
+    private List<QueryResult> executeQueries(final boolean streaming) throws SQLException {
+        try {
+            ExecuteProcessEngine.initialize(context.getQueryContext(), executionGroupContext, eventBusContext);
+            List<QueryResult> result = new LinkedList<>();
+            for (ExecuteResult each : jdbcExecutor.execute(executionGroupContext, callback)) {
+                result.add(each instanceof JDBCStreamQueryResult ? createQueryResult((JDBCStreamQueryResult) each, streaming) : (QueryResult) each);
+            }
+            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID(), eventBusContext);
+            columnCount = result.get(0).getMetaData().getColumnCount();
+            return result;
+        } finally {
+            ExecuteProcessEngine.clean();
+        }
+    }
+    
+    private QueryResult createQueryResult(final JDBCStreamQueryResult streamQueryResult, final boolean streaming) throws SQLException {
+        SQLFederationMemoryContext memoryContext = executorContext.getMemoryContext();
+        if (streaming) {
+            DetachableQueryResult result = new DetachableQueryResult(streamQueryResult, databaseType, memoryContext);
+            detachableQueryResults.add(result);
+            return result;
+        }
+        ResultSet resultSet = streamQueryResult.getResultSet();
+        return memoryContext.isMemoryLimited() ? new SpillableQueryResult(resultSet, databaseType, memoryContext) : new JDBCMemoryQueryResult(resultSet, databaseType);
+    }
+    
+    private MergedResult merge(final List<QueryResult> queryResults) throws SQLException {
+        MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps(), executorContext.getFederationContext().getConnectionContext());
+        return mergeEngine.merge(queryResults, context.getSqlStatementContext());
+    }
+    
+    private void putRows(final MergedResult mergedResult, final SQLFederationRowQueue rowQueue) throws SQLException, InterruptedException {
+        while (mergedResult.next()) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = mergedResult.getValue(i + 1, Object.class);
+            }
+            if (!putRow(row, rowQueue)) {
+                return;
+            }
+        }
+    }
+    
+    private boolean putRow(final Object[] row, final SQLFederationRowQueue rowQueue) throws SQLException, InterruptedException {
+        if (!connectionsOccupied) {
+            return rowQueue.put(row);
+        }
+        while (!rowQueue.offer(row)) {
+            if (rowQueue.isClosed()) {
+                return false;
+            }
+            if (executorContext.getConnectionGuard().isWaited(connections)) {
+                detach();
+                return rowQueue.put(row);
+            }
+        }
+        return true;
+    }
+    
+    private void detach() throws SQLException {
+        for (DetachableQueryResult each : detachableQueryResults) {
+            each.detach();
+        }
+        releaseConnections();
+    }
+}
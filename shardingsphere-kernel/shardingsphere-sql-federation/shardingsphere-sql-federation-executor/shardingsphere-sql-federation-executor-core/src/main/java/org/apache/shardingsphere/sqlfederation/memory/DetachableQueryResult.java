@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.memory;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+
+/**
+ * Detachable query result, which streams rows from result set, and can load the rest rows into memory or spill files to detach from connection.
+ */
+public final class DetachableQueryResult implements QueryResult {
+    
+    private final JDBCStreamQueryResult streamQueryResult;
+    
+    private final DatabaseType databaseType;
+    
+    private final SQLFederationMemoryContext memoryContext;
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private QueryResult delegate;
+    
+    private Object[] detachedCurrentRow;
+    
+    private boolean detachedValueNull;
+    
+    private boolean positioned;
+    
+    private boolean exhausted;
+    
+    public DetachableQueryResult(final JDBCStreamQueryResult streamQueryResult, final DatabaseType databaseType, final SQLFederationMemoryContext memoryContext) {
+        this.streamQueryResult = streamQueryResult;
+        this.databaseType = databaseType;
+        this.memoryContext = memoryContext;
+        metaData = streamQueryResult.getMetaData();
+        delegate = streamQueryResult;
+    }
+    
+    /**
+     * Load the rest rows of result set, current row is kept.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void detach() throws SQLException {
+        if (exhausted || delegate != streamQueryResult) {
+            return;
+        }
+        if (positioned) {
+            detachedCurrentRow = readCurrentRow();
+        }
+        delegate = new SpillableQueryResult(streamQueryResult.getResultSet(), databaseType, memoryContext);
+    }
+    
+    private Object[] readCurrentRow() throws SQLException {
+        Object[] result = new Object[metaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = streamQueryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        detachedCurrentRow = null;
+        positioned = delegate.next();
+        exhausted = !positioned;
+        return positioned;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return null == detachedCurrentRow ? delegate.getValue(columnIndex, type) : getDetachedValue(columnIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return null == detachedCurrentRow ? delegate.getCalendarValue(columnIndex, type, calendar) : getDetachedValue(columnIndex);
+    }
+    
+    private Object getDetachedValue(final int columnIndex) {
+        Object result = detachedCurrentRow[columnIndex - 1];
+        detachedValueNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return null == detachedCurrentRow ? delegate.getInputStream(columnIndex, type) : SpillableQueryResult.getInputStream(detachedCurrentRow[columnIndex - 1]);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return null == detachedCurrentRow ? delegate.wasNull() : detachedValueNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        delegate.close();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.memory;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sqlfederation.row.SQLFederationRowQueue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * SQL federation memory context, which accounts memory of rows loaded by table scans for one query.
+ */
+@RequiredArgsConstructor
+public final class SQLFederationMemoryContext implements AutoCloseable {
+    
+    private static final String SPILL_FILE_PREFIX = "shardingsphere-federation-";
+    
+    private static final String SPILL_FILE_SUFFIX = ".spill";
+    
+    @Getter
+    private final long memoryLimit;
+    
+    @Getter
+    private long usedMemory;
+    
+    @Getter
+    private long spilledBytes;
+    
+    private final Collection<Path> spillFiles = new LinkedList<>();
+    
+    private final Collection<SQLFederationRowQueue> rowQueues = new LinkedList<>();
+    
+    private boolean closed;
+    
+    /**
+     * Judge whether memory is limited.
+     *
+     * @return memory is limited or not
+     */
+    public boolean isMemoryLimited() {
+        return memoryLimit > 0L;
+    }
+    
+    /**
+     * Try to allocate memory.
+     *
+     * @param bytes bytes to be allocated
+     * @return allocated or not
+     */
+    public synchronized boolean tryAllocate(final long bytes) {
+        if (isMemoryLimited() && usedMemory + bytes > memoryLimit) {
+            return false;
+        }
+        usedMemory += bytes;
+        return true;
+    }
+    
+    /**
+     * Release memory.
+     *
+     * @param bytes bytes to be released
+     */
+    public synchronized void release(final long bytes) {
+        usedMemory = Math.max(0L, usedMemory - bytes);
+    }
+    
+    /**
+     * Create spill file, which will be deleted when context closed.
+     *
+     * @return spill file
+     * @throws IOException IO exception
+     */
+    public synchronized Path createSpillFile() throws IOException {
+        if (closed) {
+            throw new IOException("SQL federation memory context has been closed.");
+        }
+        Path result = Files.createTempFile(SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX);
+        spillFiles.add(result);
+        return result;
+    }
+    
+    /**
+     * Create row queue, which will be closed when context closed.
+     *
+     * @param capacity capacity of row queue
+     * @return row queue
+     */
+    public synchronized SQLFederationRowQueue createRowQueue(final int capacity) {
+        SQLFederationRowQueue result = new SQLFederationRowQueue(capacity);
+        if (closed) {
+            result.close();
+        } else {
+            rowQueues.add(result);
+        }
+        return result;
+    }
+    
+    /**
+     * Add spilled bytes.
+     *
+     * @param bytes spilled bytes
+     */
+    public synchronized void addSpilledBytes(final long bytes) {
+        spilledBytes += bytes;
+    }
+    
+    @Override
+    public synchronized void close() {
+        closed = true;
+        for (SQLFederationRowQueue each : rowQueues) {
+            each.close();
+        }
+        rowQueues.clear();
+        for (Path each : spillFiles) {
+            try {
+                Files.deleteIfExists(each);
+            } catch (final IOException ignored) {
+            }
+        }
+        spillFiles.clear();
+        usedMemory = 0L;
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * Spill row codec, which encodes rows into compact binary format with type tags.
+ * LOB values are spilled with their content, and read back as byte array or string.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillRowCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte BOOLEAN = 1;
+    
+    private static final byte BYTE = 2;
+    
+    private static final byte SHORT = 3;
+    
+    private static final byte INTEGER = 4;
+    
+    private static final byte LONG = 5;
+    
+    private static final byte FLOAT = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte BIG_INTEGER = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte STRING = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte DATE = 12;
+    
+    private static final byte TIME = 13;
+    
+    private static final byte TIMESTAMP = 14;
+    
+    private static final byte SERIALIZABLE = 15;
+    
+    private static final int ROW_OVERHEAD_BYTES = 16;
+    
+    private static final int REFERENCE_BYTES = 8;
+    
+    private static final int OBJECT_OVERHEAD_BYTES = 16;
+    
+    /**
+     * Estimate memory size of row.
+     *
+     * @param row row
+     * @return estimated memory bytes
+     */
+    public static long estimateSize(final Object[] row) {
+        long result = ROW_OVERHEAD_BYTES + (long) REFERENCE_BYTES * row.length;
+        for (Object each : row) {
+            result += estimateSize(each);
+        }
+        return result;
+    }
+    
+    private static long estimateSize(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_OVERHEAD_BYTES * 2 + ((String) value).length() * 2L;
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_OVERHEAD_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return OBJECT_OVERHEAD_BYTES * 3;
+        }
+        return OBJECT_OVERHEAD_BYTES * 2;
+    }
+    
+    /**
+     * Encode value for input stream.
+     * Byte array, string and LOB values are encoded with their content, and other values are encoded with type tag.
+     *
+     * @param value value
+     * @return encoded bytes
+     * @throws IOException IO exception
+     */
+    public static byte[] encode(final Object value) throws IOException {
+        if (value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        if (value instanceof String) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8);
+        }
+        if (value instanceof Blob) {
+            return readBlob((Blob) value);
+        }
+        if (value instanceof Clob) {
+            return readClob((Clob) value).getBytes(StandardCharsets.UTF_8);
+        }
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(result)) {
+            write(output, value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param output data output
+     * @param row row
+     * @return written bytes
+     * @throws IOException IO exception
+     */
+    public static int write(final DataOutput output, final Object[] row) throws IOException {
+        int result = 0;
+        for (Object each : row) {
+            result += write(output, each);
+        }
+        return result;
+    }
+    
+    private static int write(final DataOutput output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+            return 1;
+        }
+        if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+            return 2;
+        }
+        if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+            return 2;
+        }
+        if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+            return 3;
+        }
+        if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+            return 5;
+        }
+        if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+            return 9;
+        }
+        if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+            return 5;
+        }
+        if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+            return 9;
+        }
+        if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            return 1 + writeBytes(output, ((BigInteger) value).toByteArray());
+        }
+        if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            return 5 + writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        }
+        if (value instanceof String) {
+            output.writeByte(STRING);
+            return 1 + writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+        }
+        if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            return 1 + writeBytes(output, (byte[]) value);
+        }
+        if (value instanceof Date) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+            return 9;
+        }
+        if (value instanceof Time) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+            return 9;
+        }
+        if (value instanceof Timestamp) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+            return 13;
+        }
+        if (value instanceof Blob) {
+            output.writeByte(BYTES);
+            return 1 + writeBytes(output, readBlob((Blob) value));
+        }
+        if (value instanceof Clob) {
+            output.writeByte(STRING);
+            return 1 + writeBytes(output, readClob((Clob) value).getBytes(StandardCharsets.UTF_8));
+        }
+        if (value instanceof Serializable) {
+            output.writeByte(SERIALIZABLE);
+            return 1 + writeBytes(output, serialize(value));
+        }
+        throw new NotSerializableException(value.getClass().getName());
+    }
+    
+    private static byte[] readBlob(final Blob blob) throws IOException {
+        try {
+            return blob.getBytes(1L, (int) blob.length());
+        } catch (final SQLException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    private static String readClob(final Clob clob) throws IOException {
+        try {
+            return clob.getSubString(1L, (int) clob.length());
+        } catch (final SQLException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    private static int writeBytes(final DataOutput output, final byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+        return 4 + bytes.length;
+    }
+    
+    private static byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Read row.
+     *
+     * @param input data input
+     * @param columnCount column count
+     * @return row
+     * @throws IOException IO exception
+     */
+    public static Object[] read(final DataInput input, final int columnCount) throws IOException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = readValue(input);
+        }
+        return result;
+    }
+    
+    private static Object readValue(final DataInput input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return input.readBoolean();
+            case BYTE:
+                return input.readByte();
+            case SHORT:
+                return input.readShort();
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(input);
+            case DATE:
+                return new Date(input.readLong());
+            case TIME:
+                return new Time(input.readLong());
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                return timestamp;
+            case SERIALIZABLE:
+                return deserialize(readBytes(input));
+            default:
+                throw new IOException(String.format("Unknown spilled value type `%s`.", type));
+        }
+    }
+    
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    private static Object deserialize(final byte[] bytes) throws IOException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objectInputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.memory;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.DialectJDBCRowsLoaderFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.JDBCRowsLoader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Spillable query result, which loads rows into memory within memory limit of query and spills the rest rows to local disk.
+ */
+public final class SpillableQueryResult implements QueryResult {
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final int columnCount;
+    
+    private final Iterator<Object[]> memoryRows;
+    
+    private final SQLFederationMemoryContext memoryContext;
+    
+    private final Path spillFile;
+    
+    private long allocatedMemory;
+    
+    private long remainingSpilledRowCount;
+    
+    private DataInputStream spillInput;
+    
+    private Object[] currentRow;
+    
+    public SpillableQueryResult(final ResultSet resultSet, final DatabaseType databaseType, final SQLFederationMemoryContext memoryContext) throws SQLException {
+        metaData = new JDBCQueryResultMetaData(resultSet.getMetaData());
+        columnCount = resultSet.getMetaData().getColumnCount();
+        this.memoryContext = memoryContext;
+        JDBCRowsLoader rowsLoader = DialectJDBCRowsLoaderFactory.getInstance(databaseType);
+        List<Object[]> rows = new LinkedList<>();
+        Object[] overflowRow = loadMemoryRows(resultSet, rowsLoader, memoryContext, rows);
+        memoryRows = rows.iterator();
+        spillFile = null == overflowRow ? null : spill(resultSet, rowsLoader, overflowRow, memoryContext);
+    }
+    
+    private Object[] loadMemoryRows(final ResultSet resultSet, final JDBCRowsLoader rowsLoader, final SQLFederationMemoryContext memoryContext, final List<Object[]> rows) throws SQLException {
+        while (resultSet.next()) {
+            Object[] row = rowsLoader.loadRow(columnCount, resultSet).getValue().toArray();
+            long rowSize = SpillRowCodec.estimateSize(row);
+            if (!memoryContext.tryAllocate(rowSize)) {
+                return row;
+            }
+            allocatedMemory += rowSize;
+            rows.add(row);
+        }
+        return null;
+    }
+    
+    private Path spill(final ResultSet resultSet, final JDBCRowsLoader rowsLoader, final Object[] firstRow, final SQLFederationMemoryContext memoryContext) throws SQLException {
+        try {
+            Path result = memoryContext.createSpillFile();
+            long spilledBytes = 0L;
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(result)))) {
+                spilledBytes += SpillRowCodec.write(output, firstRow);
+                remainingSpilledRowCount++;
+                while (resultSet.next()) {
+                    spilledBytes += SpillRowCodec.write(output, rowsLoader.loadRow(columnCount, resultSet).getValue().toArray());
+                    remainingSpilledRowCount++;
+                }
+            }
+            memoryContext.addSpilledBytes(spilledBytes);
+            return result;
+        } catch (final IOException ex) {
+            throw new SQLException("Can not spill rows of SQL federation to local disk.", ex);
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (memoryRows.hasNext()) {
+            currentRow = memoryRows.next();
+            return true;
+        }
+        if (remainingSpilledRowCount > 0L) {
+            currentRow = readSpilledRow();
+            remainingSpilledRowCount--;
+            return true;
+        }
+        currentRow = null;
+        releaseMemory();
+        closeSpillInput();
+        return false;
+    }
+    
+    private Object[] readSpilledRow() throws SQLException {
+        try {
+            if (null == spillInput) {
+                spillInput = new DataInputStream(new BufferedInputStream(Files.newInputStream(spillFile)));
+            }
+            return SpillRowCodec.read(spillInput, columnCount);
+        } catch (final IOException ex) {
+            throw new SQLException("Can not read spilled rows of SQL federation from local disk.", ex);
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        return currentRow[columnIndex - 1];
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return currentRow[columnIndex - 1];
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        return getInputStream(currentRow[columnIndex - 1]);
+    }
+    
+    @SneakyThrows(IOException.class)
+    static InputStream getInputStream(final Object value) {
+        return new ByteArrayInputStream(SpillRowCodec.encode(value));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return null == currentRow;
+    }
+    
+    @Override
+    public void close() {
+        releaseMemory();
+        closeSpillInput();
+    }
+    
+    private void releaseMemory() {
+        if (allocatedMemory > 0L) {
+            memoryContext.release(allocatedMemory);
+            allocatedMemory = 0L;
+        }
+    }
+    
+    private void closeSpillInput() {
+        if (null == spillInput) {
+            return;
+        }
+        try {
+            spillInput.close();
+        } catch (final IOException ignored) {
+        }
+        spillInput = null;
+    }
+}
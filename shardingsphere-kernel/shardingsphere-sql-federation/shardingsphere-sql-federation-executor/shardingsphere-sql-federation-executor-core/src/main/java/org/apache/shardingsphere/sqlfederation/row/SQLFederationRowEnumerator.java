@@ -19,8 +19,6 @@ package org.apache.shardingsphere.sqlfederation.row;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.linq4j.Enumerator;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
-import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.wrapper.SQLWrapperException;
 
 import java.sql.SQLException;
@@ -33,9 +31,7 @@ import java.util.Collection;
 @RequiredArgsConstructor
 public final class SQLFederationRowEnumerator implements Enumerator<Object[]> {
     
-    private final MergedResult queryResult;
-    
-    private final QueryResultMetaData metaData;
+    private final SQLFederationRowQueue rowQueue;
     
     private final Collection<Statement> statements;
     
@@ -56,18 +52,8 @@ public final class SQLFederationRowEnumerator implements Enumerator<Object[]> {
     }
     
     private boolean moveNext0() throws SQLException {
-        if (queryResult.next()) {
-            setCurrentRow();
-            return true;
-        }
-        return false;
-    }
-    
-    private void setCurrentRow() throws SQLException {
-        currentRow = new Object[metaData.getColumnCount()];
-        for (int i = 0; i < metaData.getColumnCount(); i++) {
-            currentRow[i] = queryResult.getValue(i + 1, Object.class);
-        }
+        currentRow = rowQueue.take();
+        return null != currentRow;
     }
     
     @Override
@@ -76,6 +62,7 @@ public final class SQLFederationRowEnumerator implements Enumerator<Object[]> {
     
     @Override
     public void close() {
+        rowQueue.close();
         try {
             for (Statement each : statements) {
                 each.close();
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.row;
+
+import java.sql.SQLException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL federation row queue, which hands over rows from table scan task to row enumerator with bounded capacity.
+ */
+public final class SQLFederationRowQueue {
+    
+    private static final Object[] END_OF_ROWS = new Object[0];
+    
+    private static final long WAIT_TIMEOUT_MILLISECONDS = 100L;
+    
+    private final BlockingQueue<Object[]> rows;
+    
+    private volatile SQLException failure;
+    
+    private volatile boolean completed;
+    
+    private volatile boolean closed;
+    
+    private boolean finished;
+    
+    public SQLFederationRowQueue(final int capacity) {
+        rows = new LinkedBlockingQueue<>(capacity);
+    }
+    
+    /**
+     * Put row, wait if queue is full.
+     *
+     * @param row row
+     * @return put or not, false if queue has been closed by consumer
+     * @throws InterruptedException interrupted exception
+     */
+    public boolean put(final Object[] row) throws InterruptedException {
+        while (!closed) {
+            if (rows.offer(row, WAIT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                return !closed;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Offer row, wait for a while if queue is full.
+     *
+     * @param row row
+     * @return offered or not, false if queue is still full or has been closed by consumer
+     * @throws InterruptedException interrupted exception
+     */
+    public boolean offer(final Object[] row) throws InterruptedException {
+        return !closed && rows.offer(row, WAIT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS) && !closed;
+    }
+    
+    /**
+     * Judge whether queue has been closed by consumer.
+     *
+     * @return closed or not
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+    
+    /**
+     * Mark all rows have been put.
+     */
+    public void finish() {
+        complete();
+    }
+    
+    /**
+     * Mark table scan failed.
+     *
+     * @param cause cause of failure
+     */
+    public void fail(final Throwable cause) {
+        failure = cause instanceof SQLException ? (SQLException) cause : new SQLException(cause);
+        complete();
+    }
+    
+    private void complete() {
+        completed = true;
+        rows.offer(END_OF_ROWS);
+    }
+    
+    /**
+     * Take row, wait if queue is empty.
+     *
+     * @return row, null if all rows have been taken or queue has been closed
+     * @throws SQLException SQL exception thrown by table scan
+     */
+    public Object[] take() throws SQLException {
+        if (finished) {
+            return null;
+        }
+        Object[] result = poll();
+        if (null != result && END_OF_ROWS != result) {
+            return result;
+        }
+        finished = true;
+        if (null != failure) {
+            throw failure;
+        }
+        return null;
+    }
+    
+    private Object[] poll() throws SQLException {
+        try {
+            while (!closed) {
+                Object[] result = rows.poll(WAIT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+                if (null != result) {
+                    return result;
+                }
+                if (completed && rows.isEmpty()) {
+                    return END_OF_ROWS;
+                }
+            }
+            return null;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Close queue, rows not taken will be discarded.
+     */
+    public void close() {
+        closed = true;
+        rows.clear();
+    }
+}
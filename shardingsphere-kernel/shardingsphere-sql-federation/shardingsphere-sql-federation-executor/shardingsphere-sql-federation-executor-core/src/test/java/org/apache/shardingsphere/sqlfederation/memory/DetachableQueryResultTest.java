@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.memory;
+
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DetachableQueryResultTest {
+    
+    @Test
+    public void assertNextWithoutDetach() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.getObject(1)).thenReturn(1L, 2L, 3L);
+        DetachableQueryResult actual = new DetachableQueryResult(new JDBCStreamQueryResult(resultSet), new MySQLDatabaseType(), new SQLFederationMemoryContext(0L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(3L));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextAfterDetach() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.getObject(1)).thenReturn(1L);
+        when(resultSet.getLong(1)).thenReturn(2L, 3L);
+        SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(1L);
+        DetachableQueryResult actual = new DetachableQueryResult(new JDBCStreamQueryResult(resultSet), new MySQLDatabaseType(), memoryContext);
+        assertTrue(actual.next());
+        actual.detach();
+        assertThat(actual.getValue(1, Object.class), is(1L));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(3L));
+        assertFalse(actual.next());
+        assertTrue(memoryContext.getSpilledBytes() > 0L);
+        actual.close();
+        memoryContext.close();
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(metaData.isSigned(1)).thenReturn(true);
+        when(result.getMetaData()).thenReturn(metaData);
+        when(result.next()).thenReturn(true, true, true, false);
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.memory;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SpillRowCodecTest {
+    
+    @Test
+    public void assertWriteAndReadWithLob() throws IOException, SQLException {
+        Blob blob = mock(Blob.class);
+        when(blob.length()).thenReturn(3L);
+        when(blob.getBytes(1L, 3)).thenReturn(new byte[]{1, 2, 3});
+        Clob clob = mock(Clob.class);
+        when(clob.length()).thenReturn(3L);
+        when(clob.getSubString(1L, 3)).thenReturn("foo");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            SpillRowCodec.write(output, new Object[]{blob, clob});
+        }
+        Object[] actual = SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), 2);
+        assertThat(actual[0], is((Object) new byte[]{1, 2, 3}));
+        assertThat(actual[1], is((Object) "foo"));
+    }
+    
+    @Test
+    public void assertEncode() throws IOException {
+        assertThat(SpillRowCodec.encode(new byte[]{1, 2}), is(new byte[]{1, 2}));
+        assertThat(SpillRowCodec.encode("foo"), is("foo".getBytes(StandardCharsets.UTF_8)));
+        byte[] encodedLong = SpillRowCodec.encode(1L);
+        assertThat(SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(encodedLong)), 1)[0], is((Object) 1L));
+    }
+    
+    @Test(expected = IOException.class)
+    public void assertWriteWithUnreadableBlob() throws IOException, SQLException {
+        Blob blob = mock(Blob.class);
+        when(blob.length()).thenThrow(SQLException.class);
+        SpillRowCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new Object[]{blob});
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.memory;
+
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SpillableQueryResultTest {
+    
+    @Test
+    public void assertNextWithoutSpill() throws SQLException {
+        SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(1024L * 1024L);
+        SpillableQueryResult actual = new SpillableQueryResult(mockResultSet(), new MySQLDatabaseType(), memoryContext);
+        assertTrue(memoryContext.getUsedMemory() > 0L);
+        assertRows(actual);
+        assertThat(memoryContext.getUsedMemory(), is(0L));
+        assertThat(memoryContext.getSpilledBytes(), is(0L));
+        memoryContext.close();
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsRead() throws SQLException {
+        SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(1024L * 1024L);
+        SpillableQueryResult actual = new SpillableQueryResult(mockResultSet(), new MySQLDatabaseType(), memoryContext);
+        assertTrue(actual.next());
+        actual.close();
+        assertThat(memoryContext.getUsedMemory(), is(0L));
+        memoryContext.close();
+    }
+    
+    @Test
+    public void assertGetInputStream() throws SQLException, IOException {
+        SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(1024L * 1024L);
+        SpillableQueryResult actual = new SpillableQueryResult(mockResultSet(), new MySQLDatabaseType(), memoryContext);
+        assertTrue(actual.next());
+        byte[] expected = "foo".getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[expected.length];
+        assertThat(actual.getInputStream(2, "Ascii").read(bytes), is(expected.length));
+        assertThat(bytes, is(expected));
+        memoryContext.close();
+    }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(1L);
+        SpillableQueryResult actual = new SpillableQueryResult(mockResultSet(), new MySQLDatabaseType(), memoryContext);
+        assertRows(actual);
+        assertThat(memoryContext.getUsedMemory(), is(0L));
+        assertTrue(memoryContext.getSpilledBytes() > 0L);
+        actual.close();
+        memoryContext.close();
+    }
+    
+    private void assertRows(final SpillableQueryResult actual) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1L));
+        assertThat(actual.getValue(2, Object.class), is("foo"));
+        assertThat(actual.getValue(3, Object.class), is(new BigDecimal("10.50")));
+        assertThat(actual.getValue(4, Object.class), is(new Timestamp(0L)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2L));
+        assertNull(actual.getValue(2, Object.class));
+        assertFalse(actual.next());
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(4);
+        when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(metaData.isSigned(1)).thenReturn(true);
+        when(metaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(metaData.getColumnType(3)).thenReturn(Types.DECIMAL);
+        when(metaData.getColumnType(4)).thenReturn(Types.TIMESTAMP);
+        when(result.getMetaData()).thenReturn(metaData);
+        when(result.next()).thenReturn(true, true, false);
+        when(result.getLong(1)).thenReturn(1L, 2L);
+        when(result.getString(2)).thenReturn("foo", null);
+        when(result.getBigDecimal(3)).thenReturn(new BigDecimal("10.50"), null);
+        when(result.getTimestamp(4)).thenReturn(new Timestamp(0L), null);
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.row;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLFederationRowQueueTest {
+    
+    @Test
+    public void assertTakeRowsPutByOtherThread() throws SQLException, InterruptedException {
+        SQLFederationRowQueue rowQueue = new SQLFederationRowQueue(1);
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 10; i++) {
+                    rowQueue.put(new Object[]{i});
+                }
+                rowQueue.finish();
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        for (int i = 0; i < 10; i++) {
+            assertThat(rowQueue.take()[0], is(i));
+        }
+        assertThat(rowQueue.take(), nullValue());
+        assertThat(rowQueue.take(), nullValue());
+        producer.join();
+    }
+    
+    @Test
+    public void assertOfferWhenFull() throws SQLException, InterruptedException {
+        SQLFederationRowQueue rowQueue = new SQLFederationRowQueue(1);
+        assertTrue(rowQueue.offer(new Object[]{1}));
+        assertFalse(rowQueue.offer(new Object[]{2}));
+        assertFalse(rowQueue.isClosed());
+        assertThat(rowQueue.take()[0], is(1));
+        rowQueue.close();
+        assertFalse(rowQueue.offer(new Object[]{3}));
+        assertTrue(rowQueue.isClosed());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertTakeWhenFailed() throws SQLException, InterruptedException {
+        SQLFederationRowQueue rowQueue = new SQLFederationRowQueue(2);
+        rowQueue.put(new Object[]{1});
+        rowQueue.fail(new IllegalStateException("scan failed"));
+        assertThat(rowQueue.take()[0], is(1));
+        rowQueue.take();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertTakeWhenFailedWithFullQueue() throws SQLException, InterruptedException {
+        SQLFederationRowQueue rowQueue = new SQLFederationRowQueue(1);
+        rowQueue.put(new Object[]{1});
+        rowQueue.fail(new OutOfMemoryError("scan failed"));
+        assertThat(rowQueue.take()[0], is(1));
+        rowQueue.take();
+    }
+    
+    @Test
+    public void assertTakeWhenClosedByOtherThread() throws SQLException, InterruptedException {
+        SQLFederationRowQueue rowQueue = new SQLFederationRowQueue(1);
+        Thread closer = new Thread(() -> {
+            try {
+                Thread.sleep(200L);
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            rowQueue.close();
+        });
+        closer.start();
+        assertThat(rowQueue.take(), nullValue());
+        closer.join();
+    }
+    
+    @Test
+    public void assertPutAfterClosed() throws InterruptedException {
+        SQLFederationRowQueue rowQueue = new SQLFederationRowQueue(1);
+        assertTrue(rowQueue.put(new Object[]{1}));
+        CountDownLatch blocked = new CountDownLatch(1);
+        boolean[] actual = new boolean[]{true};
+        Thread producer = new Thread(() -> {
+            try {
+                blocked.countDown();
+                actual[0] = rowQueue.put(new Object[]{2});
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        blocked.await();
+        rowQueue.close();
+        producer.join();
+        assertFalse(actual[0]);
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sqlfederation.original;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.jdbc.CalciteConnection;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRule
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.sqlfederation.executor.FilterableTableScanExecutor;
+import org.apache.shardingsphere.sqlfederation.memory.SQLFederationMemoryContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContextFactory;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.filter.FilterableDatabase;
@@ -44,6 +46,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Original sql federation executor.
@@ -73,6 +77,8 @@ public final class OriginalSQLFederationExecutor implements SQLFederationExecuto
     
     private Statement statement;
     
+    private final Map<Connection, TableScanExecutorContext> executorContexts = new ConcurrentHashMap<>();
+    
     static {
         try {
             Class.forName(DRIVER_NAME);
@@ -105,13 +111,16 @@ public final class OriginalSQLFederationExecutor implements SQLFederationExecuto
     private Connection createConnection(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
                                         final JDBCExecutorCallback<? extends ExecuteResult> callback, final SQLFederationExecutorContext federationContext) throws SQLException {
         Connection result = DriverManager.getConnection(CONNECTION_URL, optimizerContext.getParserContexts().get(databaseName).getDialectProps());
-        addSchema(result.unwrap(CalciteConnection.class), prepareEngine, callback, federationContext);
+        SQLFederationMemoryContext memoryContext = new SQLFederationMemoryContext(props.<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_QUERY_MEMORY_LIMIT));
+        TableScanExecutorContext executorContext = new TableScanExecutorContext(databaseName, schemaName, props, federationContext, memoryContext, jdbcExecutor.getExecutorEngine());
+        executorContexts.put(result, executorContext);
+        addSchema(result.unwrap(CalciteConnection.class), prepareEngine, callback, federationContext, executorContext);
         return result;
     }
     
     private void addSchema(final CalciteConnection connection, final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
-                           final JDBCExecutorCallback<? extends ExecuteResult> callback, final SQLFederationExecutorContext federationContext) throws SQLException {
-        TableScanExecutorContext executorContext = new TableScanExecutorContext(databaseName, schemaName, props, federationContext);
+                           final JDBCExecutorCallback<? extends ExecuteResult> callback, final SQLFederationExecutorContext federationContext,
+                           final TableScanExecutorContext executorContext) throws SQLException {
         FilterableTableScanExecutor executor = new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, globalRuleMetaData, executorContext, eventBusContext);
         FilterableDatabase database = new FilterableDatabase(federationContext.getDatabases().get(databaseName.toLowerCase()), executor);
         // TODO support database.schema.table query when switch to AdvancedFederationExecutor, calcite jdbc just support schema.table query now
@@ -138,6 +147,12 @@ public final class OriginalSQLFederationExecutor implements SQLFederationExecuto
             statement.close();
             connection.close();
         }
+        if (null != connection) {
+            TableScanExecutorContext executorContext = executorContexts.remove(connection);
+            if (null != executorContext) {
+                executorContext.close();
+            }
+        }
     }
     
     @Override
@@ -42,6 +42,8 @@ public final class DatabaseMetaDataNode {
     
     private static final String VIEWS_NODE = "views";
     
+    private static final String TABLES_VERSION_HASH_NODE = "tables_version_hash";
+    
     private static final String ACTIVE_VERSION = "active_version";
     
     private static final String VERSIONS = "versions";
@@ -98,6 +100,17 @@ public final class DatabaseMetaDataNode {
         return String.join("/", getMetaDataSchemaPath(databaseName, schemaName), TABLES_NODE);
     }
     
+    /**
+     * Get meta data tables version hash path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return tables version hash path
+     */
+    public static String getMetaDataTablesVersionHashPath(final String databaseName, final String schemaName) {
+        return String.join("/", getMetaDataSchemaPath(databaseName, schemaName), TABLES_VERSION_HASH_NODE);
+    }
+    
     /**
      * Get meta data views path.
      *
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.mode.metadata.persist.service.schema;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.shardingsphere.infra.metadata.database.schema.SchemaManager;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
@@ -27,10 +28,12 @@ import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
 import org.apache.shardingsphere.mode.metadata.persist.node.DatabaseMetaDataNode;
 import org.apache.shardingsphere.mode.persist.PersistRepository;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.LinkedHashMap;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.TreeMap;
 
 /**
  * Table meta data persist service.
@@ -49,8 +52,25 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
     
     @Override
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
-        tables.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key.toLowerCase()),
-                YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(value))));
+        if (tables.isEmpty()) {
+            return;
+        }
+        Map<String, String> yamlTables = new TreeMap<>();
+        tables.forEach((key, value) -> yamlTables.put(key.toLowerCase(), YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(value))));
+        String versionHash = getVersionHash(yamlTables);
+        String versionHashPath = DatabaseMetaDataNode.getMetaDataTablesVersionHashPath(databaseName, schemaName);
+        if (versionHash.equals(repository.get(versionHashPath))) {
+            return;
+        }
+        repository.delete(versionHashPath);
+        yamlTables.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key), value));
+        repository.persist(versionHashPath, versionHash);
+    }
+    
+    private String getVersionHash(final Map<String, String> yamlTables) {
+        StringBuilder result = new StringBuilder();
+        yamlTables.forEach((key, value) -> result.append(key).append('\n').append(value));
+        return DigestUtils.md5Hex(result.toString().getBytes(StandardCharsets.UTF_8));
     }
     
     @Override
@@ -61,6 +81,7 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
     
     @Override
     public void delete(final String databaseName, final String schemaName, final String tableName) {
+        repository.delete(DatabaseMetaDataNode.getMetaDataTablesVersionHashPath(databaseName, schemaName));
         repository.delete(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, tableName.toLowerCase()));
     }
     
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
 import org.apache.shardingsphere.mode.persist.PersistRepository;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -34,6 +35,7 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -44,6 +46,9 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -65,6 +70,35 @@ public final class DatabaseMetaDataPersistServiceTest {
         verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables"), anyString());
     }
     
+    @Test
+    public void assertCompareAndPersistWithDroppedTable() {
+        ShardingSphereTable table = new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlShardingSphereTable.class));
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.getTables().put("t_order", table);
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Arrays.asList("t_order", "t_order_item"));
+        when(repository.get("/metadata/foo_db/schemas/foo_schema/tables/t_order")).thenReturn(readYAML());
+        when(repository.get("/metadata/foo_db/schemas/foo_schema/tables/t_order_item")).thenReturn(readYAML().replace("t_order", "t_order_item"));
+        new DatabaseMetaDataPersistService(repository).compareAndPersist("foo_db", "foo_schema", schema);
+        verify(repository).delete("/metadata/foo_db/schemas/foo_schema/tables/t_order_item");
+        verify(repository, never()).delete("/metadata/foo_db/schemas/foo_schema/tables/t_order");
+    }
+    
+    @Test
+    public void assertPersistWithUnchangedVersionHash() {
+        ShardingSphereTable table = new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlShardingSphereTable.class));
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.getTables().put("t_order", table);
+        DatabaseMetaDataPersistService databaseMetaDataPersistService = new DatabaseMetaDataPersistService(repository);
+        databaseMetaDataPersistService.persist("foo_db", "foo_schema", schema);
+        ArgumentCaptor<String> versionHash = ArgumentCaptor.forClass(String.class);
+        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables_version_hash"), versionHash.capture());
+        when(repository.get("/metadata/foo_db/schemas/foo_schema/tables_version_hash")).thenReturn(versionHash.getValue());
+        databaseMetaDataPersistService.persist("foo_db", "foo_schema", schema);
+        verify(repository, times(1)).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/t_order"), anyString());
+        verify(repository, never()).getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables");
+        verify(repository, never()).delete(startsWith("/metadata/foo_db/schemas/foo_schema/tables/"));
+    }
+    
     @Test
     public void assertPersist() {
         ShardingSphereTable table = new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlShardingSphereTable.class));
@@ -72,6 +106,7 @@ public final class DatabaseMetaDataPersistServiceTest {
         schema.getTables().put("t_order", table);
         new DatabaseMetaDataPersistService(repository).persist("foo_db", "foo_schema", schema);
         verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/t_order"), anyString());
+        verify(repository).delete("/metadata/foo_db/schemas/foo_schema/tables_version_hash");
     }
     
     @Test
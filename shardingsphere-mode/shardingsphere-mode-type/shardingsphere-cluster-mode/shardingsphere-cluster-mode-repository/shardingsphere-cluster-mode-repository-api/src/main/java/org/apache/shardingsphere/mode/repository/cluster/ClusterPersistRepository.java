@@ -20,6 +20,8 @@ package org.apache.shardingsphere.mode.repository.cluster;
 import org.apache.shardingsphere.mode.persist.PersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
+import java.util.Map;
+
 /**
  * Cluster persist repository.
  */
@@ -32,6 +34,17 @@ public interface ClusterPersistRepository extends PersistRepository {
      */
     void init(ClusterPersistRepositoryConfiguration config);
     
+    /**
+     * Persist data of several keys in one batch.
+     *
+     * <p>Repositories which support transaction persist all keys in one transaction.</p>
+     *
+     * @param keyValues values of keys
+     */
+    default void batchPersist(final Map<String, String> keyValues) {
+        keyValues.forEach(this::persist);
+    }
+    
     /**
      * Persist ephemeral data.
      *
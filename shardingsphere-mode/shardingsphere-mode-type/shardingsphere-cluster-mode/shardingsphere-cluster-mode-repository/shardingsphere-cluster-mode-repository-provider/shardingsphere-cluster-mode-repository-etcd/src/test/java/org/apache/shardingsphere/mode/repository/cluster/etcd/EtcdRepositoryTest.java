@@ -23,9 +23,12 @@ import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.kv.TxnResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
@@ -38,6 +41,7 @@ import org.apache.shardingsphere.mode.repository.cluster.etcd.props.EtcdProperti
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -46,8 +50,10 @@ import org.mockito.plugins.MemberAccessor;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -57,9 +63,11 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_SELF;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -156,6 +164,25 @@ public final class EtcdRepositoryTest {
         assertThat(iterator.next(), is("key2"));
     }
     
+    @Test
+    @SuppressWarnings("unchecked")
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    public void assertBatchPersist() {
+        Txn txn = mock(Txn.class, RETURNS_SELF);
+        CompletableFuture<TxnResponse> txnFuture = mock(CompletableFuture.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.commit()).thenReturn(txnFuture);
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1);
+        keyValues.put("key1", "value1");
+        keyValues.put("key2", "value2");
+        repository.batchPersist(keyValues);
+        ArgumentCaptor<Op> operations = ArgumentCaptor.forClass(Op.class);
+        verify(txn).Then(operations.capture());
+        assertThat(operations.getAllValues().size(), is(2));
+        verify(txnFuture).get();
+        verify(kv, never()).put(any(ByteSequence.class), any(ByteSequence.class));
+    }
+    
     @Test
     @SuppressWarnings("unchecked")
     public void assertPersistEphemeral() {
@@ -22,11 +22,13 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.utils.ZKPaths;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.instance.InstanceContextAware;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
@@ -41,17 +43,22 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.Zookeepe
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.NoNodeException;
 import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -156,6 +163,57 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        try {
+            List<CuratorOp> operations = new LinkedList<>();
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                operations.add(client.transactionOp().setData().forPath(entry.getKey(), entry.getValue().getBytes(StandardCharsets.UTF_8)));
+            }
+            client.transaction().forOperations(operations);
+        } catch (final NoNodeException ignore) {
+            batchPersistWithMissingKeys(keyValues);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            CuratorZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
+    private void batchPersistWithMissingKeys(final Map<String, String> keyValues) {
+        try {
+            List<CuratorOp> operations = new LinkedList<>();
+            Collection<String> existedParentKeys = new HashSet<>();
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                byte[] value = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                if (isExisted(entry.getKey())) {
+                    operations.add(client.transactionOp().setData().forPath(entry.getKey(), value));
+                } else {
+                    createParentIfNeeded(ZKPaths.getPathAndNode(entry.getKey()).getPath(), existedParentKeys);
+                    operations.add(client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(entry.getKey(), value));
+                }
+            }
+            client.transaction().forOperations(operations);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            CuratorZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
+    private void createParentIfNeeded(final String parentKey, final Collection<String> existedParentKeys) throws Exception {
+        if (ZKPaths.PATH_SEPARATOR.equals(parentKey) || existedParentKeys.contains(parentKey)) {
+            return;
+        }
+        if (!isExisted(parentKey)) {
+            try {
+                client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(parentKey, new byte[0]);
+            } catch (final NodeExistsException ignore) {
+            }
+        }
+        existedParentKeys.add(parentKey);
+    }
+    
     private void update(final String key, final String value) {
         try {
             client.setData().forPath(key, value.getBytes(StandardCharsets.UTF_8));
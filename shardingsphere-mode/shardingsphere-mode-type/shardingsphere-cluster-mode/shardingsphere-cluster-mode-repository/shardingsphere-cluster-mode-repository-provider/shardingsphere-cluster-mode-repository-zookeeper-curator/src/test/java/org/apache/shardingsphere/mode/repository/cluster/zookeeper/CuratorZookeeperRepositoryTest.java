@@ -22,6 +22,7 @@ import lombok.SneakyThrows;
 import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
+import org.apache.curator.framework.api.ACLPathAndBytesable;
 import org.apache.curator.framework.api.ACLProvider;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
@@ -30,6 +31,10 @@ import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
+import org.apache.curator.framework.api.transaction.CuratorMultiTransaction;
+import org.apache.curator.framework.api.transaction.CuratorOp;
+import org.apache.curator.framework.api.transaction.TransactionCreateBuilder;
+import org.apache.curator.framework.api.transaction.TransactionOp;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
@@ -42,6 +47,7 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.Zookeepe
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.ZookeeperInternalLockHolder;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.NoNodeException;
 import org.apache.zookeeper.data.Stat;
 import org.junit.Before;
 import org.junit.Test;
@@ -56,6 +62,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -67,7 +74,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -178,6 +188,54 @@ public final class CuratorZookeeperRepositoryTest {
         verify(setDataBuilder).forPath("/test", "value2".getBytes(StandardCharsets.UTF_8));
     }
     
+    @Test
+    @SneakyThrows
+    public void assertBatchPersist() {
+        TransactionOp transactionOp = mock(TransactionOp.class, RETURNS_DEEP_STUBS);
+        CuratorOp firstOperation = mock(CuratorOp.class);
+        when(transactionOp.setData().forPath("/test/batch/foo", "value5".getBytes(StandardCharsets.UTF_8))).thenReturn(firstOperation);
+        CuratorOp secondOperation = mock(CuratorOp.class);
+        when(transactionOp.setData().forPath("/test/batch/bar", "value6".getBytes(StandardCharsets.UTF_8))).thenReturn(secondOperation);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1);
+        keyValues.put("/test/batch/foo", "value5");
+        keyValues.put("/test/batch/bar", "value6");
+        REPOSITORY.batchPersist(keyValues);
+        verify(transaction).forOperations(Arrays.asList(firstOperation, secondOperation));
+        verify(existsBuilder, never()).forPath(anyString());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    @SneakyThrows
+    public void assertBatchPersistWithMissingKey() {
+        when(existsBuilder.forPath("/test/batch/existed")).thenReturn(new Stat());
+        TransactionOp transactionOp = mock(TransactionOp.class, RETURNS_DEEP_STUBS);
+        CuratorOp setDataOperation = mock(CuratorOp.class);
+        when(transactionOp.setData().forPath("/test/batch/existed", "value5".getBytes(StandardCharsets.UTF_8))).thenReturn(setDataOperation);
+        CuratorOp missingSetDataOperation = mock(CuratorOp.class);
+        when(transactionOp.setData().forPath("/test/batch/new", "value6".getBytes(StandardCharsets.UTF_8))).thenReturn(missingSetDataOperation);
+        CuratorOp createOperation = mock(CuratorOp.class);
+        ACLPathAndBytesable<CuratorOp> createPathAndBytesable = mock(ACLPathAndBytesable.class);
+        when(createPathAndBytesable.forPath("/test/batch/new", "value6".getBytes(StandardCharsets.UTF_8))).thenReturn(createOperation);
+        TransactionCreateBuilder<CuratorOp> transactionCreateBuilder = mock(TransactionCreateBuilder.class);
+        when(transactionCreateBuilder.withMode(CreateMode.PERSISTENT)).thenReturn(createPathAndBytesable);
+        when(transactionOp.create()).thenReturn(transactionCreateBuilder);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(transaction.forOperations(Arrays.asList(setDataOperation, missingSetDataOperation))).thenThrow(new NoNodeException());
+        when(client.transaction()).thenReturn(transaction);
+        when(protect.withMode(CreateMode.PERSISTENT)).thenReturn(protect);
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1);
+        keyValues.put("/test/batch/existed", "value5");
+        keyValues.put("/test/batch/new", "value6");
+        REPOSITORY.batchPersist(keyValues);
+        verify(protect).forPath("/test/batch", new byte[0]);
+        verify(transaction).forOperations(Arrays.asList(setDataOperation, createOperation));
+    }
+    
     @Test
     @SneakyThrows
     public void assertPersistEphemeralNotExist() {
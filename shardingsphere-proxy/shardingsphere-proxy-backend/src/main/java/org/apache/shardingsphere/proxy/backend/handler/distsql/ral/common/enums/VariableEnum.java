@@ -28,7 +28,9 @@ public enum VariableEnum {
     
     CACHED_CONNECTIONS,
     
-    TRANSACTION_TYPE;
+    TRANSACTION_TYPE,
+    
+    SQL_FEDERATION_PLAN_CACHE;
     
     /**
      * Returns the variable constant of the specified variable name.
@@ -26,6 +26,8 @@ import org.apache.shardingsphere.proxy.backend.handler.distsql.ral.QueryableRALB
 import org.apache.shardingsphere.proxy.backend.handler.distsql.ral.common.enums.VariableEnum;
 import org.apache.shardingsphere.proxy.backend.exception.UnsupportedVariableException;
 import org.apache.shardingsphere.proxy.backend.util.SystemPropertyUtil;
+import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
+import org.apache.shardingsphere.sqlfederation.spi.ExecutionPlanCacheStatistics;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.util.Arrays;
@@ -55,7 +57,7 @@ public final class ShowVariableHandler extends QueryableRALBackendHandler<ShowVa
         if (isConfigurationKey(key)) {
             return Collections.singletonList(new LocalDataQueryResultRow(key.toLowerCase(), getConfigurationValue(contextManager, key)));
         } else {
-            return Collections.singletonList(new LocalDataQueryResultRow(key.toLowerCase(), getSpecialValue(key)));
+            return Collections.singletonList(new LocalDataQueryResultRow(key.toLowerCase(), getSpecialValue(contextManager, key)));
         }
     }
     
@@ -67,7 +69,7 @@ public final class ShowVariableHandler extends QueryableRALBackendHandler<ShowVa
         return contextManager.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.valueOf(key)).toString();
     }
     
-    private String getSpecialValue(final String key) {
+    private String getSpecialValue(final ContextManager contextManager, final String key) {
         VariableEnum variable = VariableEnum.getValueOf(key);
         switch (variable) {
             case AGENT_PLUGINS_ENABLED:
@@ -81,6 +83,9 @@ public final class ShowVariableHandler extends QueryableRALBackendHandler<ShowVa
             case TRANSACTION_TYPE:
                 TransactionType transactionType = getConnectionSession().getTransactionStatus().getTransactionType();
                 return transactionType.name();
+            case SQL_FEDERATION_PLAN_CACHE:
+                return contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData().findSingleRule(SQLFederationRule.class)
+                        .flatMap(SQLFederationRule::getExecutionPlanCacheStatistics).map(ExecutionPlanCacheStatistics::toString).orElse("");
             default:
         }
         throw new UnsupportedVariableException(key);
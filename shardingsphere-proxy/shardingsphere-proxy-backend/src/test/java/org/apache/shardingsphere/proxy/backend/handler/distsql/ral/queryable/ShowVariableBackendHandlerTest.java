@@ -32,12 +32,15 @@ import org.apache.shardingsphere.proxy.backend.handler.distsql.ral.common.enums.
 import org.apache.shardingsphere.proxy.backend.exception.UnsupportedVariableException;
 import org.apache.shardingsphere.proxy.backend.util.ProxyContextRestorer;
 import org.apache.shardingsphere.proxy.backend.util.SystemPropertyUtil;
+import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
+import org.apache.shardingsphere.sqlfederation.spi.ExecutionPlanCacheStatistics;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -109,6 +112,23 @@ public final class ShowVariableBackendHandlerTest extends ProxyContextRestorer {
         assertThat(rowData.get(1), is(Boolean.TRUE.toString()));
     }
     
+    @Test
+    public void assertShowSQLFederationPlanCache() throws SQLException {
+        connectionSession.setCurrentDatabase("db");
+        SQLFederationRule sqlFederationRule = mock(SQLFederationRule.class);
+        when(sqlFederationRule.getExecutionPlanCacheStatistics()).thenReturn(Optional.of(new ExecutionPlanCacheStatistics(3L, 1L, 0L, 1L)));
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().findSingleRule(SQLFederationRule.class))
+                .thenReturn(Optional.of(sqlFederationRule));
+        ShowVariableHandler backendHandler = new ShowVariableHandler();
+        backendHandler.init(new ShowVariableStatement("sql_federation_plan_cache"), connectionSession);
+        ResponseHeader actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponseHeader.class));
+        backendHandler.next();
+        List<Object> rowData = backendHandler.getRowData().getData();
+        assertThat(rowData.get(0), is("sql_federation_plan_cache"));
+        assertThat(rowData.get(1), is("hit_count=3, miss_count=1, eviction_count=0, size=1"));
+    }
+    
     @Test
     public void assertShowPropsVariable() throws SQLException {
         connectionSession.setCurrentDatabase("db");
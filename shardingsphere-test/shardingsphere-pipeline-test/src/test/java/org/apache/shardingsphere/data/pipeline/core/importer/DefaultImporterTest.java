@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.config.TableNameSchemaNameMap
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.ShardingSpherePipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
@@ -42,8 +43,11 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +56,9 @@ import java.util.Set;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -82,8 +89,8 @@ public final class DefaultImporterTest {
     
     @Before
     public void setUp() throws SQLException {
-        jdbcImporter = new DefaultImporter(mockImporterConfiguration(), dataSourceManager, channel, new FixturePipelineJobProgressListener());
-        when(dataSourceManager.getDataSource(dataSourceConfig)).thenReturn(dataSource);
+        jdbcImporter = new DefaultImporter(mockImporterConfiguration(false), dataSourceManager, channel, new FixturePipelineJobProgressListener());
+        when(dataSourceManager.getDataSource(any())).thenReturn(dataSource);
         when(dataSource.getConnection()).thenReturn(connection);
     }
     
@@ -99,6 +106,55 @@ public final class DefaultImporterTest {
         verify(preparedStatement).addBatch();
     }
     
+    @Test
+    public void assertWriteInsertDataRecordsWithMultiRowInsert() throws SQLException {
+        DefaultImporter importer = new DefaultImporter(mockImporterConfiguration(true), dataSourceManager, channel, new FixturePipelineJobProgressListener());
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(getDataRecord("INSERT", 1), getDataRecord("INSERT", 2)));
+        importer.run();
+        verify(connection).prepareStatement("INSERT INTO test_table(id,user,status) VALUES(?,?,?),(?,?,?)");
+        verify(preparedStatement, times(6)).setObject(anyInt(), any());
+        verify(preparedStatement).executeUpdate();
+        verify(preparedStatement, never()).addBatch();
+    }
+    
+    @Test
+    public void assertWriteInsertDataRecordsWithMultiRowInsertFallback() throws SQLException {
+        PreparedStatement multiRowInsertStatement = mock(PreparedStatement.class);
+        when(multiRowInsertStatement.executeUpdate()).thenThrow(new SQLException("Duplicate entry"));
+        when(connection.prepareStatement("INSERT INTO test_table(id,user,status) VALUES(?,?,?),(?,?,?)")).thenReturn(multiRowInsertStatement);
+        when(connection.prepareStatement("INSERT INTO test_table(id,user,status) VALUES(?,?,?)")).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(getDataRecord("INSERT", 1), getDataRecord("INSERT", 2)));
+        new DefaultImporter(mockImporterConfiguration(true), dataSourceManager, channel, new FixturePipelineJobProgressListener()).run();
+        verify(connection).rollback();
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    public void assertWriteInsertDataRecordsWithDataRecordRouter() throws SQLException {
+        DataRecord routedRecord = getDataRecord("INSERT", "t_order", 10, 3);
+        DataRecord unroutedRecord = getDataRecord("INSERT", "t_order_item", 1, 1);
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(routedRecord, unroutedRecord));
+        new DefaultImporter(mockShardingImporterConfiguration(), dataSourceManager, channel, new FixturePipelineJobProgressListener()).run();
+        verify(dataSourceManager).getDataSource(any(StandardPipelineDataSourceConfiguration.class));
+        verify(connection).prepareStatement("INSERT INTO t_order_0(order_id,user_id,status) VALUES(?,?,?)");
+        verify(connection).prepareStatement("INSERT INTO t_order_item(order_id,user_id,status) VALUES(?,?,?)");
+        verify(preparedStatement).setObject(1, 10);
+        verify(preparedStatement).setObject(2, 3);
+        verify(preparedStatement, times(2)).executeBatch();
+    }
+    
+    @Test
+    public void assertWriteRoutedInsertDataRecordWithUpsertClause() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(getDataRecord("INSERT", "t_order", 10, 3)));
+        new DefaultImporter(mockShardingImporterConfiguration("jdbc:mysql://127.0.0.1:3306/%s"), dataSourceManager, channel, new FixturePipelineJobProgressListener()).run();
+        verify(connection).prepareStatement("INSERT INTO t_order_0(order_id,user_id,status) VALUES(?,?,?) ON DUPLICATE KEY UPDATE status=VALUES(status)");
+        verify(preparedStatement).executeBatch();
+    }
+    
     @Test
     public void assertDeleteDataRecord() throws SQLException {
         DataRecord deleteRecord = getDataRecord("DELETE");
@@ -152,25 +208,63 @@ public final class DefaultImporterTest {
         return RecordUtil.extractConditionColumns(dataRecord, Collections.singleton("user"));
     }
     
-    private List<Record> mockRecords(final DataRecord dataRecord) {
-        List<Record> result = new LinkedList<>();
-        result.add(dataRecord);
+    private List<Record> mockRecords(final DataRecord... dataRecords) {
+        List<Record> result = new LinkedList<>(Arrays.asList(dataRecords));
         result.add(new FinishedRecord(new PlaceholderPosition()));
         return result;
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
         result.addColumn(new Column("status", recordType, true, false));
         return result;
     }
     
-    private ImporterConfiguration mockImporterConfiguration() {
+    private DataRecord getDataRecord(final String recordType, final String tableName, final int orderId, final int userId) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
+        result.setTableName(tableName);
+        result.setType(recordType);
+        result.addColumn(new Column("order_id", orderId, false, true));
+        result.addColumn(new Column("user_id", userId, true, false));
+        result.addColumn(new Column("status", recordType, true, false));
+        return result;
+    }
+    
+    private ImporterConfiguration mockShardingImporterConfiguration() {
+        return mockShardingImporterConfiguration("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL");
+    }
+    
+    private ImporterConfiguration mockShardingImporterConfiguration(final String jdbcUrlFormat) {
+        String parameter = "dataSources:\n"
+                + "  ds_0:\n    dataSourceClassName: com.zaxxer.hikari.HikariDataSource\n    jdbcUrl: " + String.format(jdbcUrlFormat, "ds_0") + "\n    username: root\n"
+                + "  ds_1:\n    dataSourceClassName: com.zaxxer.hikari.HikariDataSource\n    jdbcUrl: " + String.format(jdbcUrlFormat, "ds_1") + "\n    username: root\n"
+                + "rules:\n"
+                + "- !SHARDING\n"
+                + "  tables:\n"
+                + "    t_order:\n"
+                + "      actualDataNodes: ds_${0..1}.t_order_${0..1}\n"
+                + "      databaseStrategy:\n        standard:\n          shardingColumn: user_id\n          shardingAlgorithmName: database_inline\n"
+                + "      tableStrategy:\n        standard:\n          shardingColumn: order_id\n          shardingAlgorithmName: table_inline\n"
+                + "  shardingAlgorithms:\n"
+                + "    database_inline:\n      type: INLINE\n      props:\n        algorithm-expression: ds_${user_id % 2}\n"
+                + "    table_inline:\n      type: INLINE\n      props:\n        algorithm-expression: t_order_${order_id % 2}\n";
+        Map<LogicTableName, Set<String>> shardingColumnsMap = new HashMap<>(2, 1);
+        shardingColumnsMap.put(new LogicTableName("t_order"), new HashSet<>(Arrays.asList("order_id", "user_id")));
+        shardingColumnsMap.put(new LogicTableName("t_order_item"), Collections.singleton("order_id"));
+        return new ImporterConfiguration(new ShardingSpherePipelineDataSourceConfiguration(parameter), shardingColumnsMap,
+                new TableNameSchemaNameMapping(Collections.emptyMap()), 1000, false, null, 3, 3);
+    }
+    
+    private ImporterConfiguration mockImporterConfiguration(final boolean multiRowInsert) {
         Map<LogicTableName, Set<String>> shardingColumnsMap = Collections.singletonMap(new LogicTableName("test_table"), Collections.singleton("user"));
-        return new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, new TableNameSchemaNameMapping(Collections.emptyMap()), 1000, null, 3, 3);
+        return new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, new TableNameSchemaNameMapping(Collections.emptyMap()), 1000, multiRowInsert, null, 3, 3);
     }
 }
@@ -22,19 +22,23 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -62,6 +66,40 @@ public final class MultiplexMemoryPipelineChannelTest {
         execute(records -> assertThat(records.size(), is(1)), 2, new FinishedRecord(new PlaceholderPosition()));
     }
     
+    @Test
+    public void assertAckAfterPreviousRecordsAckedInOtherChannel() throws InterruptedException {
+        DataRecord firstRecord = findDataRecord(1);
+        DataRecord secondRecord = findDataRecord(0);
+        List<Record> ackedRecords = new LinkedList<>();
+        MultiplexMemoryPipelineChannel memoryChannel = new MultiplexMemoryPipelineChannel(CHANNEL_NUMBER, 10000, ackedRecords::addAll);
+        memoryChannel.pushRecord(firstRecord);
+        memoryChannel.pushRecord(secondRecord);
+        Thread secondChannelConsumer = new Thread(() -> memoryChannel.ack(memoryChannel.fetchRecords(1, 1)));
+        secondChannelConsumer.start();
+        secondChannelConsumer.join();
+        assertTrue(ackedRecords.isEmpty());
+        Thread firstChannelConsumer = new Thread(() -> memoryChannel.ack(memoryChannel.fetchRecords(1, 1)));
+        firstChannelConsumer.start();
+        firstChannelConsumer.join();
+        assertThat(ackedRecords.size(), is(2));
+        assertThat(ackedRecords.get(0), is(firstRecord));
+        assertThat(ackedRecords.get(1), is(secondRecord));
+        memoryChannel.close();
+    }
+    
+    private DataRecord findDataRecord(final int channelIndex) {
+        return IntStream.rangeClosed(1, 100).mapToObj(this::createDataRecord)
+                .filter(each -> channelIndex == Math.abs(each.getKey().hashCode() % CHANNEL_NUMBER)).findFirst().orElseThrow(IllegalStateException::new);
+    }
+    
+    private DataRecord createDataRecord(final int id) {
+        DataRecord result = new DataRecord(new IntPosition(id), 1);
+        result.setType(IngestDataChangeType.INSERT);
+        result.setTableName("t_order");
+        result.addColumn(new Column("order_id", id, true, true));
+        return result;
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private void execute(final AckCallback ackCallback, final int recordCount, final Record... records) {
         CountDownLatch countDownLatch = new CountDownLatch(recordCount);
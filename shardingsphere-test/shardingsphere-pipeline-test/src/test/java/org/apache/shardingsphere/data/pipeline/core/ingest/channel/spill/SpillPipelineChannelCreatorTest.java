@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.MemoryPipelineChannelCreator;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.MultiplexMemoryPipelineChannel;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillPipelineChannelCreatorTest {
+    
+    private static final int RECORD_COUNT = 20;
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertCreateSingleOutputConcurrencyPipelineChannel() {
+        assertThat(createPipelineChannelCreator().createPipelineChannel(1, records -> {
+        }), instanceOf(SpillPipelineChannel.class));
+    }
+    
+    @Test
+    public void assertCreateMultipleOutputConcurrencyPipelineChannel() throws IOException, InterruptedException {
+        List<Record> ackedRecords = new CopyOnWriteArrayList<>();
+        PipelineChannel channel = createPipelineChannelCreator().createPipelineChannel(2, ackedRecords::addAll);
+        assertThat(channel, instanceOf(MultiplexMemoryPipelineChannel.class));
+        for (int i = 1; i <= RECORD_COUNT; i++) {
+            channel.pushRecord(createDataRecord(i));
+        }
+        assertTrue(countSegmentFiles() > 0L);
+        List<Record> fetchedRecords = new CopyOnWriteArrayList<>();
+        Thread[] consumers = new Thread[2];
+        for (int i = 0; i < consumers.length; i++) {
+            consumers[i] = new Thread(() -> {
+                List<Record> records = channel.fetchRecords(RECORD_COUNT, 0);
+                fetchedRecords.addAll(records);
+                channel.ack(records);
+            });
+            consumers[i].start();
+        }
+        for (Thread each : consumers) {
+            each.join();
+        }
+        assertThat(fetchedRecords.size(), is(RECORD_COUNT));
+        assertThat(ackedRecords.size(), is(RECORD_COUNT));
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            assertThat(ackedRecords.get(i), instanceOf(PlaceholderRecord.class));
+            assertThat(((IntegerPrimaryKeyPosition) ackedRecords.get(i).getPosition()).getBeginValue(), is(i + 1L));
+            assertThat(ackedRecords.get(i).getCommitTime(), is(i + 1L));
+        }
+        channel.close();
+    }
+    
+    private SpillPipelineChannelCreator createPipelineChannelCreator() {
+        Properties props = new Properties();
+        props.setProperty(MemoryPipelineChannelCreator.BLOCK_QUEUE_SIZE_KEY, "1");
+        props.setProperty(SpillPipelineChannelCreator.SPILL_DIRECTORY_KEY, temporaryFolder.getRoot().getAbsolutePath());
+        props.setProperty(SpillPipelineChannelCreator.SEGMENT_SIZE_KEY, "64");
+        SpillPipelineChannelCreator result = new SpillPipelineChannelCreator();
+        result.init(props);
+        return result;
+    }
+    
+    private DataRecord createDataRecord(final int id) {
+        DataRecord result = new DataRecord(new IntegerPrimaryKeyPosition(id, RECORD_COUNT), 1);
+        result.setType(IngestDataChangeType.INSERT);
+        result.setTableName("t_order");
+        result.setCommitTime(id);
+        result.addColumn("order_id", null, id, true, true);
+        return result;
+    }
+    
+    private long countSegmentFiles() throws IOException {
+        try (Stream<Path> paths = Files.walk(temporaryFolder.getRoot().toPath())) {
+            return paths.filter(Files::isRegularFile).filter(each -> !each.getFileName().toString().endsWith(".lock")).count();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogPosition;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillPipelineChannelTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertFetchRecordsInPushOrderAcrossMemoryAndSegments() {
+        SpillPipelineChannel channel = new SpillPipelineChannel(2, temporaryFolder.getRoot().toPath(), 64, Long.MAX_VALUE, records -> {
+        });
+        for (int i = 1; i <= 10; i++) {
+            channel.pushRecord(createDataRecord(i));
+        }
+        assertTrue(Objects.requireNonNull(temporaryFolder.getRoot().listFiles()).length > 1);
+        List<Record> actual = new LinkedList<>(channel.fetchRecords(3, 0));
+        channel.pushRecord(createDataRecord(11));
+        actual.addAll(channel.fetchRecords(100, 0));
+        assertThat(actual.size(), is(11));
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(((DataRecord) actual.get(i)).getValue(0), is(i + 1));
+        }
+        assertThat(Objects.requireNonNull(temporaryFolder.getRoot().listFiles()).length, is(0));
+        channel.close();
+    }
+    
+    @Test
+    public void assertPushMemoryRecordAfterSegmentsFetched() {
+        SpillPipelineChannel channel = new SpillPipelineChannel(1, temporaryFolder.getRoot().toPath(), 1024, Long.MAX_VALUE, records -> {
+        });
+        channel.pushRecord(createDataRecord(1));
+        channel.pushRecord(createDataRecord(2));
+        assertThat(channel.fetchRecords(2, 0).size(), is(2));
+        channel.pushRecord(createDataRecord(3));
+        assertThat(Objects.requireNonNull(temporaryFolder.getRoot().listFiles()).length, is(0));
+        assertThat(((DataRecord) channel.fetchRecords(1, 0).get(0)).getValue(0), is(3));
+        channel.close();
+    }
+    
+    @Test
+    public void assertSpilledRecordRoundTrip() {
+        SpillPipelineChannel channel = new SpillPipelineChannel(1, temporaryFolder.getRoot().toPath(), 1024, Long.MAX_VALUE, records -> {
+        });
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        DataRecord expected = new DataRecord(new IntegerPrimaryKeyPosition(1, 100), 4);
+        expected.setType(IngestDataChangeType.UPDATE);
+        expected.setTableName("t_order");
+        expected.setCommitTime(123L);
+        expected.addColumn("order_id", 1L, 2L, true, true);
+        expected.addColumn("status", null, "OK", true, false);
+        expected.addColumn("amount", null, new BigDecimal("12.50"), false, false);
+        expected.addColumn("created", null, new Timestamp(1000L), false, false);
+        expected.addColumn("content", null, new byte[]{1, 2}, false, false);
+        channel.pushRecord(expected);
+        channel.pushRecord(new FinishedRecord(new FinishedPosition()));
+        List<Record> actual = channel.fetchRecords(3, 0);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), instanceOf(PlaceholderRecord.class));
+        DataRecord actualDataRecord = (DataRecord) actual.get(1);
+        assertThat(actualDataRecord.getType(), is(IngestDataChangeType.UPDATE));
+        assertThat(actualDataRecord.getTableName(), is("t_order"));
+        assertThat(actualDataRecord.getCommitTime(), is(123L));
+        assertThat(actualDataRecord.getPosition().toString(), is(expected.getPosition().toString()));
+        assertThat(actualDataRecord.getColumnCount(), is(5));
+        assertThat(actualDataRecord.getOldValue(0), is(1L));
+        assertThat(actualDataRecord.getValue(0), is(2L));
+        assertTrue(actualDataRecord.isUniqueKey(0));
+        assertThat(actualDataRecord.getOldValue(1), nullValue());
+        assertTrue(actualDataRecord.isUpdated(1));
+        assertFalse(actualDataRecord.isUniqueKey(1));
+        assertThat(actualDataRecord.getValue(2), is(new BigDecimal("12.50")));
+        assertThat(actualDataRecord.getValue(3), is(new Timestamp(1000L)));
+        assertArrayEquals((byte[]) actualDataRecord.getValue(4), new byte[]{1, 2});
+        assertThat(actual.get(2), instanceOf(FinishedRecord.class));
+        channel.close();
+    }
+    
+    @Test
+    public void assertSpilledDialectPositionRoundTrip() {
+        SpillPipelineChannel channel = new SpillPipelineChannel(1, temporaryFolder.getRoot().toPath(), 1024, Long.MAX_VALUE, records -> {
+        });
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        channel.pushRecord(new PlaceholderRecord(new BinlogPosition("binlog.000001", 4L, 10L)));
+        assertTrue(Objects.requireNonNull(temporaryFolder.getRoot().listFiles()).length > 0);
+        List<Record> actual = channel.fetchRecords(2, 0);
+        assertThat(actual.size(), is(2));
+        BinlogPosition actualBinlogPosition = (BinlogPosition) actual.get(1).getPosition();
+        assertThat(actualBinlogPosition.getFilename(), is("binlog.000001"));
+        assertThat(actualBinlogPosition.getPosition(), is(4L));
+        assertThat(actualBinlogPosition.getServerId(), is(10L));
+        channel.close();
+    }
+    
+    @Test
+    public void assertPushRecordWaitsForRoomWhenMaxSpillSizeReached() throws InterruptedException {
+        SpillPipelineChannel channel = new SpillPipelineChannel(1, temporaryFolder.getRoot().toPath(), 64, 128L, records -> {
+        });
+        channel.pushRecord(createDataRecord(1));
+        channel.pushRecord(createDataRecord(2));
+        Thread pushThread = new Thread(() -> channel.pushRecord(createDataRecord(3)));
+        pushThread.start();
+        pushThread.join(500L);
+        assertTrue(pushThread.isAlive());
+        assertThat(Objects.requireNonNull(temporaryFolder.getRoot().listFiles()).length, is(1));
+        List<Record> actual = new LinkedList<>(channel.fetchRecords(2, 0));
+        pushThread.join(5000L);
+        assertFalse(pushThread.isAlive());
+        actual.addAll(channel.fetchRecords(1, 0));
+        assertThat(actual.size(), is(3));
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(((DataRecord) actual.get(i)).getValue(0), is(i + 1));
+        }
+        channel.close();
+    }
+    
+    @Test
+    public void assertFetchRecordsTimeout() {
+        SpillPipelineChannel channel = new SpillPipelineChannel(10, temporaryFolder.getRoot().toPath(), 1024, Long.MAX_VALUE, records -> {
+        });
+        channel.pushRecord(createDataRecord(1));
+        long startMillis = System.currentTimeMillis();
+        assertThat(channel.fetchRecords(2, 1).size(), is(1));
+        assertTrue(System.currentTimeMillis() - startMillis >= 900L);
+        channel.close();
+    }
+    
+    @Test
+    public void assertCloseDeletesSegments() {
+        SpillPipelineChannel channel = new SpillPipelineChannel(1, temporaryFolder.getRoot().toPath(), 1024, Long.MAX_VALUE, records -> {
+        });
+        channel.pushRecord(createDataRecord(1));
+        channel.pushRecord(createDataRecord(2));
+        File[] segmentFiles = Objects.requireNonNull(temporaryFolder.getRoot().listFiles());
+        assertThat(segmentFiles.length, is(1));
+        channel.close();
+        assertFalse(segmentFiles[0].exists());
+    }
+    
+    private DataRecord createDataRecord(final int id) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 2);
+        result.setType(IngestDataChangeType.INSERT);
+        result.setTableName("t_order");
+        result.addColumn("order_id", null, id, true, true);
+        result.addColumn("status", null, "status_" + id, true, false);
+        return result;
+    }
+}
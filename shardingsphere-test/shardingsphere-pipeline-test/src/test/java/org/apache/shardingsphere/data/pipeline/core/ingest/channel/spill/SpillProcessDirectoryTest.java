@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillProcessDirectoryTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertGet() {
+        Path spillDirectory = temporaryFolder.getRoot().toPath();
+        Path actual = SpillProcessDirectory.get(spillDirectory);
+        assertTrue(Files.isDirectory(actual));
+        assertThat(actual.getParent(), is(spillDirectory.toAbsolutePath().normalize()));
+        assertTrue(Files.exists(actual.resolveSibling(actual.getFileName() + ".lock")));
+        assertThat(SpillProcessDirectory.get(spillDirectory), is(actual));
+    }
+    
+    @Test
+    public void assertGetWithStaleProcessDirectories() throws IOException {
+        Path spillDirectory = temporaryFolder.getRoot().toPath();
+        Path staleDirectoryWithLockFile = Files.createDirectories(spillDirectory.resolve("process-1"));
+        Files.createFile(staleDirectoryWithLockFile.resolve("pipeline-channel-1.segment"));
+        Files.setLastModifiedTime(Files.createFile(spillDirectory.resolve("process-1.lock")), FileTime.fromMillis(0L));
+        Path staleDirectoryWithoutLockFile = Files.createDirectories(spillDirectory.resolve("process-2"));
+        Files.createFile(staleDirectoryWithoutLockFile.resolve("pipeline-channel-2.segment"));
+        assertTrue(Files.isDirectory(SpillProcessDirectory.get(spillDirectory)));
+        assertFalse(Files.exists(staleDirectoryWithLockFile));
+        assertFalse(Files.exists(spillDirectory.resolve("process-1.lock")));
+        assertFalse(Files.exists(staleDirectoryWithoutLockFile));
+    }
+    
+    @Test
+    public void assertGetWithUnlockedProcessDirectoryInGracePeriod() throws IOException {
+        Path spillDirectory = temporaryFolder.getRoot().toPath();
+        Path startingDirectory = Files.createDirectories(spillDirectory.resolve("process-3"));
+        Files.createFile(spillDirectory.resolve("process-3.lock"));
+        assertTrue(Files.isDirectory(SpillProcessDirectory.get(spillDirectory)));
+        assertTrue(Files.exists(startingDirectory));
+        assertTrue(Files.exists(spillDirectory.resolve("process-3.lock")));
+    }
+}
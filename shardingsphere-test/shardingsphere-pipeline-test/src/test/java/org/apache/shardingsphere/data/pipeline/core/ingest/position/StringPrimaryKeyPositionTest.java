@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimary
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -42,6 +43,13 @@ public final class StringPrimaryKeyPositionTest {
         assertThat(position.getEndValue(), is("jk"));
     }
     
+    @Test
+    public void assertIsEndBounded() {
+        assertTrue(new StringPrimaryKeyPosition("hi", "jk").isEndBounded());
+        assertFalse(new StringPrimaryKeyPosition("!", "~").isEndBounded());
+        assertFalse(((StringPrimaryKeyPosition) PrimaryKeyPositionFactory.newInstance("s,hi,~")).isEndBounded());
+    }
+    
     @Test
     public void assertToString() {
         assertThat(new StringPrimaryKeyPosition("hi", "jk").toString(), is("s,hi,jk"));
@@ -22,8 +22,16 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class DataRecordTest {
     
@@ -56,4 +64,59 @@ public final class DataRecordTest {
         afterDataRecord.addColumn(new Column("name", "2", true, false));
         assertThat(beforeDataRecord.getKey(), is(afterDataRecord.getOldKey()));
     }
+    
+    @Test
+    public void assertKeyResetAfterColumnAdded() {
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 2);
+        dataRecord.setTableName("t1");
+        dataRecord.addColumn(new Column("id", 1, true, true));
+        DataRecord.Key key = dataRecord.getKey();
+        assertThat(dataRecord.getKey(), sameInstance(key));
+        dataRecord.addColumn(new Column("sc", 2, true, true));
+        assertThat(dataRecord.getKey(), not(key));
+        assertThat(dataRecord.getKey(), is(new DataRecord.Key("t1", Arrays.asList(1, 2))));
+    }
+    
+    @Test
+    public void assertEqualsAndHashCodeOnUniqueKeyValues() {
+        beforeDataRecord = new DataRecord(new PlaceholderPosition(), 2);
+        beforeDataRecord.setTableName("t1");
+        beforeDataRecord.addColumn(new Column("id", 1, true, true));
+        beforeDataRecord.addColumn(new Column("name", "1", true, false));
+        afterDataRecord = new DataRecord(new PlaceholderPosition(), 2);
+        afterDataRecord.setTableName("t1");
+        afterDataRecord.addColumn(new Column("name", "2", true, false));
+        afterDataRecord.addColumn(new Column("id", 1, true, true));
+        assertThat(beforeDataRecord, is(afterDataRecord));
+        assertThat(beforeDataRecord.hashCode(), is(afterDataRecord.hashCode()));
+        afterDataRecord.addColumn(new Column("sc", 2, true, true));
+        assertThat(beforeDataRecord, not(afterDataRecord));
+    }
+    
+    @Test
+    public void assertAddColumnBeyondInitialColumnCount() {
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 1);
+        dataRecord.addColumn("id", 1, 2, true, true);
+        dataRecord.addColumn(new Column("name", "1", false, false));
+        assertThat(dataRecord.getColumnCount(), is(2));
+        assertThat(dataRecord.getColumnName(0), is("id"));
+        assertThat(dataRecord.getOldValue(0), is(1));
+        assertThat(dataRecord.getValue(0), is(2));
+        assertTrue(dataRecord.isUpdated(0));
+        assertTrue(dataRecord.isUniqueKey(0));
+        assertThat(dataRecord.getColumnName(1), is("name"));
+        assertNull(dataRecord.getOldValue(1));
+        assertThat(dataRecord.getValue(1), is("1"));
+        assertFalse(dataRecord.isUpdated(1));
+        assertFalse(dataRecord.isUniqueKey(1));
+        assertThat(dataRecord.getUniqueKeyValue(), is(Collections.<Object>singletonList(2)));
+        assertThat(dataRecord.getOldUniqueKeyValues(), is(Collections.<Object>singletonList(1)));
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void assertGetValueOutOfColumnCount() {
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 2);
+        dataRecord.addColumn(new Column("id", 1, true, true));
+        dataRecord.getValue(1);
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.job.progress.persist;
+
+import org.apache.shardingsphere.data.pipeline.api.config.job.MigrationJobConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.job.PipelineJob;
+import org.apache.shardingsphere.data.pipeline.api.job.progress.listener.PipelineJobProgressUpdatedParameter;
+import org.apache.shardingsphere.data.pipeline.api.task.PipelineTasksRunner;
+import org.apache.shardingsphere.data.pipeline.core.api.PipelineAPIFactory;
+import org.apache.shardingsphere.data.pipeline.core.job.PipelineJobCenter;
+import org.apache.shardingsphere.data.pipeline.core.util.JobConfigurationBuilder;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineContextUtil;
+import org.apache.shardingsphere.data.pipeline.scenario.migration.MigrationJobItemContext;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PipelineJobProgressPersistServiceTest {
+    
+    @Mock
+    private PipelineJob job;
+    
+    @Mock
+    private PipelineTasksRunner tasksRunner;
+    
+    private String jobId;
+    
+    @BeforeClass
+    public static void beforeClass() {
+        PipelineContextUtil.mockModeConfigAndContextManager();
+    }
+    
+    @After
+    public void tearDown() {
+        PipelineJobProgressPersistService.removeJobProgressPersistContext(jobId);
+        PipelineJobCenter.stop(jobId);
+    }
+    
+    @Test
+    public void assertPersistChangedProgressOnly() {
+        MigrationJobConfiguration jobConfig = JobConfigurationBuilder.createJobConfiguration();
+        jobId = jobConfig.getJobId();
+        MigrationJobItemContext jobItemContext = PipelineContextUtil.mockMigrationJobItemContext(jobConfig);
+        when(job.getTasksRunner(jobItemContext.getShardingItem())).thenReturn(Optional.of(tasksRunner));
+        when(tasksRunner.getJobItemContext()).thenReturn(jobItemContext);
+        PipelineJobCenter.addJob(jobId, job);
+        PipelineJobProgressPersistService.addJobProgressPersistContext(jobId, jobItemContext.getShardingItem());
+        PipelineJobProgressPersistService.notifyPersist(jobId, jobItemContext.getShardingItem());
+        PipelineJobProgressPersistService.persist(jobId);
+        assertNotNull(PipelineAPIFactory.getGovernanceRepositoryAPI().getJobItemProgress(jobId, jobItemContext.getShardingItem()));
+        Optional<PipelineJobProgressPersistMetrics> metrics = PipelineJobProgressPersistService.getJobProgressPersistMetrics(jobId);
+        assertTrue(metrics.isPresent());
+        assertThat(metrics.get().getPersistedProgressCount().get(), is(1L));
+        final long persistedBytes = metrics.get().getPersistedBytes().get();
+        assertTrue(persistedBytes > 0L);
+        PipelineJobProgressPersistService.notifyPersist(jobId, jobItemContext.getShardingItem());
+        PipelineJobProgressPersistService.persist(jobId);
+        assertThat(metrics.get().getPersistedProgressCount().get(), is(1L));
+        assertThat(metrics.get().getSkippedProgressCount().get(), is(1L));
+        assertThat(metrics.get().getPersistedBytes().get(), is(persistedBytes));
+        jobItemContext.onProgressUpdated(new PipelineJobProgressUpdatedParameter(1, 0));
+        PipelineJobProgressPersistService.persist(jobId);
+        assertThat(metrics.get().getPersistedProgressCount().get(), is(2L));
+    }
+}
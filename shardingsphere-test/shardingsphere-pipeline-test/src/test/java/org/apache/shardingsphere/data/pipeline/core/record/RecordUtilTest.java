@@ -28,6 +28,7 @@ import java.util.Collection;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.hasItems;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertThat;
 
 public final class RecordUtilTest {
@@ -48,6 +49,11 @@ public final class RecordUtilTest {
         assertThat(Arrays.asList("sc", "id", "c1"), hasItems(actual.iterator().next().getName()));
     }
     
+    @Test
+    public void assertExtractConditionColumnIndexes() {
+        assertArrayEquals(RecordUtil.extractConditionColumnIndexes(mockDataRecord("t2"), Collections.singleton("c1")), new int[]{0, 1, 2});
+    }
+    
     @Test
     public void assertExtractUpdatedColumns() {
         DataRecord dataRecord = mockDataRecord("t2");
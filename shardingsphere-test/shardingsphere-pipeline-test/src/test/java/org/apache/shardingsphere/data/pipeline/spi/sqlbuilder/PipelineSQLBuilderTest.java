@@ -26,6 +26,7 @@ import org.apache.shardingsphere.data.pipeline.core.fixture.FixturePipelineSQLBu
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.junit.Test;
 
+import java.sql.Types;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -72,6 +73,18 @@ public final class PipelineSQLBuilderTest {
         assertThat(actual, is("DELETE FROM t3 WHERE id = ? and sc = ?"));
     }
     
+    @Test
+    public void assertBuildInventoryDumpSQLWithEndBounded() {
+        String actual = pipelineSQLBuilder.buildInventoryDumpSQL(null, "t_order", "order_id", Types.VARCHAR, true, true);
+        assertThat(actual, is("SELECT * FROM t_order WHERE order_id >= ? AND order_id <= ? ORDER BY order_id ASC LIMIT ?"));
+    }
+    
+    @Test
+    public void assertBuildInventoryDumpSQLWithoutEndBounded() {
+        String actual = pipelineSQLBuilder.buildInventoryDumpSQL(null, "t_order", "order_id", Types.VARCHAR, false, false);
+        assertThat(actual, is("SELECT * FROM t_order WHERE order_id > ? ORDER BY order_id ASC LIMIT ?"));
+    }
+    
     private Collection<Column> mockConditionColumns(final DataRecord dataRecord) {
         return RecordUtil.extractConditionColumns(dataRecord, Collections.singleton("sc"));
     }